@@ -0,0 +1,14 @@
+package com.ktb.marong.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 로컬 캐시 무효화 메시지를 모든 인스턴스에 전파하는 통로
+ * 운영에서는 Redis pub/sub, 테스트에서는 메모리 구현을 사용
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
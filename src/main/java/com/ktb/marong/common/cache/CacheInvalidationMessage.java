@@ -0,0 +1,19 @@
+package com.ktb.marong.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스 간 로컬 캐시 무효화 메시지
+ * key가 null이면 해당 캐시 전체 무효화
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String origin;    // 메시지를 보낸 인스턴스 ID (자기 자신이 보낸 메시지는 무시)
+    private String cacheName;
+    private String key;
+}
@@ -0,0 +1,41 @@
+package com.ktb.marong.common.cache;
+
+/**
+ * 애플리케이션 캐시 이름 (@Cacheable, @CacheEvict에서 사용)
+ * 영역별 TTL/크기는 CacheConfig에서 정의
+ */
+public final class CacheNames {
+
+    /**
+     * 그룹 소속 여부 (key: "사용자ID:그룹ID")
+     */
+    public static final String GROUP_MEMBERSHIP = "groupMembership";
+
+    /**
+     * 그룹 멤버 수 (key: 그룹ID)
+     */
+    public static final String GROUP_MEMBER_COUNT = "groupMemberCount";
+
+    /**
+     * 그룹별 피드 첫 페이지 (key: 그룹ID, FeedFirstPageCache에서 직접 관리)
+     */
+    public static final String FEED_FIRST_PAGE = "feedFirstPage";
+
+    /**
+     * 그룹 내 사용자 표시 정보 (key: "그룹ID:사용자ID", GroupDisplayNameResolver에서 직접 관리)
+     */
+    public static final String GROUP_DISPLAY_NAME = "groupDisplayName";
+
+    /**
+     * 마니또-마니띠 쌍별 장소 추천 후보 (key: "주차:마니또ID:마니띠ID", PlaceCandidateCache에서 직접 관리)
+     */
+    public static final String PLACE_CANDIDATES = "placeCandidates";
+
+    /**
+     * 사용자별 설문 응답 (key: 사용자ID, SurveyAnswerLoader에서 직접 관리)
+     */
+    public static final String SURVEY_ANSWERS = "surveyAnswers";
+
+    private CacheNames() {
+    }
+}
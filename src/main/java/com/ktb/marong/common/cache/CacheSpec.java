@@ -0,0 +1,37 @@
+package com.ktb.marong.common.cache;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 캐시 영역 설정
+ * 로컬 캐시는 다른 인스턴스의 변경을 무효화 메시지로만 알 수 있으므로 원격 캐시보다 짧은 TTL을 사용
+ * 원격 TTL이 없으면 로컬 전용 영역 (원격 캐시에 공유하지 않고 무효화 메시지만 전파)
+ */
+@Getter
+public class CacheSpec {
+
+    private final String name;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+    private final long maximumSize;
+
+    public CacheSpec(String name, Duration localTtl, Duration remoteTtl, long maximumSize) {
+        this.name = name;
+        this.localTtl = localTtl;
+        this.remoteTtl = remoteTtl;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * 원격 캐시를 사용하지 않는 영역 (인스턴스마다 따로 적재하고, 변경 시 무효화 메시지로 다른 인스턴스의 값을 삭제)
+     */
+    public static CacheSpec localOnly(String name, Duration localTtl, long maximumSize) {
+        return new CacheSpec(name, localTtl, null, maximumSize);
+    }
+
+    public boolean isLocalOnly() {
+        return remoteTtl == null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ktb.marong.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시(엔티티 영역) 무효화를 다른 인스턴스에 전파
+ * 2차 캐시는 인스턴스마다 따로 있으므로, 캐시 대상 엔티티(User, Group, Mission)가 커밋되면
+ * 캐시 무효화 채널로 알리고 다른 인스턴스는 해당 엔티티만 자기 2차 캐시에서 제거
+ * - 채널이 없거나(marong.cache.redis.enabled=false) 2차 캐시가 꺼져 있으면 아무것도 하지 않음
+ * - 캐시 이름은 "hibernate:" 접두사를 붙여 TwoTierCacheManager의 캐시와 구분
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidationRelay implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final String REGION_PREFIX = "hibernate:";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationBus invalidationBus;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public EntityCacheInvalidationRelay(EntityManagerFactory entityManagerFactory,
+                                        ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.invalidationBus = invalidationBus.getIfAvailable();
+
+        if (this.invalidationBus == null || !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return;
+        }
+        EventListenerRegistry listenerRegistry = sessionFactory.getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        listenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        this.invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 캐시에도 반영되지 않으므로 전파할 것이 없음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 삭제는 캐시에도 반영되지 않으므로 전파할 것이 없음
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        invalidationBus.publish(new CacheInvalidationMessage(
+                instanceId, REGION_PREFIX + persister.getEntityName(), String.valueOf(id)));
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (instanceId.equals(message.getOrigin()) || message.getCacheName() == null
+                || !message.getCacheName().startsWith(REGION_PREFIX)) {
+            return;
+        }
+        String entityName = message.getCacheName().substring(REGION_PREFIX.length());
+        try {
+            // 캐시 대상 엔티티는 모두 Long 식별자 사용
+            sessionFactory.getCache().evictEntityData(entityName, Long.valueOf(message.getKey()));
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 무효화 실패: entity={}, id={}, cause={}", entityName, message.getKey(), e.toString());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.ktb.marong.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬(Caffeine) + 원격(Redis 등, 선택) 2단계 캐시
+ * - 조회: 로컬 -> 원격 -> 원본 순서, 원격에서 찾은 값은 로컬에 채움
+ * - 변경/삭제: 원격에 반영 후 로컬 갱신, 다른 인스턴스에는 무효화 메시지 전파
+ *   (원격 캐시가 없는 로컬 전용 영역은 삭제만 전파)
+ * - 원격 캐시 장애 시 로그만 남기고 로컬 캐시로 계속 동작
+ * 키는 인스턴스 간 무효화를 위해 문자열로 정규화해서 저장
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final String instanceId;
+
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        Cache remoteCache, CacheInvalidationBus invalidationBus, String instanceId) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationBus = invalidationBus;
+        this.instanceId = instanceId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = toCacheKey(key);
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+
+        value = remoteGet(cacheKey);
+        if (value != null) {
+            localCache.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = toCacheKey(key);
+        return (T) fromStoreValue(localCache.get(cacheKey, k -> {
+            Object remoteValue = remoteGet(k);
+            if (remoteValue != null) {
+                return remoteValue;
+            }
+            try {
+                Object loaded = toStoreValue(valueLoader.call());
+                remotePut(k, loaded);
+                return loaded;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = toCacheKey(key);
+        Object storeValue = toStoreValue(value);
+        remotePut(cacheKey, storeValue);
+        localCache.put(cacheKey, storeValue);
+        // 로컬 전용 영역의 put은 원본에서 읽은 값을 채우는 것이므로 다른 인스턴스의 값은 그대로 둠
+        if (remoteCache != null) {
+            publishInvalidation(cacheKey);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toCacheKey(key);
+        remoteEvict(cacheKey);
+        localCache.invalidate(cacheKey);
+        publishInvalidation(cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        if (remoteCache != null) {
+            try {
+                remoteCache.clear();
+            } catch (RuntimeException e) {
+                log.warn("원격 캐시 전체 삭제 실패: cache={}, error={}", name, e.getMessage());
+            }
+        }
+        localCache.invalidateAll();
+        publishInvalidation(null);
+    }
+
+    /**
+     * 다른 인스턴스에서 온 무효화 메시지 처리 (로컬 캐시만 정리, 재전파하지 않음)
+     */
+    public void evictLocal(String cacheKey) {
+        if (cacheKey == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(cacheKey);
+        }
+    }
+
+    private Object remoteGet(String cacheKey) {
+        if (remoteCache == null) {
+            return null;
+        }
+        try {
+            ValueWrapper wrapper = remoteCache.get(cacheKey);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (RuntimeException e) {
+            log.warn("원격 캐시 조회 실패: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePut(String cacheKey, Object storeValue) {
+        if (remoteCache == null) {
+            return;
+        }
+        try {
+            remoteCache.put(cacheKey, storeValue);
+        } catch (RuntimeException e) {
+            log.warn("원격 캐시 저장 실패: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private void remoteEvict(String cacheKey) {
+        if (remoteCache == null) {
+            return;
+        }
+        try {
+            remoteCache.evict(cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("원격 캐시 삭제 실패: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private void publishInvalidation(String cacheKey) {
+        if (invalidationBus == null) {
+            return;
+        }
+        try {
+            invalidationBus.publish(new CacheInvalidationMessage(instanceId, name, cacheKey));
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지 전파 실패: cache={}, key={}, error={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private static String toCacheKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ktb.marong.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 2단계 캐시 매니저
+ * - 설정된 CacheSpec 목록으로만 캐시를 만들고, 정의되지 않은 이름은 사용할 수 없음
+ * - remoteCacheManager가 없거나 로컬 전용 영역이면 로컬 캐시만 사용 (단일 인스턴스, 테스트)
+ * - 트랜잭션 안에서의 put/evict는 커밋 이후에 반영 (롤백된 변경이 캐시에 남지 않도록)
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final List<CacheSpec> specs;
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public TwoTierCacheManager(List<CacheSpec> specs, CacheManager remoteCacheManager,
+                               CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.specs = specs;
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(this::onInvalidation);
+        }
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (CacheSpec spec : specs) {
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                    .expireAfterWrite(spec.getLocalTtl())
+                    .maximumSize(spec.getMaximumSize())
+                    .recordStats()
+                    .build();
+            if (meterRegistry != null) {
+                CaffeineCacheMetrics.monitor(meterRegistry, localCache, spec.getName());
+            }
+
+            Cache remoteCache = remoteCacheManager != null && !spec.isLocalOnly()
+                    ? remoteCacheManager.getCache(spec.getName()) : null;
+            caches.add(new TwoTierCache(spec.getName(), localCache, remoteCache, invalidationBus, instanceId));
+        }
+
+        log.info("캐시 초기화: caches={}, remote={}, invalidationBus={}",
+                specs.stream().map(CacheSpec::getName).toList(),
+                remoteCacheManager != null ? remoteCacheManager.getClass().getSimpleName() : "none",
+                invalidationBus != null ? invalidationBus.getClass().getSimpleName() : "none");
+        return caches;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (instanceId.equals(message.getOrigin())) {
+            return;
+        }
+
+        // 트랜잭션 데코레이터를 거치지 않고 원본 캐시에서 바로 로컬 값만 제거
+        Cache cache = lookupCache(message.getCacheName());
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictLocal(message.getKey());
+        }
+    }
+}
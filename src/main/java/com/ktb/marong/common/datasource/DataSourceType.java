@@ -0,0 +1,9 @@
+package com.ktb.marong.common.datasource;
+
+/**
+ * 라우팅 대상 데이터소스 종류
+ */
+public enum DataSourceType {
+    PRIMARY,  // 쓰기 및 일반 트랜잭션
+    REPLICA   // 읽기 전용 트랜잭션
+}
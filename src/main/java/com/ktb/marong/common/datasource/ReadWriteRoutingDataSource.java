@@ -0,0 +1,68 @@
+package com.ktb.marong.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 트랜잭션 속성에 따라 primary / replica 풀로 커넥션을 라우팅하는 데이터소스
+ * - @Transactional(readOnly = true) 트랜잭션은 replica 사용
+ * - replica가 지연(lag) 임계치를 넘었거나 응답하지 않으면 primary로 대체
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 함
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter fallbackCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceType.PRIMARY, primary);
+        targets.put(DataSourceType.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.primaryCounter = routingCounter(meterRegistry, DataSourceType.PRIMARY, false);
+        this.replicaCounter = routingCounter(meterRegistry, DataSourceType.REPLICA, false);
+        this.fallbackCounter = routingCounter(meterRegistry, DataSourceType.PRIMARY, true);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryCounter.increment();
+            return DataSourceType.PRIMARY;
+        }
+
+        if (!lagMonitor.isReplicaAvailable()) {
+            // 읽기 전용이지만 replica 상태가 좋지 않으면 primary에서 처리
+            fallbackCounter.increment();
+            log.debug("replica 사용 불가로 primary 사용: lagSeconds={}", lagMonitor.getLagSeconds());
+            return DataSourceType.PRIMARY;
+        }
+
+        replicaCounter.increment();
+        return DataSourceType.REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, DataSourceType target, boolean fallback) {
+        return Counter.builder("marong.datasource.routing")
+                .description("데이터소스 라우팅 횟수 (fallback=true는 replica 대신 primary를 사용한 경우)")
+                .tag("target", target.name().toLowerCase())
+                .tag("fallback", String.valueOf(fallback))
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ktb.marong.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * replica 복제 지연 감시
+ * 주기적으로 지연 조회 쿼리를 실행해 임계치를 넘거나 조회에 실패하면 replica를 사용 불가로 표시
+ * 첫 확인이 끝나기 전까지는 사용 불가 상태로 시작 (기동 직후 읽기는 primary에서 처리)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CONNECTIVITY_QUERY = "SELECT 1";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Duration maxLag;
+
+    private volatile boolean replicaAvailable = false;
+    private volatile long lagSeconds = -1;
+
+    /**
+     * @param lagQuery  지연 시간(초)을 반환하는 쿼리. 비어 있으면 연결 가능 여부만 확인 (지연 0으로 간주)
+     * @param lagColumn 결과에서 지연 시간을 읽을 컬럼명. 해당 컬럼이 없으면 첫 번째 컬럼 사용
+     *                  (MySQL의 SHOW REPLICA STATUS는 Seconds_Behind_Source)
+     */
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn, Duration maxLag,
+                             Duration queryTimeout, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout((int) Math.max(1, queryTimeout.toSeconds()));
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLag = maxLag;
+
+        Gauge.builder("marong.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("replica 복제 지연 (초, 조회 실패 시 -1)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("marong.datasource.replica.available", this, monitor -> monitor.replicaAvailable ? 1 : 0)
+                .description("replica 읽기 라우팅 사용 가능 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * replica 상태 확인
+     */
+    @Scheduled(fixedDelayString = "${marong.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean available;
+        try {
+            Long lag = StringUtils.hasText(lagQuery)
+                    ? replicaJdbcTemplate.query(lagQuery, (ResultSetExtractor<Long>) this::extractLag)
+                    : checkConnectivity();
+
+            // 지연 값이 NULL이면 복제가 멈춘 상태
+            lagSeconds = lag != null ? lag : -1;
+            available = lag != null && lag <= maxLag.toSeconds();
+        } catch (Exception e) {
+            lagSeconds = -1;
+            available = false;
+            if (replicaAvailable) {
+                log.warn("replica 상태 확인 실패: {}", e.getMessage());
+            }
+        }
+
+        if (available != replicaAvailable) {
+            log.info("replica 라우팅 상태 변경: available={}, lagSeconds={}, maxLagSeconds={}",
+                    available, lagSeconds, maxLag.toSeconds());
+        }
+        replicaAvailable = available;
+    }
+
+    private Long checkConnectivity() {
+        replicaJdbcTemplate.queryForObject(CONNECTIVITY_QUERY, Integer.class);
+        return 0L;
+    }
+
+    private Long extractLag(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return null;
+        }
+
+        int columnIndex = 1;
+        if (StringUtils.hasText(lagColumn)) {
+            try {
+                columnIndex = rs.findColumn(lagColumn);
+            } catch (SQLException e) {
+                // 지정한 컬럼이 없는 쿼리는 첫 번째 컬럼을 지연 값으로 사용
+            }
+        }
+
+        long lag = rs.getLong(columnIndex);
+        return rs.wasNull() ? null : lag;
+    }
+}
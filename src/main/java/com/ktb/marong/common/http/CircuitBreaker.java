@@ -0,0 +1,117 @@
+package com.ktb.marong.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출용 서킷 브레이커
+ * 연속 실패가 임계치에 도달하면 일정 시간 동안 호출하지 않고 바로 실패시킴 (OPEN)
+ * 대기 시간이 지나면 한 요청만 시험 호출하고 (HALF_OPEN), 성공하면 정상(CLOSED)으로 되돌림
+ * - 실패로 셀 예외는 호출하는 쪽에서 지정 (4xx처럼 요청 자체가 잘못된 경우는 제외하기 위함)
+ * - 서버에 닿지도 못한 예외(커넥션 풀 대기 타임아웃 등)는 성공도 실패도 아닌 것으로 지정 가능
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final Predicate<Throwable> recordFailure;
+    private final Predicate<Throwable> ignoreOutcome;
+
+    private final AtomicBoolean trialInFlight = new AtomicBoolean(false);
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private int consecutiveFailures;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration,
+                          Predicate<Throwable> recordFailure, Predicate<Throwable> ignoreOutcome,
+                          MeterRegistry meterRegistry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.recordFailure = recordFailure;
+        this.ignoreOutcome = ignoreOutcome;
+
+        Gauge.builder("marong.http.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서킷이 닫혀 있으면 호출, 열려 있으면 호출하지 않고 CircuitOpenException
+     */
+    public <T> T execute(Supplier<T> call) {
+        boolean trial = acquirePermission();
+        try {
+            T result = call.get();
+            onSuccess(trial);
+            return result;
+        } catch (RuntimeException e) {
+            onError(e, trial);
+            throw e;
+        } finally {
+            // Error 등으로 결과를 기록하지 못해도 시험 호출 자리는 반납 (HALF_OPEN에 갇히지 않도록)
+            if (trial) {
+                trialInFlight.set(false);
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private boolean acquirePermission() {
+        if (state == State.CLOSED) {
+            return false;
+        }
+        if (state == State.OPEN && System.nanoTime() - openedAt < openDurationNanos) {
+            throw new CircuitOpenException(name);
+        }
+        // 대기 시간이 지났으면 한 요청만 시험 호출
+        if (trialInFlight.compareAndSet(false, true)) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        throw new CircuitOpenException(name);
+    }
+
+    private synchronized void onSuccess(boolean trial) {
+        consecutiveFailures = 0;
+        if (trial) {
+            state = State.CLOSED;
+            log.info("서킷 브레이커 복구: name={}", name);
+        }
+    }
+
+    private synchronized void onError(RuntimeException e, boolean trial) {
+        if (ignoreOutcome.test(e)) {
+            // 서버 상태를 알 수 없으므로 그대로 두고, 시험 호출이었다면 다음 요청이 다시 시험
+            return;
+        }
+        if (!recordFailure.test(e)) {
+            // 실패로 세지 않는 예외는 서버가 응답한 것이므로 성공과 같이 처리
+            onSuccess(trial);
+            return;
+        }
+        consecutiveFailures++;
+        if (trial || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            log.warn("서킷 브레이커 열림: name={}, consecutiveFailures={}, cause={}",
+                    name, consecutiveFailures, e.toString());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ktb.marong.common.http;
+
+/**
+ * 서킷 브레이커가 열려 있어 외부 호출을 하지 않고 실패한 경우
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String name) {
+        super("서킷 브레이커가 열려 있어 호출하지 않음: " + name);
+    }
+}
@@ -0,0 +1,187 @@
+package com.ktb.marong.common.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테이블 기반(pooled) ID 발급
+ * IDENTITY 키는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 삽입을 배치로 묶지 못하므로,
+ * 대량으로 쓰는 엔티티는 IdBlocks 테이블에서 ID 블록을 받아 메모리에서 나눠 줌 (MySQL은 시퀀스가 없음)
+ * - JDBC 배치 삽입도 엔티티의 ID 생성기에서 ID를 받으므로 JPA 저장과 번호가 겹치지 않음
+ * - 블록 조회는 Hibernate가 별도 커넥션/트랜잭션으로 처리하므로 IdBlocks 행 잠금이 호출 트랜잭션 끝까지 이어지지 않음
+ * - 시작 시 블록 값을 기존 최대 ID 이후로 맞춰 IDENTITY로 쌓인 기존 데이터와 충돌하지 않게 함
+ * - 발급기를 거치지 않고 AUTO_INCREMENT로 삽입하는 writer(외부 추천 생성기 등)가 아직 쓰지 않은 블록 안의 ID를
+ *   가져갈 수 있으므로, 발급할 때마다 발급한 ID가 이미 쓰였는지 확인하고 쓰였으면 블록을 다시 맞춘 뒤 새로 발급
+ */
+@Slf4j
+@Component
+public class EntityIdAllocator {
+
+    // 확인 직후 다시 다른 writer가 가져가는 경우까지 고려한 재발급 횟수
+    private static final int MAX_REALIGN_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+    private final TransactionTemplate separateTransaction;
+
+    public EntityIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        // 발급 중 블록 재조정은 호출 트랜잭션과 별도로 커밋 (IdBlocks 행 잠금이 호출 트랜잭션 끝까지 이어지지 않도록)
+        this.separateTransaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 테이블 기반 ID 생성기를 쓰는 엔티티인지 여부
+     */
+    public boolean supports(Class<?> entityClass) {
+        return generatorOf(entityClass) != null;
+    }
+
+    /**
+     * 엔티티 ID count개 발급 (블록이 남아 있으면 블록 조회 없이 발급, 이미 쓰인 번호가 있는지만 한 번 확인)
+     */
+    public long[] allocate(Class<?> entityClass, int count) {
+        TableGenerator generator = generatorOf(entityClass);
+        if (generator == null) {
+            throw new IllegalArgumentException("테이블 기반 ID 생성기를 쓰지 않는 엔티티: " + entityClass.getName());
+        }
+
+        if (count == 0) {
+            return new long[0];
+        }
+        AbstractEntityPersister persister = persisterOf(entityClass);
+        String table = persister.getTableName();
+        String idColumn = persister.getIdentifierColumnNames()[0];
+
+        long[] ids = generate(generator, count);
+        for (int attempt = 0; attempt < MAX_REALIGN_ATTEMPTS && isAnyTaken(table, idColumn, ids); attempt++) {
+            Long maxId = separateTransaction.execute(status -> align(generator, table, idColumn));
+            log.warn("발급한 ID가 이미 사용됨, 블록 재조정: segment={}, maxId={}", generator.getSegmentValue(), maxId);
+            skipThrough(generator, maxId);
+            ids = generate(generator, count);
+        }
+        return ids;
+    }
+
+    /**
+     * 블록 값을 각 테이블의 최대 ID 이후로 맞춤
+     * 이미 기존 데이터보다 앞서 있으면 그대로 두므로 여러 인스턴스가 동시에 실행해도 안전함
+     */
+    @PostConstruct
+    public void alignWithExistingRows() {
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(descriptor -> {
+            if (descriptor.getGenerator() instanceof TableGenerator generator
+                    && descriptor instanceof AbstractEntityPersister persister) {
+                align(generator, persister.getTableName(), persister.getIdentifierColumnNames()[0]);
+            }
+        });
+    }
+
+    /**
+     * 블록 값을 테이블의 최대 ID 이후로 맞추고 그 최대 ID 반환
+     */
+    private long align(TableGenerator generator, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        // pooled 방식은 블록 값 v를 읽으면 (v - 블록 크기, v] 구간을 사용
+        long existingMax = maxId == null ? 0 : maxId;
+        long target = existingMax + generator.getIncrementSize();
+
+        String blockTable = generator.getTableName();
+        String segmentColumn = generator.getSegmentColumnName();
+        String valueColumn = generator.getValueColumnName();
+        int updated = jdbcTemplate.update("UPDATE " + blockTable + " SET " + valueColumn + " = ?"
+                        + " WHERE " + segmentColumn + " = ? AND " + valueColumn + " < ?",
+                target, generator.getSegmentValue(), target);
+        if (updated > 0) {
+            log.info("ID 블록 시작값 조정: segment={}, nextValue={}", generator.getSegmentValue(), target);
+            return existingMax;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + blockTable
+                + " WHERE " + segmentColumn + " = ?", Integer.class, generator.getSegmentValue());
+        if (rows != null && rows == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO " + blockTable + " (" + segmentColumn + ", " + valueColumn + ")"
+                        + " VALUES (?, ?)", generator.getSegmentValue(), target);
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 생성함
+                log.debug("ID 블록 행이 이미 생성됨: segment={}", generator.getSegmentValue());
+            }
+        }
+        return existingMax;
+    }
+
+    private long[] generate(TableGenerator generator, int count) {
+        long[] ids = new long[count];
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+            for (int i = 0; i < count; i++) {
+                ids[i] = ((Number) generator.generate(sessionImplementor, null)).longValue();
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 메모리에 남은 현재 블록에서 maxId 이하 번호를 버림 (블록 값을 맞춘 뒤 호출, 최대 블록 크기만큼 메모리에서만 발급)
+     */
+    private void skipThrough(TableGenerator generator, long maxId) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+            long id;
+            do {
+                id = ((Number) generator.generate(sessionImplementor, null)).longValue();
+            } while (id <= maxId);
+        }
+    }
+
+    /**
+     * 발급한 ID 중 이미 테이블에 있는 것이 있는지 (연속 구간별 범위 조건 하나의 쿼리로 확인)
+     * 같은 블록을 JPA 저장이나 다른 인스턴스가 함께 쓰므로 구간 사이의 번호는 확인하지 않음
+     */
+    private boolean isAnyTaken(String table, String idColumn, long[] ids) {
+        StringBuilder condition = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        int runStart = 0;
+        for (int i = 1; i <= ids.length; i++) {
+            if (i < ids.length && ids[i] == ids[i - 1] + 1) {
+                continue;
+            }
+            condition.append(args.isEmpty() ? "" : " OR ").append(idColumn).append(" BETWEEN ? AND ?");
+            args.add(ids[runStart]);
+            args.add(ids[i - 1]);
+            runStart = i;
+        }
+        List<Long> taken = jdbcTemplate.queryForList("SELECT " + idColumn + " FROM " + table
+                + " WHERE " + condition + " LIMIT 1", Long.class, args.toArray());
+        return !taken.isEmpty();
+    }
+
+    private AbstractEntityPersister persisterOf(Class<?> entityClass) {
+        return (AbstractEntityPersister) sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass);
+    }
+
+    private TableGenerator generatorOf(Class<?> entityClass) {
+        return sessionFactory.getMappingMetamodel().getEntityDescriptor(entityClass).getGenerator()
+                instanceof TableGenerator generator ? generator : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ktb.marong.common.id;
+
+/**
+ * 테이블 기반 ID 블록 설정 (@TableGenerator에서 사용)
+ * 엔티티마다 IdBlocks 테이블의 행 하나(세그먼트: 엔티티 테이블 이름)에 다음 블록 값을 저장
+ */
+public final class IdBlocks {
+
+    public static final String TABLE = "IdBlocks";
+    public static final String SEGMENT_COLUMN = "name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    /**
+     * 한 번에 받아 오는 ID 수 (블록마다 IdBlocks 조회/갱신 1회)
+     */
+    public static final int ALLOCATION_SIZE = 100;
+
+    private IdBlocks() {
+    }
+}
@@ -0,0 +1,344 @@
+package com.ktb.marong.common.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 디스코드 웹훅 에러 로그 appender (비동기, 묶음 전송, 전송량 제한)
+ * - 로그 호출 스레드는 고정 크기 버퍼에 이벤트를 넣기만 하고 바로 반환 (버퍼가 가득 차면 버리고 개수만 셈)
+ * - 전송 스레드가 flushInterval마다 버퍼를 비우고, 같은 에러(로거 + 메시지 패턴 + 예외 타입)는 횟수로 합쳐
+ *   하나의 메시지로 전송 (디스코드 메시지 길이 제한을 넘으면 나눠서 전송)
+ * - 웹훅이 429를 돌려주면 Retry-After 만큼 다음 전송을 미룸
+ *
+ * logback-spring.xml 설정 예:
+ * <pre>
+ * &lt;appender name="DISCORD" class="com.ktb.marong.common.logging.AsyncDiscordAppender"&gt;
+ *     &lt;webhookUrl&gt;${DISCORD_WEBHOOK_URL}&lt;/webhookUrl&gt;
+ *     &lt;filter class="ch.qos.logback.classic.filter.ThresholdFilter"&gt;&lt;level&gt;ERROR&lt;/level&gt;&lt;/filter&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class AsyncDiscordAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private static final int DISCORD_CONTENT_LIMIT = 2000;
+    private static final int STACK_FRAMES = 3;
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("MM-dd HH:mm:ss").withZone(ZoneId.of("Asia/Seoul"));
+
+    // logback 설정으로 주입되는 값
+    private String webhookUrl;
+    private String username = "marong-error";
+    private int bufferSize = 512;
+    private long flushIntervalMillis = 5000;
+    private long requestTimeoutMillis = 3000;
+    private int maxMessageLength = 1900;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong reportedDroppedCount = new AtomicLong();
+    private final AtomicLong sentMessageCount = new AtomicLong();
+
+    private BlockingQueue<ErrorSnapshot> buffer;
+    private HttpClient httpClient;
+    private Thread worker;
+    private volatile boolean running;
+    private volatile long blockedUntilMillis;
+
+    @Override
+    public void start() {
+        if (webhookUrl == null || webhookUrl.isBlank()) {
+            addError("webhookUrl이 설정되지 않아 디스코드 appender를 시작하지 않음: " + getName());
+            return;
+        }
+
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(requestTimeoutMillis))
+                .build();
+        running = true;
+        worker = new Thread(this::runWorker, "discord-appender-" + getName());
+        worker.setDaemon(true);
+        worker.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(requestTimeoutMillis * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 호출 스레드에서는 필요한 값만 복사해 버퍼에 넣고 반환
+        if (!buffer.offer(ErrorSnapshot.of(event))) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                Thread.sleep(Math.max(flushIntervalMillis, blockedUntilMillis - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                // stop() 호출: 남은 이벤트를 전송하고 종료
+            }
+            flush();
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 묶어서 전송
+     */
+    void flush() {
+        List<ErrorSnapshot> drained = new ArrayList<>();
+        buffer.drainTo(drained);
+
+        long dropped = droppedCount.get();
+        long newlyDropped = dropped - reportedDroppedCount.get();
+        if (drained.isEmpty() && newlyDropped == 0) {
+            return;
+        }
+
+        Map<String, CoalescedError> coalesced = new LinkedHashMap<>();
+        for (ErrorSnapshot snapshot : drained) {
+            coalesced.computeIfAbsent(snapshot.coalesceKey(), key -> new CoalescedError(snapshot)).add(snapshot);
+        }
+
+        for (String content : render(coalesced.values(), newlyDropped)) {
+            post(content);
+        }
+        reportedDroppedCount.set(dropped);
+    }
+
+    private List<String> render(Iterable<CoalescedError> errors, long newlyDropped) {
+        List<String> messages = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        if (newlyDropped > 0) {
+            current.append(":warning: 버퍼 초과로 ").append(newlyDropped).append("건의 에러 로그가 버려졌습니다.\n");
+        }
+
+        for (CoalescedError error : errors) {
+            String block = error.render(maxMessageLength);
+            if (current.length() > 0 && current.length() + block.length() > maxMessageLength) {
+                messages.add(current.toString());
+                current.setLength(0);
+            }
+            current.append(block);
+        }
+        if (current.length() > 0) {
+            messages.add(current.toString());
+        }
+        return messages;
+    }
+
+    private void post(String content) {
+        long waitMillis = blockedUntilMillis - System.currentTimeMillis();
+        if (waitMillis > 0 && running) {
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                // 종료 중에는 기다리지 않고 바로 전송 시도
+            }
+        }
+
+        String body = "{\"username\":\"" + escapeJson(username) + "\",\"content\":\"" + escapeJson(content) + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(webhookUrl))
+                .timeout(Duration.ofMillis(requestTimeoutMillis))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 429) {
+                long retryAfterSeconds = response.headers().firstValueAsLong("Retry-After").orElse(5);
+                blockedUntilMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(retryAfterSeconds);
+                addWarn("디스코드 웹훅 전송 제한(429), " + retryAfterSeconds + "초 후 재개");
+            } else if (response.statusCode() >= 300) {
+                addWarn("디스코드 웹훅 전송 실패: status=" + response.statusCode());
+            } else {
+                sentMessageCount.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            addWarn("디스코드 웹훅 전송 실패: " + e.getMessage());
+        }
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+                }
+            }
+        }
+        return escaped.toString();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getSentMessageCount() {
+        return sentMessageCount.get();
+    }
+
+    public void setWebhookUrl(String webhookUrl) {
+        this.webhookUrl = webhookUrl;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setFlushIntervalMillis(long flushIntervalMillis) {
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public void setRequestTimeoutMillis(long requestTimeoutMillis) {
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    public void setMaxMessageLength(int maxMessageLength) {
+        this.maxMessageLength = Math.min(maxMessageLength, DISCORD_CONTENT_LIMIT);
+    }
+
+    /**
+     * 전송에 필요한 값만 복사한 로그 이벤트
+     */
+    private static class ErrorSnapshot {
+        private final long timestamp;
+        private final String level;
+        private final String loggerName;
+        private final String messagePattern;
+        private final String formattedMessage;
+        private final String throwableSummary;
+        private final String throwableType;
+
+        private ErrorSnapshot(long timestamp, String level, String loggerName, String messagePattern,
+                              String formattedMessage, String throwableSummary, String throwableType) {
+            this.timestamp = timestamp;
+            this.level = level;
+            this.loggerName = loggerName;
+            this.messagePattern = messagePattern;
+            this.formattedMessage = formattedMessage;
+            this.throwableSummary = throwableSummary;
+            this.throwableType = throwableType;
+        }
+
+        static ErrorSnapshot of(ILoggingEvent event) {
+            IThrowableProxy throwable = event.getThrowableProxy();
+            return new ErrorSnapshot(event.getTimeStamp(), event.getLevel().toString(), event.getLoggerName(),
+                    event.getMessage(), event.getFormattedMessage(),
+                    throwable != null ? summarize(throwable) : null,
+                    throwable != null ? throwable.getClassName() : null);
+        }
+
+        /**
+         * 같은 위치에서 같은 종류로 발생한 에러는 인자 값이 달라도 하나로 합침
+         */
+        String coalesceKey() {
+            return loggerName + '|' + messagePattern + '|' + throwableType;
+        }
+
+        private static String summarize(IThrowableProxy throwable) {
+            StringBuilder summary = new StringBuilder()
+                    .append(throwable.getClassName()).append(": ").append(throwable.getMessage());
+            StackTraceElementProxy[] frames = throwable.getStackTraceElementProxyArray();
+            for (int i = 0; i < Math.min(STACK_FRAMES, frames.length); i++) {
+                summary.append("\n    at ").append(frames[i].getStackTraceElement());
+            }
+            return summary.toString();
+        }
+    }
+
+    /**
+     * 전송 주기 안에서 합쳐진 같은 에러 묶음
+     */
+    private static class CoalescedError {
+        private final ErrorSnapshot first;
+        private long lastTimestamp;
+        private int count;
+
+        CoalescedError(ErrorSnapshot first) {
+            this.first = first;
+        }
+
+        void add(ErrorSnapshot snapshot) {
+            count++;
+            lastTimestamp = snapshot.timestamp;
+        }
+
+        String render(int maxLength) {
+            StringBuilder block = new StringBuilder()
+                    .append("**[").append(first.level).append("]** `")
+                    .append(shortLoggerName(first.loggerName)).append('`');
+            if (count > 1) {
+                block.append(" x").append(count)
+                        .append(" (").append(TIME_FORMAT.format(Instant.ofEpochMilli(first.timestamp)))
+                        .append(" ~ ").append(TIME_FORMAT.format(Instant.ofEpochMilli(lastTimestamp))).append(')');
+            } else {
+                block.append(" (").append(TIME_FORMAT.format(Instant.ofEpochMilli(first.timestamp))).append(')');
+            }
+            block.append('\n').append(first.formattedMessage).append('\n');
+            if (first.throwableSummary != null) {
+                block.append("```").append(first.throwableSummary).append("```\n");
+            }
+
+            if (block.length() > maxLength) {
+                return block.substring(0, maxLength - 4) + "...\n";
+            }
+            return block.toString();
+        }
+
+        private static String shortLoggerName(String loggerName) {
+            int lastDot = loggerName.lastIndexOf('.');
+            return lastDot >= 0 ? loggerName.substring(lastDot + 1) : loggerName;
+        }
+    }
+}
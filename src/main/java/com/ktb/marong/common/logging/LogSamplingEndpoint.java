@@ -0,0 +1,82 @@
+package com.ktb.marong.common.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그 샘플링 실행 중 조정 엔드포인트 (/actuator/logsampling)
+ * - GET: 현재 설정 조회
+ * - POST {"enabled": false}: 샘플링 전체 on/off
+ * - POST /{logger} {"rate": 0.1}: 로거별 통과 비율 설정
+ * - DELETE /{logger}: 로거 샘플링 해제
+ * 로컬호스트에서만 접근 가능 (SecurityConfig)
+ */
+@Component
+@Endpoint(id = "logsampling")
+public class LogSamplingEndpoint {
+
+    @ReadOperation
+    public Map<String, Object> samplings() {
+        LogSamplingTurboFilter filter = findFilter();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("installed", filter != null);
+        result.put("enabled", filter != null && filter.isEnabled());
+        result.put("rates", filter != null ? filter.getRates() : Map.of());
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> toggle(boolean enabled) {
+        LogSamplingTurboFilter filter = requireFilter();
+        filter.setEnabled(enabled);
+        return samplings();
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(@Selector String loggerName, @Nullable Double rate) {
+        LogSamplingTurboFilter filter = requireFilter();
+        if (rate == null) {
+            filter.removeRate(loggerName);
+        } else {
+            filter.setRate(loggerName, rate);
+        }
+        return samplings();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> remove(@Selector String loggerName) {
+        requireFilter().removeRate(loggerName);
+        return samplings();
+    }
+
+    private LogSamplingTurboFilter requireFilter() {
+        LogSamplingTurboFilter filter = findFilter();
+        if (filter == null) {
+            throw new IllegalStateException("LogSamplingTurboFilter가 logback 설정에 등록되어 있지 않습니다.");
+        }
+        return filter;
+    }
+
+    private static LogSamplingTurboFilter findFilter() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return null;
+        }
+        for (TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+            if (turboFilter instanceof LogSamplingTurboFilter samplingFilter) {
+                return samplingFilter;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.ktb.marong.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 INFO 이하 로그 샘플링 필터
+ * - 설정된 로거(패키지 접두사 포함)의 INFO/DEBUG 로그는 N건 중 1건만 통과 (rate = 1/N)
+ * - WARN 이상은 항상 통과
+ * - 로그 이벤트가 만들어지기 전에 판단하므로 버려지는 로그는 메시지 포맷/인자 처리 비용도 들지 않음
+ * 실행 중 비율 변경은 LogSamplingEndpoint(/actuator/logsampling)로 가능
+ *
+ * logback-spring.xml 설정 예:
+ * <pre>
+ * &lt;turboFilter class="com.ktb.marong.common.logging.LogSamplingTurboFilter"&gt;
+ *     &lt;sample&gt;com.ktb.marong.service.feed.FeedService=0.1&lt;/sample&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    // 로거 이름(접두사) -> N (N건 중 1건 통과)
+    private final Map<String, Long> sampleEvery = new ConcurrentHashMap<>();
+    // 로거 이름 -> 적용할 설정 접두사 (매 호출마다 접두사를 찾지 않도록 캐시, 설정 변경 시 초기화)
+    private final Map<String, String> resolvedPrefix = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+
+    private static final String NO_SAMPLING = "";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format이 null이면 isInfoEnabled() 같은 레벨 확인 호출이므로 샘플링 카운트에 포함하지 않음
+        if (!enabled || format == null || level.isGreaterOrEqual(Level.WARN) || sampleEvery.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String prefix = resolvedPrefix.computeIfAbsent(logger.getName(), this::findPrefix);
+        if (prefix.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Long every = sampleEvery.get(prefix);
+        if (every == null || every <= 1) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long sequence = counters.computeIfAbsent(prefix, key -> new AtomicLong()).getAndIncrement();
+        return sequence % every == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    /**
+     * logback 설정용: "로거이름=비율" 형식 (비율 0 초과 1 이하, 1이면 샘플링하지 않음)
+     */
+    public void addSample(String sample) {
+        int separator = sample.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("샘플링 설정 형식 오류 (로거이름=비율): " + sample);
+            return;
+        }
+        try {
+            setRate(sample.substring(0, separator).trim(), Double.parseDouble(sample.substring(separator + 1).trim()));
+        } catch (IllegalArgumentException e) {
+            addError("샘플링 설정 오류: " + sample + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * 로거(접두사)의 샘플링 비율 설정
+     */
+    public void setRate(String loggerName, double rate) {
+        if (!(rate > 0 && rate <= 1)) {
+            throw new IllegalArgumentException("샘플링 비율은 0 초과 1 이하여야 합니다: " + rate);
+        }
+        long every = Math.round(1 / rate);
+        if (every <= 1) {
+            sampleEvery.remove(loggerName);
+        } else {
+            sampleEvery.put(loggerName, every);
+        }
+        resolvedPrefix.clear();
+    }
+
+    /**
+     * 로거(접두사)의 샘플링 설정 제거
+     */
+    public void removeRate(String loggerName) {
+        sampleEvery.remove(loggerName);
+        counters.remove(loggerName);
+        resolvedPrefix.clear();
+    }
+
+    /**
+     * 현재 설정된 로거별 통과 비율
+     */
+    public Map<String, Double> getRates() {
+        Map<String, Double> rates = new TreeMap<>();
+        sampleEvery.forEach((loggerName, every) -> rates.put(loggerName, 1.0 / every));
+        return Collections.unmodifiableMap(rates);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 로거 이름과 가장 길게 일치하는 설정 접두사 (없으면 빈 문자열)
+     */
+    private String findPrefix(String loggerName) {
+        String candidate = loggerName;
+        while (true) {
+            if (sampleEvery.containsKey(candidate)) {
+                return candidate;
+            }
+            int lastDot = candidate.lastIndexOf('.');
+            if (lastDot < 0) {
+                return NO_SAMPLING;
+            }
+            candidate = candidate.substring(0, lastDot);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ktb.marong.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 개수 보관소
+ * 요청 단위(RequestMetricsFilter) 또는 테스트 단위로 start() ~ get() 사이의 문장 수를 센다
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<long[]> COUNTER = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    /**
+     * 현재 스레드의 카운터 초기화
+     */
+    public static void start() {
+        COUNTER.get()[0] = 0;
+    }
+
+    /**
+     * start() 이후 현재 스레드에서 실행된 SQL 문 개수
+     */
+    public static long get() {
+        return COUNTER.get()[0];
+    }
+
+    /**
+     * 카운터 초기화와 함께 실행된 SQL 문 자체도 기록 (쿼리 예산 테스트의 실패 메시지용)
+     */
+    public static void startRecording() {
+        start();
+        RECORDED.set(new ArrayList<>());
+    }
+
+    /**
+     * startRecording() 이후 기록된 SQL 문 목록 (기록 중이 아니면 빈 목록)
+     */
+    public static List<String> recordedStatements() {
+        List<String> recorded = RECORDED.get();
+        return recorded != null ? Collections.unmodifiableList(recorded) : Collections.emptyList();
+    }
+
+    /**
+     * 스레드 재사용 시 값이 남지 않도록 정리
+     */
+    public static void clear() {
+        COUNTER.remove();
+        RECORDED.remove();
+    }
+
+    static void record(String sql) {
+        COUNTER.get()[0]++;
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ktb.marong.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL 문을 현재 스레드 카운터에 집계
+ * SQL은 변경하지 않고 그대로 반환
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountHolder.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ktb.marong.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 메트릭 필터
+ * - 핸들러(Controller.method)별 지연시간 히스토그램: marong.request.latency
+ * - 핸들러별 SQL 문 개수 분포: marong.request.sql.statements
+ * - 임계값을 넘는 요청은 SQL 문 개수와 함께 느린 요청 로그로 남김
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".QUERY_COUNT";
+
+    private static final String UNMAPPED_HANDLER = "UNMAPPED";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestThresholdMs;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${marong.metrics.slow-request-threshold-ms:500}") long slowRequestThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThresholdMs = slowRequestThresholdMs;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        QueryCountHolder.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            long statements = QueryCountHolder.get();
+            QueryCountHolder.clear();
+            request.setAttribute(QUERY_COUNT_ATTRIBUTE, statements);
+
+            record(request, response, elapsedNanos, statements);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long elapsedNanos, long statements) {
+        String handler = resolveHandler(request);
+        String status = String.valueOf(response.getStatus());
+
+        Timer.builder("marong.request.latency")
+                .description("핸들러별 요청 처리 시간")
+                .tag("handler", handler)
+                .tag("method", request.getMethod())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("marong.request.sql.statements")
+                .description("요청당 실행된 SQL 문 개수")
+                .tag("handler", handler)
+                .tag("method", request.getMethod())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= slowRequestThresholdMs) {
+            log.warn("느린 요청: {} {} handler={}, status={}, elapsed={}ms, statements={}",
+                    request.getMethod(), request.getRequestURI(), handler, status, elapsedMs, statements);
+        }
+    }
+
+    /**
+     * 매핑된 핸들러 이름 (예: FeedController.getFeeds), 매핑 전 실패한 요청은 UNMAPPED
+     */
+    private String resolveHandler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMAPPED_HANDLER;
+    }
+}
@@ -0,0 +1,368 @@
+package com.ktb.marong.common.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * 토픽(그룹 등) 단위 Server-Sent Events 방송
+ * - 발행자는 연결별 고정 크기 버퍼에 넣기만 하고 바로 반환 (전송은 별도 스레드에서 연결별로 순서대로 수행)
+ * - 버퍼가 가득 찬 느린 연결은 끊음 (클라이언트가 Last-Event-ID로 재연결하여 놓친 이벤트를 다시 받음)
+ * - 토픽별 최근 이벤트를 보관하여 Last-Event-ID 이후 이벤트를 재전송, 보관 범위를 벗어났으면 resync 이벤트 전송
+ * - 이벤트 ID는 "<인스턴스 시작 ID>-<순번>" 형식이므로, 재시작 이전 또는 다른 인스턴스에서 받은 ID로 재연결하면 resync 전송
+ * - heartbeat()를 주기적으로 호출하면 유휴 연결이 프록시에서 끊기지 않도록 주석 이벤트 전송
+ */
+@Slf4j
+public class SseBroadcaster {
+
+    /**
+     * 재전송 범위를 벗어나 전체를 다시 조회해야 할 때 보내는 이벤트 이름
+     */
+    public static final String RESYNC_EVENT = "resync";
+
+    private final String name;
+    private final int replaySize;
+    private final int connectionBufferSize;
+    private final long timeoutMillis;
+    private final LongFunction<SseEmitter> emitterFactory;
+
+    // 이벤트 순번은 인스턴스마다 0부터 시작하므로 ID 앞에 붙여 다른 인스턴스/재시작 이전 ID와 구분
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final Map<String, ReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final Counter droppedConnections;
+
+    public SseBroadcaster(String name, int replaySize, int connectionBufferSize, Duration timeout,
+                          MeterRegistry meterRegistry) {
+        this(name, replaySize, connectionBufferSize, timeout, meterRegistry, SseEmitter::new);
+    }
+
+    /**
+     * @param emitterFactory 연결마다 타임아웃(ms)으로 SseEmitter 생성 (테스트에서 전송 내용을 기록할 때 교체)
+     */
+    public SseBroadcaster(String name, int replaySize, int connectionBufferSize, Duration timeout,
+                          MeterRegistry meterRegistry, LongFunction<SseEmitter> emitterFactory) {
+        this.name = name;
+        this.replaySize = replaySize;
+        this.connectionBufferSize = connectionBufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.emitterFactory = emitterFactory;
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-" + name + "-", 0).factory());
+
+        if (meterRegistry != null) {
+            Gauge.builder("marong.sse.connections", this, SseBroadcaster::getConnectionCount)
+                    .tag("stream", name)
+                    .register(meterRegistry);
+            this.droppedConnections = Counter.builder("marong.sse.dropped.connections")
+                    .tag("stream", name)
+                    .description("버퍼가 가득 차 끊은 느린 연결 수")
+                    .register(meterRegistry);
+        } else {
+            this.droppedConnections = null;
+        }
+    }
+
+    /**
+     * 토픽 구독
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+     */
+    public SseEmitter subscribe(String topic, String lastEventId) {
+        return subscribe(topic, null, lastEventId);
+    }
+
+    /**
+     * 구독자를 지정한 토픽 구독 (disconnect()로 해당 구독자의 연결만 끊을 수 있음)
+     * 연결 등록과 재전송을 발행과 같은 보관 버퍼 잠금 안에서 수행
+     * (그 사이 발행된 이벤트가 실시간으로 한 번, 재전송으로 또 한 번 순서가 뒤바뀌어 전달되지 않도록)
+     * @param subscriber 구독자 식별자 (사용자 ID 등, 없으면 null)
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+     */
+    public SseEmitter subscribe(String topic, Object subscriber, String lastEventId) {
+        ReplayBuffer replay = replayBuffers.computeIfAbsent(topic, key -> new ReplayBuffer());
+        synchronized (replay) {
+            Connection connection = register(topic, subscriber);
+
+            // 연결 직후 재전송 (Last-Event-ID가 없으면 연결 확인용 주석만 전송)
+            if (lastEventId == null || lastEventId.isBlank()) {
+                connection.offer(SseMessage.comment("connected"));
+                return connection.emitter;
+            }
+            long lastId = parseSequence(lastEventId);
+            if (lastId < 0 || lastId > sequence.get()) {
+                // 재시작 이전/다른 인스턴스의 ID: 어떤 이벤트를 놓쳤는지 알 수 없음
+                connection.offer(SseMessage.event(sequence.get(), RESYNC_EVENT, "{}"));
+            } else {
+                replayAfter(connection, replay, lastId);
+            }
+            return connection.emitter;
+        }
+    }
+
+    /**
+     * 현재 상태를 첫 이벤트로 보내는 토픽 구독 (상태 자체를 전달하는 스트림용, 재전송 없음)
+     * 연결을 먼저 등록한 뒤 상태를 만들어, 만드는 동안 발행된 변경이 있으면 상태를 다시 만듦
+     * (경계 시점에 구독해도 변경을 놓치거나 이전 상태가 마지막으로 전달되지 않음)
+     * 상태를 만드는 동안에는 잠금을 잡지 않음 (상태 조회가 기간 변경 이벤트를 발행할 수 있음)
+     * 첫 이벤트의 ID는 구독 시점의 마지막 이벤트 ID
+     */
+    public SseEmitter subscribeWithSnapshot(String topic, String eventName, Supplier<?> snapshot) {
+        Connection connection = register(topic, null);
+        ReplayBuffer replay = replayBuffers.computeIfAbsent(topic, key -> new ReplayBuffer());
+        while (true) {
+            long publishedBefore;
+            synchronized (replay) {
+                publishedBefore = replay.lastId;
+            }
+            Object state = snapshot.get();
+            synchronized (replay) {
+                if (replay.lastId == publishedBefore) {
+                    connection.offer(SseMessage.event(sequence.get(), eventName, state));
+                    return connection.emitter;
+                }
+            }
+        }
+    }
+
+    /**
+     * 토픽 구독자 전체에게 이벤트 발행
+     */
+    public void publish(String topic, String eventName, Object data) {
+        ReplayBuffer replay = replayBuffers.computeIfAbsent(topic, key -> new ReplayBuffer());
+        // 토픽 안에서 순번 순서대로 보관/전달되도록 보관 버퍼 잠금 안에서 순번 발급 (버퍼에 넣기만 하므로 짧음)
+        synchronized (replay) {
+            SseMessage message = SseMessage.event(sequence.incrementAndGet(), eventName, data);
+            replay.add(message, replaySize);
+
+            Set<Connection> subscribers = connections.get(topic);
+            if (subscribers != null) {
+                subscribers.forEach(connection -> connection.offer(message));
+            }
+        }
+    }
+
+    /**
+     * 모든 연결에 heartbeat 주석 전송 (끊긴 연결 정리도 함께 됨)
+     */
+    public void heartbeat() {
+        SseMessage heartbeat = SseMessage.comment("heartbeat");
+        connections.values().forEach(subscribers -> subscribers.forEach(connection -> connection.offer(heartbeat)));
+    }
+
+    /**
+     * 토픽에서 해당 구독자의 연결만 종료 (그룹 탈퇴 등으로 더 이상 받으면 안 되는 경우)
+     */
+    public void disconnect(String topic, Object subscriber) {
+        Set<Connection> subscribers = connections.get(topic);
+        if (subscribers == null || subscriber == null) {
+            return;
+        }
+        subscribers.removeIf(connection -> {
+            if (!subscriber.equals(connection.subscriber)) {
+                return false;
+            }
+            connection.emitter.complete();
+            return true;
+        });
+    }
+
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 모든 연결 종료 (애플리케이션 종료 시)
+     */
+    public void shutdown() {
+        connections.values().forEach(subscribers -> subscribers.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+        sender.shutdown();
+    }
+
+    /**
+     * lastId 이후 보관된 이벤트 재전송 (보관 버퍼 잠금을 잡은 상태에서 호출)
+     */
+    private void replayAfter(Connection connection, ReplayBuffer replay, long lastId) {
+        // 보관 범위에서 밀려난 이벤트를 모두 받은 경우에만 빠짐없이 재전송 가능
+        if (lastId < replay.evictedUpTo) {
+            connection.offer(SseMessage.event(sequence.get(), RESYNC_EVENT, "{}"));
+            return;
+        }
+        boolean missed = false;
+        for (SseMessage message : replay.messages) {
+            if (message.getId() > lastId) {
+                connection.offer(message);
+                missed = true;
+            }
+        }
+        if (!missed) {
+            connection.offer(SseMessage.comment("connected"));
+        }
+    }
+
+    private Connection register(String topic, Object subscriber) {
+        SseEmitter emitter = emitterFactory.apply(timeoutMillis);
+        Connection connection = new Connection(topic, subscriber, emitter);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+
+        connections.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(connection);
+        return connection;
+    }
+
+    private void remove(Connection connection) {
+        Set<Connection> subscribers = connections.get(connection.topic);
+        if (subscribers != null) {
+            subscribers.remove(connection);
+        }
+    }
+
+    /**
+     * Last-Event-ID에서 순번 추출 (이 인스턴스가 붙인 ID가 아니거나 형식이 다르면 -1)
+     */
+    private long parseSequence(String lastEventId) {
+        String prefix = epoch + "-";
+        String id = lastEventId.trim();
+        if (!id.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(id.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 토픽별 재전송용 최근 이벤트 (보관 범위에서 밀려난 마지막 순번 포함)
+     */
+    private static class ReplayBuffer {
+
+        private final Deque<SseMessage> messages = new ArrayDeque<>();
+        private long evictedUpTo;
+        private long lastId;
+
+        void add(SseMessage message, int capacity) {
+            lastId = message.getId();
+            messages.addLast(message);
+            while (messages.size() > capacity) {
+                evictedUpTo = messages.removeFirst().getId();
+            }
+        }
+    }
+
+    /**
+     * 연결 하나 (고정 크기 버퍼 + 전송 중 여부)
+     */
+    private class Connection {
+
+        private final String topic;
+        private final Object subscriber;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseMessage> buffer = new ArrayBlockingQueue<>(connectionBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Connection(String topic, Object subscriber, SseEmitter emitter) {
+            this.topic = topic;
+            this.subscriber = subscriber;
+            this.emitter = emitter;
+        }
+
+        void offer(SseMessage message) {
+            if (!buffer.offer(message)) {
+                // 느린 연결: 끊고 재연결 시 Last-Event-ID로 따라잡도록 함
+                log.debug("SSE 버퍼 초과로 연결 종료: stream={}, topic={}", name, topic);
+                if (droppedConnections != null) {
+                    droppedConnections.increment();
+                }
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseMessage message;
+                while ((message = buffer.poll()) != null) {
+                    emitter.send(message.toEvent(epoch));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 연결을 끊은 경우
+                remove(this);
+                buffer.clear();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료 직전에 들어온 메시지 처리
+            if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+    }
+
+    /**
+     * 전송할 SSE 메시지 (이벤트 또는 주석)
+     */
+    private static class SseMessage {
+
+        private final long id;
+        private final String eventName;
+        private final Object data;
+
+        private SseMessage(long id, String eventName, Object data) {
+            this.id = id;
+            this.eventName = eventName;
+            this.data = data;
+        }
+
+        static SseMessage event(long id, String eventName, Object data) {
+            return new SseMessage(id, eventName, data);
+        }
+
+        static SseMessage comment(String comment) {
+            return new SseMessage(-1, null, comment);
+        }
+
+        long getId() {
+            return id;
+        }
+
+        SseEmitter.SseEventBuilder toEvent(String epoch) {
+            if (eventName == null) {
+                return SseEmitter.event().comment((String) data);
+            }
+            return SseEmitter.event()
+                    .id(epoch + "-" + id)
+                    .name(eventName)
+                    .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -10,7 +10,9 @@ public class WeekCalculator {
 
     /**
      * 2025.01.06 기준 현재 누적 주차 계산
+     * @deprecated -> 서비스 코드에서는 Clock 기준으로 캐싱된 ManittoCycleClock.getCurrentWeek() 사용
      */
+    @Deprecated
     public static int getCurrentWeek() {
         LocalDate today = LocalDate.now();
         long weeksBetween = ChronoUnit.WEEKS.between(SERVICE_START_DATE, today) + 1;
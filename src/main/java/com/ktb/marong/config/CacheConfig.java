@@ -0,0 +1,101 @@
+package com.ktb.marong.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.marong.common.cache.CacheInvalidationBus;
+import com.ktb.marong.common.cache.CacheNames;
+import com.ktb.marong.common.cache.CacheSpec;
+import com.ktb.marong.common.cache.RedisCacheInvalidationBus;
+import com.ktb.marong.common.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애플리케이션 캐시 설정 (Spring Cache 추상화)
+ * - 로컬(Caffeine) 캐시는 항상 사용
+ * - marong.cache.redis.enabled=true 이면 Redis를 원격 캐시로 함께 사용하고,
+ *   변경 시 Redis pub/sub으로 다른 인스턴스의 로컬 캐시를 무효화
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 캐시 영역 정의 (이름, 로컬 TTL, 원격 TTL, 로컬 최대 개수)
+     */
+    private static final List<CacheSpec> CACHE_SPECS = List.of(
+            new CacheSpec(CacheNames.GROUP_MEMBERSHIP, Duration.ofMinutes(5), Duration.ofMinutes(30), 50_000),
+            new CacheSpec(CacheNames.GROUP_MEMBER_COUNT, Duration.ofMinutes(1), Duration.ofMinutes(10), 10_000),
+            // 조회 중 변경과의 순서를 인스턴스 안에서만 보장할 수 있으므로 원격 캐시에 공유하지 않음
+            CacheSpec.localOnly(CacheNames.FEED_FIRST_PAGE, Duration.ofMinutes(1), 10_000),
+            new CacheSpec(CacheNames.GROUP_DISPLAY_NAME, Duration.ofMinutes(10), Duration.ofMinutes(30), 100_000),
+            new CacheSpec(CacheNames.PLACE_CANDIDATES, Duration.ofMinutes(30), Duration.ofHours(12), 50_000),
+            new CacheSpec(CacheNames.SURVEY_ANSWERS, Duration.ofMinutes(30), Duration.ofHours(6), 50_000)
+    );
+
+    @Bean
+    @Primary
+    public CacheManager cacheManager(ObjectProvider<RedisCacheManager> redisCacheManager,
+                                     ObjectProvider<CacheInvalidationBus> invalidationBus,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TwoTierCacheManager(CACHE_SPECS, redisCacheManager.getIfAvailable(),
+                invalidationBus.getIfAvailable(), meterRegistry.getIfAvailable());
+    }
+
+    /**
+     * Redis 원격 캐시 및 무효화 채널 (marong.cache.redis.enabled=true 일 때만)
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "marong.cache.redis.enabled", havingValue = "true")
+    static class RedisTierConfig {
+
+        /**
+         * 원격 캐시 저장소 (직접 사용하지 않고 TwoTierCacheManager를 통해서만 접근)
+         */
+        @Bean
+        public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+            Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+            for (CacheSpec spec : CACHE_SPECS) {
+                if (spec.isLocalOnly()) {
+                    continue;
+                }
+                configurations.put(spec.getName(), RedisCacheConfiguration.defaultCacheConfig()
+                        .prefixCacheNameWith("marong:cache:")
+                        .entryTtl(spec.getRemoteTtl())
+                        .disableCachingNullValues());
+            }
+            return RedisCacheManager.builder(connectionFactory)
+                    .withInitialCacheConfigurations(configurations)
+                    .disableCreateOnMissingCache()
+                    .build();
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public CacheInvalidationBus redisCacheInvalidationBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                                              RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+            return new RedisCacheInvalidationBus(redisTemplate, objectMapper, cacheInvalidationListenerContainer);
+        }
+    }
+}
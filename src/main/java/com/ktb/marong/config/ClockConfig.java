@@ -0,0 +1,19 @@
+package com.ktb.marong.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 시간 관련 설정
+ * 서비스 전반에서 현재 시각은 이 Clock 빈을 기준으로 계산 (테스트에서는 고정 시계로 대체 가능)
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
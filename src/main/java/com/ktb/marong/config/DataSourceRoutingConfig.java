@@ -0,0 +1,93 @@
+package com.ktb.marong.config;
+
+import com.ktb.marong.common.datasource.ReadWriteRoutingDataSource;
+import com.ktb.marong.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 데이터소스 분리 설정 (marong.datasource.replica.enabled=true 일 때만 적용)
+ * - primary: spring.datasource.* (Hikari 풀 이름 "primary")
+ * - replica: marong.datasource.replica.* (Hikari 풀 이름 "replica", 읽기 전용 커넥션)
+ * - @Transactional(readOnly = true) 트랜잭션은 replica로, 그 외는 primary로 라우팅
+ * 비활성화 시에는 기존처럼 스프링 부트 기본 단일 데이터소스 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "marong.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("marong.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPoolDataSource(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("marong.datasource.replica.hikari")
+    public HikariDataSource replicaPoolDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaPoolDataSource") DataSource replica,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${marong.datasource.replica.lag-query:}") String lagQuery,
+            @Value("${marong.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${marong.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${marong.datasource.replica.lag-query-timeout:2s}") Duration queryTimeout) {
+        return new ReplicaLagMonitor(replica, lagQuery, lagColumn, maxLag, queryTimeout,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * 애플리케이션 전체(JPA, JdbcTemplate)가 사용하는 기본 데이터소스
+     * 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄 트랜잭션의 readOnly 여부가 라우팅에 반영되도록 함
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryPoolDataSource") DataSource primary,
+            @Qualifier("replicaPoolDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primary, replica, replicaLagMonitor, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ktb.marong.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Ehcache)
+ * - 자주 읽히고 거의 바뀌지 않는 엔티티(User, Group, Mission)와 미션 목록 조회 결과를 캐시
+ * - 2차 캐시는 인스턴스마다 따로 있으므로 엔티티 변경은 EntityCacheInvalidationRelay가 캐시 무효화 채널로 전파
+ *   (쿼리 결과 캐시는 전파되지 않으므로 운영자만 바꾸는 미션 목록에만 사용)
+ * - 요청마다 바뀌는 값(GroupMission 잔여 인원 등)은 캐시하지 않음
+ * - 영역별 크기와 TTL은 ehcache.xml에서 관리
+ * - 통계를 켜서 영역별 hit/miss를 Micrometer(hibernate.second.level.cache.requests)로 노출
+ * JdbcTemplate 등 Hibernate를 거치지 않는 쓰기는 캐시를 갱신하지 않으므로 캐시 대상 테이블은 JPA로만 수정해야 함
+ */
+@Configuration
+@ConditionalOnProperty(name = "marong.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+            properties.put("hibernate.javax.cache.uri", "classpath:ehcache.xml");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+}
@@ -1,17 +1,100 @@
 package com.ktb.marong.config;
 
+import com.ktb.marong.common.http.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * RestTemplate 설정
+ * 외부 API(카카오 OAuth) 호출용 커넥션 풀 (keep-alive 재사용, 호스트별 연결 수 제한)과 타임아웃 적용
+ * - 연결/응답 타임아웃: 외부 서버가 느려도 요청 스레드가 무한정 묶이지 않음
+ * - 풀 대기 타임아웃: 로그인 폭주로 풀이 가득 차면 기다리지 않고 바로 실패
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(
+            @Value("${marong.http.client.max-total:100}") int maxTotal,
+            @Value("${marong.http.client.max-per-route:20}") int maxPerRoute,
+            @Value("${marong.http.client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${marong.http.client.read-timeout:3s}") Duration readTimeout,
+            MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        // 오래 쉬었던 연결은 재사용 전에 확인 (상대가 먼저 끊은 연결로 요청하지 않도록)
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "external").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+                                          @Value("${marong.http.client.read-timeout:3s}") Duration readTimeout,
+                                          @Value("${marong.http.client.pool-wait-timeout:500ms}") Duration poolWaitTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolWaitTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * 카카오 OAuth 호출용 서킷 브레이커 (연결 실패/타임아웃/5xx만 실패로 셈)
+     * 풀 대기 타임아웃은 우리 쪽 동시 요청이 많아 생긴 것이므로 실패로 세지 않음
+     * (로그인 폭주만으로 서킷이 열려 카카오가 정상인데도 로그인이 막히지 않도록 함)
+     */
+    @Bean
+    public CircuitBreaker kakaoCircuitBreaker(
+            @Value("${marong.kakao.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${marong.kakao.circuit-breaker.open-duration:10s}") Duration openDuration,
+            MeterRegistry meterRegistry) {
+        return new CircuitBreaker("kakao", failureThreshold, openDuration,
+                RestTemplateConfig::isKakaoFailure, RestTemplateConfig::isPoolWaitTimeout, meterRegistry);
+    }
+
+    private static boolean isKakaoFailure(Throwable e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    /**
+     * 풀 대기 타임아웃은 카카오에 요청을 보내지도 못한 것이므로 HALF_OPEN 시험 호출의 성공으로도 세지 않음
+     */
+    private static boolean isPoolWaitTimeout(Throwable e) {
+        return e instanceof ResourceAccessException && e.getCause() instanceof ConnectionRequestTimeoutException;
     }
-}
\ No newline at end of file
+}
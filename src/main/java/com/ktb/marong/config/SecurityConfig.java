@@ -2,7 +2,9 @@ package com.ktb.marong.config;
 
 import com.ktb.marong.security.JwtAuthenticationFilter;
 import com.ktb.marong.security.JwtExceptionFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -10,13 +12,19 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
+
 /**
  * Spring Security 보안 설정
  * Spring Security 6 이상 버전에 맞게 설정 업데이트
@@ -30,7 +38,11 @@ public class SecurityConfig {
     private final JwtExceptionFilter jwtExceptionFilter;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
+        // Actuator는 외부에 열지 않는 관리 포트(management.server.port)로 들어온 요청만 허용
+        RequestMatcher managementRequest = request -> managementPort > 0 && request.getLocalPort() == managementPort;
+
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
@@ -47,6 +59,17 @@ public class SecurityConfig {
                         .requestMatchers("/groups/public").permitAll() // 전체 그룹 조회 API 공개
                         .requestMatchers("/swagger-ui/**", "/swagger-resources/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers("/error").permitAll()
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(new AndRequestMatcher(managementRequest,
+                                new OrRequestMatcher(antMatcher("/actuator/health"), antMatcher("/actuator/prometheus"))))
+                        .permitAll() // 모니터링 수집용 (관리 포트)
+                        // 운영 중 로그 샘플링 조정: 관리 포트로, 서버 내부에서 직접 온 요청만 허용
+                        // (공개 포트는 같은 호스트의 리버스 프록시를 거치면 모두 127.0.0.1에서 온 것으로 보이므로 IP만으로 막지 않음)
+                        .requestMatchers(new AndRequestMatcher(managementRequest,
+                                new OrRequestMatcher(antMatcher("/actuator/logsampling"), antMatcher("/actuator/logsampling/**"))))
+                        .access(new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')"))
+                        .requestMatchers("/actuator/**").denyAll() // 공개 포트로 들어온 Actuator 요청
                         .requestMatchers("/survey").authenticated()
                         .requestMatchers("/groups/**").authenticated()
                         .requestMatchers("/test-discord").permitAll()
@@ -64,7 +87,7 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000", "http://localhost:5173", "http://marong.co.kr", "http://www.marong.co.kr", "https://marong.co.kr/", "https://www.marong.co.kr/", "http://dev.marong.co.kr", "https://dev.marong.co.kr"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "x-auth-token"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "x-auth-token", "Last-Event-ID"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
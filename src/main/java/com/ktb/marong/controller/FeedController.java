@@ -1,6 +1,5 @@
 package com.ktb.marong.controller;
 
-import com.ktb.marong.common.util.WeekCalculator;
 import com.ktb.marong.dto.request.feed.PostLikeRequestDto;
 import com.ktb.marong.dto.request.feed.PostRequestDto;
 import com.ktb.marong.dto.response.common.ApiResponse;
@@ -9,6 +8,8 @@ import com.ktb.marong.dto.response.feed.PostPageResponseDto;
 import com.ktb.marong.repository.GroupRepository;
 import com.ktb.marong.security.CurrentUser;
 import com.ktb.marong.service.feed.FeedService;
+import com.ktb.marong.service.feed.FeedStreamService;
+import com.ktb.marong.service.manitto.ManittoCycleClock;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,7 +31,9 @@ import java.util.Map;
 public class FeedController {
 
     private final FeedService feedService;
+    private final FeedStreamService feedStreamService;
     private final GroupRepository groupRepository;
+    private final ManittoCycleClock cycleClock;
 
     /**
      * 게시글 업로드 (그룹별 분리)
@@ -133,6 +137,21 @@ public class FeedController {
         ));
     }
 
+    /**
+     * 그룹 피드 실시간 변경 스트림 구독 (SSE)
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 변경분을 이어서 전달
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeeds(
+            @CurrentUser Long userId,
+            @RequestParam("groupId") Long groupId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        log.info("피드 스트림 구독 요청: userId={}, groupId={}, lastEventId={}", userId, groupId, lastEventId);
+
+        return feedStreamService.subscribe(userId, groupId, lastEventId);
+    }
+
     /**
      * 사용자의 기본으로 선택될 그룹 ID 조회 (가장 최근 가입한 그룹) -> 로그인 후 처음 로딩될 그룹의 피드
      */
@@ -185,7 +204,7 @@ public class FeedController {
             emptyStats.put("weeklyPosts", 0);
             emptyStats.put("memberCount", 0);
             emptyStats.put("myPosts", 0);
-            emptyStats.put("currentWeek", WeekCalculator.getCurrentWeek());
+            emptyStats.put("currentWeek", cycleClock.getCurrentWeek());
             emptyStats.put("isNewUser", true);
             return ResponseEntity.ok(ApiResponse.success(
                     emptyStats,
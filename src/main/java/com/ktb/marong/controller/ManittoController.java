@@ -9,11 +9,14 @@ import com.ktb.marong.dto.response.mission.TodayMissionResponseDto;
 import com.ktb.marong.exception.CustomException;
 import com.ktb.marong.repository.GroupRepository;
 import com.ktb.marong.security.CurrentUser;
+import com.ktb.marong.service.manitto.ManittoPhaseStreamService;
 import com.ktb.marong.service.manitto.ManittoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -25,6 +28,7 @@ import java.util.Map;
 public class ManittoController {
 
     private final ManittoService manittoService;
+    private final ManittoPhaseStreamService phaseStreamService;
     private final GroupRepository groupRepository;
 
     /**
@@ -65,6 +69,18 @@ public class ManittoController {
         }
     }
 
+    /**
+     * 마니또 주기 기간 스트림 구독 (SSE)
+     * 구독 시 기간 경계를 한 번 보내고 기간이 바뀌는 시점에 phase-changed 이벤트 전송
+     * -> 클라이언트는 남은 시간을 직접 계산하고 /manitto/detail 반복 조회 대신 이벤트 수신 시에만 다시 조회
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPhase(@CurrentUser Long userId) {
+        log.info("마니또 기간 스트림 구독 요청: userId={}", userId);
+
+        return phaseStreamService.subscribe(userId);
+    }
+
     /**
      * 현재 마니또가 담당하는 마니띠 정보 조회 (그룹 ID 파라미터 추가)
      * @deprecated -> MVP 이후는 getManittoDetail API 사용
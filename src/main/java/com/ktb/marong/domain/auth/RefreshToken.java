@@ -27,11 +27,17 @@ public class RefreshToken {
     private Long userId;
 
     @Column(nullable = false)
-    private String token;
+    private String token; // 토큰의 SHA-256 해시 (RefreshTokenStore에서 JDBC로 반영)
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
+    @Column(name = "chain_id")
+    private Long chainId; // 로그인마다 새로 발급되는 토큰 체인 ID (없으면 체인 0)
+
+    @Column(name = "step")
+    private Long step; // 같은 체인 안에서의 교체 횟수 (이전 교체로 덮어쓰지 않도록 비교)
+
     @Builder
     public RefreshToken(Long userId, String token, LocalDateTime expiresAt) {
         this.userId = userId;
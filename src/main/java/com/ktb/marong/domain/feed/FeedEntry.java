@@ -0,0 +1,131 @@
+package com.ktb.marong.domain.feed;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 조회용 읽기 모델 (게시글 1건당 1행)
+ * 작성자/마니띠 표시 이름과 좋아요 수를 미리 반영해두어 피드 페이지를 (group_id, created_at, post_id) 인덱스
+ * 범위 조회 한 번으로 만들 수 있게 함
+ * 게시글 작성, 그룹 표시 이름 변경, 좋아요 변경, 마니또 기간 변경 이벤트로 FeedEntryProjector가 갱신
+ */
+@Entity
+@Table(name = "FeedEntries", indexes = {
+        @Index(name = "idx_feed_entry_group_created", columnList = "group_id, created_at, post_id"),
+        @Index(name = "idx_feed_entry_group_author", columnList = "group_id, author_id"),
+        @Index(name = "idx_feed_entry_group_manittee", columnList = "group_id, manittee_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedEntry implements Persistable<Long> {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "week", nullable = false)
+    private Integer week;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "manittee_id")
+    private Long manitteeId;
+
+    @Column(name = "mission_title")
+    private String missionTitle;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "image_url")
+    private String imageUrl;
+
+    @Column(name = "anonymous_name", nullable = false)
+    private String anonymousName;
+
+    @Column(name = "author_display_name")
+    private String authorDisplayName;
+
+    @Column(name = "manittee_display_name")
+    private String manitteeDisplayName;
+
+    @Column(name = "like_count", nullable = false)
+    private int likeCount;
+
+    // 작성자 공개 여부 (해당 주차의 마니또 공개 시점 이후 true)
+    @Column(name = "revealed", nullable = false)
+    private boolean revealed;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean persisted;
+
+    @Builder
+    public FeedEntry(Long postId, Long groupId, Integer week, Long authorId, Long manitteeId, String missionTitle,
+                     String content, String imageUrl, String anonymousName, String authorDisplayName,
+                     String manitteeDisplayName, int likeCount, boolean revealed, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.groupId = groupId;
+        this.week = week;
+        this.authorId = authorId;
+        this.manitteeId = manitteeId;
+        this.missionTitle = missionTitle;
+        this.content = content;
+        this.imageUrl = imageUrl;
+        this.anonymousName = anonymousName;
+        this.authorDisplayName = authorDisplayName;
+        this.manitteeDisplayName = manitteeDisplayName;
+        this.likeCount = likeCount;
+        this.revealed = revealed;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 피드에 표시할 작성자 이름
+     * 공개 전: 익명 이름, 공개 후: "그룹닉네임 (익명이름)" (닉네임이 없으면 카카오 실명)
+     */
+    public static String authorNameOf(String anonymousName, String authorDisplayName, boolean revealed) {
+        if (!revealed || authorDisplayName == null) {
+            return anonymousName;
+        }
+        return authorDisplayName + " (" + anonymousName + ")";
+    }
+
+    /**
+     * 현재 공개 상태 기준 작성자 이름
+     */
+    public String getAuthorName() {
+        return authorNameOf(anonymousName, authorDisplayName, revealed);
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    /**
+     * 식별자를 직접 지정하므로 저장 시 불필요한 SELECT 없이 INSERT 되도록 새 엔티티 여부를 직접 판단
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.marong.domain.feed;
 
+import com.ktb.marong.common.id.IdBlocks;
 import com.ktb.marong.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -19,7 +20,10 @@ import java.time.LocalDateTime;
 public class PostLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_like_id")
+    @TableGenerator(name = "post_like_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "PostLikes",
+            allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,9 +5,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "`Groups`") // 백틱으로 감싸서 SQL 예약어 문제 해결
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "marong.group")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Group {
@@ -1,5 +1,6 @@
 package com.ktb.marong.domain.manitto;
 
+import com.ktb.marong.common.id.IdBlocks;
 import com.ktb.marong.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -14,7 +15,10 @@ import lombok.NoArgsConstructor;
 public class Manitto {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "manitto_id")
+    @TableGenerator(name = "manitto_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "Manittos",
+            allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "group_id", nullable = false)
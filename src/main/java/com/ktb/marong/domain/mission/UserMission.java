@@ -1,5 +1,6 @@
 package com.ktb.marong.domain.mission;
 
+import com.ktb.marong.common.id.IdBlocks;
 import com.ktb.marong.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -19,7 +20,10 @@ import java.time.LocalDateTime;
 public class UserMission {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_mission_id")
+    @TableGenerator(name = "user_mission_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "UserMissions",
+            allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
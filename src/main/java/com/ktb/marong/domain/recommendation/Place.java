@@ -0,0 +1,59 @@
+package com.ktb.marong.domain.recommendation;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소 카탈로그 (추천 세션과 무관하게 장소 정보를 한 번만 저장)
+ */
+@Entity
+@Table(name = "Places",
+        uniqueConstraints = @UniqueConstraint(name = "uk_places_name_address", columnNames = {"name", "address"}),
+        indexes = @Index(name = "idx_places_type", columnList = "type"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Place {
+
+    public static final String TYPE_RESTAURANT = "restaurant";
+    public static final String TYPE_CAFE = "cafe";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String type; // "cafe" 또는 "restaurant"
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column
+    private String category;
+
+    @Column(name = "opening_hours")
+    private String openingHours;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+
+    @Builder
+    public Place(String type, String name, String category, String openingHours, String address,
+                 Double latitude, Double longitude) {
+        this.type = type;
+        this.name = name;
+        this.category = category;
+        this.openingHours = openingHours;
+        this.address = address;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.marong.domain.recommendation;
 
+import com.ktb.marong.common.id.IdBlocks;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -13,7 +14,10 @@ import lombok.NoArgsConstructor;
 public class PlaceRecommendation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "place_recommendation_id")
+    @TableGenerator(name = "place_recommendation_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "PlaceRecommendations",
+            allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
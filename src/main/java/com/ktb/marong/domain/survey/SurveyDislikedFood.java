@@ -1,5 +1,6 @@
 package com.ktb.marong.domain.survey;
 
+import com.ktb.marong.common.id.IdBlocks;
 import com.ktb.marong.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -18,7 +19,10 @@ import java.time.LocalDateTime;
 public class SurveyDislikedFood {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "survey_disliked_food_id")
+    @TableGenerator(name = "survey_disliked_food_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "SurveyDislikedFood",
+            allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,42 @@
+package com.ktb.marong.domain.survey;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 설문 항목(취미/음식) 사전
+ * 항목 이름마다 번호를 한 번 부여하고, 사용자별 특성 벡터(SurveyFeatureVector)에서는 이 번호를 비트 위치로 사용
+ * 좋아하는 음식과 싫어하는 음식은 같은 FOOD 사전을 사용하여 서로 비교할 수 있게 함
+ */
+@Entity
+@Table(name = "SurveyFeatureTerms", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_survey_feature_term", columnNames = {"category", "name"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SurveyFeatureTerm {
+
+    public enum Category {
+        HOBBY, FOOD
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Category category;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Builder
+    public SurveyFeatureTerm(Category category, String name) {
+        this.category = category;
+        this.name = name;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ktb.marong.domain.survey;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 설문 특성 벡터 (사용자 1명당 1행)
+ * 설문 4개 테이블을 매번 읽고 문자열을 비교하지 않도록 설문 제출/수정 시 미리 계산하여 저장
+ * 비트셋 컬럼은 SurveyFeatures.toBytes 형식 (비트 위치 = SurveyFeatureTerm.id)
+ */
+@Entity
+@Table(name = "SurveyFeatureVectors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SurveyFeatureVector implements Persistable<Long> {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "mbti_axes", nullable = false, length = SurveyFeatures.AXIS_COUNT)
+    private byte[] mbtiAxes;
+
+    @Column(name = "hobbies", length = 2048)
+    private byte[] hobbies;
+
+    @Column(name = "liked_foods", length = 2048)
+    private byte[] likedFoods;
+
+    @Column(name = "disliked_foods", length = 2048)
+    private byte[] dislikedFoods;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean persisted;
+
+    public SurveyFeatureVector(Long userId, SurveyFeatures features) {
+        this.userId = userId;
+        update(features);
+    }
+
+    public void update(SurveyFeatures features) {
+        this.mbtiAxes = features.getMbtiAxes();
+        this.hobbies = SurveyFeatures.toBytes(features.getHobbies());
+        this.likedFoods = SurveyFeatures.toBytes(features.getLikedFoods());
+        this.dislikedFoods = SurveyFeatures.toBytes(features.getDislikedFoods());
+    }
+
+    public SurveyFeatures toFeatures() {
+        return new SurveyFeatures(mbtiAxes, SurveyFeatures.fromBytes(hobbies),
+                SurveyFeatures.fromBytes(likedFoods), SurveyFeatures.fromBytes(dislikedFoods));
+    }
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    /**
+     * 식별자(사용자 ID)를 직접 지정하므로 저장 시 불필요한 SELECT 없이 INSERT 되도록 새 엔티티 여부를 직접 판단
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
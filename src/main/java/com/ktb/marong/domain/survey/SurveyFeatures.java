@@ -0,0 +1,113 @@
+package com.ktb.marong.domain.survey;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * 사용자 설문 특성 (메모리 계산용)
+ * - MBTI 네 축 점수(0~100)를 byte 배열로
+ * - 취미/좋아하는 음식/싫어하는 음식을 항목 번호(SurveyFeatureTerm.id) 비트셋으로
+ * 두 사용자 비교는 비트 AND/OR와 popcount, 축 점수 차이로만 계산
+ */
+@Getter
+public class SurveyFeatures {
+
+    public static final int AXIS_COUNT = 4;
+    public static final int MAX_AXIS_DISTANCE = AXIS_COUNT * 100;
+
+    private final byte[] mbtiAxes; // EI, SN, TF, JP
+    private final long[] hobbies;
+    private final long[] likedFoods;
+    private final long[] dislikedFoods;
+
+    public SurveyFeatures(byte[] mbtiAxes, long[] hobbies, long[] likedFoods, long[] dislikedFoods) {
+        this.mbtiAxes = mbtiAxes;
+        this.hobbies = hobbies;
+        this.likedFoods = likedFoods;
+        this.dislikedFoods = dislikedFoods;
+    }
+
+    public static byte[] packAxes(int eiScore, int snScore, int tfScore, int jpScore) {
+        return new byte[]{(byte) eiScore, (byte) snScore, (byte) tfScore, (byte) jpScore};
+    }
+
+    /**
+     * 항목 번호 목록 -> 비트셋
+     */
+    public static long[] toBitset(Collection<Integer> indexes) {
+        int max = 0;
+        for (int index : indexes) {
+            max = Math.max(max, index);
+        }
+        long[] words = new long[indexes.isEmpty() ? 0 : (max >>> 6) + 1];
+        for (int index : indexes) {
+            words[index >>> 6] |= 1L << index;
+        }
+        return words;
+    }
+
+    /**
+     * 비트셋 -> 저장용 바이트 배열
+     */
+    public static byte[] toBytes(long[] words) {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 저장용 바이트 배열 -> 비트셋
+     */
+    public static long[] fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return new long[0];
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long[] words = new long[bytes.length / Long.BYTES];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = buffer.getLong();
+        }
+        return words;
+    }
+
+    public static int cardinality(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public static int intersection(long[] a, long[] b) {
+        int length = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Jaccard 유사도 (둘 다 비어 있으면 0)
+     */
+    public static double jaccard(long[] a, long[] b) {
+        int common = intersection(a, b);
+        int union = cardinality(a) + cardinality(b) - common;
+        return union == 0 ? 0 : (double) common / union;
+    }
+
+    /**
+     * MBTI 축 점수 차이 합 (0 ~ MAX_AXIS_DISTANCE)
+     */
+    public static int axisDistance(byte[] a, byte[] b) {
+        int distance = 0;
+        for (int i = 0; i < AXIS_COUNT; i++) {
+            distance += Math.abs(a[i] - b[i]);
+        }
+        return distance;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.marong.domain.survey;
 
+import com.ktb.marong.common.id.IdBlocks;
 import com.ktb.marong.domain.user.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -18,7 +19,10 @@ import java.time.LocalDateTime;
 public class SurveyMBTI {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "survey_mbti_id")
+    @TableGenerator(name = "survey_mbti_id", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "SurveyMBTI",
+            allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,10 +59,13 @@ public class SurveyMBTI {
         this.snScore = snScore;
         this.tfScore = tfScore;
         this.jpScore = jpScore;
-        this.mbti = calculateMbti();
+        this.mbti = toMbti(eiScore, snScore, tfScore, jpScore);
     }
 
-    private String calculateMbti() {
+    /**
+     * 축 점수로 MBTI 문자열 계산 (50 초과면 E/N/F/P)
+     */
+    public static String toMbti(int eiScore, int snScore, int tfScore, int jpScore) {
         String mbti = "";
         mbti += (eiScore > 50) ? "E" : "I";
         mbti += (snScore > 50) ? "N" : "S";
@@ -1,5 +1,6 @@
 package com.ktb.marong.dto.response.auth;
 
+import com.ktb.marong.dto.response.feed.PostPageResponseDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,4 +18,6 @@ public class LoginResponseDto {
     private String refreshToken;
     private boolean isNewUser;
     private UserResponseDto user;
+    private Long defaultGroupId; // 첫 화면 기본 그룹 (소속 그룹이 없거나 조회 실패 시 null)
+    private PostPageResponseDto firstFeed; // 기본 그룹 피드 첫 페이지 (없거나 조회 실패 시 null)
 }
\ No newline at end of file
@@ -12,4 +12,5 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class TokenRefreshResponseDto {
     private String jwt;
+    private String refreshToken; // 교체된 새 Refresh Token (이전 토큰은 더 이상 사용 불가)
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.ktb.marong.dto.response.feed;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ktb.marong.domain.feed.FeedEntry;
 import com.ktb.marong.domain.feed.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -64,4 +65,22 @@ public class PostResponseDto {
                 .liked(isLiked)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 피드 읽기 모델에서 DTO 생성 (표시 이름, 좋아요 수가 이미 반영되어 있음)
+     */
+    public static PostResponseDto fromFeedEntry(FeedEntry entry, boolean isLiked) {
+        return PostResponseDto.builder()
+                .feedId(entry.getPostId())
+                .author(entry.getAuthorName())
+                .missionTitle(entry.getMissionTitle())
+                .manitteeName(entry.getManitteeDisplayName())
+                .content(entry.getContent())
+                .likes(entry.getLikeCount())
+                .createdAt(entry.getCreatedAt())
+                .imageUrl(entry.getImageUrl())
+                .week(entry.getWeek())
+                .liked(isLiked)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.ktb.marong.dto.response.manitto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마니또 주기 기간 정보 (기간 스트림 이벤트 본문)
+ * 클라이언트는 serverTime과 nextTransition 차이로 남은 시간을 직접 계산
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManittoPhaseResponseDto {
+
+    private int week;
+    private String period; // "MATCHING_PREPARATION", "MANITTO_ACTIVE", "MANITTO_REVEAL"
+    private boolean revealTime; // 마니또 공개 시점 여부 (금요일 17시 ~ 월요일 12시)
+    private LocalDateTime serverTime; // 이벤트 생성 시점의 서버 시각 (클라이언트 시계 보정용)
+    private LocalDateTime revealStart; // 이번 주기의 마니또 공개 시점 (금요일 17시)
+    private LocalDateTime nextMatching; // 다가오는 매칭 시점 (월요일 12시)
+    private LocalDateTime nextTransition; // 현재 기간이 끝나는 시점
+
+    @JsonProperty("isRevealTime")
+    public boolean isRevealTime() {
+        return revealTime;
+    }
+}
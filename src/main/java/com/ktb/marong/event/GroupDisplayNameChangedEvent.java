@@ -0,0 +1,17 @@
+package com.ktb.marong.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 내 사용자 표시 정보가 바뀌었을 때 발행되는 이벤트 (그룹 닉네임/프로필 이미지 변경, 그룹 가입, 그룹 탈퇴)
+ * displayName은 변경 이후의 표시 이름 (그룹 닉네임, 탈퇴한 경우 카카오 실명)
+ */
+@Getter
+@AllArgsConstructor
+public class GroupDisplayNameChangedEvent {
+
+    private final Long groupId;
+    private final Long userId;
+    private final String displayName;
+}
@@ -0,0 +1,16 @@
+package com.ktb.marong.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자가 그룹에 가입했을 때 발행되는 이벤트
+ * 마니또 활동 기간 중 가입한 사용자를 이번 주 매칭에 합류시키기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class GroupMemberJoinedEvent {
+
+    private final Long groupId;
+    private final Long userId;
+}
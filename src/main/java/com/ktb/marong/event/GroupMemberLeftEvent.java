@@ -0,0 +1,16 @@
+package com.ktb.marong.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자가 그룹에서 탈퇴했을 때 발행되는 이벤트
+ * 탈퇴한 사용자의 그룹 피드 스트림 연결을 끊기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class GroupMemberLeftEvent {
+
+    private final Long groupId;
+    private final Long userId;
+}
@@ -0,0 +1,18 @@
+package com.ktb.marong.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 마니또 매칭 쌍이 새로 생성되었을 때 발행되는 이벤트 (주차 매칭, 신규 멤버 합류)
+ * 새 쌍의 장소 추천을 미리 만들어두기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class ManittoPairsCreatedEvent {
+
+    private final int week;
+    private final List<Long> groupIds;
+}
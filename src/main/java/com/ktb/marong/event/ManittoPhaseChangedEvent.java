@@ -0,0 +1,21 @@
+package com.ktb.marong.event;
+
+import com.ktb.marong.service.manitto.ManittoPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마니또 주기의 기간이 바뀌었을 때 발행되는 이벤트
+ * 기간에 따라 달라지는 캐시(피드 작성자 이름 등)를 정확히 경계 시점에 무효화하기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+public class ManittoPhaseChangedEvent {
+
+    private final ManittoPeriod previousPeriod;
+    private final ManittoPeriod currentPeriod;
+    private final int week;
+    private final LocalDateTime changedAt;
+}
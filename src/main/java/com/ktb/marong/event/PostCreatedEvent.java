@@ -0,0 +1,23 @@
+package com.ktb.marong.event;
+
+import com.ktb.marong.dto.response.feed.PostResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 피드 게시글이 작성되었을 때 발행되는 이벤트
+ * feed에는 작성 시점 기준으로 작성자/마니띠 이름이 결정된 응답 형태가 담김 (좋아요 여부는 항상 false)
+ * 피드 읽기 모델(FeedEntry)은 익명 이름/작성자 표시 이름/마니띠 ID를 함께 사용
+ */
+@Getter
+@AllArgsConstructor
+public class PostCreatedEvent {
+
+    private final Long postId;
+    private final Long groupId;
+    private final Long authorId;
+    private final Long manitteeId;
+    private final String anonymousName;
+    private final String authorDisplayName;
+    private final PostResponseDto feed;
+}
@@ -0,0 +1,19 @@
+package com.ktb.marong.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요가 등록/취소되었을 때 발행되는 이벤트
+ * likeCount는 변경이 반영된 직후의 좋아요 수
+ */
+@Getter
+@AllArgsConstructor
+public class PostLikeChangedEvent {
+
+    private final Long postId;
+    private final Long groupId;
+    private final Long userId;
+    private final boolean liked;
+    private final int likeCount;
+}
@@ -20,6 +20,7 @@ public enum ErrorCode {
     INVALID_TOKEN(403, "유효하지 않거나 만료된 토큰입니다."),
     TOKEN_EXPIRED(403, "토큰이 만료되었습니다."),
     INVALID_REFRESH_TOKEN(403, "유효하지 않은 refreshToken 입니다."),
+    REFRESH_TOKEN_REUSED(403, "이미 사용된 refreshToken 입니다. 다시 로그인해 주세요."),
     MISSING_TOKEN(400, "refreshToken이 필요합니다."),
 
     // 사용자 관련 에러
@@ -29,6 +30,7 @@ public enum ErrorCode {
     INVALID_PROVIDER(400, "provider 값이 올바르지 않습니다."),
     INVALID_KAKAO_CODE(400, "인가 코드가 유효하지 않습니다."),
     SOCIAL_AUTH_FAILED(401, "소셜 인증에 실패했습니다."),
+    SOCIAL_AUTH_UNAVAILABLE(503, "소셜 로그인 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
 
     // 설문조사 관련 에러
     SURVEY_NOT_FOUND(404, "설문 정보가 존재하지 않습니다."),
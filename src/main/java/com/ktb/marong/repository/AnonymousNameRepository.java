@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +39,15 @@ public interface AnonymousNameRepository extends JpaRepository<AnonymousName, Lo
     @Deprecated
     @Query("SELECT a.anonymousName FROM AnonymousName a WHERE a.user.id = :userId AND a.groupId = 1")
     List<String> findAnonymousNamesByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 여러 사용자/주차의 익명 이름 일괄 조회
+    @Query("SELECT a FROM AnonymousName a WHERE a.groupId = :groupId AND a.user.id IN :userIds AND a.week IN :weeks")
+    List<AnonymousName> findByGroupIdAndUserIdInAndWeekIn(
+            @Param("groupId") Long groupId,
+            @Param("userIds") Collection<Long> userIds,
+            @Param("weeks") Collection<Integer> weeks);
+
+    // 그룹의 특정 주차에 이미 사용 중인 익명 이름 조회
+    @Query("SELECT a.anonymousName FROM AnonymousName a WHERE a.groupId = :groupId AND a.week = :week")
+    List<String> findAnonymousNamesByGroupIdAndWeek(@Param("groupId") Long groupId, @Param("week") Integer week);
+}
@@ -0,0 +1,41 @@
+package com.ktb.marong.repository;
+
+import com.ktb.marong.domain.feed.FeedEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    // 그룹 피드 페이지 (group_id, created_at, post_id 인덱스 범위 조회)
+    Page<FeedEntry> findByGroupIdOrderByCreatedAtDescPostIdDesc(Long groupId, Pageable pageable);
+
+    // 그룹 내 작성자 표시 이름 일괄 변경
+    @Modifying
+    @Query("UPDATE FeedEntry f SET f.authorDisplayName = :displayName WHERE f.groupId = :groupId AND f.authorId = :userId")
+    int updateAuthorDisplayName(@Param("groupId") Long groupId,
+                                @Param("userId") Long userId,
+                                @Param("displayName") String displayName);
+
+    // 그룹 내 마니띠 표시 이름 일괄 변경
+    @Modifying
+    @Query("UPDATE FeedEntry f SET f.manitteeDisplayName = :displayName WHERE f.groupId = :groupId AND f.manitteeId = :userId")
+    int updateManitteeDisplayName(@Param("groupId") Long groupId,
+                                  @Param("userId") Long userId,
+                                  @Param("displayName") String displayName);
+
+    // 좋아요 수 증감 (동시 변경에도 누락되지 않도록 상대값으로 갱신)
+    @Modifying
+    @Query("UPDATE FeedEntry f SET f.likeCount = f.likeCount + :delta WHERE f.postId = :postId")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 주차 이전 게시글의 작성자 공개 처리
+    @Modifying
+    @Query("UPDATE FeedEntry f SET f.revealed = true WHERE f.revealed = false AND f.week < :week")
+    int revealWeeksBefore(@Param("week") int week);
+}
@@ -2,6 +2,7 @@ package com.ktb.marong.repository;
 
 import com.ktb.marong.domain.mission.GroupMission;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -29,6 +30,15 @@ public interface GroupMissionRepository extends JpaRepository<GroupMission, Long
      */
     boolean existsByGroupIdAndMissionIdAndWeek(Long groupId, Long missionId, Integer week);
 
+    /**
+     * 남은 인원이 있을 때만 1 감소 (동시에 선택해도 최대 인원을 넘지 않도록 DB에서 조건부 감소)
+     * @return 감소했으면 1, 이미 마감이면 0
+     */
+    @Modifying
+    @Query("UPDATE GroupMission gm SET gm.remainingCount = gm.remainingCount - 1 " +
+            "WHERE gm.id = :id AND gm.remainingCount > 0")
+    int decreaseRemainingCount(@Param("id") Long id);
+
     /**
      * 특정 그룹, 주차의 생성된 미션 개수 조회
      */
@@ -1,10 +1,13 @@
 package com.ktb.marong.repository;
 
 import com.ktb.marong.domain.group.Group;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -42,4 +45,11 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
      */
     @Query("SELECT g FROM Group g ORDER BY g.id DESC")
     Page<Group> findAllOrderByIdDesc(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 그룹 행 잠금 조회 (그룹 단위 작업을 여러 인스턴스 사이에서 직렬화할 때 사용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Group g WHERE g.id = :id")
+    Optional<Group> findByIdForUpdate(@Param("id") Long id);
+}
@@ -2,8 +2,11 @@ package com.ktb.marong.repository;
 
 import com.ktb.marong.domain.manitto.Manitto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,4 +23,57 @@ public interface ManittoRepository extends JpaRepository<Manitto, Long> {
      * 해당 사용자가 마니띠 역할을 하는 매칭 정보
      */
     List<Manitto> findByManitteeIdAndGroupIdAndWeek(Long manitteeId, Long groupId, Integer week);
-}
\ No newline at end of file
+
+    /**
+     * 특정 사용자(manitto), 그룹, 주차에 해당하는 마니또 정보 조회 (마니띠 사용자 정보 포함)
+     */
+    @Query("SELECT m FROM Manitto m JOIN FETCH m.manittee " +
+            "WHERE m.manitto.id = :manittoId AND m.groupId = :groupId AND m.week = :week")
+    List<Manitto> findWithManitteeByManittoIdAndGroupIdAndWeek(
+            @Param("manittoId") Long manittoId,
+            @Param("groupId") Long groupId,
+            @Param("week") Integer week);
+
+    /**
+     * 특정 사용자(manittee), 그룹, 주차에 해당하는 마니또 정보 조회 (마니또 사용자 정보 포함)
+     */
+    @Query("SELECT m FROM Manitto m JOIN FETCH m.manitto " +
+            "WHERE m.manittee.id = :manitteeId AND m.groupId = :groupId AND m.week = :week")
+    List<Manitto> findWithManittoByManitteeIdAndGroupIdAndWeek(
+            @Param("manitteeId") Long manitteeId,
+            @Param("groupId") Long groupId,
+            @Param("week") Integer week);
+
+    /**
+     * 여러 마니또 사용자의 여러 주차 매칭 정보 일괄 조회 (마니띠 사용자 정보 포함)
+     * 피드 목록에서 게시글별 마니띠 이름을 한 번에 결정할 때 사용
+     */
+    @Query("SELECT m FROM Manitto m JOIN FETCH m.manittee " +
+            "WHERE m.groupId = :groupId AND m.manitto.id IN :manittoIds AND m.week IN :weeks")
+    List<Manitto> findWithManitteeByGroupIdAndManittoIdInAndWeekIn(
+            @Param("groupId") Long groupId,
+            @Param("manittoIds") Collection<Long> manittoIds,
+            @Param("weeks") Collection<Integer> weeks);
+
+    /**
+     * 그룹의 특정 주차 매칭 존재 여부
+     */
+    boolean existsByGroupIdAndWeek(Long groupId, Integer week);
+
+    /**
+     * 특정 주차에 이미 매칭된 그룹 ID 조회
+     */
+    @Query("SELECT DISTINCT m.groupId FROM Manitto m WHERE m.week = :week")
+    List<Long> findMatchedGroupIdsByWeek(@Param("week") Integer week);
+
+    /**
+     * 그룹의 주차 범위 매칭 쌍 조회 (엔티티 로딩 없이 ID만)
+     * 반환: [id, week, manittoId, manitteeId]
+     */
+    @Query("SELECT m.id, m.week, m.manitto.id, m.manittee.id FROM Manitto m " +
+            "WHERE m.groupId = :groupId AND m.week BETWEEN :fromWeek AND :toWeek")
+    List<Object[]> findPairsByGroupIdAndWeekBetween(
+            @Param("groupId") Long groupId,
+            @Param("fromWeek") Integer fromWeek,
+            @Param("toWeek") Integer toWeek);
+}
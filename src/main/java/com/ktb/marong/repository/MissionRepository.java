@@ -1,9 +1,21 @@
 package com.ktb.marong.repository;
 
 import com.ktb.marong.domain.mission.Mission;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface MissionRepository extends JpaRepository<Mission, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 전체 미션 목록 조회 (쿼리 캐시 사용, Missions 테이블 변경 시 자동 무효화)
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Mission> findAll();
+}
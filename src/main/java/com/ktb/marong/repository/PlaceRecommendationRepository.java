@@ -2,6 +2,8 @@ package com.ktb.marong.repository;
 
 import com.ktb.marong.domain.recommendation.PlaceRecommendation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +13,24 @@ public interface PlaceRecommendationRepository extends JpaRepository<PlaceRecomm
     List<PlaceRecommendation> findBySessionIdAndType(Long sessionId, String type);
 
     List<PlaceRecommendation> findBySessionId(Long sessionId);
-}
\ No newline at end of file
+
+    /**
+     * 마니또-마니띠 쌍의 주차 추천 세션(가장 먼저 생성된 세션)의 장소 전체 (밥집/카페 함께 1회 조회)
+     */
+    @Query("SELECT r FROM PlaceRecommendation r WHERE r.session.id = (" +
+            "SELECT MIN(s.id) FROM PlaceRecommendationSession s " +
+            "WHERE s.manitto.id = :manittoId AND s.manittee.id = :manitteeId AND s.week = :week)")
+    List<PlaceRecommendation> findSessionPlaces(@Param("manittoId") Long manittoId,
+                                                @Param("manitteeId") Long manitteeId,
+                                                @Param("week") Integer week);
+
+    /**
+     * 장소 카탈로그에 아직 없는 추천 장소 (좌표/주소가 있는 것만)
+     * [type, name, category, openingHours, address, latitude, longitude]
+     */
+    @Query("SELECT DISTINCT r.type, r.name, r.category, r.openingHours, r.address, r.latitude, r.longitude " +
+            "FROM PlaceRecommendation r " +
+            "WHERE r.latitude IS NOT NULL AND r.longitude IS NOT NULL AND r.address IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM Place p WHERE p.name = r.name AND p.address = r.address)")
+    List<Object[]> findPlacesNotInCatalog();
+}
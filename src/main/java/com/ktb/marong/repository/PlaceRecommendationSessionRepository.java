@@ -2,8 +2,11 @@ package com.ktb.marong.repository;
 
 import com.ktb.marong.domain.recommendation.PlaceRecommendationSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,4 +22,12 @@ public interface PlaceRecommendationSessionRepository extends JpaRepository<Plac
      * 이 메소드 사용하면 정확한 매칭 세션을 찾을 수 있음
      */
     List<PlaceRecommendationSession> findByManittoIdAndManitteeIdAndWeek(Long manittoId, Long manitteeId, Integer week);
+
+    /**
+     * 주차 세션의 [id, manittoId, manitteeId] (마니또 ID 목록 기준, 세션 일괄 생성용)
+     */
+    @Query("SELECT s.id, s.manitto.id, s.manittee.id FROM PlaceRecommendationSession s " +
+            "WHERE s.week = :week AND s.manitto.id IN :manittoIds")
+    List<Object[]> findSessionKeysByWeekAndManittoIdIn(@Param("week") Integer week,
+                                                       @Param("manittoIds") Collection<Long> manittoIds);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.ktb.marong.repository;
+
+import com.ktb.marong.domain.recommendation.Place;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlaceRepository extends JpaRepository<Place, Long> {
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,4 +23,18 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     int countByPostId(@Param("postId") Long postId);
 
     void deleteByUserAndPost(User user, Post post);
-}
\ No newline at end of file
+
+    /**
+     * 여러 게시글의 좋아요 수 일괄 조회
+     * 반환: [postId, likeCount]
+     */
+    @Query("SELECT pl.post.id, COUNT(pl) FROM PostLike pl WHERE pl.post.id IN :postIds GROUP BY pl.post.id")
+    List<Object[]> countLikesByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 주어진 게시글 중 특정 사용자가 좋아요한 게시글 ID 조회
+     */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIdsByUserId(@Param("userId") Long userId,
+                                        @Param("postIds") Collection<Long> postIds);
+}
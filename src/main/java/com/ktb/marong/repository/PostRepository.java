@@ -54,4 +54,13 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findByCreatedAtBetween(
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    // 피드 읽기 모델(FeedEntry)이 아직 없는 게시글의 그룹 ID
+    @Query("SELECT DISTINCT p.groupId FROM Post p WHERE NOT EXISTS (SELECT 1 FROM FeedEntry f WHERE f.postId = p.id)")
+    List<Long> findGroupIdsWithoutFeedEntry();
+
+    // 그룹 내 피드 읽기 모델이 아직 없는 게시글 (작성자, 미션 함께 조회)
+    @Query("SELECT p FROM Post p JOIN FETCH p.user JOIN FETCH p.mission " +
+            "WHERE p.groupId = :groupId AND NOT EXISTS (SELECT 1 FROM FeedEntry f WHERE f.postId = p.id) ORDER BY p.id")
+    List<Post> findWithoutFeedEntryByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,4 +26,8 @@ public interface SurveyDislikedFoodRepository extends JpaRepository<SurveyDislik
     @Modifying
     @Query("DELETE FROM SurveyDislikedFood s WHERE s.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 여러 사용자의 설문 일괄 조회
+    @Query("SELECT s FROM SurveyDislikedFood s WHERE s.user.id IN :userIds")
+    List<SurveyDislikedFood> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,17 @@
+package com.ktb.marong.repository;
+
+import com.ktb.marong.domain.survey.SurveyFeatureTerm;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 설문 항목 사전 리포지토리
+ */
+@Repository
+public interface SurveyFeatureTermRepository extends JpaRepository<SurveyFeatureTerm, Integer> {
+    // 분류별 항목 이름으로 일괄 조회
+    List<SurveyFeatureTerm> findByCategoryAndNameIn(SurveyFeatureTerm.Category category, Collection<String> names);
+}
@@ -0,0 +1,12 @@
+package com.ktb.marong.repository;
+
+import com.ktb.marong.domain.survey.SurveyFeatureVector;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 사용자 설문 특성 벡터 리포지토리 (ID = 사용자 ID)
+ */
+@Repository
+public interface SurveyFeatureVectorRepository extends JpaRepository<SurveyFeatureVector, Long> {
+}
@@ -2,12 +2,14 @@ package com.ktb.marong.repository;
 
 import com.ktb.marong.domain.survey.SurveyMBTI;
 import com.ktb.marong.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,4 +33,13 @@ public interface SurveyMBTIRepository extends JpaRepository<SurveyMBTI, Long> {
 
     // 추가: 사용자 ID로 가장 최신 MBTI 정보 조회
     SurveyMBTI findFirstByUser_IdOrderByCreatedAtDesc(Long userId);
-}
\ No newline at end of file
+
+    // 여러 사용자의 설문 일괄 조회
+    @Query("SELECT s FROM SurveyMBTI s WHERE s.user.id IN :userIds")
+    List<SurveyMBTI> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 설문 특성 벡터가 없는 설문 제출 사용자 ID
+    @Query("SELECT DISTINCT s.user.id FROM SurveyMBTI s " +
+            "WHERE NOT EXISTS (SELECT 1 FROM SurveyFeatureVector v WHERE v.userId = s.user.id)")
+    List<Long> findUserIdsWithoutFeatureVector(Pageable pageable);
+}
@@ -1,25 +1,51 @@
 package com.ktb.marong.repository;
 
+import com.ktb.marong.common.cache.CacheNames;
 import com.ktb.marong.domain.group.UserGroup;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
 
+    /**
+     * 그룹 가입/프로필 변경 저장 (소속 여부, 멤버 수 캐시 무효화)
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.GROUP_MEMBERSHIP, key = "#p0.user.id + ':' + #p0.group.id"),
+            @CacheEvict(cacheNames = CacheNames.GROUP_MEMBER_COUNT, key = "#p0.group.id")
+    })
+    <S extends UserGroup> S save(S entity);
+
+    /**
+     * 그룹 탈퇴 (소속 여부, 멤버 수 캐시 무효화)
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.GROUP_MEMBERSHIP, key = "#p0.user.id + ':' + #p0.group.id"),
+            @CacheEvict(cacheNames = CacheNames.GROUP_MEMBER_COUNT, key = "#p0.group.id")
+    })
+    void delete(UserGroup entity);
+
     /**
      * 특정 사용자가 속한 그룹 개수 조회
      */
     int countByUserId(Long userId);
 
     /**
-     * 특정 사용자가 특정 그룹에 속해있는지 확인
+     * 특정 사용자가 특정 그룹에 속해있는지 확인 (캐시 사용, save/delete 시 무효화)
      */
+    @Cacheable(cacheNames = CacheNames.GROUP_MEMBERSHIP, key = "#p0 + ':' + #p1")
     boolean existsByUserIdAndGroupId(Long userId, Long groupId);
 
     /**
@@ -35,16 +61,56 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
     Optional<UserGroup> findByUserIdAndGroupId(@Param("userId") Long userId, @Param("groupId") Long groupId);
 
     /**
-     * 특정 그룹의 멤버 수 조회
+     * 특정 그룹의 멤버 수 조회 (캐시 사용, save/delete 시 무효화)
      */
+    @Cacheable(cacheNames = CacheNames.GROUP_MEMBER_COUNT, key = "#p0")
     int countByGroupId(Long groupId);
 
+    /**
+     * 특정 사용자가 특정 그룹에 속해있는지 확인 (캐시 미사용, 가입 처리 등 쓰기 경로용)
+     */
+    @Query("SELECT CASE WHEN COUNT(ug) > 0 THEN true ELSE false END FROM UserGroup ug " +
+            "WHERE ug.user.id = :userId AND ug.group.id = :groupId")
+    boolean existsMembershipUncached(@Param("userId") Long userId, @Param("groupId") Long groupId);
+
+    /**
+     * 특정 그룹의 멤버 수 조회 (캐시 미사용, 가입 인원 제한/탈퇴 처리 등 쓰기 경로용)
+     */
+    @Query("SELECT COUNT(ug) FROM UserGroup ug WHERE ug.group.id = :groupId")
+    int countMembersUncached(@Param("groupId") Long groupId);
+
+    /**
+     * 여러 그룹의 멤버 수 일괄 조회
+     * 반환: [groupId, memberCount]
+     */
+    @Query("SELECT ug.group.id, COUNT(ug) FROM UserGroup ug WHERE ug.group.id IN :groupIds GROUP BY ug.group.id")
+    List<Object[]> countByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+
+    /**
+     * 특정 그룹 내 여러 사용자의 그룹 프로필 일괄 조회 (사용자 정보 포함)
+     */
+    @Query("SELECT ug FROM UserGroup ug JOIN FETCH ug.user WHERE ug.group.id = :groupId AND ug.user.id IN :userIds")
+    List<UserGroup> findByGroupIdAndUserIdInWithUser(@Param("groupId") Long groupId,
+                                                     @Param("userIds") Collection<Long> userIds);
+
     /**
      * 특정 그룹의 모든 멤버 조회
      */
     @Query("SELECT ug FROM UserGroup ug JOIN FETCH ug.user WHERE ug.group.id = :groupId")
     List<UserGroup> findByGroupIdWithUser(@Param("groupId") Long groupId);
 
+    /**
+     * 특정 그룹의 멤버 사용자 ID 조회 (가입 순)
+     */
+    @Query("SELECT ug.user.id FROM UserGroup ug WHERE ug.group.id = :groupId ORDER BY ug.id")
+    List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * 멤버가 최소 인원 이상인 그룹 ID 조회 (마니또 매칭 대상)
+     */
+    @Query("SELECT ug.group.id FROM UserGroup ug GROUP BY ug.group.id HAVING COUNT(ug) >= :minMembers")
+    List<Long> findGroupIdsWithMembersAtLeast(@Param("minMembers") long minMembers);
+
     /**
      * 특정 사용자가 생성한 그룹들 조회
      */
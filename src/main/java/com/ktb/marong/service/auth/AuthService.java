@@ -6,15 +6,28 @@ import com.ktb.marong.dto.response.auth.KakaoUserInfoDto;
 import com.ktb.marong.dto.response.auth.LoginResponseDto;
 import com.ktb.marong.dto.response.auth.TokenRefreshResponseDto;
 import com.ktb.marong.dto.response.auth.UserResponseDto;
+import com.ktb.marong.dto.response.feed.PostPageResponseDto;
 import com.ktb.marong.exception.CustomException;
 import com.ktb.marong.exception.ErrorCode;
 import com.ktb.marong.repository.UserRepository;
+import com.ktb.marong.service.feed.FeedService;
 import com.ktb.marong.service.group.GroupService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * 인증 서비스
  * 로그인, 로그아웃, 토큰 갱신 등의 인증 관련 기능을 제공하는 서비스
@@ -28,6 +41,19 @@ public class AuthService {
     private final JwtService jwtService;
     private final UserRepository userRepository;
     private final GroupService groupService;
+    private final FeedService feedService;
+
+    @Value("${marong.auth.login.first-feed-page-size:20}")
+    private int firstFeedPageSize;
+
+    @Value("${marong.auth.login.bootstrap-timeout:3s}")
+    private Duration bootstrapTimeout;
+
+    @Value("${marong.auth.login.prefetch-timeout:1s}")
+    private Duration prefetchTimeout;
+
+    private final ExecutorService loginExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("login-", 0).factory());
 
     /**
      * OAuth 리디렉션 URL 생성
@@ -42,8 +68,13 @@ public class AuthService {
 
     /**
      * 소셜 로그인 처리
+     * 카카오 토큰 교환 -> 사용자 정보 -> 사용자 조회/생성은 순서대로 실행하고,
+     * 사용자가 정해진 뒤의 독립적인 단계(리프레시 토큰 저장, 그룹 닉네임 여부, 기본 그룹과 첫 피드 미리 조회)는
+     * 가상 스레드에서 동시에 실행 (각 단계는 자기 트랜잭션 사용)
+     * - 필수 단계(토큰, 닉네임 여부)는 bootstrap-timeout 안에 끝나야 로그인 성공
+     * - 미리 조회는 prefetch-timeout까지만 기다리고 늦거나 실패하면 응답에서 빼고 로그인 진행
+     * 카카오 호출 동안 DB 커넥션을 잡지 않도록 전체를 하나의 트랜잭션으로 묶지 않음
      */
-    @Transactional
     public LoginResponseDto socialLogin(String provider, String code) {
         log.info("소셜 로그인 요청: provider={}, code={}", provider, code);
 
@@ -60,37 +91,112 @@ public class AuthService {
 
             // 카카오 사용자 정보로 사용자 조회 또는 생성
             User user = kakaoOAuthService.findOrCreateUser(userInfo);
+            Long userId = user.getId();
 
-            // JWT 토큰 발급
+            // 사용자 확정 이후 단계 동시 실행
+            long startedAt = System.nanoTime();
+            Future<String> refreshToken = loginExecutor.submit(() -> jwtService.createRefreshToken(user));
+            // 카카오테크 부트캠프 그룹(ID: 1) 닉네임 설정 여부 확인 (MVP 호환성)
+            Future<Boolean> hasKakaotechGroupNickname = loginExecutor.submit(
+                    () -> groupService.hasKakaotechGroupNickname(userId));
+            // 첫 화면용 기본 그룹과 첫 피드 페이지 (실패하거나 늦어도 로그인은 진행)
+            Future<Long> defaultGroupId = loginExecutor.submit(() -> feedService.getDefaultGroupId(userId));
+            Future<PostPageResponseDto> firstFeed = loginExecutor.submit(() -> {
+                Long groupId = defaultGroupId.get();
+                return groupId == null ? null : feedService.getPosts(userId, groupId, 1, firstFeedPageSize);
+            });
+            List<Future<?>> prefetches = List.of(defaultGroupId, firstFeed);
+
+            // JWT 액세스 토큰 발급 (DB 접근 없음)
             String jwt = jwtService.createAccessToken(user);
-            String refreshToken = jwtService.createRefreshToken(user);
 
-            // 카카오테크 부트캠프 그룹(ID: 1) 닉네임 설정 여부 확인 (MVP 호환성)
-            boolean hasKakaotechGroupNickname = groupService.hasKakaotechGroupNickname(user.getId());
+            awaitRequired(List.of(refreshToken, hasKakaotechGroupNickname), prefetches, startedAt);
+            Long prefetchedGroupId = awaitOptional(defaultGroupId, "기본 그룹", userId, startedAt);
+            PostPageResponseDto prefetchedFeed = awaitOptional(firstFeed, "첫 피드", userId, startedAt);
 
             // isNewUser 판단 로직: 오직 hasCompletedSurvey로만 판단
             boolean isNewUser = !user.getHasCompletedSurvey();
 
             log.info("로그인 사용자 상태: userId={}, hasCompletedSurvey={}, hasKakaotechGroupNickname={}, isNewUser={}",
-                    user.getId(), user.getHasCompletedSurvey(), hasKakaotechGroupNickname, isNewUser);
+                    userId, user.getHasCompletedSurvey(), hasKakaotechGroupNickname.get(), isNewUser);
 
-            // 로그인 응답 생성 (hasKakaotechGroupNickname 정보 포함)
+            // 로그인 응답 생성 (첫 화면에 필요한 기본 그룹과 첫 피드 페이지 포함)
             return LoginResponseDto.builder()
                     .jwt(jwt)
-                    .refreshToken(refreshToken)
+                    .refreshToken(refreshToken.get())
                     .isNewUser(isNewUser)
-                    .user(UserResponseDto.fromEntity(user, hasKakaotechGroupNickname))
+                    .user(UserResponseDto.fromEntity(user, hasKakaotechGroupNickname.get()))
+                    .defaultGroupId(prefetchedGroupId)
+                    .firstFeed(prefetchedFeed)
                     .build();
+        } catch (CustomException e) {
+            if (e.getErrorCode() == ErrorCode.SOCIAL_AUTH_UNAVAILABLE) {
+                throw e; // 카카오 장애로 서킷이 열린 경우 (잠시 후 재시도 안내)
+            }
+            log.error("소셜 로그인 처리 중 오류 발생", e);
+            throw new CustomException(ErrorCode.SOCIAL_AUTH_FAILED);
         } catch (Exception e) {
             log.error("소셜 로그인 처리 중 오류 발생", e);
             throw new CustomException(ErrorCode.SOCIAL_AUTH_FAILED);
         }
     }
 
+    @PreDestroy
+    public void shutdown() {
+        loginExecutor.shutdown();
+    }
+
+    /**
+     * 필수 단계가 모두 끝날 때까지 대기 (제한 시간 초과 또는 실패 시 미리 조회를 포함한 나머지 단계 스레드를 인터럽트)
+     */
+    private void awaitRequired(List<Future<?>> steps, List<Future<?>> prefetches, long startedAt) throws Exception {
+        long deadline = startedAt + bootstrapTimeout.toNanos();
+        try {
+            for (Future<?> step : steps) {
+                step.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (ExecutionException e) {
+            cancelAll(steps, prefetches);
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException | InterruptedException e) {
+            cancelAll(steps, prefetches);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 로그인 응답에 없어도 되는 단계 (prefetch-timeout까지 끝나지 않으면 취소, 실패하면 null)
+     */
+    private <T> T awaitOptional(Future<T> step, String name, Long userId, long startedAt) {
+        long remaining = startedAt + prefetchTimeout.toNanos() - System.nanoTime();
+        try {
+            return step.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            step.cancel(true);
+            log.warn("로그인 {} 미리 조회 시간 초과: userId={}, timeout={}", name, userId, prefetchTimeout);
+            return null;
+        } catch (InterruptedException e) {
+            step.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("로그인 {} 미리 조회 실패: userId={}, cause={}", name, userId, e.getCause().toString());
+            return null;
+        }
+    }
+
+    private static void cancelAll(List<Future<?>> steps, List<Future<?>> prefetches) {
+        steps.forEach(step -> step.cancel(true));
+        prefetches.forEach(step -> step.cancel(true));
+    }
+
     /**
      * 토큰 리프레시
+     * 사용자 조회 없이 메모리에서 Refresh Token을 검증/교체하고 Access Token 재발급 (RefreshTokenStore, DB에는 나중에 반영)
      */
-    @Transactional
     public TokenRefreshResponseDto refreshToken(TokenRefreshRequestDto requestDto) {
         String refreshToken = requestDto.getRefreshToken();
 
@@ -106,25 +212,18 @@ public class AuthService {
         // Refresh Token에서 사용자 ID 추출
         String userId = jwtService.getUserIdFromToken(refreshToken);
 
-        // 저장된 Refresh Token과 비교
-        if (!jwtService.validateRefreshToken(userId, refreshToken)) {
-            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
-        }
-
-        // 사용자 조회
-        User user = userRepository.findById(Long.parseLong(userId))
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // 저장된 Refresh Token과 비교 후 새 Refresh Token으로 교체
+        String newRefreshToken = jwtService.rotateRefreshToken(userId, refreshToken);
 
         // 새로운 Access Token 발급
-        String newAccessToken = jwtService.createAccessToken(user);
+        String newAccessToken = jwtService.reissueAccessToken(refreshToken);
 
-        return new TokenRefreshResponseDto(newAccessToken);
+        return new TokenRefreshResponseDto(newAccessToken, newRefreshToken);
     }
 
     /**
      * 로그아웃 처리
      */
-    @Transactional
     public void logout(Long userId) {
         // Refresh Token 삭제
         jwtService.deleteRefreshToken(userId.toString());
@@ -1,8 +1,8 @@
 package com.ktb.marong.service.auth;
 
-import com.ktb.marong.domain.auth.RefreshToken;
 import com.ktb.marong.domain.user.User;
-import com.ktb.marong.repository.RefreshTokenRepository;
+import com.ktb.marong.exception.CustomException;
+import com.ktb.marong.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
@@ -12,13 +12,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JWT 토큰 서비스
@@ -28,17 +28,17 @@ import java.util.Date;
 @Service
 public class JwtService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final SecretKey key;
     private final long accessTokenValidity;
     private final long refreshTokenValidity;
 
     public JwtService(
-            RefreshTokenRepository refreshTokenRepository,
+            RefreshTokenStore refreshTokenStore,
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
             @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenStore = refreshTokenStore;
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
@@ -52,32 +52,47 @@ public class JwtService {
     }
 
     /**
-     * Refresh Token을 생성하고 저장
+     * Access Token을 Refresh Token의 사용자 정보로 재발급 (사용자 조회 없이)
+     */
+    public String reissueAccessToken(String refreshToken) {
+        Claims claims = getClaims(refreshToken);
+        return createToken(claims.getSubject(), claims.get("email", String.class), accessTokenValidity);
+    }
+
+    /**
+     * Refresh Token을 생성하고 저장 (RefreshTokenStore에서 DB에 바로 반영)
      */
-    @Transactional
     public String createRefreshToken(User user) {
         String token = createToken(user.getId().toString(), user.getEmail(), refreshTokenValidity);
 
         // 토큰 만료일 계산
         LocalDateTime expiresAt = LocalDateTime.now().plusNanos(refreshTokenValidity * 1000000);
 
-        // 기존 토큰이 있는지 조회하여 업데이트 또는 생성
-        RefreshToken refreshToken = refreshTokenRepository.findByUserId(user.getId())
-                .map(rt -> {
-                    rt.updateToken(token, expiresAt);
-                    return rt;
-                })
-                .orElse(RefreshToken.builder()
-                        .userId(user.getId())
-                        .token(token)
-                        .expiresAt(expiresAt)
-                        .build());
-
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenStore.save(user.getId(), token, expiresAt);
 
         return token;
     }
 
+    /**
+     * 저장된 Refresh Token과 일치하면 새 Refresh Token으로 교체 (rotation)
+     * 이미 교체된 토큰이 다시 사용되면 사용자의 Refresh Token을 폐기하여 다시 로그인하도록 함
+     */
+    public String rotateRefreshToken(String userId, String refreshToken) {
+        Claims claims = getClaims(refreshToken);
+        String nextToken = createToken(claims.getSubject(), claims.get("email", String.class), refreshTokenValidity);
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(refreshTokenValidity * 1000000);
+
+        RefreshTokenStore.Result result = refreshTokenStore.rotate(Long.parseLong(userId), refreshToken, nextToken, expiresAt);
+        if (result == RefreshTokenStore.Result.REUSED) {
+            log.warn("이미 교체된 Refresh Token 재사용 감지, 토큰 폐기: userId={}", userId);
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        if (result != RefreshTokenStore.Result.ROTATED) {
+            throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        return nextToken;
+    }
+
     /**
      * JWT 토큰을 생성
      */
@@ -90,6 +105,7 @@ public class JwtService {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString()) // 같은 시각에 발급해도 토큰이 겹치지 않도록
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -139,21 +155,18 @@ public class JwtService {
         }
     }
 
-    /**
-     * 저장된 Refresh Token과 일치하는지 확인
-     */
-    @Transactional(readOnly = true)
-    public boolean validateRefreshToken(String userId, String refreshToken) {
-        return refreshTokenRepository.findByUserId(Long.parseLong(userId))
-                .map(token -> !token.isExpired() && token.getToken().equals(refreshToken))
-                .orElse(false);
-    }
-
     /**
      * 저장된 Refresh Token을 삭제 (로그아웃 시 사용)
      */
-    @Transactional
     public void deleteRefreshToken(String userId) {
-        refreshTokenRepository.deleteByUserId(Long.parseLong(userId));
+        refreshTokenStore.revoke(Long.parseLong(userId));
+    }
+
+    private Claims getClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
     }
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package com.ktb.marong.service.auth;
 
+import com.ktb.marong.common.http.CircuitBreaker;
+import com.ktb.marong.common.http.CircuitOpenException;
 import com.ktb.marong.domain.user.User;
 import com.ktb.marong.dto.response.auth.KakaoUserInfoDto;
+import com.ktb.marong.exception.CustomException;
+import com.ktb.marong.exception.ErrorCode;
 import com.ktb.marong.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -14,13 +20,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 카카오 OAuth 서비스
  * 카카오 소셜 로그인 처리를 담당하는 서비스
+ * 카카오 호출은 커넥션 풀/타임아웃이 적용된 RestTemplate과 서킷 브레이커를 거치며,
+ * 호출별 지연시간을 marong.kakao.request 메트릭(operation, outcome 태그)으로 기록
  */
 @Slf4j
 @Service
@@ -29,6 +41,8 @@ public class KakaoOAuthService {
 
     private final RestTemplate restTemplate;
     private final UserRepository userRepository;
+    private final CircuitBreaker kakaoCircuitBreaker;
+    private final MeterRegistry meterRegistry;
 
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String clientId;
@@ -80,18 +94,20 @@ public class KakaoOAuthService {
 
         try {
             // POST 요청 실행
-            ResponseEntity<Map> response = restTemplate.exchange(
+            ResponseEntity<Map> response = call("token", () -> restTemplate.exchange(
                     tokenUri,
                     HttpMethod.POST,
                     kakaoTokenRequest,
                     Map.class
-            );
+            ));
 
             log.info("카카오 액세스 토큰 응답: {}", response);
             log.info("카카오 액세스 토큰 응답: {}", response.getBody());
 
             // 응답에서 액세스 토큰 추출
             return (String) response.getBody().get("access_token");
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("카카오 액세스 토큰 요청 실패", e);
             throw new RuntimeException("카카오 액세스 토큰 요청 실패: " + e.getMessage());
@@ -114,12 +130,12 @@ public class KakaoOAuthService {
 
         try {
             // GET 요청 실행
-            ResponseEntity<Map> response = restTemplate.exchange(
+            ResponseEntity<Map> response = call("user_info", () -> restTemplate.exchange(
                     userInfoUri,
                     HttpMethod.GET,
                     kakaoUserInfoRequest,
                     Map.class
-            );
+            ));
 
             log.info("카카오 사용자 정보 응답: {}", response.getBody());
 
@@ -150,12 +166,49 @@ public class KakaoOAuthService {
                     .nickname(nickname)
                     .profileImageUrl(profileImageUrl)
                     .build();
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("카카오 사용자 정보 요청 실패", e);
             throw new RuntimeException("카카오 사용자 정보 요청 실패: " + e.getMessage());
         }
     }
 
+    /**
+     * 서킷 브레이커를 거쳐 카카오 API 호출 후 지연시간 기록
+     * 서킷이 열려 있으면 카카오를 호출하지 않고 바로 SOCIAL_AUTH_UNAVAILABLE
+     */
+    private <T> T call(String operation, Supplier<T> request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return kakaoCircuitBreaker.execute(request);
+        } catch (CircuitOpenException e) {
+            outcome = "rejected";
+            log.warn("카카오 서킷 브레이커가 열려 있어 요청 거절: operation={}", operation);
+            throw new CustomException(ErrorCode.SOCIAL_AUTH_UNAVAILABLE);
+        } catch (ResourceAccessException e) {
+            outcome = "io_error"; // 연결 실패, 타임아웃, 커넥션 풀 대기 초과
+            throw e;
+        } catch (HttpClientErrorException e) {
+            outcome = "client_error";
+            throw e;
+        } catch (HttpServerErrorException e) {
+            outcome = "server_error";
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("marong.kakao.request")
+                    .description("카카오 OAuth API 호출 지연시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * 카카오 사용자 정보를 통해 신규 사용자를 등록하거나 기존 사용자를 찾음
      */
@@ -0,0 +1,327 @@
+package com.ktb.marong.service.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.marong.common.cache.CacheInvalidationBus;
+import com.ktb.marong.common.cache.CacheInvalidationMessage;
+import com.ktb.marong.domain.auth.RefreshToken;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 리프레시 토큰 저장소
+ * 사용자별 리프레시 토큰의 SHA-256 해시를 메모리(최대 개수 제한)에 두고 검증/교체하므로 재발급은 DB를 거치지 않음
+ * - 로그인 저장과 로그아웃 폐기는 DB에 바로 반영 (비정상 종료로 잃지 않고, 어느 인스턴스가 DB에서 읽어도 최신 값)
+ * - 재발급 시 교체(rotation)는 메모리에서 처리하고 DB에는 모아서 나중에 반영 (write-behind)
+ * - 로그인/교체/폐기는 캐시 무효화 채널로 다른 인스턴스에 알려 메모리 값을 맞춤
+ *   (다른 인스턴스가 이미 교체된 토큰으로 교체하거나 로그아웃된 토큰을 받아 주지 않음)
+ * - 토큰 체인: 로그인마다 새 체인 ID, 교체마다 단계 +1
+ *   나중 반영은 DB 행이 같은 체인의 더 앞 단계일 때만 바꾸므로, 인스턴스 간 반영 순서가 뒤바뀌거나
+ *   그 사이 로그아웃/재로그인이 있어도 이전 토큰으로 되돌리거나 삭제된 행을 되살리지 않음
+ * - 교체한 토큰의 직전 해시를 기억해, 이미 교체된 토큰이 다시 오면 재사용으로 보고 폐기
+ * - 메모리에 없으면 반영 대기 중인 교체 -> DB 순서로 한 번 읽어 옴 (교체 전 평문 토큰이 저장된 행은 읽을 때 해시로 변환)
+ * - 메모리 값과 맞지 않으면 채널 메시지가 늦었을 수 있으므로 DB에서 한 번 더 읽어 확인 (같은 체인의 앞 단계로 되돌리지는 않음)
+ * - 반영 전에 인스턴스가 비정상 종료되면 그 사이 교체는 DB에 남지 않음
+ *   (채널로 전달받은 다른 인스턴스의 메모리에는 남아 있으므로 다음 교체가 그 인스턴스로 가면 이어서 반영됨)
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    public enum Result {
+        ROTATED, REUSED, INVALID
+    }
+
+    /**
+     * 다른 인스턴스에 로그인/교체/폐기를 알리는 메시지의 캐시 이름
+     * key: 폐기는 "<userId>", 로그인/교체는 "<userId>|<hash>|<previousHash>|<expiresAt>|<chainId>|<step>"
+     */
+    static final String CHANNEL = "auth:refresh-token";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final int batchSize;
+
+    private final Cache<Long, Entry> tokens;
+    private final Map<Long, Entry> pendingWrites = new ConcurrentHashMap<>();
+
+    private final String selectSql;
+    private final String upsertSql;
+    private final String rotateSql;
+    private final String deleteSql;
+
+    public RefreshTokenStore(JdbcTemplate jdbcTemplate,
+                             EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry,
+                             ObjectProvider<CacheInvalidationBus> invalidationBus,
+                             @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+                             @Value("${marong.auth.refresh-token.cache-max-size:100000}") long cacheMaxSize,
+                             @Value("${marong.auth.refresh-token.flush-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.invalidationBus = invalidationBus.getIfAvailable();
+        this.batchSize = batchSize;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(refreshTokenValidity))
+                .build();
+
+        // 네이밍 전략이 적용된 실제 테이블 이름 사용
+        String table = tableOf(entityManagerFactory.unwrap(SessionFactoryImplementor.class), RefreshToken.class);
+        this.selectSql = "SELECT token, expires_at, chain_id, step FROM " + table + " WHERE user_id = ?";
+        this.upsertSql = "INSERT INTO " + table + " (user_id, token, expires_at, chain_id, step) VALUES (?, ?, ?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE token = VALUES(token), expires_at = VALUES(expires_at),"
+                + " chain_id = VALUES(chain_id), step = VALUES(step)";
+        // 체인 ID가 없는 기존 행은 체인 0, 단계 0으로 취급
+        this.rotateSql = "UPDATE " + table + " SET token = ?, expires_at = ?, chain_id = ?, step = ?"
+                + " WHERE user_id = ? AND COALESCE(chain_id, 0) = ? AND COALESCE(step, 0) < ?";
+        this.deleteSql = "DELETE FROM " + table + " WHERE user_id = ?";
+
+        Gauge.builder("marong.auth.refresh-token.pending", pendingWrites, Map::size)
+                .description("DB 반영 대기 중인 리프레시 토큰 교체 수")
+                .register(meterRegistry);
+
+        if (this.invalidationBus != null) {
+            this.invalidationBus.subscribe(this::onMessage);
+        }
+    }
+
+    /**
+     * 로그인 시 새 리프레시 토큰 저장 (새 체인 시작, 기존 토큰은 재사용 감지 없이 교체, DB에 바로 반영)
+     */
+    public void save(Long userId, String token, LocalDateTime expiresAt) {
+        Entry entry = new Entry(hash(token), null, expiresAt, newChainId(), 0);
+        jdbcTemplate.update(upsertSql, userId, entry.hash, Timestamp.valueOf(expiresAt), entry.chainId, entry.step);
+        pendingWrites.remove(userId);
+        tokens.put(userId, entry);
+        publish(userId, entry);
+    }
+
+    /**
+     * 제시된 토큰이 현재 토큰이면 새 토큰으로 교체 (메모리에서 처리, DB에는 나중에 반영)
+     * 이미 교체된 직전 토큰이면 탈취 가능성이 있으므로 사용자의 토큰을 폐기
+     */
+    public Result rotate(Long userId, String presentedToken, String nextToken, LocalDateTime nextExpiresAt) {
+        String presentedHash = hash(presentedToken);
+        Result result = rotateCached(userId, presentedHash, nextToken, nextExpiresAt);
+        if (result == Result.INVALID) {
+            // 다른 인스턴스의 로그인/폐기 메시지가 늦었을 수 있으므로 DB 기준으로 한 번 더 확인
+            Entry stored = loadFromDatabase(userId);
+            if (stored == null) {
+                pendingWrites.remove(userId);
+                tokens.invalidate(userId);
+                return Result.INVALID;
+            }
+            tokens.asMap().compute(userId, (id, current) -> stored.isNewerThan(current) ? stored : current);
+            result = rotateCached(userId, presentedHash, nextToken, nextExpiresAt);
+        }
+        if (result == Result.REUSED) {
+            revoke(userId);
+        }
+        return result;
+    }
+
+    /**
+     * 사용자의 리프레시 토큰 폐기 (로그아웃, 재사용 감지)
+     * DB에서 바로 삭제하므로 이후 반영되는 교체는 행이 없어 되살아나지 않음
+     */
+    public void revoke(Long userId) {
+        pendingWrites.remove(userId);
+        jdbcTemplate.update(deleteSql, userId);
+        tokens.invalidate(userId);
+        publish(userId, null);
+    }
+
+    /**
+     * 반영 대기 중인 교체를 JDBC 배치로 DB에 반영 (같은 체인의 더 앞 단계인 행만 바뀜)
+     * 반영하는 동안 다시 교체된 사용자는 대기 목록에 남겨 다음 반영 때 처리
+     */
+    @Scheduled(fixedDelayString = "${marong.auth.refresh-token.flush-interval-ms:1000}")
+    public void flush() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Entry>> snapshot = new ArrayList<>(pendingWrites.entrySet());
+        for (int from = 0; from < snapshot.size(); from += batchSize) {
+            List<Map.Entry<Long, Entry>> chunk = snapshot.subList(from, Math.min(from + batchSize, snapshot.size()));
+            try {
+                jdbcTemplate.batchUpdate(rotateSql, chunk.stream()
+                        .map(write -> {
+                            Entry entry = write.getValue();
+                            return new Object[]{entry.hash, Timestamp.valueOf(entry.expiresAt), entry.chainId,
+                                    entry.step, write.getKey(), entry.chainId, entry.step};
+                        })
+                        .toList());
+            } catch (RuntimeException e) {
+                // 대기 목록에 그대로 남겨 다음 반영 때 다시 시도
+                log.error("리프레시 토큰 DB 반영 실패: pending={}", pendingWrites.size(), e);
+                return;
+            }
+            chunk.forEach(write -> pendingWrites.remove(write.getKey(), write.getValue()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Result rotateCached(Long userId, String presentedHash, String nextToken, LocalDateTime nextExpiresAt) {
+        Result[] result = {Result.INVALID};
+        Entry[] rotated = {null};
+        tokens.asMap().compute(userId, (id, current) -> {
+            if (current == null) {
+                current = load(id);
+            }
+            if (current == null) {
+                return null;
+            }
+            if (presentedHash.equals(current.hash) && current.expiresAt.isAfter(LocalDateTime.now())) {
+                Entry next = new Entry(hash(nextToken), current.hash, nextExpiresAt, current.chainId, current.step + 1);
+                pendingWrites.put(id, next);
+                result[0] = Result.ROTATED;
+                rotated[0] = next;
+                return next;
+            }
+            if (presentedHash.equals(current.previousHash)) {
+                result[0] = Result.REUSED;
+            }
+            return current;
+        });
+        if (rotated[0] != null) {
+            publish(userId, rotated[0]);
+        }
+        return result[0];
+    }
+
+    /**
+     * 메모리에 없는 사용자의 토큰을 반영 대기 목록 -> DB 순서로 조회
+     */
+    private Entry load(Long userId) {
+        Entry pending = pendingWrites.get(userId);
+        return pending != null ? pending : loadFromDatabase(userId);
+    }
+
+    private Entry loadFromDatabase(Long userId) {
+        List<Entry> rows = jdbcTemplate.query(selectSql, (rs, rowNum) -> {
+            String token = rs.getString("token");
+            return new Entry(isHash(token) ? token : hash(token), null,
+                    rs.getTimestamp("expires_at").toLocalDateTime(), rs.getLong("chain_id"), rs.getLong("step"));
+        }, userId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 다른 인스턴스의 로그인/교체/폐기를 메모리에 반영 (같은 체인의 앞 단계 메시지는 무시)
+     */
+    private void onMessage(CacheInvalidationMessage message) {
+        if (instanceId.equals(message.getOrigin()) || !CHANNEL.equals(message.getCacheName())) {
+            return;
+        }
+        try {
+            String[] parts = message.getKey().split("\\|", -1);
+            Long userId = Long.valueOf(parts[0]);
+            if (parts.length == 1) {
+                pendingWrites.remove(userId);
+                tokens.invalidate(userId);
+                return;
+            }
+            Entry received = new Entry(parts[1], parts[2].isEmpty() ? null : parts[2],
+                    LocalDateTime.parse(parts[3]), Long.parseLong(parts[4]), Long.parseLong(parts[5]));
+            tokens.asMap().compute(userId, (id, current) -> received.isNewerThan(current) ? received : current);
+            // 새 로그인으로 체인이 바뀌었으면 이전 체인의 대기 중인 교체는 반영할 필요 없음
+            pendingWrites.computeIfPresent(userId,
+                    (id, pending) -> pending.chainId == received.chainId ? pending : null);
+        } catch (RuntimeException e) {
+            log.warn("리프레시 토큰 메시지 처리 실패: key={}, cause={}", message.getKey(), e.toString());
+        }
+    }
+
+    private void publish(Long userId, Entry entry) {
+        if (invalidationBus == null) {
+            return;
+        }
+        String key = entry == null ? String.valueOf(userId) : String.join("|", String.valueOf(userId), entry.hash,
+                entry.previousHash == null ? "" : entry.previousHash, entry.expiresAt.toString(),
+                Long.toString(entry.chainId), Long.toString(entry.step));
+        try {
+            invalidationBus.publish(new CacheInvalidationMessage(instanceId, CHANNEL, key));
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 메모리 값과 맞지 않을 때 DB에서 다시 확인하므로 요청은 그대로 처리
+            log.warn("리프레시 토큰 메시지 발행 실패: userId={}, cause={}", userId, e.toString());
+        }
+    }
+
+    private static long newChainId() {
+        long chainId;
+        do {
+            chainId = ThreadLocalRandom.current().nextLong();
+        } while (chainId == 0); // 0은 체인 ID가 없는 기존 행
+        return chainId;
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isHash(String value) {
+        return value.length() == 64 && value.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+    }
+
+    private static String tableOf(SessionFactoryImplementor sessionFactory, Class<?> entityClass) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        return persister.getTableName();
+    }
+
+    private static final class Entry {
+        private final String hash;
+        private final String previousHash;
+        private final LocalDateTime expiresAt;
+        private final long chainId;
+        private final long step;
+
+        private Entry(String hash, String previousHash, LocalDateTime expiresAt, long chainId, long step) {
+            this.hash = hash;
+            this.previousHash = previousHash;
+            this.expiresAt = expiresAt;
+            this.chainId = chainId;
+            this.step = step;
+        }
+
+        /**
+         * 다른 체인(새 로그인)이거나 같은 체인의 더 뒤 단계이면 더 새로운 값
+         */
+        boolean isNewerThan(Entry other) {
+            return other == null || chainId != other.chainId || step > other.step;
+        }
+    }
+}
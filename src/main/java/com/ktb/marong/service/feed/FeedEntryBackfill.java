@@ -0,0 +1,150 @@
+package com.ktb.marong.service.feed;
+
+import com.ktb.marong.domain.feed.FeedEntry;
+import com.ktb.marong.domain.feed.Post;
+import com.ktb.marong.domain.manitto.Manitto;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.repository.FeedEntryRepository;
+import com.ktb.marong.repository.ManittoRepository;
+import com.ktb.marong.repository.PostLikeRepository;
+import com.ktb.marong.repository.PostRepository;
+import com.ktb.marong.service.group.GroupDisplayNameResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 읽기 모델(FeedEntry)이 없는 게시글을 묶음 단위로 채움
+ * 읽기 모델 도입 이전 게시글, 또는 이벤트를 거치지 않고 적재된 게시글용
+ * 묶음마다 별도 트랜잭션으로 처리 (FeedEntryProjector.backfill에서 반복 호출)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedEntryBackfill {
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final ManittoRepository manittoRepository;
+    private final GroupDisplayNameResolver displayNameResolver;
+    private final FeedEntryRepository feedEntryRepository;
+
+    /**
+     * 읽기 모델이 없는 게시글이 있는 그룹 ID
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findGroupsToBackfill() {
+        return postRepository.findGroupIdsWithoutFeedEntry();
+    }
+
+    /**
+     * 그룹 내 읽기 모델이 없는 게시글을 최대 chunkSize건 채우고 채운 건수 반환
+     * @param revealBeforeWeek 이 주차 이전 게시글은 작성자 공개 상태로 생성
+     */
+    @Transactional
+    public int backfillChunk(Long groupId, int chunkSize, int revealBeforeWeek) {
+        List<Post> posts = postRepository.findWithoutFeedEntryByGroupId(groupId, PageRequest.of(0, chunkSize));
+        if (posts.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> likeCounts = countLikes(posts);
+        Map<String, User> manitteeByAuthorWeek = findManitteesByAuthorAndWeek(posts, groupId);
+        Map<Long, GroupDisplayNameResolver.MemberDisplay> memberDisplays =
+                findMemberDisplays(posts, manitteeByAuthorWeek.values(), groupId);
+
+        List<FeedEntry> entries = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            User author = post.getUser();
+            User manittee = manitteeByAuthorWeek.get(authorWeekKey(author.getId(), post.getWeek()));
+
+            entries.add(FeedEntry.builder()
+                    .postId(post.getId())
+                    .groupId(groupId)
+                    .week(post.getWeek())
+                    .authorId(author.getId())
+                    .manitteeId(manittee != null ? manittee.getId() : null)
+                    .missionTitle(post.getMission().getTitle())
+                    .content(post.getContent())
+                    .imageUrl(post.getImageUrl())
+                    .anonymousName(post.getAnonymousSnapshotName())
+                    .authorDisplayName(displayNameOf(author, memberDisplays))
+                    // 매칭 정보가 없으면 게시글에 저장된 마니띠 이름 사용
+                    .manitteeDisplayName(manittee != null ? displayNameOf(manittee, memberDisplays) : post.getManitteeName())
+                    .likeCount(likeCounts.getOrDefault(post.getId(), 0))
+                    .revealed(post.getWeek() < revealBeforeWeek)
+                    .createdAt(post.getCreatedAt())
+                    .build());
+        }
+        feedEntryRepository.saveAll(entries);
+
+        log.debug("피드 읽기 모델 채움: groupId={}, count={}", groupId, entries.size());
+        return entries.size();
+    }
+
+    /**
+     * 주차 이전 게시글의 작성자 공개 처리 (서버가 공개 시점을 지나는 동안 내려가 있던 경우 보정)
+     */
+    @Transactional
+    public int revealWeeksBefore(int week) {
+        return feedEntryRepository.revealWeeksBefore(week);
+    }
+
+    /**
+     * 그룹 내 표시 이름: 그룹 닉네임이 있으면 그룹 닉네임, 없으면 카카오 실명
+     */
+    private String displayNameOf(User user, Map<Long, GroupDisplayNameResolver.MemberDisplay> memberDisplays) {
+        GroupDisplayNameResolver.MemberDisplay display = memberDisplays.get(user.getId());
+        return display != null ? display.getDisplayName() : user.getNickname();
+    }
+
+    private Map<Long, Integer> countLikes(List<Post> posts) {
+        List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        for (Object[] row : postLikeRepository.countLikesByPostIds(postIds)) {
+            likeCounts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return likeCounts;
+    }
+
+    /**
+     * 게시글 작성자들의 해당 주차 마니띠 일괄 조회
+     * key: "작성자ID:주차"
+     */
+    private Map<String, User> findManitteesByAuthorAndWeek(List<Post> posts, Long groupId) {
+        Set<Long> authorIds = posts.stream().map(post -> post.getUser().getId()).collect(Collectors.toSet());
+        Set<Integer> weeks = posts.stream().map(Post::getWeek).collect(Collectors.toSet());
+
+        Map<String, User> manitteeByAuthorWeek = new HashMap<>();
+        for (Manitto manitto : manittoRepository.findWithManitteeByGroupIdAndManittoIdInAndWeekIn(groupId, authorIds, weeks)) {
+            manitteeByAuthorWeek.putIfAbsent(authorWeekKey(manitto.getManitto().getId(), manitto.getWeek()),
+                    manitto.getManittee());
+        }
+        return manitteeByAuthorWeek;
+    }
+
+    /**
+     * 작성자와 마니띠의 그룹 내 표시 정보 일괄 조회
+     */
+    private Map<Long, GroupDisplayNameResolver.MemberDisplay> findMemberDisplays(List<Post> posts, Iterable<User> manittees,
+                                                                                 Long groupId) {
+        Set<Long> userIds = new HashSet<>();
+        posts.forEach(post -> userIds.add(post.getUser().getId()));
+        manittees.forEach(manittee -> userIds.add(manittee.getId()));
+        return displayNameResolver.resolveAll(groupId, userIds);
+    }
+
+    private static String authorWeekKey(Long userId, Integer week) {
+        return userId + ":" + week;
+    }
+}
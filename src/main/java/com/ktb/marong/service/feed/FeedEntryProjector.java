@@ -0,0 +1,121 @@
+package com.ktb.marong.service.feed;
+
+import com.ktb.marong.domain.feed.FeedEntry;
+import com.ktb.marong.dto.response.feed.PostResponseDto;
+import com.ktb.marong.event.GroupDisplayNameChangedEvent;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import com.ktb.marong.event.PostCreatedEvent;
+import com.ktb.marong.event.PostLikeChangedEvent;
+import com.ktb.marong.repository.FeedEntryRepository;
+import com.ktb.marong.service.manitto.ManittoCycleClock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트로 피드 읽기 모델(FeedEntry)을 갱신
+ * - 게시글 작성 / 좋아요 변경 / 표시 이름 변경: 원본 변경과 같은 트랜잭션에서 반영
+ * - 마니또 기간 변경: 공개 시점이 지난 주차의 작성자 공개 처리 (이벤트를 발행한 트랜잭션이 끝난 뒤 별도 트랜잭션)
+ * - 애플리케이션 시작 시 읽기 모델이 없는 게시글을 채우고 공개 상태를 현재 주기에 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedEntryProjector {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final FeedEntryBackfill feedEntryBackfill;
+    private final ManittoCycleClock cycleClock;
+
+    @Value("${marong.feed.read-model.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        PostResponseDto feed = event.getFeed();
+        feedEntryRepository.save(FeedEntry.builder()
+                .postId(event.getPostId())
+                .groupId(event.getGroupId())
+                .week(feed.getWeek())
+                .authorId(event.getAuthorId())
+                .manitteeId(event.getManitteeId())
+                .missionTitle(feed.getMissionTitle())
+                .content(feed.getContent())
+                .imageUrl(feed.getImageUrl())
+                .anonymousName(event.getAnonymousName())
+                .authorDisplayName(event.getAuthorDisplayName())
+                .manitteeDisplayName(feed.getManitteeName())
+                .likeCount(0)
+                .revealed(feed.getWeek() < revealBeforeWeek())
+                .createdAt(feed.getCreatedAt())
+                .build());
+    }
+
+    @EventListener
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        feedEntryRepository.addLikeCount(event.getPostId(), event.isLiked() ? 1 : -1);
+    }
+
+    @EventListener
+    public void onDisplayNameChanged(GroupDisplayNameChangedEvent event) {
+        int authored = feedEntryRepository.updateAuthorDisplayName(
+                event.getGroupId(), event.getUserId(), event.getDisplayName());
+        int received = feedEntryRepository.updateManitteeDisplayName(
+                event.getGroupId(), event.getUserId(), event.getDisplayName());
+        log.debug("피드 읽기 모델 표시 이름 갱신: groupId={}, userId={}, authored={}, received={}",
+                event.getGroupId(), event.getUserId(), authored, received);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPhaseChanged(ManittoPhaseChangedEvent event) {
+        int revealed = feedEntryRepository.revealWeeksBefore(revealBeforeWeek());
+        log.info("피드 읽기 모델 공개 상태 갱신: period={}, revealed={}", event.getCurrentPeriod(), revealed);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    /**
+     * 읽기 모델이 없는 게시글을 모두 채우고 공개 상태를 현재 주기에 맞춤
+     * @return 새로 채운 게시글 수
+     */
+    public int backfill() {
+        int revealBeforeWeek = revealBeforeWeek();
+        int total = 0;
+        for (Long groupId : feedEntryBackfill.findGroupsToBackfill()) {
+            int filled;
+            do {
+                filled = feedEntryBackfill.backfillChunk(groupId, BACKFILL_CHUNK_SIZE, revealBeforeWeek);
+                total += filled;
+            } while (filled == BACKFILL_CHUNK_SIZE);
+        }
+        feedEntryBackfill.revealWeeksBefore(revealBeforeWeek);
+
+        if (total > 0) {
+            log.info("피드 읽기 모델 채움 완료: count={}", total);
+        }
+        return total;
+    }
+
+    /**
+     * 이 주차 이전 게시글은 작성자 공개 (공개 시점 이후면 현재 주차까지 공개)
+     */
+    private int revealBeforeWeek() {
+        int currentWeek = cycleClock.getCurrentWeek();
+        return cycleClock.isRevealTime() ? currentWeek + 1 : currentWeek;
+    }
+}
@@ -0,0 +1,276 @@
+package com.ktb.marong.service.feed;
+
+import com.ktb.marong.common.cache.CacheInvalidationBus;
+import com.ktb.marong.common.cache.CacheInvalidationMessage;
+import com.ktb.marong.common.cache.CacheNames;
+import com.ktb.marong.common.cache.TwoTierCache;
+import com.ktb.marong.common.cache.TwoTierCacheManager;
+import com.ktb.marong.dto.response.feed.PostResponseDto;
+import com.ktb.marong.event.GroupDisplayNameChangedEvent;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import com.ktb.marong.event.PostCreatedEvent;
+import com.ktb.marong.event.PostLikeChangedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 그룹별 피드 첫 페이지 캐시
+ * 로그인 직후 대부분의 요청이 기본 그룹의 첫 페이지이므로, 조회자와 무관한 부분
+ * (게시글, 좋아요 수, 작성자/마니띠 이름)을 그룹 단위로 캐싱하고 좋아요 여부만 요청마다 덧씌움
+ * - 인스턴스마다 따로 적재하는 로컬 전용 영역 (조회 중 변경 여부를 인스턴스 안의 버전으로만 확인할 수 있으므로)
+ * - 게시글 작성/좋아요 변경 시 커밋 이후 삭제하고, 캐시 무효화 채널로 다른 인스턴스의 페이지와 진행 중인 적재도 무효화
+ * - 캐시 미스는 primary에서 조회하여 적재 (복제 지연된 replica의 이전 페이지가 캐시되지 않도록, FeedService)
+ * - 마니또 기간이 바뀌면 작성자 이름 규칙이 달라지므로 전체 삭제
+ * - 캐시된 페이지에 주차/공개 여부를 함께 저장하여, 다른 인스턴스에서 이벤트를 놓쳐도 기간이 다르면 사용하지 않음
+ */
+@Slf4j
+@Component
+public class FeedFirstPageCache {
+
+    /**
+     * 그룹별로 보관하는 첫 페이지 게시글 수 (이보다 큰 pageSize 요청은 캐시를 사용하지 않음)
+     */
+    public static final int CAPACITY = 50;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Cache cache;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    // 그룹별 변경 버전 (조회 중 발생한 변경을 덮어쓰지 않도록 적재 시점에 비교)
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    // 자기 캐시 매니저가 보낸 무효화 메시지를 구분하기 위한 ID (없으면 모든 메시지로 버전 증가)
+    private final String cacheInstanceId;
+
+    public FeedFirstPageCache(CacheManager cacheManager, ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        Cache configured = cacheManager.getCache(CacheNames.FEED_FIRST_PAGE);
+        // 적재/갱신 시점을 직접 제어하므로 트랜잭션 지연 없이 바로 반영되는 원본 캐시 사용
+        this.cache = configured instanceof TransactionAwareCacheDecorator decorator
+                ? decorator.getTargetCache() : configured;
+        this.cacheInstanceId = cacheManager instanceof TwoTierCacheManager twoTierCacheManager
+                ? twoTierCacheManager.getInstanceId() : null;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+
+        // 다른 인스턴스의 변경도 이 인스턴스에서 진행 중인 적재를 무효화하도록 버전 증가
+        CacheInvalidationBus bus = invalidationBus.getIfAvailable();
+        if (bus != null) {
+            bus.subscribe(this::onInvalidation);
+        }
+    }
+
+    /**
+     * 현재 주차/기간에 유효한 캐시된 첫 페이지 조회 (없으면 null)
+     */
+    public FirstPage get(Long groupId, int currentWeek, boolean revealTime) {
+        FirstPage page = cache.get(groupId, FirstPage.class);
+        if (page == null || !page.isValidFor(currentWeek, revealTime)) {
+            return null;
+        }
+        return page;
+    }
+
+    /**
+     * 적재 전 현재 버전 조회 (조회 시작 전에 호출)
+     */
+    public long currentVersion(Long groupId) {
+        return version(groupId).get();
+    }
+
+    /**
+     * 조회 이후 변경이 없었을 때만 적재
+     */
+    public void putIfUnchanged(FirstPage page, long expectedVersion) {
+        synchronized (lock(page.getGroupId())) {
+            if (version(page.getGroupId()).get() != expectedVersion) {
+                log.debug("피드 첫 페이지 적재 생략 (조회 중 변경 발생): groupId={}", page.getGroupId());
+                return;
+            }
+            cache.put(page.getGroupId(), page);
+        }
+    }
+
+    /**
+     * 새 게시글이 작성되면 해당 그룹의 첫 페이지 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostCreated(PostCreatedEvent event) {
+        evict(event.getGroupId());
+    }
+
+    /**
+     * 좋아요가 바뀌면 해당 그룹의 첫 페이지 삭제
+     * (다른 인스턴스도 같은 그룹 페이지를 들고 있을 수 있으므로 변화량으로 고치지 않고 삭제 후 다시 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        evict(event.getGroupId());
+    }
+
+    /**
+     * 그룹 내 표시 이름이 바뀌면 해당 그룹의 첫 페이지 삭제 (다음 조회 시 읽기 모델에서 다시 적재)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDisplayNameChanged(GroupDisplayNameChangedEvent event) {
+        evict(event.getGroupId());
+    }
+
+    /**
+     * 마니또 기간 변경 시 전체 삭제 (공개 시점에 작성자 이름이 바뀜)
+     */
+    @EventListener
+    public void onPhaseChanged(ManittoPhaseChangedEvent event) {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+        cache.clear();
+        log.info("피드 첫 페이지 캐시 초기화: {} -> {}", event.getPreviousPeriod(), event.getCurrentPeriod());
+    }
+
+    /**
+     * 그룹의 캐시된 첫 페이지 삭제
+     */
+    public void evict(Long groupId) {
+        synchronized (lock(groupId)) {
+            version(groupId).incrementAndGet();
+            cache.evict(groupId);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 온 무효화 메시지 처리
+     * 버전을 올린 뒤 로컬 값을 다시 삭제 (TwoTierCacheManager가 먼저 삭제한 직후 이전 버전으로 적재된 페이지도 제거)
+     */
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (!CacheNames.FEED_FIRST_PAGE.equals(message.getCacheName())
+                || (cacheInstanceId != null && cacheInstanceId.equals(message.getOrigin()))) {
+            return;
+        }
+        if (message.getKey() == null) {
+            versions.values().forEach(AtomicLong::incrementAndGet);
+            evictLocal(null);
+            return;
+        }
+        Long groupId;
+        try {
+            groupId = Long.valueOf(message.getKey());
+        } catch (NumberFormatException e) {
+            log.warn("피드 첫 페이지 무효화 메시지 키 오류: key={}", message.getKey());
+            return;
+        }
+        synchronized (lock(groupId)) {
+            version(groupId).incrementAndGet();
+            evictLocal(message.getKey());
+        }
+    }
+
+    private void evictLocal(String cacheKey) {
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.evictLocal(cacheKey);
+        }
+    }
+
+    private AtomicLong version(Long groupId) {
+        return versions.computeIfAbsent(groupId, key -> new AtomicLong());
+    }
+
+    private Object lock(Long groupId) {
+        return locks[Math.floorMod(groupId.hashCode(), LOCK_STRIPES)];
+    }
+
+    /**
+     * 캐시되는 그룹 첫 페이지 (조회자와 무관한 정보만 포함, 변경 시 삭제 후 다시 적재)
+     */
+    @Getter
+    public static class FirstPage implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Long groupId;
+        private final String groupName;
+        private final int totalFeeds;
+        private final int week;
+        private final boolean revealTime;
+        private final List<Item> items;
+
+        public FirstPage(Long groupId, String groupName, int totalFeeds, int week, boolean revealTime, List<Item> items) {
+            this.groupId = groupId;
+            this.groupName = groupName;
+            this.totalFeeds = totalFeeds;
+            this.week = week;
+            this.revealTime = revealTime;
+            this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        }
+
+        public boolean isValidFor(int currentWeek, boolean currentRevealTime) {
+            return week == currentWeek && revealTime == currentRevealTime;
+        }
+    }
+
+    /**
+     * 캐시되는 게시글 항목 (좋아요 여부를 제외한 PostResponseDto 정보)
+     */
+    @Getter
+    public static class Item implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Long feedId;
+        private final String author;
+        private final String missionTitle;
+        private final String manitteeName;
+        private final String content;
+        private final int likes;
+        private final LocalDateTime createdAt;
+        private final String imageUrl;
+        private final Integer week;
+
+        public Item(Long feedId, String author, String missionTitle, String manitteeName, String content,
+                    int likes, LocalDateTime createdAt, String imageUrl, Integer week) {
+            this.feedId = feedId;
+            this.author = author;
+            this.missionTitle = missionTitle;
+            this.manitteeName = manitteeName;
+            this.content = content;
+            this.likes = likes;
+            this.createdAt = createdAt;
+            this.imageUrl = imageUrl;
+            this.week = week;
+        }
+
+        public static Item from(PostResponseDto dto) {
+            return new Item(dto.getFeedId(), dto.getAuthor(), dto.getMissionTitle(), dto.getManitteeName(),
+                    dto.getContent(), dto.getLikes(), dto.getCreatedAt(), dto.getImageUrl(), dto.getWeek());
+        }
+
+        public PostResponseDto toResponse(boolean liked) {
+            return PostResponseDto.builder()
+                    .feedId(feedId)
+                    .author(author)
+                    .missionTitle(missionTitle)
+                    .manitteeName(manitteeName)
+                    .content(content)
+                    .likes(likes)
+                    .createdAt(createdAt)
+                    .imageUrl(imageUrl)
+                    .week(week)
+                    .liked(liked)
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.ktb.marong.service.feed;
 
-import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.feed.FeedEntry;
 import com.ktb.marong.domain.feed.Post;
 import com.ktb.marong.domain.feed.PostLike;
 import com.ktb.marong.domain.group.Group;
@@ -14,26 +14,36 @@ import com.ktb.marong.dto.request.feed.PostRequestDto;
 import com.ktb.marong.dto.response.feed.PostLikeResponseDto;
 import com.ktb.marong.dto.response.feed.PostPageResponseDto;
 import com.ktb.marong.dto.response.feed.PostResponseDto;
+import com.ktb.marong.event.PostCreatedEvent;
+import com.ktb.marong.event.PostLikeChangedEvent;
 import com.ktb.marong.exception.CustomException;
 import com.ktb.marong.exception.ErrorCode;
 import com.ktb.marong.repository.*;
 import com.ktb.marong.service.file.FileUploadService;
+import com.ktb.marong.service.group.GroupDisplayNameResolver;
+import com.ktb.marong.service.manitto.ManittoCycleClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.time.DayOfWeek;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -49,8 +59,14 @@ public class FeedService {
     private final UserMissionRepository userMissionRepository;
     private final ManittoRepository manittoRepository;
     private final UserGroupRepository userGroupRepository;
+    private final FeedEntryRepository feedEntryRepository;
     private final GroupRepository groupRepository;
     private final FileUploadService fileUploadService;
+    private final ManittoCycleClock cycleClock;
+    private final FeedFirstPageCache firstPageCache;
+    private final GroupDisplayNameResolver displayNameResolver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 게시글 업로드
@@ -83,7 +99,7 @@ public class FeedService {
                 .orElseThrow(() -> new CustomException(ErrorCode.MISSION_NOT_FOUND));
 
         // 6. 현재 주차 계산
-        int currentWeek = WeekCalculator.getCurrentWeek();
+        int currentWeek = cycleClock.getCurrentWeek();
 
         // 7. 미션이 현재 사용자에게 해당 그룹에서 할당된 것인지 확인
         UserMission userMission = userMissionRepository.findByUserIdAndGroupIdAndMissionIdAndWeek(
@@ -115,21 +131,12 @@ public class FeedService {
         Manitto manitto = manittoList.get(0);
         User manitteeUser = manitto.getManittee(); // 마니띠 사용자 객체
 
-        // 마니띠의 그룹 내 닉네임 설정 여부 확인
-        UserGroup manitteeUserGroup = userGroupRepository.findByUserIdAndGroupId(manitteeUser.getId(), groupId)
-                .orElse(null);
-
-        // 마니띠 이름 결정: 그룹 내 닉네임이 있으면 그걸로 사용, 없으면 카카오 실명으로 사용
-        String manitteeName;
-        if (manitteeUserGroup != null && manitteeUserGroup.hasGroupUserNickname()) {
-            manitteeName = manitteeUserGroup.getGroupUserNickname(); // 그룹 내 닉네임
-            log.info("마니띠 그룹 내 닉네임 사용: manitteeId={}, groupNickname={}",
-                    manitteeUser.getId(), manitteeName);
-        } else {
-            manitteeName = manitteeUser.getNickname(); // 카카오 실명
-            log.info("마니띠 카카오 실명 사용: manitteeId={}, kakaoName={}",
-                    manitteeUser.getId(), manitteeName);
+        // 마니띠 이름 결정: 그룹 내 닉네임이 있으면 그걸로 사용, 없으면 카카오 실명으로 사용 (캐시된 표시 이름)
+        String manitteeName = displayNameResolver.resolveName(groupId, manitteeUser.getId());
+        if (manitteeName == null) {
+            manitteeName = manitteeUser.getNickname();
         }
+        log.info("마니띠 이름 결정: manitteeId={}, name={}", manitteeUser.getId(), manitteeName);
 
         // 11. 익명 이름 조회 (그룹별 익명 이름)
         String anonymousName = anonymousNameRepository.findAnonymousNameByUserIdAndGroupIdAndWeek(
@@ -165,6 +172,14 @@ public class FeedService {
         // 15. 미션 완료 상태 업데이트
         updateMissionStatus(userId, groupId, mission.getId(), currentWeek);
 
+        // 16. 게시글 작성 이벤트 발행 (피드 읽기 모델 생성, 커밋 이후 피드 첫 페이지 캐시에 반영)
+        String authorDisplayName = userGroup.getGroupUserNickname();
+        String authorName = FeedEntry.authorNameOf(anonymousName, authorDisplayName, cycleClock.isRevealTime());
+        PostResponseDto feed = PostResponseDto.fromEntityWithRealTimeManitteeNameAndAuthor(
+                savedPost, 0, false, manitteeName, authorName);
+        eventPublisher.publishEvent(new PostCreatedEvent(savedPost.getId(), groupId, userId, manitteeUser.getId(),
+                anonymousName, authorDisplayName, feed));
+
         log.info("게시글 저장 완료: postId={}, userId={}, groupId={}, manitteeName={}",
                 savedPost.getId(), userId, groupId, manitteeName);
         return savedPost.getId();
@@ -216,63 +231,120 @@ public class FeedService {
         // 현재 게시글의 좋아요 수 조회
         int likeCount = postLikeRepository.countByPostId(feedId);
 
+        // 좋아요 변경 이벤트 발행 (커밋 이후 피드 첫 페이지 캐시의 좋아요 수 갱신)
+        eventPublisher.publishEvent(new PostLikeChangedEvent(feedId, post.getGroupId(), userId, !isCancel, likeCount));
+
         return new PostLikeResponseDto(likeCount);
     }
 
     /**
      * 게시글 목록 조회 (그룹별 분리)
+     * 작성자/마니띠 이름과 좋아요 수는 피드 읽기 모델(FeedEntry)에 반영된 값을 사용하고 좋아요 여부만 일괄 조회
+     * 첫 페이지는 그룹 단위 캐시(FeedFirstPageCache)를 거치고 좋아요 여부만 요청마다 조회
      */
     @Transactional(readOnly = true)
     public PostPageResponseDto getPosts(Long userId, Long groupId, int page, int pageSize) {
         log.info("게시글 목록 조회: userId={}, groupId={}, page={}", userId, groupId, page);
 
-        // 1. 그룹 존재 여부 확인
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
+        if (page == 1 && pageSize <= FeedFirstPageCache.CAPACITY) {
+            return getFirstPage(userId, groupId, pageSize);
+        }
+        return loadPosts(userId, groupId, page, pageSize);
+    }
+
+    /**
+     * 피드 첫 페이지 조회
+     * 캐시에 있으면 소속 확인과 좋아요 여부 조회만 수행하고, 없으면 캐시 용량만큼 조회하여 적재
+     */
+    private PostPageResponseDto getFirstPage(Long userId, Long groupId, int pageSize) {
+        int currentWeek = cycleClock.getCurrentWeek();
+        boolean isManittoRevealTime = cycleClock.isRevealTime();
+
+        FeedFirstPageCache.FirstPage cached = firstPageCache.get(groupId, currentWeek, isManittoRevealTime);
+        if (cached != null) {
+            // 1. 사용자가 해당 그룹에 속해있는지 확인
+            if (!userGroupRepository.existsByUserIdAndGroupId(userId, groupId)) {
+                throw notGroupMember(groupId);
+            }
+
+            // 2. 요청 크기만큼 자르고 현재 사용자의 좋아요 여부만 조회
+            List<FeedFirstPageCache.Item> items = cached.getItems()
+                    .subList(0, Math.min(pageSize, cached.getItems().size()));
+            Set<Long> likedPostIds = findLikedPostIds(userId,
+                    items.stream().map(FeedFirstPageCache.Item::getFeedId).collect(Collectors.toList()));
+
+            List<PostResponseDto> postDtos = items.stream()
+                    .map(item -> item.toResponse(likedPostIds.contains(item.getFeedId())))
+                    .collect(Collectors.toList());
+
+            return PostPageResponseDto.builder()
+                    .page(1)
+                    .pageSize(pageSize)
+                    .totalFeeds(cached.getTotalFeeds())
+                    .groupId(groupId)
+                    .groupName(cached.getGroupName())
+                    .feeds(postDtos)
+                    .build();
+        }
+
+        // 캐시 미스: 조회 중 게시글 작성/좋아요 변경이 있었다면 적재하지 않음
+        // 캐시에 넣을 페이지는 replica가 아닌 primary에서 조회 (방금 커밋된 게시글이 빠진 페이지가 캐시되지 않도록)
+        long version = firstPageCache.currentVersion(groupId);
+        TransactionTemplate primaryTransaction = new TransactionTemplate(transactionManager);
+        primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        PostPageResponseDto loaded = primaryTransaction.execute(
+                status -> loadPosts(userId, groupId, 1, FeedFirstPageCache.CAPACITY));
+
+        List<FeedFirstPageCache.Item> items = loaded.getFeeds().stream()
+                .map(FeedFirstPageCache.Item::from)
+                .collect(Collectors.toList());
+        firstPageCache.putIfUnchanged(new FeedFirstPageCache.FirstPage(groupId, loaded.getGroupName(),
+                loaded.getTotalFeeds(), currentWeek, isManittoRevealTime, items), version);
+
+        List<PostResponseDto> postDtos = loaded.getFeeds().subList(0, Math.min(pageSize, loaded.getFeeds().size()));
+        return PostPageResponseDto.builder()
+                .page(1)
+                .pageSize(pageSize)
+                .totalFeeds(loaded.getTotalFeeds())
+                .groupId(groupId)
+                .groupName(loaded.getGroupName())
+                .feeds(new ArrayList<>(postDtos))
+                .build();
+    }
 
-        // 2. 사용자가 해당 그룹에 속해있는지 확인하고 그룹 정보도 함께 조회
+    /**
+     * 게시글 목록을 DB에서 조회하여 응답 생성
+     */
+    private PostPageResponseDto loadPosts(Long userId, Long groupId, int page, int pageSize) {
+        // 1. 사용자가 해당 그룹에 속해있는지 확인하고 그룹 정보도 함께 조회
         UserGroup userGroup = userGroupRepository.findByUserIdAndGroupId(userId, groupId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND,
-                        "해당 그룹에 속하지 않은 사용자입니다."));
+                .orElseThrow(() -> notGroupMember(groupId));
+        Group group = userGroup.getGroup();
 
         // 2. 페이지네이션 설정
         Pageable pageable = PageRequest.of(page - 1, pageSize);
 
-        // 3. 특정 그룹의 게시글만 조회
-        Page<Post> postPage = postRepository.findAllByGroupIdOrderByCreatedAtDesc(groupId, pageable);
+        // 3. 피드 읽기 모델에서 그룹 게시글 조회 (표시 이름, 좋아요 수, 공개 여부가 미리 반영됨)
+        Page<FeedEntry> entryPage = feedEntryRepository.findByGroupIdOrderByCreatedAtDescPostIdDesc(groupId, pageable);
+        List<FeedEntry> entries = entryPage.getContent();
 
-        // 4. 현재 주차 및 마니또 공개 시점 확인
-        int currentWeek = WeekCalculator.getCurrentWeek();
-        boolean isManittoRevealTime = isManittoRevealTime();
+        // 4. 현재 사용자의 좋아요 여부 일괄 조회
+        Set<Long> likedPostIds = findLikedPostIds(userId,
+                entries.stream().map(FeedEntry::getPostId).collect(Collectors.toList()));
 
         // 5. DTO 변환
-        List<PostResponseDto> postDtos = postPage.getContent().stream()
-                .map(post -> {
-                    int likeCount = postLikeRepository.countByPostId(post.getId());
-                    boolean isLiked = postLikeRepository.existsByUserAndPost(
-                            userRepository.findById(userId)
-                                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND)),
-                            post);
-
-                    // 실시간 마니띠 이름 결정
-                    String realTimeManitteeName = determineManitteeNameForPost(post, groupId);
-
-                    // 게시글 작성자 이름 결정
-                    String authorName = determineAuthorNameForPost(post, groupId, currentWeek, isManittoRevealTime);
-
-                    return PostResponseDto.fromEntityWithRealTimeManitteeNameAndAuthor(
-                            post, likeCount, isLiked, realTimeManitteeName, authorName);
-                })
+        List<PostResponseDto> postDtos = entries.stream()
+                .map(entry -> PostResponseDto.fromFeedEntry(entry, likedPostIds.contains(entry.getPostId())))
                 .collect(Collectors.toList());
 
         log.info("게시글 목록 조회 완료: groupId={}, groupName={}, totalElements={}",
-                groupId, group.getName(), postPage.getTotalElements());
+                groupId, group.getName(), entryPage.getTotalElements());
 
         // 6. 그룹 정보 포함하여 응답 생성
         return PostPageResponseDto.builder()
                 .page(page)
                 .pageSize(pageSize)
-                .totalFeeds((int) postPage.getTotalElements())
+                .totalFeeds((int) entryPage.getTotalElements())
                 .groupId(groupId)
                 .groupName(group.getName())
                 .feeds(postDtos)
@@ -280,127 +352,22 @@ public class FeedService {
     }
 
     /**
-     * 게시글 작성자 이름 결정
-     * 규칙:
-     * 1. 현재 주차 게시글 + 마니또 공개 시점 이전 = 익명 이름만
-     * 2. 현재 주차 게시글 + 마니또 공개 시점 이후 = "그룹닉네임 (익명이름)" 형태
-     * 3. 지난 주차 게시글 = 항상 "그룹닉네임 (익명이름)" 형태 (해당 주차 공개 시점 이후)
-     */
-    private String determineAuthorNameForPost(Post post, Long groupId, int currentWeek, boolean isManittoRevealTime) {
-        try {
-            int postWeek = post.getWeek();
-            String anonymousName = post.getAnonymousSnapshotName();
-
-            // 케이스 1: 현재 주차 게시글이면서 마니또 공개 시점 이전
-            if (postWeek == currentWeek && !isManittoRevealTime) {
-                log.debug("현재 주차 비공개 시점 게시글: postId={}, week={}, 익명이름만 표시",
-                        post.getId(), postWeek);
-                return anonymousName;
-            }
-
-            // 케이스 2: 현재 주차 게시글이면서 마니또 공개 시점 이후
-            // 케이스 3: 지난 주차 게시글 (이미 해당 주차의 공개 시점이 지남)
-            if ((postWeek == currentWeek && isManittoRevealTime) || postWeek < currentWeek) {
-                // 게시글 작성자의 그룹 내 정보 조회
-                User postAuthor = post.getUser();
-                UserGroup authorUserGroup = userGroupRepository.findByUserIdAndGroupId(
-                        postAuthor.getId(), groupId).orElse(null);
-
-                String displayName;
-                if (authorUserGroup != null && authorUserGroup.hasGroupUserNickname()) {
-                    // 그룹 내 닉네임이 있는 경우
-                    displayName = authorUserGroup.getGroupUserNickname();
-                    log.debug("그룹 내 닉네임 사용: userId={}, groupNickname={}",
-                            postAuthor.getId(), displayName);
-                } else {
-                    // 그룹 내 닉네임이 없는 경우 카카오 실명 사용
-                    displayName = postAuthor.getNickname();
-                    log.debug("카카오 실명 사용: userId={}, kakaoName={}",
-                            postAuthor.getId(), displayName);
-                }
-
-                // "그룹닉네임 (익명이름)" 또는 "카카오실명 (익명이름)" 형태로 반환
-                String finalAuthorName = displayName + " (" + anonymousName + ")";
-
-                String caseDescription = (postWeek == currentWeek) ? "현재 주차 공개 시점" : "지난 주차";
-                log.debug("{} 게시글 작성자 이름 변경: postId={}, week={}, originalName={}, newName={}",
-                        caseDescription, post.getId(), postWeek, anonymousName, finalAuthorName);
-
-                return finalAuthorName;
-            }
-
-            // 케이스 4: 미래 주차 게시글 (일반적으로 발생하지 않아야 함)
-            log.warn("미래 주차 게시글 발견: postId={}, postWeek={}, currentWeek={}",
-                    post.getId(), postWeek, currentWeek);
-            return anonymousName;
-
-        } catch (Exception e) {
-            log.warn("게시글 작성자 이름 결정 실패, 기존 이름 사용: postId={}, error={}",
-                    post.getId(), e.getMessage());
-            // 오류 발생시 기존 익명 이름 사용
-            return post.getAnonymousSnapshotName();
-        }
-    }
-
-    /**
-     * 현재 시간이 마니또 공개 시점인지 확인
-     * 마니또 공개 시점: 금요일 오후 5시 이후 ~ 다음 주 월요일 오후 12시 이전
+     * 그룹 미소속 예외 (그룹 자체가 없으면 메시지 없이 GROUP_NOT_FOUND)
      */
-    private boolean isManittoRevealTime() {
-        LocalDateTime now = LocalDateTime.now();
-        DayOfWeek dayOfWeek = now.getDayOfWeek();
-        int hour = now.getHour();
-
-        // 금요일 17시 이후인 경우
-        if (dayOfWeek == DayOfWeek.FRIDAY && hour >= 17) {
-            return true;
-        }
-        // 토요일, 일요일인 경우
-        else if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            return true;
-        }
-        // 월요일 12시 이전인 경우
-        else if (dayOfWeek == DayOfWeek.MONDAY && hour < 12) {
-            return true;
-        }
-
-        return false;
+    private CustomException notGroupMember(Long groupId) {
+        return groupRepository.existsById(groupId)
+                ? new CustomException(ErrorCode.GROUP_NOT_FOUND, "해당 그룹에 속하지 않은 사용자입니다.")
+                : new CustomException(ErrorCode.GROUP_NOT_FOUND);
     }
 
     /**
-     * 게시글의 마니띠 이름을 실시간으로 결정
+     * 게시글 중 현재 사용자가 좋아요한 게시글 ID 조회
      */
-    private String determineManitteeNameForPost(Post post, Long groupId) {
-        try {
-            // 해당 게시글 작성자의 해당 주차 마니또 매칭 정보 조회
-            List<Manitto> manittoList = manittoRepository.findByManittoIdAndGroupIdAndWeek(
-                    post.getUser().getId(), groupId, post.getWeek());
-
-            if (manittoList.isEmpty()) {
-                // 매칭 정보가 없으면 기존 DB에 저장된 이름 사용
-                return post.getManitteeName();
-            }
-
-            Manitto manitto = manittoList.get(0);
-            User manitteeUser = manitto.getManittee();
-
-            // 마니띠의 현재 그룹 내 닉네임 설정 여부 확인
-            UserGroup manitteeUserGroup = userGroupRepository.findByUserIdAndGroupId(
-                    manitteeUser.getId(), groupId).orElse(null);
-
-            // 그룹 내 닉네임이 있으면 그걸로 사용, 없으면 카카오 실명으로 사용
-            if (manitteeUserGroup != null && manitteeUserGroup.hasGroupUserNickname()) {
-                return manitteeUserGroup.getGroupUserNickname(); // 그룹 내 닉네임
-            } else {
-                return manitteeUser.getNickname(); // 카카오 실명
-            }
-
-        } catch (Exception e) {
-            log.warn("마니띠 이름 실시간 결정 실패, 기존 이름 사용: postId={}, error={}",
-                    post.getId(), e.getMessage());
-            // 오류 발생시 기존 DB에 저장된 이름 사용
-            return post.getManitteeName();
+    private Set<Long> findLikedPostIds(Long userId, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptySet();
         }
+        return new HashSet<>(postLikeRepository.findLikedPostIdsByUserId(userId, postIds));
     }
 
     /**
@@ -445,7 +412,7 @@ public class FeedService {
             emptyStats.put("weeklyPosts", 0);
             emptyStats.put("memberCount", 0);
             emptyStats.put("myPosts", 0);
-            emptyStats.put("currentWeek", WeekCalculator.getCurrentWeek());
+            emptyStats.put("currentWeek", cycleClock.getCurrentWeek());
             emptyStats.put("isNewUser", true); // 신규 사용자 플래그
             return emptyStats;
         }
@@ -461,7 +428,7 @@ public class FeedService {
         }
 
         // 3. 현재 주차 정보
-        int currentWeek = WeekCalculator.getCurrentWeek();
+        int currentWeek = cycleClock.getCurrentWeek();
 
         // 4. 그룹 내 전체 게시글 수
         Page<Post> allPosts = postRepository.findAllByGroupIdOrderByCreatedAtDesc(
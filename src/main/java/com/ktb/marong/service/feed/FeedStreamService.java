@@ -0,0 +1,127 @@
+package com.ktb.marong.service.feed;
+
+import com.ktb.marong.common.cache.CacheInvalidationBus;
+import com.ktb.marong.common.cache.CacheInvalidationMessage;
+import com.ktb.marong.common.sse.SseBroadcaster;
+import com.ktb.marong.event.GroupMemberLeftEvent;
+import com.ktb.marong.event.PostCreatedEvent;
+import com.ktb.marong.event.PostLikeChangedEvent;
+import com.ktb.marong.exception.CustomException;
+import com.ktb.marong.exception.ErrorCode;
+import com.ktb.marong.repository.UserGroupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 그룹 피드 실시간 변경 스트림 (SSE)
+ * 피드 화면이 주기적으로 첫 페이지를 다시 조회하지 않도록, 커밋된 게시글 작성/좋아요 변경을 작은 변경분으로 전달
+ * - post-created: 새 게시글 (피드 목록 항목과 같은 형태)
+ * - like-changed: {feedId, likes}
+ * - resync: 재연결 시 놓친 변경분을 보관 범위 밖이라 재전송할 수 없음 (첫 페이지를 다시 조회해야 함)
+ * 이벤트는 이 인스턴스에서 커밋된 변경만 전달됨
+ * 그룹을 탈퇴하면 모든 인스턴스에서 해당 사용자의 그룹 스트림 연결을 끊음 (캐시 무효화 채널로 전파)
+ */
+@Slf4j
+@Service
+public class FeedStreamService {
+
+    public static final String POST_CREATED_EVENT = "post-created";
+    public static final String LIKE_CHANGED_EVENT = "like-changed";
+
+    // 탈퇴한 멤버의 연결 종료를 다른 인스턴스에 알리는 메시지의 캐시 이름 (key: "<groupId>:<userId>")
+    static final String MEMBER_LEFT_CHANNEL = "feed-stream:member-left";
+
+    private final UserGroupRepository userGroupRepository;
+    private final SseBroadcaster broadcaster;
+    private final CacheInvalidationBus invalidationBus;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public FeedStreamService(UserGroupRepository userGroupRepository,
+                             ObjectProvider<MeterRegistry> meterRegistry,
+                             ObjectProvider<CacheInvalidationBus> invalidationBus,
+                             @Value("${marong.feed.stream.replay-size:256}") int replaySize,
+                             @Value("${marong.feed.stream.connection-buffer-size:64}") int connectionBufferSize,
+                             @Value("${marong.feed.stream.timeout:30m}") Duration timeout) {
+        this.userGroupRepository = userGroupRepository;
+        this.broadcaster = new SseBroadcaster("feed", replaySize, connectionBufferSize, timeout,
+                meterRegistry.getIfAvailable());
+        this.invalidationBus = invalidationBus.getIfAvailable();
+        if (this.invalidationBus != null) {
+            this.invalidationBus.subscribe(this::onMemberLeftElsewhere);
+        }
+    }
+
+    /**
+     * 그룹 피드 변경 구독 (그룹 멤버만 가능)
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID
+     */
+    public SseEmitter subscribe(Long userId, Long groupId, String lastEventId) {
+        if (!userGroupRepository.existsByUserIdAndGroupId(userId, groupId)) {
+            throw new CustomException(ErrorCode.GROUP_NOT_FOUND, "해당 그룹에 속하지 않은 사용자입니다.");
+        }
+
+        log.debug("피드 스트림 구독: userId={}, groupId={}, lastEventId={}", userId, groupId, lastEventId);
+        return broadcaster.subscribe(topic(groupId), userId, lastEventId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostCreated(PostCreatedEvent event) {
+        broadcaster.publish(topic(event.getGroupId()), POST_CREATED_EVENT, event.getFeed());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        broadcaster.publish(topic(event.getGroupId()), LIKE_CHANGED_EVENT,
+                Map.of("feedId", event.getPostId(), "likes", event.getLikeCount()));
+    }
+
+    /**
+     * 탈퇴한 멤버가 탈퇴 이후의 그룹 피드를 받지 않도록 연결 종료
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberLeft(GroupMemberLeftEvent event) {
+        broadcaster.disconnect(topic(event.getGroupId()), event.getUserId());
+        if (invalidationBus != null) {
+            invalidationBus.publish(new CacheInvalidationMessage(instanceId, MEMBER_LEFT_CHANNEL,
+                    event.getGroupId() + ":" + event.getUserId()));
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 heartbeat 전송
+     */
+    @Scheduled(fixedRateString = "${marong.feed.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        broadcaster.heartbeat();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcaster.shutdown();
+    }
+
+    private void onMemberLeftElsewhere(CacheInvalidationMessage message) {
+        if (instanceId.equals(message.getOrigin()) || !MEMBER_LEFT_CHANNEL.equals(message.getCacheName())) {
+            return;
+        }
+        String[] groupAndUser = message.getKey().split(":");
+        log.debug("다른 인스턴스에서 탈퇴한 멤버의 피드 스트림 종료: groupId={}, userId={}", groupAndUser[0], groupAndUser[1]);
+        broadcaster.disconnect(topic(Long.valueOf(groupAndUser[0])), Long.valueOf(groupAndUser[1]));
+    }
+
+    private static String topic(Long groupId) {
+        return "group:" + groupId;
+    }
+}
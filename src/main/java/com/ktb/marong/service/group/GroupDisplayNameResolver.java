@@ -0,0 +1,188 @@
+package com.ktb.marong.service.group;
+
+import com.ktb.marong.common.cache.CacheNames;
+import com.ktb.marong.domain.group.UserGroup;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.event.GroupDisplayNameChangedEvent;
+import com.ktb.marong.repository.UserGroupRepository;
+import com.ktb.marong.repository.UserRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 그룹 내 사용자 표시 이름 조회 (캐시)
+ * 표시 이름 = 그룹 닉네임, 그룹 닉네임이 없거나 그룹에 속하지 않으면 카카오 실명
+ * 피드/마니또 화면에서 사람마다 UserGroup을 다시 읽지 않도록 (그룹ID, 사용자ID) 단위로 캐싱하고,
+ * 닉네임 변경/프로필 이미지 변경/가입/탈퇴 시 발행되는 GroupDisplayNameChangedEvent로 커밋 이후 무효화
+ * - 키별 버전을 조회 전에 읽어 두고, 조회 중 무효화가 있었으면 적재하지 않음 (변경 전 이름을 다시 캐싱하지 않도록)
+ * - readOnly 조회가 replica로 갈 수 있으므로 허용 지연(marong.datasource.replica.max-lag) 후 한 번 더 무효화
+ */
+@Slf4j
+@Component
+public class GroupDisplayNameResolver {
+
+    private static final int VERSION_STRIPES = 256;
+
+    private final UserGroupRepository userGroupRepository;
+    private final UserRepository userRepository;
+    private final TaskScheduler taskScheduler;
+    private final Duration replicaMaxLag;
+    private final Cache cache;
+    // 키별 무효화 버전 (키 해시로 나눈 고정 개수, 같은 칸을 쓰는 다른 키는 한 번 적재를 건너뛸 뿐)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public GroupDisplayNameResolver(UserGroupRepository userGroupRepository, UserRepository userRepository,
+                                    CacheManager cacheManager, TaskScheduler taskScheduler,
+                                    @Value("${marong.datasource.replica.max-lag:5s}") Duration replicaMaxLag) {
+        this.userGroupRepository = userGroupRepository;
+        this.userRepository = userRepository;
+        this.taskScheduler = taskScheduler;
+        this.replicaMaxLag = replicaMaxLag;
+        Cache configured = cacheManager.getCache(CacheNames.GROUP_DISPLAY_NAME);
+        // 무효화는 커밋 이후 이벤트에서 직접 처리하므로 트랜잭션 지연 없이 바로 반영되는 원본 캐시 사용
+        this.cache = configured instanceof TransactionAwareCacheDecorator decorator
+                ? decorator.getTargetCache() : configured;
+    }
+
+    /**
+     * 그룹 내 사용자 한 명의 표시 정보 (존재하지 않는 사용자면 null)
+     */
+    public MemberDisplay resolve(Long groupId, Long userId) {
+        return resolveAll(groupId, List.of(userId)).get(userId);
+    }
+
+    /**
+     * 그룹 내 표시 이름 (존재하지 않는 사용자면 null)
+     */
+    public String resolveName(Long groupId, Long userId) {
+        MemberDisplay display = resolve(groupId, userId);
+        return display != null ? display.getDisplayName() : null;
+    }
+
+    /**
+     * 그룹 내 여러 사용자의 표시 정보 일괄 조회
+     * 캐시에 없는 사용자만 그룹 프로필 1회, (그룹에 속하지 않은 사용자가 있으면) 사용자 1회 조회
+     */
+    public Map<Long, MemberDisplay> resolveAll(Long groupId, Collection<Long> userIds) {
+        Map<Long, MemberDisplay> resolved = new HashMap<>();
+        Set<Long> misses = new LinkedHashSet<>();
+        Map<Long, Long> expectedVersions = new HashMap<>();
+        for (Long userId : userIds) {
+            String key = cacheKey(groupId, userId);
+            long version = versions.get(stripe(key));
+            MemberDisplay cached = cache.get(key, MemberDisplay.class);
+            if (cached != null) {
+                resolved.put(userId, cached);
+            } else {
+                misses.add(userId);
+                expectedVersions.put(userId, version);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return resolved;
+        }
+
+        // 1. 그룹 멤버는 그룹 프로필(사용자 포함)로 결정
+        for (UserGroup userGroup : userGroupRepository.findByGroupIdAndUserIdInWithUser(groupId, misses)) {
+            User user = userGroup.getUser();
+            if (!misses.remove(user.getId())) {
+                continue;
+            }
+            String displayName = userGroup.hasGroupUserNickname() ? userGroup.getGroupUserNickname() : user.getNickname();
+            load(groupId, resolved, expectedVersions, new MemberDisplay(user.getId(), displayName, user.getNickname(),
+                    userGroup.getGroupUserProfileImageUrl()));
+        }
+
+        // 2. 그룹에 속하지 않은 사용자(탈퇴 등)는 카카오 실명
+        if (!misses.isEmpty()) {
+            for (User user : userRepository.findAllById(new ArrayList<>(misses))) {
+                load(groupId, resolved, expectedVersions,
+                        new MemberDisplay(user.getId(), user.getNickname(), user.getNickname(), null));
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 표시 정보가 바뀐 사용자의 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDisplayNameChanged(GroupDisplayNameChangedEvent event) {
+        String key = cacheKey(event.getGroupId(), event.getUserId());
+        evict(key);
+        // replica에서 변경 전 값을 읽어 다시 적재했을 수 있으므로 허용 지연 이후 한 번 더 무효화
+        taskScheduler.schedule(() -> evict(key), Instant.now().plus(replicaMaxLag));
+        log.debug("그룹 표시 이름 캐시 무효화: groupId={}, userId={}", event.getGroupId(), event.getUserId());
+    }
+
+    private void evict(String key) {
+        synchronized (this) {
+            versions.incrementAndGet(stripe(key));
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었을 때만 캐시에 적재 (응답에는 항상 포함)
+     */
+    private void load(Long groupId, Map<Long, MemberDisplay> resolved, Map<Long, Long> expectedVersions,
+                      MemberDisplay display) {
+        String key = cacheKey(groupId, display.getUserId());
+        synchronized (this) {
+            if (versions.get(stripe(key)) == expectedVersions.get(display.getUserId())) {
+                cache.put(key, display);
+            }
+        }
+        resolved.put(display.getUserId(), display);
+    }
+
+    private static int stripe(String key) {
+        return Math.floorMod(key.hashCode(), VERSION_STRIPES);
+    }
+
+    private static String cacheKey(Long groupId, Long userId) {
+        return groupId + ":" + userId;
+    }
+
+    /**
+     * 그룹 내 사용자 표시 정보
+     */
+    @Getter
+    public static class MemberDisplay implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Long userId;
+        private final String displayName; // 그룹 닉네임 우선, 없으면 카카오 실명
+        private final String kakaoName;
+        private final String groupProfileImageUrl;
+
+        public MemberDisplay(Long userId, String displayName, String kakaoName, String groupProfileImageUrl) {
+            this.userId = userId;
+            this.displayName = displayName;
+            this.kakaoName = kakaoName;
+            this.groupProfileImageUrl = groupProfileImageUrl;
+        }
+    }
+}
@@ -10,6 +10,9 @@ import com.ktb.marong.dto.request.group.CreateGroupRequestDto;
 import com.ktb.marong.dto.request.group.JoinGroupRequestDto;
 import com.ktb.marong.dto.request.group.UpdateGroupProfileRequestDto;
 import com.ktb.marong.dto.response.group.*;
+import com.ktb.marong.event.GroupDisplayNameChangedEvent;
+import com.ktb.marong.event.GroupMemberJoinedEvent;
+import com.ktb.marong.event.GroupMemberLeftEvent;
 import com.ktb.marong.exception.CustomException;
 import com.ktb.marong.exception.ErrorCode;
 import com.ktb.marong.repository.GroupRepository;
@@ -18,6 +21,7 @@ import com.ktb.marong.repository.UserRepository;
 import com.ktb.marong.service.file.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,7 +31,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -40,6 +47,7 @@ public class GroupService {
     private final UserGroupRepository userGroupRepository;
     private final UserRepository userRepository;
     private final FileUploadService fileUploadService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_GROUPS_PER_USER = 6;
     private static final int MAX_MEMBERS_PER_GROUP = 150;
@@ -159,7 +167,7 @@ public class GroupService {
         }
 
         // 이미 가입한 그룹인지 확인
-        if (userGroupRepository.existsByUserIdAndGroupId(userId, groupId)) {
+        if (userGroupRepository.existsMembershipUncached(userId, groupId)) {
             throw new CustomException(ErrorCode.ALREADY_JOINED_GROUP);
         }
 
@@ -183,6 +191,10 @@ public class GroupService {
 
         userGroupRepository.save(userGroup);
 
+        // 재가입한 경우 이전 게시글에 표시되던 이름이 새 닉네임으로 바뀜
+        eventPublisher.publishEvent(new GroupDisplayNameChangedEvent(groupId, userId, normalizedNickname));
+        eventPublisher.publishEvent(new GroupMemberJoinedEvent(groupId, userId));
+
         log.info("그룹 가입 완료: userId={}, groupId={}, groupName={}, nickname={}",
                 userId, groupId, group.getName(), normalizedNickname);
 
@@ -212,7 +224,7 @@ public class GroupService {
         // 3. 그룹 소유자는 탈퇴 불가 (소유권 이전 후 탈퇴 가능)
         if (userGroup.getIsOwner()) {
             // 다른 멤버가 있는지 확인
-            int remainingMemberCount = userGroupRepository.countByGroupId(groupId) - 1; // 본인 제외
+            int remainingMemberCount = userGroupRepository.countMembersUncached(groupId) - 1; // 본인 제외
 
             if (remainingMemberCount > 0) {
                 throw new CustomException(ErrorCode.CANNOT_LEAVE_GROUP_AS_OWNER,
@@ -225,9 +237,13 @@ public class GroupService {
         userGroupRepository.delete(userGroup);
         log.info("사용자-그룹 관계 삭제 완료: userId={}, groupId={}", userId, groupId);
 
+        // 탈퇴 후에는 그룹 닉네임 대신 카카오 실명으로 표시
+        eventPublisher.publishEvent(new GroupDisplayNameChangedEvent(groupId, userId, userGroup.getUser().getNickname()));
+        eventPublisher.publishEvent(new GroupMemberLeftEvent(groupId, userId));
+
         // 5. 그룹 소유자였고 혼자 있던 경우 그룹 삭제
         if (userGroup.getIsOwner()) {
-            int finalMemberCount = userGroupRepository.countByGroupId(groupId);
+            int finalMemberCount = userGroupRepository.countMembersUncached(groupId);
             if (finalMemberCount == 0) {
                 // 빈 그룹 삭제 (관련 GroupMission도 함께 삭제됨 - CASCADE 설정 필요)
                 groupRepository.delete(group);
@@ -248,11 +264,16 @@ public class GroupService {
 
         List<UserGroup> userGroups = userGroupRepository.findByUserIdWithGroup(userId);
 
+        // 그룹별 멤버 수 일괄 조회
+        Map<Long, Integer> memberCounts = countMembersByGroupIds(userGroups.stream()
+                .map(userGroup -> userGroup.getGroup().getId())
+                .collect(Collectors.toList()));
+
         // 최근 가입 순으로 정렬 (joinedAt 기준 내림차순)
         return userGroups.stream()
                 .sorted((g1, g2) -> g2.getJoinedAt().compareTo(g1.getJoinedAt()))
                 .map(userGroup -> {
-                    int memberCount = userGroupRepository.countByGroupId(userGroup.getGroup().getId());
+                    int memberCount = memberCounts.getOrDefault(userGroup.getGroup().getId(), 0);
                     return GroupResponseDto.fromUserGroup(userGroup, memberCount);
                 })
                 .collect(Collectors.toList());
@@ -295,6 +316,8 @@ public class GroupService {
         userGroup.updateGroupUserProfile(normalizedNickname, groupUserProfileImageUrl);
         userGroupRepository.save(userGroup);
 
+        eventPublisher.publishEvent(new GroupDisplayNameChangedEvent(groupId, userId, normalizedNickname));
+
         log.info("그룹 프로필 업데이트 완료: userId={}, groupId={}, nickname={}", userId, groupId, normalizedNickname);
     }
 
@@ -325,6 +348,11 @@ public class GroupService {
         userGroup.updateGroupUserProfileImage(newProfileImageUrl);
         userGroupRepository.save(userGroup);
 
+        // 표시 이름은 그대로지만 캐시된 프로필 이미지 무효화
+        String displayName = userGroup.hasGroupUserNickname()
+                ? userGroup.getGroupUserNickname() : userGroup.getUser().getNickname();
+        eventPublisher.publishEvent(new GroupDisplayNameChangedEvent(groupId, userId, displayName));
+
         log.info("그룹 프로필 이미지 업데이트 완료: userId={}, groupId={}", userId, groupId);
     }
 
@@ -348,11 +376,16 @@ public class GroupService {
             return new ArrayList<>();
         }
 
+        // 그룹별 멤버 수 일괄 조회
+        Map<Long, Integer> memberCounts = countMembersByGroupIds(userGroups.stream()
+                .map(userGroup -> userGroup.getGroup().getId())
+                .collect(Collectors.toList()));
+
         // 각 그룹별 프로필 정보를 매핑하여 반환
         return userGroups.stream()
                 .map(userGroup -> {
                     Group group = userGroup.getGroup();
-                    int memberCount = userGroupRepository.countByGroupId(group.getId());
+                    int memberCount = memberCounts.getOrDefault(group.getId(), 0);
 
                     return UserGroupProfileResponseDto.builder()
                             .groupId(group.getId())
@@ -520,9 +553,14 @@ public class GroupService {
         // 모든 그룹 조회
         Page<Group> groupPage = groupRepository.findAllOrderByIdDesc(pageable);
 
+        // 현재 페이지 그룹들의 멤버 수 일괄 조회
+        Map<Long, Integer> memberCounts = countMembersByGroupIds(groupPage.getContent().stream()
+                .map(Group::getId)
+                .collect(Collectors.toList()));
+
         // DTO 변환
         Page<PublicGroupResponseDto> result = groupPage.map(group -> {
-            int currentMemberCount = userGroupRepository.countByGroupId(group.getId());
+            int currentMemberCount = memberCounts.getOrDefault(group.getId(), 0);
             return PublicGroupResponseDto.fromGroup(group, currentMemberCount, MAX_MEMBERS_PER_GROUP);
         });
 
@@ -532,6 +570,20 @@ public class GroupService {
         return result;
     }
 
+    /**
+     * 여러 그룹의 멤버 수를 한 번의 쿼리로 조회 (멤버가 없는 그룹은 결과에 포함되지 않음)
+     */
+    private Map<Long, Integer> countMembersByGroupIds(List<Long> groupIds) {
+        if (groupIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Integer> memberCounts = new HashMap<>();
+        for (Object[] row : userGroupRepository.countByGroupIds(groupIds)) {
+            memberCounts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return memberCounts;
+    }
+
     // 파일 업로드 관련 메서드들
 
     private String uploadGroupImage(MultipartFile groupImage) {
@@ -574,7 +626,7 @@ public class GroupService {
      * 그룹 멤버 수 제한 체크 (그룹당 최대 150명)
      */
     private void checkGroupMemberLimit(Long groupId) {
-        int currentMemberCount = userGroupRepository.countByGroupId(groupId);
+        int currentMemberCount = userGroupRepository.countMembersUncached(groupId);
         if (currentMemberCount >= MAX_MEMBERS_PER_GROUP) {
             throw new CustomException(ErrorCode.GROUP_MEMBER_LIMIT_EXCEEDED);
         }
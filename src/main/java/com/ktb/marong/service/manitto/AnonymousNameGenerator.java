@@ -0,0 +1,50 @@
+package com.ktb.marong.service.manitto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 주차별 익명 이름 생성 ("익명의 판다" 형태, 그룹/주차 안에서 중복 없음)
+ * 동물 이름을 모두 쓰면 숫자를 붙여 구분 ("익명의 판다2")
+ */
+public final class AnonymousNameGenerator {
+
+    private static final String PREFIX = "익명의 ";
+    private static final String[] ANIMALS = {
+            "판다", "코알라", "토끼", "고양이", "강아지", "여우", "펭귄", "다람쥐", "햄스터", "수달",
+            "부엉이", "고래", "돌고래", "사슴", "너구리", "알파카", "고슴도치", "참새", "비버", "치타",
+            "호랑이", "사자", "기린", "하마", "코끼리", "얼룩말", "캥거루", "오리", "거북이", "두더지"
+    };
+
+    private AnonymousNameGenerator() {
+    }
+
+    /**
+     * @param count 생성할 이름 수
+     * @param taken 이미 사용 중인 이름 (결과에 포함되지 않음)
+     */
+    public static List<String> generate(int count, Collection<String> taken, Random random) {
+        Set<String> used = new HashSet<>(taken);
+        List<String> animals = new ArrayList<>(List.of(ANIMALS));
+        Collections.shuffle(animals, random);
+
+        List<String> names = new ArrayList<>(count);
+        for (int suffix = 1; names.size() < count; suffix++) {
+            for (String animal : animals) {
+                String name = PREFIX + animal + (suffix == 1 ? "" : String.valueOf(suffix));
+                if (used.add(name)) {
+                    names.add(name);
+                    if (names.size() == count) {
+                        break;
+                    }
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,193 @@
+package com.ktb.marong.service.manitto;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 그룹 하나의 마니또 순환 매칭 계산 (DB 접근 없음)
+ * 멤버 전체를 한 바퀴 순환(order[i] -> order[i + 1])으로 연결하여 모든 멤버가 마니또 1명, 마니띠 1명을 가지게 함
+ * - 자기 자신 매칭 없음 (순환 구조상 2명 이상이면 항상 만족)
+ * - 최근 N주 동안의 (마니또 -> 마니띠) 쌍 반복 금지, 만족하는 순환을 찾지 못하면 가장 오래된 주차 제약부터 완화
+ * - 선호도 평가기가 있으면 제약을 지키는 범위에서 두 멤버 위치 교환으로 선호도 합계를 높임
+ */
+public class ManittoCycleBuilder {
+
+    private static final int MAX_ATTEMPTS = 20;
+    private static final int MAX_REPAIR_PASSES = 4;
+    private static final int IMPROVEMENT_ITERATIONS_PER_MEMBER = 30;
+
+    /**
+     * @param memberCount     매칭 대상 멤버 수 (2명 이상)
+     * @param recentPairs     최근 주차별 금지 쌍 (인덱스 0이 가장 최근 주차, 쌍은 pairKey(manitto, manittee))
+     * @param scorer          선호도 평가기 (없으면 null)
+     * @return manitteeOf[manitto] = manittee (멤버 인덱스 기준)
+     */
+    public int[] build(int memberCount, List<Set<Long>> recentPairs, PairScorer.GroupScorer scorer, Random random) {
+        if (memberCount < 2) {
+            throw new IllegalArgumentException("마니또 매칭은 2명 이상부터 가능합니다: " + memberCount);
+        }
+
+        // 1. 제약을 모두 만족하는 순환 탐색, 실패하면 오래된 주차 제약부터 하나씩 완화
+        for (int weeks = recentPairs.size(); weeks >= 0; weeks--) {
+            List<Set<Long>> forbidden = recentPairs.subList(0, weeks);
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                int[] order = shuffledOrder(memberCount, random);
+                if (repair(order, forbidden, random)) {
+                    // 2. 선호도 개선
+                    if (scorer != null) {
+                        improve(order, forbidden, scorer, random);
+                    }
+                    return toManitteeOf(order);
+                }
+            }
+        }
+        // 제약이 없으면 어떤 순환이든 유효하므로 여기까지 오지 않음
+        throw new IllegalStateException("마니또 순환을 만들 수 없습니다: memberCount=" + memberCount);
+    }
+
+    /**
+     * 금지 쌍 조회용 키
+     */
+    public static long pairKey(int manitto, int manittee) {
+        return ((long) manitto << 32) | (manittee & 0xffffffffL);
+    }
+
+    /**
+     * 금지 쌍을 포함하는 위치의 멤버를 다른 위치의 멤버와 교환하여 제거
+     */
+    private boolean repair(int[] order, List<Set<Long>> forbidden, Random random) {
+        if (forbidden.isEmpty()) {
+            return true;
+        }
+        int n = order.length;
+        for (int pass = 0; pass < MAX_REPAIR_PASSES; pass++) {
+            boolean valid = true;
+            for (int i = 0; i < n; i++) {
+                int next = (i + 1) % n;
+                if (!isForbidden(order[i], order[next], forbidden)) {
+                    continue;
+                }
+                if (!swapIntoValidPosition(order, next, forbidden, random)) {
+                    valid = false;
+                }
+            }
+            if (valid && isValid(order, forbidden)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * position의 멤버를 교환했을 때 두 위치 주변 쌍이 모두 허용되는 교환 대상을 찾아 교환
+     */
+    private boolean swapIntoValidPosition(int[] order, int position, List<Set<Long>> forbidden, Random random) {
+        int n = order.length;
+        int start = random.nextInt(n);
+        for (int k = 0; k < n; k++) {
+            int other = (start + k) % n;
+            if (other == position) {
+                continue;
+            }
+            swap(order, position, other);
+            if (edgesAllowed(order, position, forbidden) && edgesAllowed(order, other, forbidden)) {
+                return true;
+            }
+            swap(order, position, other);
+        }
+        return false;
+    }
+
+    /**
+     * 무작위 두 위치 교환 중 제약을 지키면서 선호도 합계가 오르는 교환만 유지 (hill climbing)
+     */
+    private void improve(int[] order, List<Set<Long>> forbidden, PairScorer.GroupScorer scorer, Random random) {
+        int n = order.length;
+        if (n < 4) {
+            return; // 3명 이하는 순환 방향만 다를 뿐 개선 여지가 거의 없음
+        }
+        int iterations = n * IMPROVEMENT_ITERATIONS_PER_MEMBER;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            if (a == b) {
+                continue;
+            }
+            double before = localScore(order, a, b, scorer);
+            swap(order, a, b);
+            if (edgesAllowed(order, a, forbidden) && edgesAllowed(order, b, forbidden)
+                    && localScore(order, a, b, scorer) > before) {
+                continue;
+            }
+            swap(order, a, b);
+        }
+    }
+
+    /**
+     * 두 위치에 닿는 쌍들의 선호도 합계 (인접한 경우 같은 쌍을 두 번 세지 않음)
+     */
+    private double localScore(int[] order, int a, int b, PairScorer.GroupScorer scorer) {
+        int n = order.length;
+        int prevA = (a - 1 + n) % n;
+        int prevB = (b - 1 + n) % n;
+        double score = scorer.score(order[prevA], order[a]) + scorer.score(order[a], order[(a + 1) % n]);
+        if (prevB != a) {
+            score += scorer.score(order[prevB], order[b]);
+        }
+        if (b != prevA) {
+            score += scorer.score(order[b], order[(b + 1) % n]);
+        }
+        return score;
+    }
+
+    private boolean edgesAllowed(int[] order, int position, List<Set<Long>> forbidden) {
+        int n = order.length;
+        return !isForbidden(order[(position - 1 + n) % n], order[position], forbidden)
+                && !isForbidden(order[position], order[(position + 1) % n], forbidden);
+    }
+
+    private boolean isValid(int[] order, List<Set<Long>> forbidden) {
+        for (int i = 0; i < order.length; i++) {
+            if (isForbidden(order[i], order[(i + 1) % order.length], forbidden)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isForbidden(int manitto, int manittee, List<Set<Long>> forbidden) {
+        long key = pairKey(manitto, manittee);
+        for (Set<Long> weekPairs : forbidden) {
+            if (weekPairs.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] shuffledOrder(int n, Random random) {
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            swap(order, i, random.nextInt(i + 1));
+        }
+        return order;
+    }
+
+    private static int[] toManitteeOf(int[] order) {
+        int[] manitteeOf = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            manitteeOf[order[i]] = order[(i + 1) % order.length];
+        }
+        return manitteeOf;
+    }
+
+    private static void swap(int[] order, int a, int b) {
+        int tmp = order[a];
+        order[a] = order[b];
+        order[b] = tmp;
+    }
+}
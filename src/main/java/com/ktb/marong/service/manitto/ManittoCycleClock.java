@@ -0,0 +1,207 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.time.temporal.TemporalAdjusters;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 마니또 주기 시계
+ * 현재 주차, 기간, 마니또 공개 시점(금요일 17시), 다음 매칭 시점(월요일 12시)을
+ * 기간 경계마다 한 번만 계산해두고 요청마다 캐싱된 값을 반환
+ * - 월요일 00시 ~ 12시: MATCHING_PREPARATION
+ * - 월요일 12시 ~ 금요일 17시: MANITTO_ACTIVE
+ * - 금요일 17시 ~ 월요일 00시: MANITTO_REVEAL
+ * 기간이 바뀌면 ManittoPhaseChangedEvent를 발행
+ */
+@Slf4j
+@Component
+public class ManittoCycleClock {
+
+    private static final LocalTime MATCHING_TIME = LocalTime.of(12, 0);
+    private static final LocalTime REVEAL_TIME = LocalTime.of(17, 0);
+
+    private final Clock clock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<CycleSnapshot> snapshot = new AtomicReference<>();
+
+    public ManittoCycleClock(Clock clock, ApplicationEventPublisher eventPublisher) {
+        this.clock = clock;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 현재 누적 주차
+     */
+    public int getCurrentWeek() {
+        return current().getWeek();
+    }
+
+    /**
+     * 현재 기간
+     */
+    public ManittoPeriod getCurrentPeriod() {
+        return current().getPeriod();
+    }
+
+    /**
+     * 마니또 공개 시점 여부 (금요일 17시 ~ 다음 주 월요일 12시)
+     */
+    public boolean isRevealTime() {
+        return current().getPeriod() != ManittoPeriod.MANITTO_ACTIVE;
+    }
+
+    /**
+     * 이번 주기의 마니또 공개 시점 (금요일 17시)
+     */
+    public LocalDateTime getRevealStart() {
+        return current().getRevealStart();
+    }
+
+    /**
+     * 다가오는 매칭 시점 (월요일 12시)
+     */
+    public LocalDateTime getNextMatching() {
+        return current().getNextMatching();
+    }
+
+    /**
+     * 현재 기간이 끝나는 시점 (다음 기간 경계)
+     */
+    public LocalDateTime getNextTransition() {
+        return current().getValidUntil();
+    }
+
+    /**
+     * 주기 시계 기준 시간대로 Instant 변환
+     */
+    public Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant();
+    }
+
+    /**
+     * 주기 시계 기준 오늘 날짜
+     */
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * 주기 시계 기준 현재 시각
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * 현재 시간에 따라 다음 중요 시점까지 남은 시간 계산
+     * - 월요일 오후 12시 ~ 금요일 오후 5시: 가장 가까운 금요일 오후 5시까지 (마니또 공개까지)
+     * - 금요일 오후 5시 ~ 월요일 오후 12시: 가장 가까운 월요일 오후 12시까지 (새 매칭까지)
+     * 형식: HH:MM:SS
+     */
+    public String getRemainingTimeUntilReveal() {
+        LocalDateTime now = now();
+        CycleSnapshot cycle = current(now);
+        LocalDateTime targetTime = cycle.getPeriod() == ManittoPeriod.MANITTO_ACTIVE
+                ? cycle.getRevealStart()
+                : cycle.getNextMatching();
+
+        long seconds = Math.max(0, Duration.between(now, targetTime).getSeconds());
+
+        long hours = seconds / 3600;
+        long minutes = (seconds % 3600) / 60;
+        long remainingSeconds = seconds % 60;
+
+        return String.format("%02d:%02d:%02d", hours, minutes, remainingSeconds);
+    }
+
+    /**
+     * 기간 경계 시점마다 스냅샷 갱신 (요청이 없더라도 경계에서 기간 변경 이벤트가 발행되도록 함)
+     */
+    @Scheduled(cron = "0 0 0 * * MON")
+    @Scheduled(cron = "0 0 12 * * MON")
+    @Scheduled(cron = "0 0 17 * * FRI")
+    public void refresh() {
+        current();
+    }
+
+    private CycleSnapshot current() {
+        return current(now());
+    }
+
+    private CycleSnapshot current(LocalDateTime now) {
+        CycleSnapshot cached = snapshot.get();
+        if (cached != null && cached.covers(now)) {
+            return cached;
+        }
+
+        CycleSnapshot next = CycleSnapshot.of(now);
+        if (!snapshot.compareAndSet(cached, next)) {
+            // 다른 스레드가 먼저 갱신한 경우 해당 값 사용
+            CycleSnapshot updated = snapshot.get();
+            return updated != null && updated.covers(now) ? updated : next;
+        }
+
+        log.info("마니또 주기 갱신: week={}, period={}, validUntil={}",
+                next.getWeek(), next.getPeriod(), next.getValidUntil());
+
+        if (cached != null && cached.getPeriod() != next.getPeriod()) {
+            eventPublisher.publishEvent(new ManittoPhaseChangedEvent(
+                    cached.getPeriod(), next.getPeriod(), next.getWeek(), now));
+        }
+        return next;
+    }
+
+    /**
+     * 하나의 기간 동안 변하지 않는 주기 정보
+     */
+    @Getter
+    private static class CycleSnapshot {
+        private final int week;
+        private final ManittoPeriod period;
+        private final LocalDateTime validFrom;
+        private final LocalDateTime validUntil;
+        private final LocalDateTime revealStart;
+        private final LocalDateTime nextMatching;
+
+        private CycleSnapshot(int week, ManittoPeriod period, LocalDateTime validFrom, LocalDateTime validUntil,
+                              LocalDateTime revealStart, LocalDateTime nextMatching) {
+            this.week = week;
+            this.period = period;
+            this.validFrom = validFrom;
+            this.validUntil = validUntil;
+            this.revealStart = revealStart;
+            this.nextMatching = nextMatching;
+        }
+
+        static CycleSnapshot of(LocalDateTime now) {
+            LocalDate monday = now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            LocalDateTime weekStart = monday.atStartOfDay();
+            LocalDateTime matching = monday.atTime(MATCHING_TIME);
+            LocalDateTime reveal = monday.plusDays(4).atTime(REVEAL_TIME);
+            int week = WeekCalculator.getWeekOf(monday);
+
+            if (now.isBefore(matching)) {
+                return new CycleSnapshot(week, ManittoPeriod.MATCHING_PREPARATION,
+                        weekStart, matching, reveal, matching);
+            }
+            if (now.isBefore(reveal)) {
+                return new CycleSnapshot(week, ManittoPeriod.MANITTO_ACTIVE,
+                        matching, reveal, reveal, matching.plusWeeks(1));
+            }
+            return new CycleSnapshot(week, ManittoPeriod.MANITTO_REVEAL,
+                    reveal, weekStart.plusWeeks(1), reveal, matching.plusWeeks(1));
+        }
+
+        boolean covers(LocalDateTime now) {
+            return !now.isBefore(validFrom) && now.isBefore(validUntil);
+        }
+    }
+}
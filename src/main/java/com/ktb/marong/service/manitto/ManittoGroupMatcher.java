@@ -0,0 +1,245 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.common.id.EntityIdAllocator;
+import com.ktb.marong.domain.manitto.Manitto;
+import com.ktb.marong.domain.user.AnonymousName;
+import com.ktb.marong.repository.AnonymousNameRepository;
+import com.ktb.marong.repository.GroupRepository;
+import com.ktb.marong.repository.ManittoRepository;
+import com.ktb.marong.repository.UserGroupRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 그룹 단위 마니또 매칭 저장 (그룹마다 별도 트랜잭션)
+ * - 그룹 행을 잠근 뒤 해당 주차 매칭 존재 여부를 확인하므로 여러 인스턴스가 동시에 실행해도 한 번만 매칭됨
+ * - 매칭/익명 이름은 JDBC 배치로 한 번에 삽입 (두 테이블 모두 2차 캐시 대상이 아님, ID는 EntityIdAllocator에서 발급)
+ */
+@Slf4j
+@Component
+public class ManittoGroupMatcher {
+
+    private final GroupRepository groupRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final ManittoRepository manittoRepository;
+    private final AnonymousNameRepository anonymousNameRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+    private final ManittoCycleBuilder cycleBuilder = new ManittoCycleBuilder();
+
+    private final String insertManittoSql;
+    private final String updateManitteeSql;
+    private final String insertAnonymousNameSql;
+
+    public ManittoGroupMatcher(GroupRepository groupRepository, UserGroupRepository userGroupRepository,
+                               ManittoRepository manittoRepository, AnonymousNameRepository anonymousNameRepository,
+                               JdbcTemplate jdbcTemplate, EntityIdAllocator idAllocator,
+                               EntityManagerFactory entityManagerFactory) {
+        this.groupRepository = groupRepository;
+        this.userGroupRepository = userGroupRepository;
+        this.manittoRepository = manittoRepository;
+        this.anonymousNameRepository = anonymousNameRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+
+        // 네이밍 전략이 적용된 실제 테이블 이름 사용
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        String manittoTable = tableOf(sessionFactory, Manitto.class);
+        String anonymousNameTable = tableOf(sessionFactory, AnonymousName.class);
+        this.insertManittoSql = "INSERT INTO " + manittoTable
+                + " (id, group_id, manitto_id, manittee_id, week) VALUES (?, ?, ?, ?, ?)";
+        this.updateManitteeSql = "UPDATE " + manittoTable + " SET manittee_id = ? WHERE id = ?";
+        this.insertAnonymousNameSql = "INSERT INTO " + anonymousNameTable
+                + " (id, user_id, group_id, anonymous_name, week) VALUES (?, ?, ?, ?, ?)";
+    }
+
+    /**
+     * 주차 매칭이 필요한 그룹 ID (멤버 2명 이상, 해당 주차 매칭 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findGroupsToMatch(int week) {
+        List<Long> groupIds = new ArrayList<>(userGroupRepository.findGroupIdsWithMembersAtLeast(2));
+        groupIds.removeAll(new HashSet<>(manittoRepository.findMatchedGroupIdsByWeek(week)));
+        return groupIds;
+    }
+
+    /**
+     * 그룹 하나의 주차 매칭 생성
+     * @param avoidRepeatWeeks 반복을 피할 최근 주차 수
+     * @param scorer           선호도 평가기 (없으면 null)
+     * @return 생성한 매칭 수 (이미 매칭되었거나 멤버가 부족하면 0)
+     */
+    @Transactional
+    public int matchGroup(Long groupId, int week, int avoidRepeatWeeks, PairScorer scorer) {
+        // 1. 그룹 잠금 후 중복 매칭 확인
+        if (groupRepository.findByIdForUpdate(groupId).isEmpty()
+                || manittoRepository.existsByGroupIdAndWeek(groupId, week)) {
+            return 0;
+        }
+
+        List<Long> memberIds = userGroupRepository.findUserIdsByGroupId(groupId);
+        if (memberIds.size() < 2) {
+            return 0;
+        }
+
+        // 2. 최근 주차 매칭 쌍 (멤버 인덱스 기준, 인덱스 0이 직전 주차)
+        List<Set<Long>> recentPairs = findRecentPairs(groupId, week, avoidRepeatWeeks, memberIds);
+
+        // 3. 순환 매칭 계산
+        Random random = ThreadLocalRandom.current();
+        PairScorer.GroupScorer groupScorer = scorer != null ? scorer.prepare(groupId, memberIds) : null;
+        int[] manitteeOf = cycleBuilder.build(memberIds.size(), recentPairs, groupScorer, random);
+
+        // 4. 매칭 / 익명 이름 일괄 삽입
+        List<String> anonymousNames = AnonymousNameGenerator.generate(memberIds.size(), List.of(), random);
+        long[] manittoIds = idAllocator.allocate(Manitto.class, memberIds.size());
+        long[] anonymousNameIds = idAllocator.allocate(AnonymousName.class, memberIds.size());
+        List<Object[]> manittoRows = new ArrayList<>(memberIds.size());
+        List<Object[]> anonymousNameRows = new ArrayList<>(memberIds.size());
+        for (int i = 0; i < memberIds.size(); i++) {
+            manittoRows.add(new Object[]{manittoIds[i], groupId, memberIds.get(i), memberIds.get(manitteeOf[i]), week});
+            anonymousNameRows.add(new Object[]{anonymousNameIds[i], memberIds.get(i), groupId,
+                    anonymousNames.get(i), week});
+        }
+        jdbcTemplate.batchUpdate(insertManittoSql, manittoRows);
+        jdbcTemplate.batchUpdate(insertAnonymousNameSql, anonymousNameRows);
+
+        log.debug("그룹 마니또 매칭 완료: groupId={}, week={}, members={}", groupId, week, memberIds.size());
+        return memberIds.size();
+    }
+
+    /**
+     * 이미 매칭된 주차에 새로 가입한 멤버를 순환에 끼워 넣음 (A -> B 를 A -> 신규 -> B 로 변경)
+     * 끼워 넣을 위치는 선호도가 가장 높은 곳 (평가기가 없으면 무작위)
+     * 이벤트를 발행한 트랜잭션이 커밋된 뒤 호출되므로 별도 트랜잭션에서 실행
+     * @return 합류 여부 (주차 매칭이 없거나 이미 매칭된 멤버면 false)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean addLateJoiner(Long groupId, Long userId, int week, PairScorer scorer) {
+        if (groupRepository.findByIdForUpdate(groupId).isEmpty()) {
+            return false;
+        }
+
+        // 1. 이번 주차 매칭 (id, week, manittoId, manitteeId)
+        List<Object[]> pairs = manittoRepository.findPairsByGroupIdAndWeekBetween(groupId, week, week);
+        if (pairs.isEmpty()) {
+            return false; // 아직 매칭 전 -> 주차 매칭 시 함께 매칭됨
+        }
+        for (Object[] pair : pairs) {
+            if (userId.equals(pair[2])) {
+                return false;
+            }
+        }
+
+        // 2. 끼워 넣을 쌍 선택
+        Object[] chosen = choosePairToSplit(groupId, userId, pairs, scorer);
+        Long manittoId = (Long) chosen[2];
+        Long manitteeId = (Long) chosen[3];
+
+        // 3. A -> 신규, 신규 -> B
+        jdbcTemplate.update(updateManitteeSql, userId, chosen[0]);
+        jdbcTemplate.update(insertManittoSql, idAllocator.allocate(Manitto.class, 1)[0],
+                groupId, userId, manitteeId, week);
+
+        Random random = ThreadLocalRandom.current();
+        List<String> taken = anonymousNameRepository.findAnonymousNamesByGroupIdAndWeek(groupId, week);
+        String anonymousName = AnonymousNameGenerator.generate(1, taken, random).get(0);
+        jdbcTemplate.update(insertAnonymousNameSql, idAllocator.allocate(AnonymousName.class, 1)[0],
+                userId, groupId, anonymousName, week);
+
+        log.info("신규 멤버 마니또 합류: groupId={}, week={}, userId={}, manitto={}, manittee={}",
+                groupId, week, userId, manittoId, manitteeId);
+        return true;
+    }
+
+    private Object[] choosePairToSplit(Long groupId, Long userId, List<Object[]> pairs, PairScorer scorer) {
+        // 탈퇴한 멤버가 포함된 쌍에 끼워 넣으면 신규 멤버의 마니또/마니띠가 그룹에 없게 되므로 제외
+        Set<Long> currentMemberIds = new HashSet<>(userGroupRepository.findUserIdsByGroupId(groupId));
+        List<Object[]> candidates = new ArrayList<>(pairs.size());
+        for (Object[] pair : pairs) {
+            if (currentMemberIds.contains((Long) pair[2]) && currentMemberIds.contains((Long) pair[3])) {
+                candidates.add(pair);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates = pairs; // 모든 쌍에 탈퇴한 멤버가 있으면 어느 쌍이든 끊어짐은 같음
+        }
+
+        if (scorer == null) {
+            return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        }
+
+        // 후보 쌍의 멤버 + 신규 멤버(마지막 인덱스)로 평가
+        List<Long> memberIds = new ArrayList<>(candidates.size() + 1);
+        Map<Long, Integer> indexOf = new HashMap<>();
+        for (Object[] pair : candidates) {
+            for (int column = 2; column <= 3; column++) {
+                Long memberId = (Long) pair[column];
+                if (indexOf.putIfAbsent(memberId, memberIds.size()) == null) {
+                    memberIds.add(memberId);
+                }
+            }
+        }
+        int joiner = memberIds.size();
+        memberIds.add(userId);
+        PairScorer.GroupScorer groupScorer = scorer.prepare(groupId, memberIds);
+
+        Object[] best = candidates.get(0);
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (Object[] pair : candidates) {
+            int manitto = indexOf.get((Long) pair[2]);
+            int manittee = indexOf.get((Long) pair[3]);
+            double score = groupScorer.score(manitto, joiner) + groupScorer.score(joiner, manittee);
+            if (score > bestScore) {
+                bestScore = score;
+                best = pair;
+            }
+        }
+        return best;
+    }
+
+    private List<Set<Long>> findRecentPairs(Long groupId, int week, int avoidRepeatWeeks, List<Long> memberIds) {
+        List<Set<Long>> recentPairs = new ArrayList<>(avoidRepeatWeeks);
+        for (int i = 0; i < avoidRepeatWeeks; i++) {
+            recentPairs.add(new HashSet<>());
+        }
+        if (avoidRepeatWeeks == 0) {
+            return recentPairs;
+        }
+
+        Map<Long, Integer> indexOf = new HashMap<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            indexOf.put(memberIds.get(i), i);
+        }
+        for (Object[] pair : manittoRepository.findPairsByGroupIdAndWeekBetween(
+                groupId, week - avoidRepeatWeeks, week - 1)) {
+            Integer manitto = indexOf.get((Long) pair[2]);
+            Integer manittee = indexOf.get((Long) pair[3]);
+            if (manitto != null && manittee != null) {
+                recentPairs.get(week - 1 - (Integer) pair[1]).add(ManittoCycleBuilder.pairKey(manitto, manittee));
+            }
+        }
+        return recentPairs;
+    }
+
+    private static String tableOf(SessionFactoryImplementor sessionFactory, Class<?> entityClass) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        return persister.getTableName();
+    }
+}
@@ -0,0 +1,191 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.event.GroupMemberJoinedEvent;
+import com.ktb.marong.event.ManittoPairsCreatedEvent;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 마니또 매칭 엔진
+ * 월요일 12시(MANITTO_ACTIVE 시작) 경계에서 모든 그룹의 이번 주 매칭을 생성
+ * - 그룹마다 한 바퀴 순환 매칭 (자기 자신 없음, 최근 N주 반복 없음, 선호도 평가기가 있으면 반영)
+ * - 그룹끼리는 독립적이므로 ForkJoin 풀에서 병렬 처리 (그룹마다 별도 트랜잭션)
+ * - 활동 기간 중 가입한 멤버는 이번 주 순환에 바로 합류
+ * - 새로 생긴 쌍은 ManittoPairsCreatedEvent로 알림 (장소 추천 미리 생성)
+ * - 시작 시 활동 기간인데 매칭이 없는 그룹이 있으면 (경계 시점에 서버가 내려가 있던 경우) 바로 매칭
+ * - 활동 기간 중에는 주기적으로 매칭이 없는 그룹을 다시 매칭
+ *   (경계 시점 매칭에 실패한 그룹, 활동 기간 중 멤버가 2명이 된 그룹이 다음 주까지 기다리지 않도록 함)
+ */
+@Slf4j
+@Service
+public class ManittoMatchingEngine {
+
+    private final ManittoGroupMatcher groupMatcher;
+    private final ManittoCycleClock cycleClock;
+    private final ObjectProvider<PairScorer> pairScorer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ForkJoinPool pool;
+    private final int avoidRepeatWeeks;
+    private final boolean autoEnabled;
+
+    public ManittoMatchingEngine(ManittoGroupMatcher groupMatcher,
+                                 ManittoCycleClock cycleClock,
+                                 ObjectProvider<PairScorer> pairScorer,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${marong.manitto.matching.parallelism:4}") int parallelism,
+                                 @Value("${marong.manitto.matching.avoid-repeat-weeks:3}") int avoidRepeatWeeks,
+                                 @Value("${marong.manitto.matching.auto-enabled:true}") boolean autoEnabled) {
+        this.groupMatcher = groupMatcher;
+        this.cycleClock = cycleClock;
+        this.pairScorer = pairScorer;
+        this.eventPublisher = eventPublisher;
+        // 그룹마다 DB 커넥션을 하나씩 쓰므로 커넥션 풀 크기보다 작게 유지
+        this.pool = new ForkJoinPool(parallelism);
+        this.avoidRepeatWeeks = avoidRepeatWeeks;
+        this.autoEnabled = autoEnabled;
+    }
+
+    /**
+     * 주차 매칭이 없는 모든 그룹 매칭 (이미 매칭된 그룹은 건너뜀)
+     * @return 매칭한 그룹 수
+     */
+    public int matchWeek(int week) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> groupIds = groupMatcher.findGroupsToMatch(week);
+        if (groupIds.isEmpty()) {
+            return 0;
+        }
+
+        PairScorer scorer = pairScorer.getIfAvailable();
+        List<Callable<Integer>> tasks = new ArrayList<>(groupIds.size());
+        for (Long groupId : groupIds) {
+            tasks.add(() -> matchGroupSafely(groupId, week, scorer));
+        }
+
+        List<Long> matchedGroupIds = new ArrayList<>();
+        int matchedMembers = 0;
+        List<Future<Integer>> results = pool.invokeAll(tasks);
+        for (int i = 0; i < results.size(); i++) {
+            int members = join(results.get(i));
+            if (members > 0) {
+                matchedGroupIds.add(groupIds.get(i));
+                matchedMembers += members;
+            }
+        }
+
+        log.info("주차 마니또 매칭 완료: week={}, groups={}/{}, members={}, elapsedMs={}",
+                week, matchedGroupIds.size(), groupIds.size(), matchedMembers, System.currentTimeMillis() - startedAt);
+        if (!matchedGroupIds.isEmpty()) {
+            eventPublisher.publishEvent(new ManittoPairsCreatedEvent(week, matchedGroupIds));
+        }
+        return matchedGroupIds.size();
+    }
+
+    /**
+     * 활동 기간 중 가입한 멤버를 이번 주 매칭에 합류
+     */
+    public boolean addLateJoiner(Long groupId, Long userId) {
+        if (cycleClock.getCurrentPeriod() != ManittoPeriod.MANITTO_ACTIVE) {
+            return false; // 매칭 준비 기간이면 다음 매칭에 포함, 공개 기간이면 다음 주부터 참여
+        }
+        int week = cycleClock.getCurrentWeek();
+        boolean joined = groupMatcher.addLateJoiner(groupId, userId, week, pairScorer.getIfAvailable());
+        if (joined) {
+            eventPublisher.publishEvent(new ManittoPairsCreatedEvent(week, List.of(groupId)));
+        }
+        return joined;
+    }
+
+    /**
+     * 활동 기간이 시작되면 이번 주 매칭 (요청 스레드를 막지 않도록 매칭 풀에서 실행)
+     * 요청 처리 중 기간이 바뀌어 이벤트가 트랜잭션 안에서 발행될 수 있으므로 트랜잭션이 끝난 뒤 실행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onPhaseChanged(ManittoPhaseChangedEvent event) {
+        if (autoEnabled && event.getCurrentPeriod() == ManittoPeriod.MANITTO_ACTIVE) {
+            runAsync(event.getWeek());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberJoined(GroupMemberJoinedEvent event) {
+        if (!autoEnabled) {
+            return;
+        }
+        try {
+            addLateJoiner(event.getGroupId(), event.getUserId());
+        } catch (Exception e) {
+            // 가입 자체는 이미 커밋됨 -> 다음 주 매칭에 포함되므로 로그만 남김
+            log.error("신규 멤버 마니또 합류 실패: groupId={}, userId={}", event.getGroupId(), event.getUserId(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void matchOnStartup() {
+        if (autoEnabled && cycleClock.getCurrentPeriod() == ManittoPeriod.MANITTO_ACTIVE) {
+            runAsync(cycleClock.getCurrentWeek());
+        }
+    }
+
+    /**
+     * 활동 기간 중 매칭이 없는 그룹 재매칭 (이미 매칭된 그룹은 조회 한 번으로 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${marong.manitto.matching.sweep-interval-ms:600000}")
+    public void sweep() {
+        if (autoEnabled && cycleClock.getCurrentPeriod() == ManittoPeriod.MANITTO_ACTIVE) {
+            matchWeek(cycleClock.getCurrentWeek());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private void runAsync(int week) {
+        CompletableFuture.runAsync(() -> matchWeek(week), pool)
+                .exceptionally(e -> {
+                    log.error("주차 마니또 매칭 실패: week={}", week, e);
+                    return null;
+                });
+    }
+
+    private int matchGroupSafely(Long groupId, int week, PairScorer scorer) {
+        try {
+            return groupMatcher.matchGroup(groupId, week, avoidRepeatWeeks, scorer);
+        } catch (Exception e) {
+            // 한 그룹 실패가 다른 그룹 매칭을 막지 않도록 함 (다음 주기 재매칭 시 다시 시도됨)
+            log.error("그룹 마니또 매칭 실패: groupId={}, week={}", groupId, week, e);
+            return 0;
+        }
+    }
+
+    private static int join(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException e) {
+            return 0;
+        }
+    }
+}
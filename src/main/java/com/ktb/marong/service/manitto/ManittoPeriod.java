@@ -0,0 +1,11 @@
+package com.ktb.marong.service.manitto;
+
+/**
+ * 마니또 주기 내 기간 구분
+ */
+public enum ManittoPeriod {
+
+    MATCHING_PREPARATION, // 월요일 00시 ~ 월요일 12시
+    MANITTO_ACTIVE,       // 월요일 12시 ~ 금요일 17시
+    MANITTO_REVEAL        // 금요일 17시 ~ 다음 주 월요일 00시
+}
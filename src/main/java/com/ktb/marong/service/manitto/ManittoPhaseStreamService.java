@@ -0,0 +1,96 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.common.sse.SseBroadcaster;
+import com.ktb.marong.dto.response.manitto.ManittoPhaseResponseDto;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * 마니또 주기 기간 스트림 (SSE)
+ * 남은 시간 표시/공개 감지를 위해 /manitto/detail을 반복 조회하지 않도록
+ * 구독 시 기간 경계를 한 번 보내고, 기간이 바뀌는 시점에 phase-changed 이벤트를 보냄
+ * 기간은 모든 그룹에 공통이므로 하나의 토픽만 사용
+ */
+@Slf4j
+@Service
+public class ManittoPhaseStreamService {
+
+    public static final String PHASE_EVENT = "phase";
+    public static final String PHASE_CHANGED_EVENT = "phase-changed";
+
+    private static final String TOPIC = "phase";
+
+    private final ManittoCycleClock cycleClock;
+    private final SseBroadcaster broadcaster;
+
+    @Autowired
+    public ManittoPhaseStreamService(ManittoCycleClock cycleClock,
+                                     ObjectProvider<MeterRegistry> meterRegistry,
+                                     @Value("${marong.manitto.stream.timeout:30m}") Duration timeout) {
+        // 기간 정보는 구독 시 항상 현재 상태를 보내므로 재전송 보관은 최소로 유지
+        this(cycleClock, new SseBroadcaster("manitto-phase", 1, 8, timeout, meterRegistry.getIfAvailable()));
+    }
+
+    ManittoPhaseStreamService(ManittoCycleClock cycleClock, SseBroadcaster broadcaster) {
+        this.cycleClock = cycleClock;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * 기간 스트림 구독 (첫 이벤트로 현재 기간 정보 전송)
+     */
+    public SseEmitter subscribe(Long userId) {
+        log.debug("마니또 기간 스트림 구독: userId={}", userId);
+        return broadcaster.subscribeWithSnapshot(TOPIC, PHASE_EVENT, this::currentPhase);
+    }
+
+    /**
+     * 현재 기간 정보
+     */
+    public ManittoPhaseResponseDto currentPhase() {
+        return ManittoPhaseResponseDto.builder()
+                .week(cycleClock.getCurrentWeek())
+                .period(cycleClock.getCurrentPeriod().name())
+                .revealTime(cycleClock.isRevealTime())
+                .serverTime(cycleClock.now())
+                .revealStart(cycleClock.getRevealStart())
+                .nextMatching(cycleClock.getNextMatching())
+                .nextTransition(cycleClock.getNextTransition())
+                .build();
+    }
+
+    /**
+     * 기간 경계에서 구독자 전체에게 새 기간 정보 전송
+     * 이벤트는 주기 시계가 스냅샷을 갱신한 직후 발행되므로 현재 기간 정보는 새 기간 기준
+     */
+    @EventListener
+    public void onPhaseChanged(ManittoPhaseChangedEvent event) {
+        log.info("마니또 기간 변경 알림: {} -> {}, 구독자={}",
+                event.getPreviousPeriod(), event.getCurrentPeriod(), broadcaster.getConnectionCount());
+        broadcaster.publish(TOPIC, PHASE_CHANGED_EVENT, currentPhase());
+    }
+
+    /**
+     * 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주기적으로 heartbeat 전송
+     */
+    @Scheduled(fixedRateString = "${marong.manitto.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        broadcaster.heartbeat();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcaster.shutdown();
+    }
+}
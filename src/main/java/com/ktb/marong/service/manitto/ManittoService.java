@@ -1,11 +1,11 @@
 package com.ktb.marong.service.manitto;
 
-import com.ktb.marong.common.util.WeekCalculator;
 import com.ktb.marong.domain.group.Group;
 import com.ktb.marong.domain.group.UserGroup;
 import com.ktb.marong.domain.manitto.Manitto;
 import com.ktb.marong.domain.mission.Mission;
 import com.ktb.marong.domain.mission.UserMission;
+import com.ktb.marong.domain.user.AnonymousName;
 import com.ktb.marong.domain.user.User;
 import com.ktb.marong.dto.response.manitto.ManittoDetailResponseDto;
 import com.ktb.marong.dto.response.manitto.ManittoInfoResponseDto;
@@ -14,19 +14,18 @@ import com.ktb.marong.dto.response.mission.TodayMissionResponseDto;
 import com.ktb.marong.exception.CustomException;
 import com.ktb.marong.exception.ErrorCode;
 import com.ktb.marong.repository.*;
+import com.ktb.marong.service.group.GroupDisplayNameResolver;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +44,8 @@ public class ManittoService {
     private final AnonymousNameRepository anonymousNameRepository;
     private final UserGroupRepository userGroupRepository;
     private final GroupRepository groupRepository;
+    private final ManittoCycleClock cycleClock;
+    private final GroupDisplayNameResolver displayNameResolver;
 
     /**
      * 현재 사용자의 마니또-마니띠 상세 정보 조회 (그룹별, 시간대별)
@@ -58,88 +59,77 @@ public class ManittoService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 2. 그룹 존재 여부 확인
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
-
-        // 3. 사용자가 해당 그룹에 속해있는지 확인
+        // 2. 사용자가 해당 그룹에 속해있는지 확인 (그룹 정보 함께 조회, 없으면 그룹 존재 여부로 에러 구분)
         UserGroup userGroup = userGroupRepository.findByUserIdAndGroupId(userId, groupId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND, "해당 그룹에 속하지 않은 사용자입니다."));
+                .orElseThrow(() -> groupRepository.existsById(groupId)
+                        ? new CustomException(ErrorCode.GROUP_NOT_FOUND, "해당 그룹에 속하지 않은 사용자입니다.")
+                        : new CustomException(ErrorCode.GROUP_NOT_FOUND));
+        Group group = userGroup.getGroup();
+
+        // 3. 현재 주차 및 시간 정보
+        int currentWeek = cycleClock.getCurrentWeek();
+        String remainingTime = cycleClock.getRemainingTimeUntilReveal();
+        ManittoPeriod currentPeriod = cycleClock.getCurrentPeriod();
 
-        // 4. 현재 주차 및 시간 정보
-        int currentWeek = WeekCalculator.getCurrentWeek();
-        String remainingTime = calculateRemainingTimeUntilReveal();
-        String currentPeriod = getCurrentPeriod();
-        boolean isNewUser = isNewUser(userId, groupId, currentWeek);
+        // 4. 현재 주차 매칭 정보 (신규 사용자 판단과 응답 생성에 함께 사용)
+        List<Manitto> asManitto = manittoRepository.findWithManitteeByManittoIdAndGroupIdAndWeek(userId, groupId, currentWeek);
+        List<Manitto> asManittee = manittoRepository.findWithManittoByManitteeIdAndGroupIdAndWeek(userId, groupId, currentWeek);
+        boolean isNewUser = asManitto.isEmpty() && asManittee.isEmpty(); // 매칭 정보가 없으면 신규 사용자
 
         log.info("현재 시간 정보: currentWeek={}, period={}, remainingTime={}, isNewUser={}",
                 currentWeek, currentPeriod, remainingTime, isNewUser);
 
+        CurrentMatching matching = new CurrentMatching(
+                asManitto.isEmpty() ? null : asManitto.get(0).getManittee(),
+                asManittee.isEmpty() ? null : asManittee.get(0).getManitto());
+
         // 5. 시간대에 따른 분기 처리
-        if ("MANITTO_REVEAL".equals(currentPeriod)) {
+        if (currentPeriod == ManittoPeriod.MANITTO_REVEAL) {
             // 마니또 공개 기간 (금요일 17시 ~ 월요일 00시)
-            return buildRevealPeriodResponse(userId, groupId, group, currentWeek, remainingTime, isNewUser);
-        } else if ("MATCHING_PREPARATION".equals(currentPeriod)) {
+            return buildRevealPeriodResponse(userId, groupId, group, currentWeek, remainingTime, isNewUser, matching);
+        } else if (currentPeriod == ManittoPeriod.MATCHING_PREPARATION) {
             // 매칭 준비 기간 (월요일 00시 ~ 월요일 12시)
             return buildMatchingPreparationResponse(userId, groupId, group, currentWeek, remainingTime, isNewUser);
         } else {
             // 일반 활동 기간 (월요일 12시 ~ 금요일 17시)
-            return buildActivePeriodResponse(userId, groupId, group, currentWeek, remainingTime, isNewUser);
+            return buildActivePeriodResponse(userId, groupId, group, currentWeek, remainingTime, isNewUser, matching);
         }
     }
 
-    /**
-     * 신규 사용자 여부 판단 (마니또 매칭 정보가 있는지 확인)
-     */
-    private boolean isNewUser(Long userId, Long groupId, int currentWeek) {
-        // 현재 주차에 마니또 또는 마니띠로 매칭된 정보가 있는지 확인
-        List<Manitto> asManitto = manittoRepository.findByManittoIdAndGroupIdAndWeek(userId, groupId, currentWeek);
-        List<Manitto> asManittee = manittoRepository.findByManitteeIdAndGroupIdAndWeek(userId, groupId, currentWeek);
-
-        boolean hasMatching = !asManitto.isEmpty() || !asManittee.isEmpty();
-
-        log.info("신규 사용자 판단: userId={}, groupId={}, week={}, hasMatching={}",
-                userId, groupId, currentWeek, hasMatching);
-
-        return !hasMatching; // 매칭 정보가 없으면 신규 사용자
-    }
-
     /**
      * 마니또 공개 기간 응답 생성 (금요일 17시 ~ 월요일 00시) -> MANITTO_REVEAL
      * 신규 사용자 처리 포함
      */
-    private ManittoDetailResponseDto buildRevealPeriodResponse(Long userId, Long groupId, Group group,
-                                                               int currentWeek, String remainingTime, boolean isNewUser) {
+    private ManittoDetailResponseDto buildRevealPeriodResponse(Long userId, Long groupId, Group group, int currentWeek,
+                                                               String remainingTime, boolean isNewUser, CurrentMatching matching) {
         log.info("마니또 공개 기간 응답 생성: userId={}, groupId={}, week={}, isNewUser={}", userId, groupId, currentWeek, isNewUser);
 
         ManittoDetailResponseDto.RevealedManittoDto revealedManitto = null;
 
         if (!isNewUser) {
             // 기존 사용자인 경우만 마니또 정보 조회
-            List<Manitto> manitteeList = manittoRepository.findByManitteeIdAndGroupIdAndWeek(userId, groupId, currentWeek);
+            User manittoUser = matching.getManitto();
 
-            if (!manitteeList.isEmpty()) {
-                Manitto manittoRelation = manitteeList.get(0);
-                User manittoUser = manittoRelation.getManitto();
+            if (manittoUser != null) {
+                // 마니또의 그룹 내 정보 및 이번 주기 익명 이름 조회
+                Map<Long, GroupDisplayNameResolver.MemberDisplay> profiles =
+                        findMemberProfiles(groupId, List.of(manittoUser.getId()));
+                Map<String, String> anonymousNames = findAnonymousNames(groupId,
+                        List.of(manittoUser.getId()), List.of(currentWeek));
 
-                // 마니또의 그룹 내 정보 조회
-                UserGroup manittoUserGroup = userGroupRepository.findByUserIdAndGroupId(manittoUser.getId(), groupId)
-                        .orElse(null);
-
-                // 마니또의 이번 주기 익명 이름 조회
-                String manittoAnonymousName = anonymousNameRepository
-                        .findAnonymousNameByUserIdAndGroupIdAndWeek(manittoUser.getId(), groupId, currentWeek)
-                        .orElse("익명의 마니또");
+                GroupDisplayNameResolver.MemberDisplay manittoProfile = profiles.get(manittoUser.getId());
+                String manittoAnonymousName = anonymousNames.getOrDefault(
+                        anonymousNameKey(manittoUser.getId(), currentWeek), "익명의 마니또");
 
                 // 그룹 닉네임이 없으면 카톡 실명으로 대체
-                String revealedManittoGroupNickname = (manittoUserGroup != null && manittoUserGroup.getGroupUserNickname() != null)
-                        ? manittoUserGroup.getGroupUserNickname()
+                String revealedManittoGroupNickname = manittoProfile != null
+                        ? manittoProfile.getDisplayName()
                         : manittoUser.getNickname();
 
                 revealedManitto = ManittoDetailResponseDto.RevealedManittoDto.builder()
                         .name(manittoUser.getNickname()) // 카카오 실명
                         .groupNickname(revealedManittoGroupNickname) // 그룹 닉네임 우선, 없으면 카톡 실명
-                        .groupProfileImage(manittoUserGroup != null ? manittoUserGroup.getGroupUserProfileImageUrl() : null)
+                        .groupProfileImage(manittoProfile != null ? manittoProfile.getGroupProfileImageUrl() : null)
                         .anonymousName(manittoAnonymousName)
                         .build();
 
@@ -150,7 +140,7 @@ public class ManittoService {
         }
 
         return ManittoDetailResponseDto.builder()
-                .period("MANITTO_REVEAL")
+                .period(ManittoPeriod.MANITTO_REVEAL.name())
                 .remainingTime(remainingTime)
                 .groupId(groupId)
                 .groupName(group.getName())
@@ -173,42 +163,25 @@ public class ManittoService {
         if (!isNewUser) {
             // 기존 사용자인 경우만 지난주 마니또 정보 조회
             int previousWeek = currentWeek - 1;
-            if (previousWeek > 0) {
-                List<Manitto> previousManitteeList = manittoRepository.findByManitteeIdAndGroupIdAndWeek(userId, groupId, previousWeek);
-
-                if (!previousManitteeList.isEmpty()) {
-                    Manitto previousManittoRelation = previousManitteeList.get(0);
-                    User previousManittoUser = previousManittoRelation.getManitto();
-
-                    UserGroup previousManittoUserGroup = userGroupRepository.findByUserIdAndGroupId(previousManittoUser.getId(), groupId)
-                            .orElse(null);
-
-                    String previousManittoAnonymousName = anonymousNameRepository
-                            .findAnonymousNameByUserIdAndGroupIdAndWeek(previousManittoUser.getId(), groupId, previousWeek)
-                            .orElse("익명의 마니또");
-
-                    // 그룹 닉네임이 없으면 카톡 실명으로 대체
-                    String previousManittoGroupNickname = (previousManittoUserGroup != null && previousManittoUserGroup.getGroupUserNickname() != null)
-                            ? previousManittoUserGroup.getGroupUserNickname()
-                            : previousManittoUser.getNickname();
-
-                    previousCycleManitto = ManittoDetailResponseDto.PreviousCycleManittoDto.builder()
-                            .name(previousManittoUser.getNickname())
-                            .groupNickname(previousManittoGroupNickname) // 그룹 닉네임 우선, 없으면 카톡 실명
-                            .groupProfileImage(previousManittoUserGroup != null ? previousManittoUserGroup.getGroupUserProfileImageUrl() : null)
-                            .anonymousName(previousManittoAnonymousName)
-                            .build();
-
-                    log.info("매칭 준비 기간 - 이전 주기 마니또 정보: userId={}, name={}, anonymousName={}",
-                            previousManittoUser.getId(), previousManittoUser.getNickname(), previousManittoAnonymousName);
-                }
+            User previousManittoUser = findPreviousManitto(userId, groupId, previousWeek);
+
+            if (previousManittoUser != null) {
+                Map<Long, GroupDisplayNameResolver.MemberDisplay> profiles =
+                        findMemberProfiles(groupId, List.of(previousManittoUser.getId()));
+                Map<String, String> anonymousNames = findAnonymousNames(groupId,
+                        List.of(previousManittoUser.getId()), List.of(previousWeek));
+
+                previousCycleManitto = toPreviousCycleManittoDto(previousManittoUser, previousWeek, profiles, anonymousNames);
+
+                log.info("매칭 준비 기간 - 이전 주기 마니또 정보: userId={}, name={}, anonymousName={}",
+                        previousManittoUser.getId(), previousManittoUser.getNickname(), previousCycleManitto.getAnonymousName());
             }
         } else {
             log.info("신규 사용자 - 매칭 준비 기간에 조회할 이전 마니또 정보 없음: userId={}, groupId={}", userId, groupId);
         }
 
         return ManittoDetailResponseDto.builder()
-                .period("MATCHING_PREPARATION")
+                .period(ManittoPeriod.MATCHING_PREPARATION.name())
                 .remainingTime(remainingTime)
                 .groupId(groupId)
                 .groupName(group.getName())
@@ -222,8 +195,8 @@ public class ManittoService {
      * 일반 활동 기간 응답 생성 (월요일 12시 ~ 금요일 17시) -> MANITTO_ACTIVE
      * 신규 사용자 처리 포함
      */
-    private ManittoDetailResponseDto buildActivePeriodResponse(Long userId, Long groupId, Group group,
-                                                               int currentWeek, String remainingTime, boolean isNewUser) {
+    private ManittoDetailResponseDto buildActivePeriodResponse(Long userId, Long groupId, Group group, int currentWeek,
+                                                               String remainingTime, boolean isNewUser, CurrentMatching matching) {
         log.info("일반 활동 기간 응답 생성: userId={}, groupId={}, week={}, isNewUser={}", userId, groupId, currentWeek, isNewUser);
 
         ManittoDetailResponseDto.PreviousCycleManittoDto previousCycleManitto = null;
@@ -232,50 +205,40 @@ public class ManittoService {
 
         if (!isNewUser) {
             // 기존 사용자인 경우만 마니또 정보들 조회
-
-            // 이전 주기 마니또 정보
             int previousWeek = currentWeek - 1;
-            if (previousWeek > 0) {
-                List<Manitto> previousManitteeList = manittoRepository.findByManitteeIdAndGroupIdAndWeek(userId, groupId, previousWeek);
-
-                if (!previousManitteeList.isEmpty()) {
-                    Manitto previousManittoRelation = previousManitteeList.get(0);
-                    User previousManittoUser = previousManittoRelation.getManitto();
-
-                    UserGroup previousManittoUserGroup = userGroupRepository.findByUserIdAndGroupId(previousManittoUser.getId(), groupId)
-                            .orElse(null);
-
-                    String previousManittoAnonymousName = anonymousNameRepository
-                            .findAnonymousNameByUserIdAndGroupIdAndWeek(previousManittoUser.getId(), groupId, previousWeek)
-                            .orElse("익명의 마니또");
-
-                    // 그룹 닉네임이 없으면 카톡 실명으로 대체
-                    String previousManittoGroupNickname = (previousManittoUserGroup != null && previousManittoUserGroup.getGroupUserNickname() != null)
-                            ? previousManittoUserGroup.getGroupUserNickname()
-                            : previousManittoUser.getNickname();
-
-                    previousCycleManitto = ManittoDetailResponseDto.PreviousCycleManittoDto.builder()
-                            .name(previousManittoUser.getNickname())
-                            .groupNickname(previousManittoGroupNickname) // 그룹 닉네임 우선, 없으면 카톡 실명
-                            .groupProfileImage(previousManittoUserGroup != null ? previousManittoUserGroup.getGroupUserProfileImageUrl() : null)
-                            .anonymousName(previousManittoAnonymousName)
-                            .build();
-
-                    log.info("이전 주기 마니또 정보: userId={}, name={}, anonymousName={}",
-                            previousManittoUser.getId(), previousManittoUser.getNickname(), previousManittoAnonymousName);
-                }
+            User previousManittoUser = findPreviousManitto(userId, groupId, previousWeek);
+            User currentManittoUser = matching.getManitto();
+            User currentManitteeUser = matching.getManittee();
+
+            // 이전 주기 마니또와 현재 마니띠의 그룹 프로필, 마니또들의 익명 이름을 한 번에 조회
+            List<Long> profileUserIds = new ArrayList<>();
+            List<Long> anonymousUserIds = new ArrayList<>();
+            if (previousManittoUser != null) {
+                profileUserIds.add(previousManittoUser.getId());
+                anonymousUserIds.add(previousManittoUser.getId());
+            }
+            if (currentManitteeUser != null) {
+                profileUserIds.add(currentManitteeUser.getId());
+            }
+            if (currentManittoUser != null) {
+                anonymousUserIds.add(currentManittoUser.getId());
             }
+            Map<Long, GroupDisplayNameResolver.MemberDisplay> profiles = findMemberProfiles(groupId, profileUserIds);
+            Map<String, String> anonymousNames = findAnonymousNames(groupId, anonymousUserIds,
+                    List.of(previousWeek, currentWeek));
 
-            // 현재 나를 담당하는 마니또 정보
-            List<Manitto> currentManitteeList = manittoRepository.findByManitteeIdAndGroupIdAndWeek(userId, groupId, currentWeek);
+            // 이전 주기 마니또 정보
+            if (previousManittoUser != null) {
+                previousCycleManitto = toPreviousCycleManittoDto(previousManittoUser, previousWeek, profiles, anonymousNames);
 
-            if (!currentManitteeList.isEmpty()) {
-                Manitto currentManittoRelation = currentManitteeList.get(0);
-                User currentManittoUser = currentManittoRelation.getManitto();
+                log.info("이전 주기 마니또 정보: userId={}, name={}, anonymousName={}",
+                        previousManittoUser.getId(), previousManittoUser.getNickname(), previousCycleManitto.getAnonymousName());
+            }
 
-                String currentManittoAnonymousName = anonymousNameRepository
-                        .findAnonymousNameByUserIdAndGroupIdAndWeek(currentManittoUser.getId(), groupId, currentWeek)
-                        .orElse("익명의 마니또");
+            // 현재 나를 담당하는 마니또 정보
+            if (currentManittoUser != null) {
+                String currentManittoAnonymousName = anonymousNames.getOrDefault(
+                        anonymousNameKey(currentManittoUser.getId(), currentWeek), "익명의 마니또");
 
                 currentManitto = ManittoDetailResponseDto.CurrentManittoDto.builder()
                         .anonymousName(currentManittoAnonymousName)
@@ -286,23 +249,17 @@ public class ManittoService {
             }
 
             // 현재 내가 담당하는 마니띠 정보
-            List<Manitto> currentManittoList = manittoRepository.findByManittoIdAndGroupIdAndWeek(userId, groupId, currentWeek);
+            if (currentManitteeUser != null) {
+                GroupDisplayNameResolver.MemberDisplay manitteeProfile = profiles.get(currentManitteeUser.getId());
 
-            if (!currentManittoList.isEmpty()) {
-                Manitto currentManitteeRelation = currentManittoList.get(0);
-                User currentManitteeUser = currentManitteeRelation.getManittee();
-
-                UserGroup manitteeUserGroup = userGroupRepository.findByUserIdAndGroupId(currentManitteeUser.getId(), groupId)
-                        .orElse(null);
-
-                String displayName = (manitteeUserGroup != null && manitteeUserGroup.getGroupUserNickname() != null)
-                        ? manitteeUserGroup.getGroupUserNickname()
+                String displayName = manitteeProfile != null
+                        ? manitteeProfile.getDisplayName()
                         : currentManitteeUser.getNickname();
 
                 currentManittee = ManittoDetailResponseDto.CurrentManitteeDto.builder()
                         .name(currentManitteeUser.getNickname())
                         .groupNickname(displayName)
-                        .groupProfileImage(manitteeUserGroup != null ? manitteeUserGroup.getGroupUserProfileImageUrl() : null)
+                        .groupProfileImage(manitteeProfile != null ? manitteeProfile.getGroupProfileImageUrl() : null)
                         .build();
 
                 log.info("현재 마니띠 정보: manitteeUserId={}, name={}, groupNickname={}",
@@ -313,7 +270,7 @@ public class ManittoService {
         }
 
         return ManittoDetailResponseDto.builder()
-                .period("MANITTO_ACTIVE")
+                .period(ManittoPeriod.MANITTO_ACTIVE.name())
                 .remainingTime(remainingTime)
                 .groupId(groupId)
                 .groupName(group.getName())
@@ -326,30 +283,76 @@ public class ManittoService {
     }
 
     /**
-     * 현재 시간이 어떤 기간에 속하는지 판단
-     * @return "MANITTO_REVEAL", "MATCHING_PREPARATION", 또는 "MANITTO_ACTIVE"
+     * 지난 주기에 나를 담당했던 마니또 조회 (없으면 null)
      */
-    private String getCurrentPeriod() {
-        LocalDateTime now = LocalDateTime.now();
-        DayOfWeek dayOfWeek = now.getDayOfWeek();
-        int hour = now.getHour();
-
-        // 금요일 17시 이후인 경우
-        if (dayOfWeek == DayOfWeek.FRIDAY && hour >= 17) {
-            return "MANITTO_REVEAL";
+    private User findPreviousManitto(Long userId, Long groupId, int previousWeek) {
+        if (previousWeek <= 0) {
+            return null;
         }
-        // 토요일, 일요일인 경우
-        else if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
-            return "MANITTO_REVEAL";
+        List<Manitto> previousManitteeList = manittoRepository.findWithManittoByManitteeIdAndGroupIdAndWeek(
+                userId, groupId, previousWeek);
+        return previousManitteeList.isEmpty() ? null : previousManitteeList.get(0).getManitto();
+    }
+
+    private ManittoDetailResponseDto.PreviousCycleManittoDto toPreviousCycleManittoDto(
+            User previousManittoUser, int previousWeek, Map<Long, GroupDisplayNameResolver.MemberDisplay> profiles,
+            Map<String, String> anonymousNames) {
+
+        GroupDisplayNameResolver.MemberDisplay previousManittoProfile = profiles.get(previousManittoUser.getId());
+        String previousManittoAnonymousName = anonymousNames.getOrDefault(
+                anonymousNameKey(previousManittoUser.getId(), previousWeek), "익명의 마니또");
+
+        // 그룹 닉네임이 없으면 카톡 실명으로 대체
+        String previousManittoGroupNickname = previousManittoProfile != null
+                ? previousManittoProfile.getDisplayName()
+                : previousManittoUser.getNickname();
+
+        return ManittoDetailResponseDto.PreviousCycleManittoDto.builder()
+                .name(previousManittoUser.getNickname())
+                .groupNickname(previousManittoGroupNickname) // 그룹 닉네임 우선, 없으면 카톡 실명
+                .groupProfileImage(previousManittoProfile != null ? previousManittoProfile.getGroupProfileImageUrl() : null)
+                .anonymousName(previousManittoAnonymousName)
+                .build();
+    }
+
+    /**
+     * 그룹 내 여러 사용자의 표시 이름/프로필 이미지 일괄 조회 (캐시)
+     */
+    private Map<Long, GroupDisplayNameResolver.MemberDisplay> findMemberProfiles(Long groupId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
         }
-        // 월요일 00시 ~ 12시 이전인 경우 (매칭 준비 기간)
-        else if (dayOfWeek == DayOfWeek.MONDAY && hour < 12) {
-            return "MATCHING_PREPARATION";
+        return displayNameResolver.resolveAll(groupId, userIds);
+    }
+
+    /**
+     * 여러 사용자/주차의 익명 이름 일괄 조회
+     * key: "사용자ID:주차"
+     */
+    private Map<String, String> findAnonymousNames(Long groupId, List<Long> userIds, List<Integer> weeks) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
         }
-        // 그 외의 경우 (월요일 12시 ~ 금요일 17시)
-        else {
-            return "MANITTO_ACTIVE";
+        Map<String, String> anonymousNames = new HashMap<>();
+        for (AnonymousName anonymousName : anonymousNameRepository.findByGroupIdAndUserIdInAndWeekIn(groupId, userIds, weeks)) {
+            anonymousNames.putIfAbsent(anonymousNameKey(anonymousName.getUser().getId(), anonymousName.getWeek()),
+                    anonymousName.getAnonymousName());
         }
+        return anonymousNames;
+    }
+
+    private static String anonymousNameKey(Long userId, int week) {
+        return userId + ":" + week;
+    }
+
+    /**
+     * 현재 주차에 내가 담당하는 마니띠와 나를 담당하는 마니또
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class CurrentMatching {
+        private final User manittee;
+        private final User manitto;
     }
 
     /**
@@ -369,8 +372,8 @@ public class ManittoService {
         }
 
         // 현재 주차에 해당하는 매칭 정보 조회
-        int currentWeek = WeekCalculator.getCurrentWeek();
-        String remainingTime = calculateRemainingTimeUntilReveal();
+        int currentWeek = cycleClock.getCurrentWeek();
+        String remainingTime = cycleClock.getRemainingTimeUntilReveal();
 
         // 1. 사용자가 마니또인지 확인 (manitto_id로 매칭된 레코드가 있는지 확인)
         List<Manitto> isManittoList = manittoRepository.findByManittoIdAndGroupIdAndWeek(userId, groupId, currentWeek);
@@ -446,8 +449,8 @@ public class ManittoService {
         }
 
         // 4. 현재 주차 및 날짜 정보
-        int currentWeek = WeekCalculator.getCurrentWeek();
-        LocalDate today = LocalDate.now();
+        int currentWeek = cycleClock.getCurrentWeek();
+        LocalDate today = cycleClock.today();
 
         log.info("미션 상태 조회 정보: userId={}, groupId={}, currentWeek={}, today={}",
                 userId, groupId, currentWeek, today);
@@ -712,7 +715,7 @@ public class ManittoService {
             throw new CustomException(ErrorCode.GROUP_NOT_FOUND, "해당 그룹에 속하지 않은 사용자입니다.");
         }
 
-        int currentWeek = WeekCalculator.getCurrentWeek();
+        int currentWeek = cycleClock.getCurrentWeek();
 
         // 그룹별 현재 주차 미션 통계
         long completedCount = userMissionRepository.countMissionsByUserGroupWeekAndStatus(
@@ -762,7 +765,7 @@ public class ManittoService {
         }
 
         comparison.put("userId", userId);
-        comparison.put("comparisonDate", LocalDate.now());
+        comparison.put("comparisonDate", cycleClock.today());
         comparison.put("groupStatistics", groupStatistics);
         comparison.put("totalGroupsCompared", groupStatistics.size());
 
@@ -789,8 +792,8 @@ public class ManittoService {
             throw new CustomException(ErrorCode.GROUP_NOT_FOUND, "해당 그룹에 속하지 않은 사용자입니다.");
         }
 
-        int currentWeek = WeekCalculator.getCurrentWeek();
-        LocalDate today = LocalDate.now();
+        int currentWeek = cycleClock.getCurrentWeek();
+        LocalDate today = cycleClock.today();
 
         // 3. 현재 주차의 이전 미션들을 미완료 상태로 변경
         handleExpiredMissionsForGroup(userId, groupId, today, currentWeek);
@@ -864,8 +867,8 @@ public class ManittoService {
             throw new CustomException(ErrorCode.GROUP_NOT_FOUND, "해당 그룹에 속하지 않은 사용자입니다.");
         }
 
-        int currentWeek = WeekCalculator.getCurrentWeek();
-        LocalDate today = LocalDate.now();
+        int currentWeek = cycleClock.getCurrentWeek();
+        LocalDate today = cycleClock.today();
 
         // 4. 오늘 할당된 미션 조회 (상태와 관계없이)
         List<UserMission> todaysMissions = userMissionRepository.findAllMissionsAssignedOnDate(
@@ -956,7 +959,7 @@ public class ManittoService {
     @Scheduled(cron = "0 0 9 * * MON")
     @Transactional
     public void resetMissionsForNewCycle() {
-        int currentWeek = WeekCalculator.getCurrentWeek();
+        int currentWeek = cycleClock.getCurrentWeek();
         int previousWeek = currentWeek - 1;
         log.info("새로운 마니또 주기 시작: 현재 주차={}, 이전 주차={}", currentWeek, previousWeek);
 
@@ -1026,57 +1029,4 @@ public class ManittoService {
                 .difficulty(userMission.getMission().getDifficulty())
                 .build();
     }
-
-    /**
-     * 현재 시간에 따라 다음 중요 시점까지 남은 시간 계산
-     * - 월요일 오후 12시 ~ 금요일 오후 5시: 가장 가까운 금요일 오후 5시까지 (마니또 공개까지)
-     * - 금요일 오후 5시 ~ 월요일 오후 12시: 가장 가까운 월요일 오후 12시까지 (새 매칭까지)
-     * 형식: HH:MM:SS
-     */
-    private String calculateRemainingTimeUntilReveal() {
-        LocalDateTime now = LocalDateTime.now();
-        DayOfWeek currentDay = now.getDayOfWeek();
-        LocalTime currentTime = now.toLocalTime();
-
-        LocalDateTime targetTime;
-
-        // 현재 시간이 "월요일 12시 ~ 금요일 17시" 일반 활동 기간인지 확인
-        boolean isInActiveWeekPeriod = false;
-
-        if (currentDay == DayOfWeek.MONDAY && currentTime.isAfter(LocalTime.of(12, 0)) || currentTime.equals(LocalTime.of(12, 0))) {
-            // 월요일 12시 이후
-            isInActiveWeekPeriod = true;
-        } else if (currentDay == DayOfWeek.TUESDAY || currentDay == DayOfWeek.WEDNESDAY || currentDay == DayOfWeek.THURSDAY) {
-            // 화수목 전체
-            isInActiveWeekPeriod = true;
-        } else if (currentDay == DayOfWeek.FRIDAY && currentTime.isBefore(LocalTime.of(17, 0))) {
-            // 금요일 17시 이전
-            isInActiveWeekPeriod = true;
-        }
-
-        if (isInActiveWeekPeriod) {
-            // 일반 활동 기간: 가장 가까운 금요일 17시까지
-            targetTime = now.with(TemporalAdjusters.nextOrSame(DayOfWeek.FRIDAY))
-                    .with(LocalTime.of(17, 0, 0));
-        } else {
-            // 마니또 공개 기간: 가장 가까운 월요일 12시까지
-            if (currentDay == DayOfWeek.MONDAY && currentTime.isBefore(LocalTime.of(12, 0))) {
-                // 월요일 12시 이전이면 같은 날 12시
-                targetTime = now.with(LocalTime.of(12, 0, 0));
-            } else {
-                // 그 외는 다음 주 월요일 12시
-                targetTime = now.with(TemporalAdjusters.next(DayOfWeek.MONDAY))
-                        .with(LocalTime.of(12, 0, 0));
-            }
-        }
-
-        // 남은 시간 계산
-        long seconds = ChronoUnit.SECONDS.between(now, targetTime);
-
-        long hours = seconds / 3600;
-        long minutes = (seconds % 3600) / 60;
-        long remainingSeconds = seconds % 60;
-
-        return String.format("%02d:%02d:%02d", hours, minutes, remainingSeconds);
-    }
-}
\ No newline at end of file
+}
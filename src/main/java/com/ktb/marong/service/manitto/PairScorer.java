@@ -0,0 +1,29 @@
+package com.ktb.marong.service.manitto;
+
+import java.util.List;
+
+/**
+ * 마니또 매칭 시 (마니또 -> 마니띠) 쌍의 선호도 평가
+ * 값이 클수록 선호하는 쌍이며, 매칭 엔진은 제약(자기 자신/최근 반복 금지)을 만족하는 범위에서 합계를 높이는 방향으로 조정
+ * 빈으로 등록된 구현이 없으면 선호도 없이 무작위 매칭
+ */
+public interface PairScorer {
+
+    /**
+     * 그룹 매칭 한 번에 사용할 평가기 준비 (멤버별 데이터를 한 번에 읽어 두기 위함)
+     * @param memberIds 매칭 대상 멤버 (이후 score의 인덱스는 이 목록 기준)
+     */
+    GroupScorer prepare(Long groupId, List<Long> memberIds);
+
+    /**
+     * 한 그룹 매칭 동안 사용하는 평가기
+     */
+    interface GroupScorer {
+
+        /**
+         * @param manitto  마니또 멤버 인덱스
+         * @param manittee 마니띠 멤버 인덱스
+         */
+        double score(int manitto, int manittee);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.domain.survey.SurveyFeatures;
+import com.ktb.marong.service.survey.SurveyFeatureService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설문 특성 기반 마니또 쌍 선호도
+ * 그룹 멤버의 특성 벡터를 한 번에 읽은 뒤 모든 쌍의 점수를 미리 계산 (150명 기준 22,350쌍, 비트 연산만 사용)
+ * - 취미 Jaccard 유사도 (가중치 0.4)
+ * - 좋아하는 음식 Jaccard 유사도 (0.2)
+ * - MBTI 축 점수 근접도 (0.2)
+ * - 마니또가 좋아하는 음식 중 마니띠가 싫어하는 음식 비율만큼 감점 (0.2, 음식 선물/장소 추천 충돌 방지)
+ * 설문을 제출하지 않은 멤버가 포함된 쌍은 0점
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "marong.manitto.matching.survey-scoring", havingValue = "true", matchIfMissing = true)
+public class SurveyPairScorer implements PairScorer {
+
+    private static final double HOBBY_WEIGHT = 0.4;
+    private static final double LIKED_FOOD_WEIGHT = 0.2;
+    private static final double MBTI_WEIGHT = 0.2;
+    private static final double FOOD_CONFLICT_WEIGHT = 0.2;
+
+    private final SurveyFeatureService surveyFeatureService;
+
+    @Override
+    public GroupScorer prepare(Long groupId, List<Long> memberIds) {
+        Map<Long, SurveyFeatures> featuresByUser = surveyFeatureService.findFeatures(memberIds);
+        int n = memberIds.size();
+        SurveyFeatures[] features = new SurveyFeatures[n];
+        for (int i = 0; i < n; i++) {
+            features[i] = featuresByUser.get(memberIds.get(i));
+        }
+
+        float[] scores = new float[n * n];
+        for (int manitto = 0; manitto < n; manitto++) {
+            if (features[manitto] == null) {
+                continue;
+            }
+            for (int manittee = 0; manittee < n; manittee++) {
+                if (manitto != manittee && features[manittee] != null) {
+                    scores[manitto * n + manittee] = (float) score(features[manitto], features[manittee]);
+                }
+            }
+        }
+        return (manitto, manittee) -> scores[manitto * n + manittee];
+    }
+
+    /**
+     * 두 사용자 특성의 선호도 (-0.2 ~ 1.0)
+     */
+    static double score(SurveyFeatures manitto, SurveyFeatures manittee) {
+        double hobby = SurveyFeatures.jaccard(manitto.getHobbies(), manittee.getHobbies());
+        double likedFood = SurveyFeatures.jaccard(manitto.getLikedFoods(), manittee.getLikedFoods());
+        double mbti = 1.0 - (double) SurveyFeatures.axisDistance(manitto.getMbtiAxes(), manittee.getMbtiAxes())
+                / SurveyFeatures.MAX_AXIS_DISTANCE;
+
+        int liked = SurveyFeatures.cardinality(manitto.getLikedFoods());
+        double conflict = liked == 0 ? 0
+                : (double) SurveyFeatures.intersection(manitto.getLikedFoods(), manittee.getDislikedFoods()) / liked;
+
+        return HOBBY_WEIGHT * hobby + LIKED_FOOD_WEIGHT * likedFood + MBTI_WEIGHT * mbti
+                - FOOD_CONFLICT_WEIGHT * conflict;
+    }
+}
@@ -1,6 +1,5 @@
 package com.ktb.marong.service.mission;
 
-import com.ktb.marong.common.util.WeekCalculator;
 import com.ktb.marong.domain.group.Group;
 import com.ktb.marong.domain.mission.GroupMission;
 import com.ktb.marong.domain.mission.Mission;
@@ -12,6 +11,7 @@ import com.ktb.marong.dto.response.mission.SelectMissionResponseDto;
 import com.ktb.marong.exception.CustomException;
 import com.ktb.marong.exception.ErrorCode;
 import com.ktb.marong.repository.*;
+import com.ktb.marong.service.manitto.ManittoCycleClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,6 +34,7 @@ public class MissionService {
     private final UserGroupRepository userGroupRepository;
     private final ManittoRepository manittoRepository;
     private final UserMissionRepository userMissionRepository;
+    private final ManittoCycleClock cycleClock;
 
     private static final int MAX_DAILY_SELECTIONS_PER_MISSION = 5;
 
@@ -56,12 +57,12 @@ public class MissionService {
         }
 
         // 2. 마니또 매칭 확인
-        int currentWeek = WeekCalculator.getCurrentWeek();
+        int currentWeek = cycleClock.getCurrentWeek();
         if (manittoRepository.findByManittoIdAndGroupIdAndWeek(userId, groupId, currentWeek).isEmpty()) {
             throw new CustomException(ErrorCode.MANITTO_NOT_FOUND, "마니또 매칭이 되지 않아 미션을 선택할 수 없습니다.");
         }
 
-        LocalDate today = LocalDate.now();
+        LocalDate today = cycleClock.today();
 
         // 3. 오늘 이미 선택한 미션이 있는지 확인
         List<UserMission> todayMissions = userMissionRepository.findTodaysInProgressMissionsByUserAndGroup(
@@ -160,12 +161,12 @@ public class MissionService {
         }
 
         // 2. 마니또 매칭 확인
-        int currentWeek = WeekCalculator.getCurrentWeek();
+        int currentWeek = cycleClock.getCurrentWeek();
         if (manittoRepository.findByManittoIdAndGroupIdAndWeek(userId, requestDto.getGroupId(), currentWeek).isEmpty()) {
             throw new CustomException(ErrorCode.MANITTO_NOT_FOUND, "마니또 매칭이 되지 않아 미션을 선택할 수 없습니다.");
         }
 
-        LocalDate today = LocalDate.now();
+        LocalDate today = cycleClock.today();
 
         // 3. 해당 미션이 현재 주차에 생성되어 있는지 확인
         if (!groupMissionRepository.existsByGroupIdAndMissionIdAndWeek(requestDto.getGroupId(), requestDto.getMissionId(), currentWeek)) {
@@ -201,7 +202,13 @@ public class MissionService {
                     "해당 미션은 선택할 수 있는 인원이 마감되었습니다.");
         }
 
-        // 7. 미션 선택 및 저장
+        // 7. GroupMission의 remaining_count 감소 (다른 요청이 먼저 마감시켰으면 실패)
+        if (groupMissionRepository.decreaseRemainingCount(groupMission.getId()) == 0) {
+            throw new CustomException(ErrorCode.DAILY_MISSION_LIMIT_EXCEEDED,
+                    "해당 미션은 선택할 수 있는 인원이 마감되었습니다.");
+        }
+
+        // 8. 미션 선택 및 저장
         UserMission userMission = UserMission.builder()
                 .user(user)
                 .groupId(requestDto.getGroupId())
@@ -213,12 +220,8 @@ public class MissionService {
 
         UserMission savedMission = userMissionRepository.save(userMission);
 
-        // 8. GroupMission의 remaining_count 감소
-        groupMission.decreaseRemainingCount();
-        groupMissionRepository.save(groupMission);
-
         log.info("미션 선택 완료: userId={}, missionId={}, groupId={}, userMissionId={}, remainingCount={}",
-                userId, requestDto.getMissionId(), requestDto.getGroupId(), savedMission.getId(), groupMission.getRemainingCount());
+                userId, requestDto.getMissionId(), requestDto.getGroupId(), savedMission.getId(), groupMission.getRemainingCount() - 1);
 
         return SelectMissionResponseDto.builder()
                 .missionId(mission.getId())
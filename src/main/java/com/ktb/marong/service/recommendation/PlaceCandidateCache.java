@@ -0,0 +1,113 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.common.cache.CacheNames;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import com.ktb.marong.service.manitto.ManittoPeriod;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 마니또-마니띠 쌍별 주차 장소 추천 후보 캐시
+ * 추천 세션은 한 주 동안 바뀌지 않으므로 후보 목록 전체를 (주차, 마니또, 마니띠) 단위로 캐싱하고
+ * 요청마다 메모리에서 1개씩 뽑음 (다시 뽑기 요청은 DB 조회 없음)
+ * - 키에 주차가 들어가므로 다음 주 매칭 이후에는 이전 주 항목을 읽지 않음
+ * - 매칭 경계(활동 기간 시작)에서 전체 삭제하여 지난 주 항목이 남지 않도록 함
+ */
+@Slf4j
+@Component
+public class PlaceCandidateCache {
+
+    private final Cache cache;
+
+    public PlaceCandidateCache(CacheManager cacheManager) {
+        Cache configured = cacheManager.getCache(CacheNames.PLACE_CANDIDATES);
+        // 읽기 전용 후보라 트랜잭션과 무관하게 바로 반영되는 원본 캐시 사용
+        this.cache = configured instanceof TransactionAwareCacheDecorator decorator
+                ? decorator.getTargetCache() : configured;
+    }
+
+    /**
+     * 캐시된 후보 (없으면 null)
+     */
+    public Candidates get(int week, Long manittoId, Long manitteeId) {
+        return cache.get(cacheKey(week, manittoId, manitteeId), Candidates.class);
+    }
+
+    public void put(int week, Long manittoId, Long manitteeId, Candidates candidates) {
+        cache.put(cacheKey(week, manittoId, manitteeId), candidates);
+    }
+
+    /**
+     * 쌍의 후보 삭제 (추천 세션이 새로 생성된 경우)
+     */
+    public void evict(int week, Long manittoId, Long manitteeId) {
+        cache.evict(cacheKey(week, manittoId, manitteeId));
+    }
+
+    @EventListener
+    public void onPhaseChanged(ManittoPhaseChangedEvent event) {
+        if (event.getCurrentPeriod() == ManittoPeriod.MANITTO_ACTIVE) {
+            cache.clear();
+            log.debug("장소 추천 후보 캐시 초기화: week={}", event.getWeek());
+        }
+    }
+
+    private static String cacheKey(int week, Long manittoId, Long manitteeId) {
+        return week + ":" + manittoId + ":" + manitteeId;
+    }
+
+    /**
+     * 한 쌍의 주차 추천 후보 (밥집, 카페)
+     */
+    @Getter
+    public static class Candidates implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Candidate> restaurants;
+        private final List<Candidate> cafes;
+
+        public Candidates(List<Candidate> restaurants, List<Candidate> cafes) {
+            this.restaurants = restaurants;
+            this.cafes = cafes;
+        }
+
+        public boolean isEmpty() {
+            return restaurants.isEmpty() && cafes.isEmpty();
+        }
+    }
+
+    /**
+     * 추천 장소 한 곳
+     */
+    @Getter
+    public static class Candidate implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final String category;
+        private final String hours;
+        private final String address;
+        private final Double latitude;
+        private final Double longitude;
+
+        public Candidate(String name, String category, String hours, String address,
+                         Double latitude, Double longitude) {
+            this.name = name;
+            this.category = category;
+            this.hours = hours;
+            this.address = address;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
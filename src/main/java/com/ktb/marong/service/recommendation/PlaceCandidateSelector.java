@@ -0,0 +1,70 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.domain.recommendation.Place;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 마니띠 음식 취향 기반 장소 후보 선택 (장소 카탈로그 사용, DB 조회 없음)
+ * 기준 좌표 근처에서 싫어하는 음식이 들어간 장소를 제외하고, 좋아하는 음식이 들어간 장소를 앞에 둠
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceCandidateSelector {
+
+    // 좋아하는 음식 우선 정렬을 위해 후보 수의 몇 배까지 가까운 장소를 살펴볼지
+    private static final int POOL_FACTOR = 3;
+
+    private final PlaceCatalog placeCatalog;
+
+    // 카탈로그 추천 기준 좌표 (기본값: 카카오테크 부트캠프 판교 캠퍼스)
+    @Value("${marong.recommendation.place.latitude:37.4005}")
+    private double latitude;
+
+    @Value("${marong.recommendation.place.longitude:127.1086}")
+    private double longitude;
+
+    // 쌍별 후보 수 (이 중 랜덤 1개 추천)
+    @Value("${marong.recommendation.place.candidates:10}")
+    private int candidates;
+
+    @Value("${marong.recommendation.place.max-distance-meters:3000}")
+    private double maxDistanceMeters;
+
+    /**
+     * 장소 타입별 후보 (좋아하는 음식이 들어간 장소 우선, 그 안에서는 가까운 순)
+     * 싫어하는 음식을 제외하면 후보가 없을 때는 제외 없이 다시 찾음 (추천이 비지 않도록)
+     */
+    public List<Place> select(String type, List<String> likedFoods, List<String> dislikedFoods) {
+        int poolSize = candidates * POOL_FACTOR;
+        List<Place> pool = placeCatalog.findNearest(type, latitude, longitude, poolSize, maxDistanceMeters,
+                dislikedFoods);
+        if (pool.isEmpty() && !dislikedFoods.isEmpty()) {
+            pool = placeCatalog.findNearest(type, latitude, longitude, poolSize, maxDistanceMeters, List.of());
+        }
+
+        List<Place> liked = new ArrayList<>();
+        List<Place> others = new ArrayList<>();
+        for (Place place : pool) {
+            (matchesAny(place, likedFoods) ? liked : others).add(place);
+        }
+        liked.addAll(others);
+        return liked.size() > candidates ? new ArrayList<>(liked.subList(0, candidates)) : liked;
+    }
+
+    private static boolean matchesAny(Place place, List<String> foods) {
+        String text = ((place.getName() == null ? "" : place.getName()) + " "
+                + (place.getCategory() == null ? "" : place.getCategory())).toLowerCase(Locale.ROOT);
+        for (String food : foods) {
+            if (food != null && !food.isBlank() && text.contains(food.strip().toLowerCase(Locale.ROOT))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,156 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.domain.recommendation.Place;
+import com.ktb.marong.repository.PlaceRecommendationRepository;
+import com.ktb.marong.repository.PlaceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 장소 카탈로그 메모리 인덱스
+ * Places 테이블 전체를 타입(밥집/카페)별 격자 인덱스로 올려 두고, 기준 좌표 근처 장소를 DB 조회 없이 찾음
+ * - 시작 시 기존 추천 세션의 장소 중 카탈로그에 없는 것을 가져온 뒤 인덱스 생성
+ * - 주기적으로 다시 읽어 새로 등록된 장소 반영 (인덱스 교체는 참조 하나만 바꾸므로 조회 중에도 안전)
+ */
+@Slf4j
+@Component
+public class PlaceCatalog {
+
+    private static final double CELL_DEGREES = 0.005;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceRecommendationRepository placeRecommendationRepository;
+    private final boolean importOnStartup;
+
+    private volatile Map<String, PlaceGridIndex> indexes = Collections.emptyMap();
+
+    public PlaceCatalog(PlaceRepository placeRepository,
+                        PlaceRecommendationRepository placeRecommendationRepository,
+                        @Value("${marong.recommendation.place.import-on-startup:true}") boolean importOnStartup) {
+        this.placeRepository = placeRepository;
+        this.placeRecommendationRepository = placeRecommendationRepository;
+        this.importOnStartup = importOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (importOnStartup) {
+            try {
+                importFromRecommendations();
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 장소를 먼저 등록한 경우 -> 등록된 카탈로그 그대로 사용
+                log.warn("추천 세션 장소 카탈로그 등록 충돌: {}", e.getMessage());
+            }
+        }
+        reload();
+    }
+
+    /**
+     * Places 테이블을 다시 읽어 인덱스 교체
+     */
+    @Scheduled(initialDelayString = "${marong.recommendation.place.catalog-refresh-interval-ms:3600000}",
+            fixedDelayString = "${marong.recommendation.place.catalog-refresh-interval-ms:3600000}")
+    public void reload() {
+        Map<String, List<Place>> placesByType = new HashMap<>();
+        for (Place place : placeRepository.findAll()) {
+            placesByType.computeIfAbsent(place.getType(), key -> new ArrayList<>()).add(place);
+        }
+
+        Map<String, PlaceGridIndex> reloaded = new HashMap<>();
+        placesByType.forEach((type, places) -> reloaded.put(type, new PlaceGridIndex(places, CELL_DEGREES)));
+        indexes = reloaded;
+
+        log.info("장소 카탈로그 로드: restaurants={}, cafes={}",
+                size(Place.TYPE_RESTAURANT), size(Place.TYPE_CAFE));
+    }
+
+    /**
+     * 기준 좌표에서 가까운 장소 최대 k개 (이름/카테고리에 제외 음식이 들어간 장소는 제외)
+     */
+    public List<Place> findNearest(String type, double latitude, double longitude, int k,
+                                   double maxDistanceMeters, Collection<String> excludedFoods) {
+        PlaceGridIndex index = indexes.get(type);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> excluded = normalize(excludedFoods);
+        if (excluded.isEmpty()) {
+            return index.findNearest(latitude, longitude, k, maxDistanceMeters, place -> true);
+        }
+        return index.findNearest(latitude, longitude, k, maxDistanceMeters,
+                place -> !containsAny(place.getName(), excluded) && !containsAny(place.getCategory(), excluded));
+    }
+
+    public int size(String type) {
+        PlaceGridIndex index = indexes.get(type);
+        return index == null ? 0 : index.size();
+    }
+
+    /**
+     * 추천 세션별로 중복 저장된 장소 중 카탈로그에 없는 것을 한 번씩만 등록
+     * @return 등록한 장소 수
+     */
+    public int importFromRecommendations() {
+        Map<String, Place> places = new LinkedHashMap<>();
+        for (Object[] row : placeRecommendationRepository.findPlacesNotInCatalog()) {
+            Place place = Place.builder()
+                    .type((String) row[0])
+                    .name((String) row[1])
+                    .category((String) row[2])
+                    .openingHours((String) row[3])
+                    .address((String) row[4])
+                    .latitude((Double) row[5])
+                    .longitude((Double) row[6])
+                    .build();
+            // 영업시간 등만 다른 같은 장소는 먼저 나온 것 사용
+            places.putIfAbsent(place.getName() + "\n" + place.getAddress(), place);
+        }
+
+        if (!places.isEmpty()) {
+            placeRepository.saveAll(places.values());
+            log.info("추천 세션 장소를 카탈로그로 등록: places={}", places.size());
+        }
+        return places.size();
+    }
+
+    private static List<String> normalize(Collection<String> foods) {
+        List<String> normalized = new ArrayList<>();
+        if (foods == null) {
+            return normalized;
+        }
+        for (String food : foods) {
+            if (food != null && !food.isBlank()) {
+                normalized.add(food.strip().toLowerCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+
+    private static boolean containsAny(String text, List<String> keywords) {
+        if (text == null) {
+            return false;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String keyword : keywords) {
+            if (lower.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
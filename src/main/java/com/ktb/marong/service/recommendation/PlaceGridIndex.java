@@ -0,0 +1,146 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.domain.recommendation.Place;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * 위경도 격자 기반 장소 공간 인덱스 (생성 후 변경하지 않음, 여러 스레드에서 동시에 조회 가능)
+ * 기준 좌표가 속한 칸부터 바깥 고리로 넓혀 가며 가까운 장소를 찾고,
+ * 다음 고리의 최소 거리가 현재 k번째 거리보다 멀어지면 탐색 종료
+ */
+public class PlaceGridIndex {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_METERS;
+
+    private final double cellDegrees;
+    private final Map<Long, List<Place>> cells = new HashMap<>();
+    private final int size;
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+
+    /**
+     * @param cellDegrees 격자 한 칸의 크기 (도 단위, 0.005도 ≈ 위도 방향 550m)
+     */
+    public PlaceGridIndex(Collection<Place> places, double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+        for (Place place : places) {
+            int row = row(place.getLatitude());
+            int col = col(place.getLongitude());
+            cells.computeIfAbsent(cellKey(row, col), key -> new ArrayList<>()).add(place);
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            minCol = Math.min(minCol, col);
+            maxCol = Math.max(maxCol, col);
+        }
+        this.size = places.size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 기준 좌표에서 가까운 순으로 조건을 만족하는 장소 최대 k개
+     * @param maxDistanceMeters 이보다 먼 장소는 제외 (조건을 만족하는 장소가 드물 때 탐색 범위 제한)
+     */
+    public List<Place> findNearest(double latitude, double longitude, int k, double maxDistanceMeters,
+                                   Predicate<Place> filter) {
+        if (size == 0 || k <= 0) {
+            return Collections.emptyList();
+        }
+
+        int row = row(latitude);
+        int col = col(longitude);
+        // 경도 방향 칸이 위도 방향보다 짧으므로 경도 방향 길이를 칸 크기로 사용 (탐색 종료 조건이 보수적이 되도록)
+        double cellMeters = cellDegrees * METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+        int lastRing = Math.max(Math.max(Math.abs(row - minRow), Math.abs(row - maxRow)),
+                Math.max(Math.abs(col - minCol), Math.abs(col - maxCol)));
+        lastRing = Math.min(lastRing, (int) Math.ceil(maxDistanceMeters / cellMeters) + 1);
+
+        // 현재까지 가장 가까운 k개 (가장 먼 것이 맨 앞)
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(k, (a, b) -> Double.compare(b.distance, a.distance));
+        for (int ring = 0; ring <= lastRing; ring++) {
+            for (int r = row - ring; r <= row + ring; r++) {
+                boolean edgeRow = r == row - ring || r == row + ring;
+                int step = edgeRow ? 1 : 2 * ring;
+                for (int c = col - ring; c <= col + ring; c += step) {
+                    collect(cells.get(cellKey(r, c)), latitude, longitude, k, maxDistanceMeters, filter, nearest);
+                }
+            }
+            // 다음 고리의 장소는 최소 ring칸 이상 떨어져 있음
+            if (nearest.size() == k && nearest.peek().distance <= ring * cellMeters) {
+                break;
+            }
+        }
+
+        List<Place> result = new ArrayList<>(nearest.size());
+        while (!nearest.isEmpty()) {
+            result.add(nearest.poll().place);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 두 좌표 사이 거리 (m, 등장방형 근사 - 도시 규모 거리에서 충분히 정확)
+     */
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double x = Math.toRadians(lng2 - lng1) * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        double y = Math.toRadians(lat2 - lat1);
+        return Math.sqrt(x * x + y * y) * EARTH_RADIUS_METERS;
+    }
+
+    private static void collect(List<Place> cell, double latitude, double longitude, int k,
+                                double maxDistanceMeters, Predicate<Place> filter,
+                                PriorityQueue<Candidate> nearest) {
+        if (cell == null) {
+            return;
+        }
+        for (Place place : cell) {
+            double distance = distanceMeters(latitude, longitude, place.getLatitude(), place.getLongitude());
+            if (distance > maxDistanceMeters || (nearest.size() == k && distance >= nearest.peek().distance)) {
+                continue;
+            }
+            if (!filter.test(place)) {
+                continue;
+            }
+            if (nearest.size() == k) {
+                nearest.poll();
+            }
+            nearest.add(new Candidate(place, distance));
+        }
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellDegrees);
+    }
+
+    private int col(double longitude) {
+        return (int) Math.floor(longitude / cellDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static class Candidate {
+        private final Place place;
+        private final double distance;
+
+        private Candidate(Place place, double distance) {
+            this.place = place;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.event.ManittoPairsCreatedEvent;
+import com.ktb.marong.repository.ManittoRepository;
+import com.ktb.marong.service.manitto.ManittoCycleClock;
+import com.ktb.marong.service.manitto.ManittoPeriod;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 장소 추천 세션 일괄 생성
+ * 마니또 매칭 직후(월요일 12시) 새로 생긴 모든 쌍의 추천 세션/장소를 그룹별 병렬로 미리 만들어,
+ * 사용자가 앱을 열었을 때 추천 조회가 세션 조회 한 번으로 끝나도록 함
+ * - 매칭 엔진의 ManittoPairsCreatedEvent(주차 매칭, 신규 멤버 합류)로 실행
+ * - 다른 인스턴스가 매칭했거나 이벤트를 놓친 경우를 위해 매칭 직후 예약 실행으로 한 번 더 확인
+ * - 세션을 만든 쌍은 캐시된 후보(카탈로그 기반)를 지워 다음 조회부터 세션 후보를 사용
+ */
+@Slf4j
+@Service
+public class PlaceRecommendationPrecomputer {
+
+    private final PlaceRecommendationSessionWriter sessionWriter;
+    private final PlaceCandidateCache candidateCache;
+    private final ManittoRepository manittoRepository;
+    private final ManittoCycleClock cycleClock;
+    private final ForkJoinPool pool;
+    private final boolean enabled;
+
+    public PlaceRecommendationPrecomputer(PlaceRecommendationSessionWriter sessionWriter,
+                                          PlaceCandidateCache candidateCache,
+                                          ManittoRepository manittoRepository,
+                                          ManittoCycleClock cycleClock,
+                                          @Value("${marong.recommendation.place.precompute.parallelism:4}") int parallelism,
+                                          @Value("${marong.recommendation.place.precompute.enabled:true}") boolean enabled) {
+        this.sessionWriter = sessionWriter;
+        this.candidateCache = candidateCache;
+        this.manittoRepository = manittoRepository;
+        this.cycleClock = cycleClock;
+        // 그룹마다 DB 커넥션을 하나씩 쓰므로 커넥션 풀 크기보다 작게 유지
+        this.pool = new ForkJoinPool(parallelism);
+        this.enabled = enabled;
+    }
+
+    /**
+     * 그룹들의 주차 추천 세션 생성 (이미 세션이 있는 쌍은 건너뜀)
+     * @return 세션을 만든 쌍 수
+     */
+    public int precompute(int week, List<Long> groupIds) {
+        long startedAt = System.currentTimeMillis();
+        List<Callable<Integer>> tasks = new ArrayList<>(groupIds.size());
+        for (Long groupId : groupIds) {
+            tasks.add(() -> writeGroupSafely(groupId, week));
+        }
+
+        int sessions = 0;
+        for (Future<Integer> result : pool.invokeAll(tasks)) {
+            sessions += join(result);
+        }
+
+        if (sessions > 0) {
+            log.info("장소 추천 세션 일괄 생성 완료: week={}, groups={}, sessions={}, elapsedMs={}",
+                    week, groupIds.size(), sessions, System.currentTimeMillis() - startedAt);
+        }
+        return sessions;
+    }
+
+    /**
+     * 매칭된 모든 그룹의 주차 추천 세션 생성
+     */
+    public int precomputeWeek(int week) {
+        List<Long> groupIds = manittoRepository.findMatchedGroupIdsByWeek(week);
+        return groupIds.isEmpty() ? 0 : precompute(week, groupIds);
+    }
+
+    @EventListener
+    public void onPairsCreated(ManittoPairsCreatedEvent event) {
+        if (enabled) {
+            runAsync(() -> precompute(event.getWeek(), event.getGroupIds()), event.getWeek());
+        }
+    }
+
+    /**
+     * 매칭 직후 누락 확인 (매칭 엔진이 다른 인스턴스에서 실행된 경우 포함)
+     */
+    @Scheduled(cron = "0 5 12 * * MON")
+    public void precomputeAfterMatching() {
+        if (enabled && cycleClock.getCurrentPeriod() == ManittoPeriod.MANITTO_ACTIVE) {
+            int week = cycleClock.getCurrentWeek();
+            runAsync(() -> precomputeWeek(week), week);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private void runAsync(Runnable work, int week) {
+        CompletableFuture.runAsync(work, pool)
+                .exceptionally(e -> {
+                    log.error("장소 추천 세션 일괄 생성 실패: week={}", week, e);
+                    return null;
+                });
+    }
+
+    private int writeGroupSafely(Long groupId, int week) {
+        try {
+            List<Long[]> pairs = sessionWriter.writeGroup(groupId, week);
+            for (Long[] pair : pairs) {
+                candidateCache.evict(week, pair[0], pair[1]);
+            }
+            return pairs.size();
+        } catch (Exception e) {
+            // 한 그룹 실패가 다른 그룹을 막지 않도록 함 (세션이 없으면 조회 시 카탈로그 후보 사용)
+            log.error("그룹 장소 추천 세션 생성 실패: groupId={}, week={}", groupId, week, e);
+            return 0;
+        }
+    }
+
+    private static int join(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (ExecutionException e) {
+            return 0;
+        }
+    }
+}
@@ -1,62 +1,76 @@
 package com.ktb.marong.service.recommendation;
 
-import com.ktb.marong.common.util.WeekCalculator;
-import com.ktb.marong.domain.group.Group;
 import com.ktb.marong.domain.manitto.Manitto;
+import com.ktb.marong.domain.recommendation.Place;
 import com.ktb.marong.domain.recommendation.PlaceRecommendation;
-import com.ktb.marong.domain.recommendation.PlaceRecommendationSession;
-import com.ktb.marong.domain.user.User;
 import com.ktb.marong.dto.response.recommendation.PlaceRecommendationResponseDto;
 import com.ktb.marong.exception.CustomException;
 import com.ktb.marong.exception.ErrorCode;
 import com.ktb.marong.repository.*;
-import lombok.RequiredArgsConstructor;
+import com.ktb.marong.service.manitto.ManittoCycleClock;
+import com.ktb.marong.service.survey.SurveyAnswerLoader;
+import com.ktb.marong.service.survey.SurveyAnswers;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PlaceRecommendationService {
 
-    private final UserRepository userRepository;
     private final UserGroupRepository userGroupRepository;
     private final ManittoRepository manittoRepository;
-    private final PlaceRecommendationSessionRepository sessionRepository;
     private final PlaceRecommendationRepository placeRepository;
-    private final GroupRepository groupRepository;
+    private final ManittoCycleClock cycleClock;
+    private final PlaceCandidateSelector candidateSelector;
+    private final PlaceCandidateCache candidateCache;
+    private final SurveyAnswerLoader surveyAnswerLoader;
+    private final TransactionTemplate primaryTransaction;
+
+    public PlaceRecommendationService(UserGroupRepository userGroupRepository, ManittoRepository manittoRepository,
+                                      PlaceRecommendationRepository placeRepository, ManittoCycleClock cycleClock,
+                                      PlaceCandidateSelector candidateSelector, PlaceCandidateCache candidateCache,
+                                      SurveyAnswerLoader surveyAnswerLoader,
+                                      PlatformTransactionManager transactionManager) {
+        this.userGroupRepository = userGroupRepository;
+        this.manittoRepository = manittoRepository;
+        this.placeRepository = placeRepository;
+        this.cycleClock = cycleClock;
+        this.candidateSelector = candidateSelector;
+        this.candidateCache = candidateCache;
+        this.surveyAnswerLoader = surveyAnswerLoader;
+        // 캐시에 넣을 후보는 호출한 쪽의 읽기 전용 트랜잭션(replica)이 아닌 별도 쓰기 트랜잭션(primary)에서 조회
+        // (매칭 직후 아직 복제되지 않은 세션 대신 카탈로그 후보가 한 주 동안 캐시되지 않도록)
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * 장소 추천 조회 (밥집 & 카페) - 그룹별 분리
+     * 쌍별 후보 목록은 주차 단위로 캐싱되므로, 같은 주의 다시 뽑기 요청은 소속/매칭 확인 외에 DB 조회 없음
      */
     @Transactional(readOnly = true)
     public PlaceRecommendationResponseDto getPlaceRecommendations(Long userId, Long groupId) {
         log.info("장소 추천 조회 시작: userId={}, groupId={}", userId, groupId);
 
-        // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // 2. 그룹 존재 여부 확인 (추가)
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new CustomException(ErrorCode.GROUP_NOT_FOUND));
-
-        // 3. 사용자가 해당 그룹에 속해있는지 확인
+        // 1. 사용자가 해당 그룹에 속해있는지 확인 (소속 여부 캐시 사용, 그룹 존재 여부도 함께 확인됨)
         if (!userGroupRepository.existsByUserIdAndGroupId(userId, groupId)) {
             throw new CustomException(ErrorCode.GROUP_NOT_FOUND,
                     "해당 그룹에 속하지 않은 사용자입니다.");
         }
 
-        // 4. 현재 주차 계산
-        int currentWeek = WeekCalculator.getCurrentWeek();
-        log.info("현재 주차: {}", currentWeek);
+        // 2. 현재 주차 계산
+        int currentWeek = cycleClock.getCurrentWeek();
 
-        // 5. 현재 주차에 해당하는 마니또 매칭 정보 조회 (그룹별)
+        // 3. 현재 주차에 해당하는 마니또 매칭 정보 조회 (그룹별, 주 중 신규 멤버 합류로 마니띠가 바뀔 수 있어 매번 확인)
         List<Manitto> manittoList = manittoRepository.findByManittoIdAndGroupIdAndWeek(userId, groupId, currentWeek);
 
         if (manittoList.isEmpty()) {
@@ -65,38 +79,31 @@ public class PlaceRecommendationService {
                     String.format("해당 그룹(ID: %d)에서 마니또 매칭 정보가 없어 장소 추천을 제공할 수 없습니다.", groupId));
         }
 
-        // 6. 매칭된 마니또 정보
+        // 4. 매칭된 마니또 정보
         Manitto manitto = manittoList.get(0);
         Long manitteeId = manitto.getManittee().getId();
-        log.info("마니또 매칭 정보: manittoId={}, manitteeId={}, groupId={}, week={}",
-                userId, manitteeId, groupId, currentWeek);
-
-        // 7. 장소 추천 세션 조회 - 마니또-마니띠 쌍으로 조회
-        List<PlaceRecommendationSession> sessions = sessionRepository.findByManittoIdAndManitteeIdAndWeek(
-                userId, manitteeId, currentWeek);
-
-        if (sessions.isEmpty()) {
-            log.warn("장소 추천 세션 없음: manittoId={}, manitteeId={}, week={}", userId, manitteeId, currentWeek);
-            throw new CustomException(ErrorCode.RECOMMENDATION_NOT_FOUND,
-                    String.format("마니또-마니띠 매칭(마니또: %d → 마니띠: %d)에 대한 %d주차 장소 추천 정보가 없습니다.",
-                            userId, manitteeId, currentWeek));
-        }
-
-        // 8. 현재 세션
-        PlaceRecommendationSession session = sessions.get(0);
-        log.info("장소 추천 세션 정보: sessionId={}, manittoId={}, manitteeId={}, week={}",
-                session.getId(), session.getManitto().getId(), session.getManittee().getId(), currentWeek);
 
-        // 9. 레스토랑 목록 조회 및 DTO 변환
-        List<PlaceRecommendationResponseDto.PlaceDto> restaurants = getRandomPlaces(session.getId(), "restaurant");
+        // 5. 마니또-마니띠 쌍의 주차 후보 (캐시에 없으면 primary에서 적재)
+        PlaceCandidateCache.Candidates candidates = candidateCache.get(currentWeek, userId, manitteeId);
+        if (candidates == null) {
+            candidates = primaryTransaction.execute(status -> loadCandidates(userId, manitteeId, currentWeek));
+            if (candidates.isEmpty()) {
+                log.warn("장소 추천 정보 없음: manittoId={}, manitteeId={}, week={}", userId, manitteeId, currentWeek);
+                throw new CustomException(ErrorCode.RECOMMENDATION_NOT_FOUND,
+                        String.format("마니또-마니띠 매칭(마니또: %d → 마니띠: %d)에 대한 %d주차 장소 추천 정보가 없습니다.",
+                                userId, manitteeId, currentWeek));
+            }
+            candidateCache.put(currentWeek, userId, manitteeId, candidates);
+        }
 
-        // 10. 카페 목록 조회 및 DTO 변환
-        List<PlaceRecommendationResponseDto.PlaceDto> cafes = getRandomPlaces(session.getId(), "cafe");
+        // 6. 밥집/카페 각각 랜덤 1개
+        List<PlaceRecommendationResponseDto.PlaceDto> restaurants = pickRandom(candidates.getRestaurants());
+        List<PlaceRecommendationResponseDto.PlaceDto> cafes = pickRandom(candidates.getCafes());
 
-        log.info("장소 추천 조회 완료: userId={}, groupId={}, sessionId={}, restaurants={}, cafes={}",
-                userId, groupId, session.getId(), restaurants.size(), cafes.size());
+        log.info("장소 추천 조회 완료: userId={}, groupId={}, restaurants={}, cafes={}",
+                userId, groupId, restaurants.size(), cafes.size());
 
-        // 11. 응답 생성
+        // 7. 응답 생성
         return PlaceRecommendationResponseDto.builder()
                 .restaurants(restaurants)
                 .cafes(cafes)
@@ -114,43 +121,61 @@ public class PlaceRecommendationService {
     }
 
     /**
-     * 장소 타입에 따라 랜덤 장소 목록 조회
-     * 최대 1개만 반환하도록 처리
+     * 쌍의 주차 추천 후보 적재
+     * 추천 세션의 장소(밥집/카페)를 한 번에 조회하고, 세션이 없으면 장소 카탈로그에서 마니띠 음식 취향에 맞춰 선택
      */
-    private List<PlaceRecommendationResponseDto.PlaceDto> getRandomPlaces(Long sessionId, String type) {
-        List<PlaceRecommendation> places = placeRepository.findBySessionIdAndType(sessionId, type);
-
-        // 장소가 없는 경우 빈 목록 반환
-        if (places.isEmpty()) {
-            log.info("장소 추천 없음: sessionId={}, type={}", sessionId, type);
-            return Collections.emptyList();
+    private PlaceCandidateCache.Candidates loadCandidates(Long manittoId, Long manitteeId, int week) {
+        List<PlaceCandidateCache.Candidate> restaurants = new ArrayList<>();
+        List<PlaceCandidateCache.Candidate> cafes = new ArrayList<>();
+        for (PlaceRecommendation place : placeRepository.findSessionPlaces(manittoId, manitteeId, week)) {
+            PlaceCandidateCache.Candidate candidate = new PlaceCandidateCache.Candidate(place.getName(),
+                    place.getCategory(), place.getOpeningHours(), place.getAddress(),
+                    place.getLatitude(), place.getLongitude());
+            if (Place.TYPE_RESTAURANT.equals(place.getType())) {
+                restaurants.add(candidate);
+            } else if (Place.TYPE_CAFE.equals(place.getType())) {
+                cafes.add(candidate);
+            }
         }
 
-        // 랜덤으로 1개 선택
-        Random random = new Random();
-        PlaceRecommendation randomPlace = places.get(random.nextInt(places.size()));
-
-        log.info("장소 추천 선택: sessionId={}, type={}, selectedPlace={}",
-                sessionId, type, randomPlace.getName());
-
-        // DTO 변환
-        PlaceRecommendationResponseDto.PlaceDto placeDto = convertToPlaceDto(randomPlace);
+        if (restaurants.isEmpty() && cafes.isEmpty()) {
+            log.info("장소 추천 세션 없음, 카탈로그 사용: manittoId={}, manitteeId={}, week={}",
+                    manittoId, manitteeId, week);
+            SurveyAnswers manittee = surveyAnswerLoader.load(List.of(manitteeId)).get(manitteeId);
+            List<String> likedFoods = manittee == null ? List.of() : manittee.getLikedFoods();
+            List<String> dislikedFoods = manittee == null ? List.of() : manittee.getDislikedFoods();
+            restaurants = toCandidates(candidateSelector.select(Place.TYPE_RESTAURANT, likedFoods, dislikedFoods));
+            cafes = toCandidates(candidateSelector.select(Place.TYPE_CAFE, likedFoods, dislikedFoods));
+        }
+        return new PlaceCandidateCache.Candidates(restaurants, cafes);
+    }
 
-        // 단일 아이템 리스트로 반환
-        return Collections.singletonList(placeDto);
+    private static List<PlaceCandidateCache.Candidate> toCandidates(List<Place> places) {
+        List<PlaceCandidateCache.Candidate> candidates = new ArrayList<>(places.size());
+        for (Place place : places) {
+            candidates.add(new PlaceCandidateCache.Candidate(place.getName(), place.getCategory(),
+                    place.getOpeningHours(), place.getAddress(), place.getLatitude(), place.getLongitude()));
+        }
+        return candidates;
     }
 
     /**
-     * 장소 엔티티를 DTO로 변환
+     * 후보 중 랜덤 1개 (후보가 없으면 빈 목록)
      */
-    private PlaceRecommendationResponseDto.PlaceDto convertToPlaceDto(PlaceRecommendation place) {
-        return PlaceRecommendationResponseDto.PlaceDto.builder()
+    private static List<PlaceRecommendationResponseDto.PlaceDto> pickRandom(
+            List<PlaceCandidateCache.Candidate> candidates) {
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        PlaceCandidateCache.Candidate place = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        return Collections.singletonList(PlaceRecommendationResponseDto.PlaceDto.builder()
                 .name(place.getName())
                 .category(place.getCategory())
-                .hours(place.getOpeningHours())
+                .hours(place.getHours())
                 .address(place.getAddress())
                 .latitude(place.getLatitude())
                 .longitude(place.getLongitude())
-                .build();
+                .build());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.common.id.EntityIdAllocator;
+import com.ktb.marong.domain.recommendation.Place;
+import com.ktb.marong.domain.recommendation.PlaceRecommendation;
+import com.ktb.marong.domain.recommendation.PlaceRecommendationSession;
+import com.ktb.marong.repository.GroupRepository;
+import com.ktb.marong.repository.ManittoRepository;
+import com.ktb.marong.repository.PlaceRecommendationSessionRepository;
+import com.ktb.marong.service.manitto.ManittoCycleClock;
+import com.ktb.marong.service.survey.SurveyAnswerLoader;
+import com.ktb.marong.service.survey.SurveyAnswers;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 그룹 단위 장소 추천 세션 일괄 생성 (그룹마다 별도 트랜잭션)
+ * - 그룹 행을 잠근 뒤 세션이 없는 쌍만 생성하므로 여러 인스턴스가 동시에 실행해도 한 번만 생성됨
+ * - 마니띠 설문(좋아하는/싫어하는 음식)은 그룹 단위로 한 번에 조회하고, 후보는 장소 카탈로그에서 선택
+ * - 세션/장소는 JDBC 배치로 삽입 (세션 ID는 삽입 후 한 번에 다시 조회, 장소 ID는 EntityIdAllocator에서 발급)
+ */
+@Slf4j
+@Component
+public class PlaceRecommendationSessionWriter {
+
+    private final GroupRepository groupRepository;
+    private final ManittoRepository manittoRepository;
+    private final PlaceRecommendationSessionRepository sessionRepository;
+    private final SurveyAnswerLoader surveyAnswerLoader;
+    private final PlaceCandidateSelector candidateSelector;
+    private final ManittoCycleClock cycleClock;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityIdAllocator idAllocator;
+
+    private final String insertSessionSql;
+    private final String insertPlaceSql;
+
+    public PlaceRecommendationSessionWriter(GroupRepository groupRepository, ManittoRepository manittoRepository,
+                                            PlaceRecommendationSessionRepository sessionRepository,
+                                            SurveyAnswerLoader surveyAnswerLoader,
+                                            PlaceCandidateSelector candidateSelector, ManittoCycleClock cycleClock,
+                                            JdbcTemplate jdbcTemplate, EntityIdAllocator idAllocator,
+                                            EntityManagerFactory entityManagerFactory) {
+        this.groupRepository = groupRepository;
+        this.manittoRepository = manittoRepository;
+        this.sessionRepository = sessionRepository;
+        this.surveyAnswerLoader = surveyAnswerLoader;
+        this.candidateSelector = candidateSelector;
+        this.cycleClock = cycleClock;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+
+        // 네이밍 전략이 적용된 실제 테이블 이름 사용
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.insertSessionSql = "INSERT INTO " + tableOf(sessionFactory, PlaceRecommendationSession.class)
+                + " (manitto_id, manittee_id, week, created_at) VALUES (?, ?, ?, ?)";
+        this.insertPlaceSql = "INSERT INTO " + tableOf(sessionFactory, PlaceRecommendation.class)
+                + " (id, session_id, type, name, category, opening_hours, address, latitude, longitude)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    /**
+     * 그룹의 주차 매칭 쌍 중 추천 세션이 없는 쌍의 세션/장소 생성
+     * @return 세션을 만든 쌍 [manittoId, manitteeId] (카탈로그가 비어 있으면 만들지 않음)
+     */
+    @Transactional
+    public List<Long[]> writeGroup(Long groupId, int week) {
+        // 1. 그룹 잠금 후 주차 매칭 쌍 (id, week, manittoId, manitteeId)
+        if (groupRepository.findByIdForUpdate(groupId).isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> pairs = manittoRepository.findPairsByGroupIdAndWeekBetween(groupId, week, week);
+        if (pairs.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 이미 세션이 있는 쌍 제외
+        Set<Long> manittoIds = new HashSet<>();
+        for (Object[] pair : pairs) {
+            manittoIds.add((Long) pair[2]);
+        }
+        Set<String> existing = new HashSet<>();
+        for (Object[] key : sessionRepository.findSessionKeysByWeekAndManittoIdIn(week, manittoIds)) {
+            existing.add(pairKey((Long) key[1], (Long) key[2]));
+        }
+        List<Long[]> newPairs = new ArrayList<>();
+        for (Object[] pair : pairs) {
+            if (!existing.contains(pairKey((Long) pair[2], (Long) pair[3]))) {
+                newPairs.add(new Long[]{(Long) pair[2], (Long) pair[3]});
+            }
+        }
+        if (newPairs.isEmpty()) {
+            return List.of();
+        }
+
+        // 3. 마니띠 음식 취향으로 후보 선택 (같은 마니띠는 한 번만 계산)
+        Set<Long> manitteeIds = new HashSet<>();
+        for (Long[] pair : newPairs) {
+            manitteeIds.add(pair[1]);
+        }
+        Map<Long, SurveyAnswers> answers = surveyAnswerLoader.load(manitteeIds);
+        Map<Long, List<Place>> placesByManittee = new HashMap<>();
+        for (Long manitteeId : manitteeIds) {
+            SurveyAnswers manittee = answers.get(manitteeId);
+            List<String> likedFoods = manittee == null ? List.of() : manittee.getLikedFoods();
+            List<String> dislikedFoods = manittee == null ? List.of() : manittee.getDislikedFoods();
+            List<Place> places = new ArrayList<>(
+                    candidateSelector.select(Place.TYPE_RESTAURANT, likedFoods, dislikedFoods));
+            places.addAll(candidateSelector.select(Place.TYPE_CAFE, likedFoods, dislikedFoods));
+            if (!places.isEmpty()) {
+                placesByManittee.put(manitteeId, places);
+            }
+        }
+        newPairs.removeIf(pair -> !placesByManittee.containsKey(pair[1]));
+        if (newPairs.isEmpty()) {
+            return List.of();
+        }
+
+        // 4. 세션 일괄 삽입 후 생성된 세션 ID 조회
+        Timestamp createdAt = Timestamp.valueOf(cycleClock.now());
+        List<Object[]> sessionRows = new ArrayList<>(newPairs.size());
+        for (Long[] pair : newPairs) {
+            sessionRows.add(new Object[]{pair[0], pair[1], week, createdAt});
+        }
+        jdbcTemplate.batchUpdate(insertSessionSql, sessionRows);
+
+        Map<String, Long> sessionIds = new HashMap<>();
+        for (Object[] key : sessionRepository.findSessionKeysByWeekAndManittoIdIn(week, manittoIds)) {
+            sessionIds.merge(pairKey((Long) key[1], (Long) key[2]), (Long) key[0], Math::min);
+        }
+
+        // 5. 장소 일괄 삽입
+        int placeCount = 0;
+        for (Long[] pair : newPairs) {
+            placeCount += placesByManittee.get(pair[1]).size();
+        }
+        long[] placeIds = idAllocator.allocate(PlaceRecommendation.class, placeCount);
+        List<Object[]> placeRows = new ArrayList<>(placeCount);
+        for (Long[] pair : newPairs) {
+            Long sessionId = sessionIds.get(pairKey(pair[0], pair[1]));
+            for (Place place : placesByManittee.get(pair[1])) {
+                placeRows.add(new Object[]{placeIds[placeRows.size()], sessionId, place.getType(), place.getName(),
+                        place.getCategory(), place.getOpeningHours(), place.getAddress(),
+                        place.getLatitude(), place.getLongitude()});
+            }
+        }
+        jdbcTemplate.batchUpdate(insertPlaceSql, placeRows);
+
+        log.debug("장소 추천 세션 생성: groupId={}, week={}, sessions={}, places={}",
+                groupId, week, newPairs.size(), placeRows.size());
+        return newPairs;
+    }
+
+    private static String pairKey(Long manittoId, Long manitteeId) {
+        return manittoId + ":" + manitteeId;
+    }
+
+    private static String tableOf(SessionFactoryImplementor sessionFactory, Class<?> entityClass) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        return persister.getTableName();
+    }
+}
@@ -0,0 +1,179 @@
+package com.ktb.marong.service.survey;
+
+import com.ktb.marong.common.cache.CacheNames;
+import com.ktb.marong.domain.survey.SurveyDislikedFood;
+import com.ktb.marong.domain.survey.SurveyHobby;
+import com.ktb.marong.domain.survey.SurveyLikedFood;
+import com.ktb.marong.domain.survey.SurveyMBTI;
+import com.ktb.marong.repository.SurveyMBTIRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 사용자의 설문 응답 일괄 조회 (사용자별 캐시)
+ * 캐시에 없는 사용자는 설문 4개 테이블(MBTI, 취미, 좋아하는/싫어하는 음식)을 UNION ALL 한 번으로 조회
+ * - 설문 조회, 장소 추천(마니띠 음식 취향), 궁합 특성 벡터 생성이 같은 캐시를 사용
+ * - 설문 제출/수정 시 evict (트랜잭션 커밋 후 반영)
+ * - 캐시에 없는 사용자는 primary에서 조회하여 채움
+ *   (읽기 전용 트랜잭션은 replica로 라우팅되므로, 수정 직후 지연된 replica의 이전 응답이 다시 캐시되지 않도록 함)
+ */
+@Component
+public class SurveyAnswerLoader {
+
+    private static final int PART_MBTI = 0;
+    private static final int PART_HOBBY = 1;
+    private static final int PART_LIKED_FOOD = 2;
+    private static final int PART_DISLIKED_FOOD = 3;
+
+    /**
+     * 쿼리 한 번에 넣는 사용자 수 (IN 목록이 테이블 수만큼 반복되므로 제한)
+     */
+    private static final int MAX_USERS_PER_QUERY = 500;
+
+    private final SurveyMBTIRepository surveyMBTIRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate primaryTransaction;
+    private final Cache cache;
+
+    private final String mbtiTable;
+    private final String hobbyTable;
+    private final String likedFoodTable;
+    private final String dislikedFoodTable;
+
+    public SurveyAnswerLoader(SurveyMBTIRepository surveyMBTIRepository, JdbcTemplate jdbcTemplate,
+                              CacheManager cacheManager, EntityManagerFactory entityManagerFactory,
+                              PlatformTransactionManager transactionManager) {
+        this.surveyMBTIRepository = surveyMBTIRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출한 쪽의 읽기 전용 트랜잭션(replica)에 참여하지 않도록 별도 쓰기 트랜잭션(primary) 사용
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = cacheManager.getCache(CacheNames.SURVEY_ANSWERS);
+
+        // 네이밍 전략이 적용된 실제 테이블 이름 사용
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.mbtiTable = tableOf(sessionFactory, SurveyMBTI.class);
+        this.hobbyTable = tableOf(sessionFactory, SurveyHobby.class);
+        this.likedFoodTable = tableOf(sessionFactory, SurveyLikedFood.class);
+        this.dislikedFoodTable = tableOf(sessionFactory, SurveyDislikedFood.class);
+    }
+
+    /**
+     * 사용자별 설문 응답 (설문을 제출하지 않은 사용자는 결과에 없음)
+     */
+    public Map<Long, SurveyAnswers> load(Collection<Long> userIds) {
+        Map<Long, SurveyAnswers> answers = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            SurveyAnswers cached = cache.get(userId, SurveyAnswers.class);
+            if (cached != null) {
+                answers.put(userId, cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += MAX_USERS_PER_QUERY) {
+            Map<Long, SurveyAnswers> loaded = queryFromPrimary(misses.subList(from,
+                    Math.min(from + MAX_USERS_PER_QUERY, misses.size())));
+            loaded.forEach(cache::put);
+            answers.putAll(loaded);
+        }
+        return answers;
+    }
+
+    /**
+     * 사용자의 캐시된 설문 응답 삭제 (설문 제출/수정 시)
+     */
+    public void evict(Long userId) {
+        cache.evict(userId);
+    }
+
+    /**
+     * 설문 특성 벡터가 없는 설문 제출 사용자 ID (최대 limit명)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsWithoutFeatureVector(int limit) {
+        return surveyMBTIRepository.findUserIdsWithoutFeatureVector(PageRequest.of(0, limit));
+    }
+
+    private Map<Long, SurveyAnswers> queryFromPrimary(List<Long> userIds) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query(userIds); // 이미 primary 트랜잭션 안 (커넥션을 하나 더 잡지 않음)
+        }
+        return primaryTransaction.execute(status -> query(userIds));
+    }
+
+    private Map<Long, SurveyAnswers> query(List<Long> userIds) {
+        String in = " WHERE user_id IN (" + String.join(", ", Collections.nCopies(userIds.size(), "?")) + ")";
+        String sql = "SELECT user_id, " + PART_MBTI + " AS part, id, ei_score, sn_score, tf_score, jp_score,"
+                + " NULL AS name FROM " + mbtiTable + in
+                + " UNION ALL SELECT user_id, " + PART_HOBBY + ", id, NULL, NULL, NULL, NULL, hobby_name"
+                + " FROM " + hobbyTable + in
+                + " UNION ALL SELECT user_id, " + PART_LIKED_FOOD + ", id, NULL, NULL, NULL, NULL, food_name"
+                + " FROM " + likedFoodTable + in
+                + " UNION ALL SELECT user_id, " + PART_DISLIKED_FOOD + ", id, NULL, NULL, NULL, NULL, food_name"
+                + " FROM " + dislikedFoodTable + in
+                + " ORDER BY 2, 3";
+        List<Object> args = new ArrayList<>(userIds.size() * 4);
+        for (int i = 0; i < 4; i++) {
+            args.addAll(userIds);
+        }
+
+        // 가장 최근 MBTI 응답 기준 (ID가 가장 큰 것): [id, ei, sn, tf, jp]
+        Map<Long, long[]> mbtiByUser = new HashMap<>();
+        Map<Long, List<String>> hobbies = new HashMap<>();
+        Map<Long, List<String>> likedFoods = new HashMap<>();
+        Map<Long, List<String>> dislikedFoods = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            Long userId = rs.getLong(1);
+            switch (rs.getInt(2)) {
+                case PART_MBTI -> {
+                    long[] current = mbtiByUser.get(userId);
+                    if (current == null || current[0] < rs.getLong(3)) {
+                        mbtiByUser.put(userId, new long[]{rs.getLong(3),
+                                rs.getInt(4), rs.getInt(5), rs.getInt(6), rs.getInt(7)});
+                    }
+                }
+                case PART_HOBBY -> hobbies.computeIfAbsent(userId, key -> new ArrayList<>()).add(rs.getString(8));
+                case PART_LIKED_FOOD -> likedFoods.computeIfAbsent(userId, key -> new ArrayList<>())
+                        .add(rs.getString(8));
+                default -> dislikedFoods.computeIfAbsent(userId, key -> new ArrayList<>()).add(rs.getString(8));
+            }
+        }, args.toArray());
+
+        Map<Long, SurveyAnswers> answers = new HashMap<>();
+        mbtiByUser.forEach((userId, mbti) -> answers.put(userId, new SurveyAnswers(userId,
+                (int) mbti[1], (int) mbti[2], (int) mbti[3], (int) mbti[4],
+                hobbies.getOrDefault(userId, List.of()),
+                likedFoods.getOrDefault(userId, List.of()),
+                dislikedFoods.getOrDefault(userId, List.of()))));
+        return answers;
+    }
+
+    private static String tableOf(SessionFactoryImplementor sessionFactory, Class<?> entityClass) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        return persister.getTableName();
+    }
+}
@@ -0,0 +1,145 @@
+package com.ktb.marong.service.survey;
+
+import com.ktb.marong.common.id.EntityIdAllocator;
+import com.ktb.marong.domain.survey.SurveyDislikedFood;
+import com.ktb.marong.domain.survey.SurveyHobby;
+import com.ktb.marong.domain.survey.SurveyLikedFood;
+import com.ktb.marong.domain.survey.SurveyMBTI;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 설문 수정 저장 (변경분만 JDBC 배치로 반영)
+ * 전체 삭제 후 다시 삽입하지 않고 저장된 항목과 제출된 항목을 비교하여 바뀐 항목만 삭제/삽입
+ * (조회 순서인 ID 순서가 제출 순서와 같게 유지됨, 새 항목 ID는 EntityIdAllocator에서 발급)
+ * - MBTI: 기존 행을 그대로 갱신 (UPDATE 1회)
+ * - 취미/좋아하는 음식/싫어하는 음식: 목록마다 조회 1회 + 삭제/삽입 배치 각 최대 1회
+ */
+@Slf4j
+@Component
+public class SurveyAnswerWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final EntityIdAllocator idAllocator;
+
+    private final String updateMbtiSql;
+    private final ItemTable hobbyTable;
+    private final ItemTable likedFoodTable;
+    private final ItemTable dislikedFoodTable;
+
+    public SurveyAnswerWriter(JdbcTemplate jdbcTemplate, Clock clock, EntityIdAllocator idAllocator,
+                              EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.idAllocator = idAllocator;
+
+        // 네이밍 전략이 적용된 실제 테이블 이름 사용
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.updateMbtiSql = "UPDATE " + tableOf(sessionFactory, SurveyMBTI.class)
+                + " SET ei_score = ?, sn_score = ?, tf_score = ?, jp_score = ?, mbti = ?, updated_at = ?"
+                + " WHERE user_id = ?";
+        this.hobbyTable = new ItemTable(SurveyHobby.class, tableOf(sessionFactory, SurveyHobby.class), "hobby_name");
+        this.likedFoodTable = new ItemTable(SurveyLikedFood.class, tableOf(sessionFactory, SurveyLikedFood.class), "food_name");
+        this.dislikedFoodTable = new ItemTable(SurveyDislikedFood.class, tableOf(sessionFactory, SurveyDislikedFood.class), "food_name");
+    }
+
+    /**
+     * 기존 설문을 제출된 응답으로 수정
+     * @return 수정 여부 (기존 MBTI 응답이 없으면 아무것도 바꾸지 않고 false)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean update(SurveyAnswers answers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        int updated = jdbcTemplate.update(updateMbtiSql,
+                answers.getEiScore(), answers.getSnScore(), answers.getTfScore(), answers.getJpScore(),
+                SurveyMBTI.toMbti(answers.getEiScore(), answers.getSnScore(),
+                        answers.getTfScore(), answers.getJpScore()),
+                now, answers.getUserId());
+        if (updated == 0) {
+            return false;
+        }
+
+        int changes = hobbyTable.sync(answers.getUserId(), answers.getHobbies(), now)
+                + likedFoodTable.sync(answers.getUserId(), answers.getLikedFoods(), now)
+                + dislikedFoodTable.sync(answers.getUserId(), answers.getDislikedFoods(), now);
+        log.debug("설문 수정 반영: userId={}, changedItems={}", answers.getUserId(), changes);
+        return true;
+    }
+
+    private static String tableOf(SessionFactoryImplementor sessionFactory, Class<?> entityClass) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        return persister.getTableName();
+    }
+
+    /**
+     * 사용자별 이름 목록 테이블 (취미, 좋아하는/싫어하는 음식)
+     */
+    private class ItemTable {
+
+        private final Class<?> entityClass;
+        private final String selectSql;
+        private final String deleteSql;
+        private final String insertSql;
+
+        private ItemTable(Class<?> entityClass, String table, String nameColumn) {
+            this.entityClass = entityClass;
+            this.selectSql = "SELECT id, " + nameColumn + " FROM " + table + " WHERE user_id = ? ORDER BY id";
+            this.deleteSql = "DELETE FROM " + table + " WHERE id = ?";
+            this.insertSql = "INSERT INTO " + table + " (id, user_id, " + nameColumn + ", created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?)";
+        }
+
+        /**
+         * 저장된 목록을 제출된 목록과 같게 맞춤 (순서 포함)
+         * 설문 조회는 ID 순이고 새 행 ID는 기존 ID보다 크므로, 저장된 행을 ID 순으로 보며
+         * 제출 목록의 앞부분과 차례로 일치하는 행만 남기고 나머지는 삭제, 남은 제출 이름은 순서대로 삽입
+         * - 항목 추가/삭제만 있으면 기존 행은 그대로, 순서가 바뀐 항목만 다시 삽입됨
+         * @return 삭제/삽입한 행 수
+         */
+        private int sync(Long userId, List<String> submitted, Timestamp now) {
+            // 1. 제출 목록의 앞부분과 차례로 일치하는 행은 유지, 나머지 행은 삭제 대상
+            List<Object[]> deletes = new ArrayList<>();
+            int[] kept = {0};
+            jdbcTemplate.query(selectSql, rs -> {
+                int position = kept[0];
+                if (position < submitted.size() && submitted.get(position).equals(rs.getString(2))) {
+                    kept[0]++;
+                } else {
+                    deletes.add(new Object[]{rs.getLong(1)});
+                }
+            }, userId);
+
+            // 2. 유지된 행과 짝지어지지 않은 제출 이름 삽입 대상 (제출 순서 유지)
+            List<Object[]> inserts = new ArrayList<>();
+            for (String name : submitted.subList(kept[0], submitted.size())) {
+                inserts.add(new Object[]{null, userId, name, now, now});
+            }
+
+            if (!deletes.isEmpty()) {
+                jdbcTemplate.batchUpdate(deleteSql, deletes);
+            }
+            if (!inserts.isEmpty()) {
+                long[] ids = idAllocator.allocate(entityClass, inserts.size());
+                for (int i = 0; i < ids.length; i++) {
+                    inserts.get(i)[0] = ids[i];
+                }
+                jdbcTemplate.batchUpdate(insertSql, inserts);
+            }
+            return deletes.size() + inserts.size();
+        }
+    }
+}
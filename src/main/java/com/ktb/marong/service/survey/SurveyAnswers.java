@@ -0,0 +1,36 @@
+package com.ktb.marong.service.survey;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 사용자 한 명의 설문 응답 (설문 4개 테이블을 합친 값, 사용자별로 캐시됨)
+ */
+@Getter
+public class SurveyAnswers implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long userId;
+    private final int eiScore;
+    private final int snScore;
+    private final int tfScore;
+    private final int jpScore;
+    private final List<String> hobbies;
+    private final List<String> likedFoods;
+    private final List<String> dislikedFoods;
+
+    public SurveyAnswers(Long userId, int eiScore, int snScore, int tfScore, int jpScore,
+                         List<String> hobbies, List<String> likedFoods, List<String> dislikedFoods) {
+        this.userId = userId;
+        this.eiScore = eiScore;
+        this.snScore = snScore;
+        this.tfScore = tfScore;
+        this.jpScore = jpScore;
+        this.hobbies = hobbies;
+        this.likedFoods = likedFoods;
+        this.dislikedFoods = dislikedFoods;
+    }
+}
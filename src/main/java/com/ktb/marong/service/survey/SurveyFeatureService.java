@@ -0,0 +1,114 @@
+package com.ktb.marong.service.survey;
+
+import com.ktb.marong.domain.survey.SurveyFeatureTerm;
+import com.ktb.marong.domain.survey.SurveyFeatureVector;
+import com.ktb.marong.domain.survey.SurveyFeatures;
+import com.ktb.marong.repository.SurveyFeatureVectorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 설문 특성 벡터 관리
+ * - 설문 제출/수정 시 같은 트랜잭션에서 벡터를 다시 계산
+ * - 여러 사용자의 벡터를 한 번에 조회 (그룹 단위 궁합 계산용)
+ * - 애플리케이션 시작 시 벡터 도입 이전에 설문을 제출한 사용자의 벡터를 채움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SurveyFeatureService {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final SurveyFeatureTermRegistry termRegistry;
+    private final SurveyFeatureVectorRepository vectorRepository;
+    private final SurveyAnswerLoader answerLoader;
+
+    @Value("${marong.survey.features.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    /**
+     * 설문 응답으로 사용자 특성 벡터 저장 (없으면 생성, 있으면 갱신)
+     */
+    @Transactional
+    public void rebuild(SurveyAnswers answers) {
+        SurveyFeatures features = encode(answers);
+        vectorRepository.findById(answers.getUserId()).ifPresentOrElse(
+                vector -> vector.update(features),
+                () -> vectorRepository.save(new SurveyFeatureVector(answers.getUserId(), features)));
+    }
+
+    /**
+     * 여러 사용자의 특성 (설문을 제출하지 않은 사용자는 결과에 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, SurveyFeatures> findFeatures(Collection<Long> userIds) {
+        Map<Long, SurveyFeatures> features = new HashMap<>();
+        for (SurveyFeatureVector vector : vectorRepository.findAllById(userIds)) {
+            features.put(vector.getUserId(), vector.toFeatures());
+        }
+        return features;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            backfill();
+        }
+    }
+
+    /**
+     * 특성 벡터가 없는 설문 제출 사용자를 묶음 단위로 채움 (묶음마다 일괄 저장)
+     * @return 채운 사용자 수
+     */
+    public int backfill() {
+        int total = 0;
+        while (true) {
+            List<Long> userIds = answerLoader.findUserIdsWithoutFeatureVector(BACKFILL_CHUNK_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            List<SurveyFeatureVector> vectors = new ArrayList<>(userIds.size());
+            for (SurveyAnswers answers : answerLoader.load(userIds).values()) {
+                vectors.add(new SurveyFeatureVector(answers.getUserId(), encode(answers)));
+            }
+            vectorRepository.saveAll(vectors);
+            total += vectors.size();
+        }
+        if (total > 0) {
+            log.info("설문 특성 벡터 backfill 완료: users={}", total);
+        }
+        return total;
+    }
+
+    private SurveyFeatures encode(SurveyAnswers answers) {
+        return new SurveyFeatures(
+                SurveyFeatures.packAxes(answers.getEiScore(), answers.getSnScore(),
+                        answers.getTfScore(), answers.getJpScore()),
+                SurveyFeatures.toBitset(intern(SurveyFeatureTerm.Category.HOBBY, answers.getHobbies())),
+                SurveyFeatures.toBitset(intern(SurveyFeatureTerm.Category.FOOD, answers.getLikedFoods())),
+                SurveyFeatures.toBitset(intern(SurveyFeatureTerm.Category.FOOD, answers.getDislikedFoods())));
+    }
+
+    private Set<Integer> intern(SurveyFeatureTerm.Category category, Collection<String> names) {
+        try {
+            return termRegistry.intern(category, names);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 항목을 먼저 등록한 경우 -> 등록된 번호로 다시 조회
+            return termRegistry.intern(category, names);
+        }
+    }
+}
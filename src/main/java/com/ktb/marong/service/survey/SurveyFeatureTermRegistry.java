@@ -0,0 +1,82 @@
+package com.ktb.marong.service.survey;
+
+import com.ktb.marong.domain.survey.SurveyFeatureTerm;
+import com.ktb.marong.repository.SurveyFeatureTermRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설문 항목 이름 -> 항목 번호 변환 (한 번 부여된 번호는 바뀌지 않으므로 메모리에 보관)
+ * 새 항목은 별도 트랜잭션에서 바로 커밋하여, 동시에 같은 항목을 등록하는 다른 요청/인스턴스가 곧바로 재사용할 수 있게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveyFeatureTermRegistry {
+
+    private final SurveyFeatureTermRepository termRepository;
+    private final Map<String, Integer> termIds = new ConcurrentHashMap<>();
+
+    /**
+     * 항목 이름들의 번호 (없는 항목은 등록, 이름은 앞뒤 공백 제거 + 소문자로 정규화)
+     * 다른 요청이 같은 항목을 먼저 등록하면 유니크 제약 위반으로 실패하므로 호출자가 한 번 다시 시도해야 함
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Set<Integer> intern(SurveyFeatureTerm.Category category, Collection<String> names) {
+        Set<Integer> ids = new HashSet<>();
+        Set<String> misses = new LinkedHashSet<>();
+        for (String name : names) {
+            String normalized = normalize(name);
+            Integer id = termIds.get(key(category, normalized));
+            if (id != null) {
+                ids.add(id);
+            } else if (!normalized.isEmpty()) {
+                misses.add(normalized);
+            }
+        }
+        if (misses.isEmpty()) {
+            return ids;
+        }
+
+        // 1. 다른 인스턴스가 이미 등록한 항목
+        for (SurveyFeatureTerm term : termRepository.findByCategoryAndNameIn(category, misses)) {
+            ids.add(remember(term));
+            misses.remove(term.getName());
+        }
+
+        // 2. 처음 보는 항목 등록
+        if (!misses.isEmpty()) {
+            List<SurveyFeatureTerm> created = termRepository.saveAllAndFlush(misses.stream()
+                    .map(name -> SurveyFeatureTerm.builder().category(category).name(name).build())
+                    .toList());
+            created.forEach(term -> ids.add(remember(term)));
+            log.debug("설문 항목 등록: category={}, names={}", category, misses);
+        }
+        return ids;
+    }
+
+    private Integer remember(SurveyFeatureTerm term) {
+        termIds.put(key(term.getCategory(), term.getName()), term.getId());
+        return term.getId();
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String key(SurveyFeatureTerm.Category category, String name) {
+        return category.name() + ":" + name;
+    }
+}
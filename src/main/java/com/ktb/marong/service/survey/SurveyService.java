@@ -15,7 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +28,9 @@ public class SurveyService {
     private final SurveyHobbyRepository surveyHobbyRepository;
     private final SurveyLikedFoodRepository surveyLikedFoodRepository;
     private final SurveyDislikedFoodRepository surveyDislikedFoodRepository;
+    private final SurveyFeatureService surveyFeatureService;
+    private final SurveyAnswerWriter surveyAnswerWriter;
+    private final SurveyAnswerLoader surveyAnswerLoader;
 
     /**
      * 사용자 설문 최초 제출
@@ -88,6 +90,10 @@ public class SurveyService {
                     .collect(Collectors.toList());
             surveyDislikedFoodRepository.saveAll(dislikedFoods);
 
+            // 궁합 계산용 특성 벡터 생성
+            surveyFeatureService.rebuild(toAnswers(userId, requestDto));
+            surveyAnswerLoader.evict(userId);
+
             // 설문 완료 처리
             user.completeInitialSurvey();
             userRepository.save(user);
@@ -102,122 +108,64 @@ public class SurveyService {
 
     /**
      * 사용자 설문 정보 조회
+     * 캐시된 설문 응답을 사용하고, 없으면 설문 테이블을 한 번에 조회 (SurveyAnswerLoader)
      */
     @Transactional(readOnly = true)
     public SurveyResponseDto getSurvey(Long userId) {
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // MBTI 정보 조회 (변경된 부분)
-        List<SurveyMBTI> mbtiList = surveyMBTIRepository.findAllByUser(user);
-        if (mbtiList.isEmpty()) {
+        SurveyAnswers answers = surveyAnswerLoader.load(List.of(userId)).get(userId);
+        if (answers == null) {
+            // 사용자 조회 (2차 캐시)
+            userRepository.findById(userId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
             throw new CustomException(ErrorCode.SURVEY_NOT_FOUND, "설문 정보가 존재하지 않습니다.");
         }
 
-        // 가장 최근에 생성된 MBTI 정보를 사용 (ID가 가장 큰 것)
-        SurveyMBTI mbti = mbtiList.stream()
-                .max(Comparator.comparing(SurveyMBTI::getId))
-                .orElseThrow(() -> new CustomException(ErrorCode.SURVEY_NOT_FOUND));
-
-        // 취미 정보 조회
-        List<String> hobbies = surveyHobbyRepository.findAllByUser(user).stream()
-                .map(SurveyHobby::getHobbyName)
-                .collect(Collectors.toList());
-
-        // 좋아하는 음식 정보 조회
-        List<String> likedFoods = surveyLikedFoodRepository.findAllByUser(user).stream()
-                .map(SurveyLikedFood::getFoodName)
-                .collect(Collectors.toList());
-
-        // 싫어하는 음식 정보 조회
-        List<String> dislikedFoods = surveyDislikedFoodRepository.findAllByUser(user).stream()
-                .map(SurveyDislikedFood::getFoodName)
-                .collect(Collectors.toList());
-
         return SurveyResponseDto.builder()
-                .eiScore(mbti.getEiScore())
-                .snScore(mbti.getSnScore())
-                .tfScore(mbti.getTfScore())
-                .jpScore(mbti.getJpScore())
-                .hobbies(hobbies)
-                .likedFoods(likedFoods)
-                .dislikedFoods(dislikedFoods)
+                .eiScore(answers.getEiScore())
+                .snScore(answers.getSnScore())
+                .tfScore(answers.getTfScore())
+                .jpScore(answers.getJpScore())
+                .hobbies(answers.getHobbies())
+                .likedFoods(answers.getLikedFoods())
+                .dislikedFoods(answers.getDislikedFoods())
                 .build();
     }
 
     /**
      * 사용자 설문 정보 수정
+     * 저장된 응답과 비교하여 바뀐 항목만 반영 (MBTI 갱신 + 목록별 삭제/삽입 배치)
      */
     @Transactional
     public Long updateSurvey(Long userId, SurveyRequestDto requestDto) {
-        // 사용자 조회
-        User user = userRepository.findById(userId)
+        // 사용자 조회 (2차 캐시)
+        userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        // 기존 설문 정보 존재 여부 확인
-        List<SurveyMBTI> mbtiList = surveyMBTIRepository.findAllByUser(user);
-        if (mbtiList.isEmpty()) {
-            throw new CustomException(ErrorCode.SURVEY_NOT_FOUND, "기존 설문 정보가 존재하지 않습니다.");
-        }
-
+        SurveyAnswers answers = toAnswers(userId, requestDto);
+        boolean updated;
         try {
-            // 기존 설문 데이터 삭제 (수정 전 명시적 삭제)
-            surveyMBTIRepository.deleteByUserId(userId);
-            // 삭제 후 flush를 추가해 삭제 작업이 즉시 데이터베이스에 반영되도록 함
-            surveyMBTIRepository.flush();
-
-            surveyHobbyRepository.deleteByUserId(userId);
-            surveyHobbyRepository.flush();
-
-            surveyLikedFoodRepository.deleteByUserId(userId);
-            surveyLikedFoodRepository.flush();
-
-            surveyDislikedFoodRepository.deleteByUserId(userId);
-            surveyDislikedFoodRepository.flush();
-
-            // 새로운 MBTI 정보 저장
-            SurveyMBTI mbti = SurveyMBTI.builder()
-                    .user(user)
-                    .eiScore(requestDto.getEiScore())
-                    .snScore(requestDto.getSnScore())
-                    .tfScore(requestDto.getTfScore())
-                    .jpScore(requestDto.getJpScore())
-                    .build();
-            surveyMBTIRepository.save(mbti);
-
-            // 새로운 취미 정보 저장
-            List<SurveyHobby> hobbies = requestDto.getHobbies().stream()
-                    .map(hobby -> SurveyHobby.builder()
-                            .user(user)
-                            .hobbyName(hobby)
-                            .build())
-                    .collect(Collectors.toList());
-            surveyHobbyRepository.saveAll(hobbies);
-
-            // 새로운 좋아하는 음식 정보 저장
-            List<SurveyLikedFood> likedFoods = requestDto.getLikedFoods().stream()
-                    .map(food -> SurveyLikedFood.builder()
-                            .user(user)
-                            .foodName(food)
-                            .build())
-                    .collect(Collectors.toList());
-            surveyLikedFoodRepository.saveAll(likedFoods);
-
-            // 새로운 싫어하는 음식 정보 저장
-            List<SurveyDislikedFood> dislikedFoods = requestDto.getDislikedFoods().stream()
-                    .map(food -> SurveyDislikedFood.builder()
-                            .user(user)
-                            .foodName(food)
-                            .build())
-                    .collect(Collectors.toList());
-            surveyDislikedFoodRepository.saveAll(dislikedFoods);
-
-            return userId;
+            // 기존 MBTI 갱신 및 취미/음식 목록 변경분 반영
+            updated = surveyAnswerWriter.update(answers);
         } catch (Exception e) {
             // 기타 예외가 발생한 경우 로깅하고 서버 오류로 처리
             log.error("설문 수정 중 오류 발생: {}", e.getMessage(), e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "설문 수정 중 오류가 발생했습니다.");
         }
+
+        // 기존 설문 정보가 없으면 수정할 수 없음
+        if (!updated) {
+            throw new CustomException(ErrorCode.SURVEY_NOT_FOUND, "기존 설문 정보가 존재하지 않습니다.");
+        }
+
+        // 궁합 계산용 특성 벡터 갱신 및 캐시된 응답 삭제
+        surveyFeatureService.rebuild(answers);
+        surveyAnswerLoader.evict(userId);
+        return userId;
+    }
+
+    private SurveyAnswers toAnswers(Long userId, SurveyRequestDto requestDto) {
+        return new SurveyAnswers(userId, requestDto.getEiScore(), requestDto.getSnScore(),
+                requestDto.getTfScore(), requestDto.getJpScore(),
+                requestDto.getHobbies(), requestDto.getLikedFoods(), requestDto.getDislikedFoods());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.ktb.marong.common.cache;
+
+import com.ktb.marong.support.InMemoryInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 인스턴스를 흉내 낸 캐시 매니저로 2단계 캐시와 인스턴스 간 무효화 검증
+ * Redis 대신 공유 ConcurrentMap 캐시(원격 계층)와 메모리 무효화 채널 사용
+ */
+class TwoTierCacheManagerTest {
+
+    private static final List<CacheSpec> SPECS = List.of(
+            new CacheSpec(CacheNames.GROUP_MEMBER_COUNT, Duration.ofMinutes(1), Duration.ofMinutes(10), 100));
+
+    private ConcurrentMapCacheManager sharedRemote;
+    private InMemoryInvalidationBus bus;
+    private Cache nodeA;
+    private Cache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sharedRemote = new ConcurrentMapCacheManager(CacheNames.GROUP_MEMBER_COUNT);
+        bus = new InMemoryInvalidationBus();
+        nodeA = node(sharedRemote, bus);
+        nodeB = node(sharedRemote, bus);
+    }
+
+    @Test
+    void valueWrittenOnOneNodeIsReadThroughRemoteOnAnother() {
+        nodeA.put(1L, 10);
+
+        assertThat(nodeB.get(1L, Integer.class)).isEqualTo(10);
+    }
+
+    @Test
+    void evictionOnOneNodeInvalidatesLocalCopyOnAnother() {
+        nodeA.put(1L, 10);
+        assertThat(nodeB.get(1L, Integer.class)).isEqualTo(10); // B의 로컬 캐시에 적재
+
+        nodeA.evict(1L);
+
+        assertThat(nodeB.get(1L)).isNull();
+    }
+
+    @Test
+    void updateOnOneNodeIsVisibleOnAnother() {
+        nodeA.put(1L, 10);
+        assertThat(nodeB.get(1L, Integer.class)).isEqualTo(10);
+
+        nodeA.put(1L, 11);
+
+        assertThat(nodeB.get(1L, Integer.class)).isEqualTo(11);
+    }
+
+    @Test
+    void localOnlyModeLoadsOncePerKey() {
+        Cache localOnly = node(null, null);
+        int[] loads = new int[1];
+
+        localOnly.get(1L, () -> ++loads[0]);
+        localOnly.get(1L, () -> ++loads[0]);
+
+        assertThat(loads[0]).isEqualTo(1);
+    }
+
+    private static Cache node(ConcurrentMapCacheManager remote, CacheInvalidationBus bus) {
+        TwoTierCacheManager manager = new TwoTierCacheManager(SPECS, remote, bus, null);
+        manager.afterPropertiesSet();
+        Cache cache = manager.getCache(CacheNames.GROUP_MEMBER_COUNT);
+        // 트랜잭션 밖에서는 데코레이터가 바로 위임하지만, 검증 대상은 원본 캐시
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ktb.marong.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 H2 두 개(primary, replica)로 읽기/쓰기 라우팅 검증
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String WHICH_DATABASE = "SELECT name FROM marker";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        route("", Duration.ofSeconds(5));
+
+        assertThat(readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)))
+                .isEqualTo("replica");
+        assertThat(writeTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)))
+                .isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)).isEqualTo("primary");
+        assertThat(meterRegistry.get("marong.datasource.routing").tag("target", "replica").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        route("SELECT 30", Duration.ofSeconds(5));
+
+        assertThat(readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)))
+                .isEqualTo("primary");
+        assertThat(meterRegistry.get("marong.datasource.routing").tag("fallback", "true").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("marong.datasource.replica.lag").gauge().value()).isEqualTo(30.0);
+    }
+
+    @Test
+    void stoppedReplicationFallsBackToPrimary() {
+        route("SELECT CAST(NULL AS BIGINT)", Duration.ofSeconds(5));
+
+        assertThat(readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject(WHICH_DATABASE, String.class)))
+                .isEqualTo("primary");
+    }
+
+    private void route(String lagQuery, Duration maxLag) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, "Seconds_Behind_Source", maxLag,
+                Duration.ofSeconds(1), meterRegistry);
+        monitor.check();
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(primary, replica, monitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE marker (name VARCHAR(20))");
+        setup.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,113 @@
+package com.ktb.marong.common.id;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.survey.SurveyHobby;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.repository.SurveyHobbyRepository;
+import com.ktb.marong.repository.UserRepository;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테이블 기반 ID 발급 검증 (JPA 저장과 JDBC 발급이 같은 번호를 쓰지 않고, 기존 데이터 이후 번호로 맞춰지는지,
+ * 발급기를 거치지 않은 writer가 가져간 번호를 다시 발급하지 않는지)
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EntityIdAllocatorTest {
+
+    @Autowired
+    private EntityIdAllocator idAllocator;
+
+    @Autowired
+    private SurveyHobbyRepository surveyHobbyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        userId = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(1, 2), currentWeek)
+                .getGroups().get(0).getMemberIds().get(0);
+    }
+
+    @Test
+    void jpaSavesAndAllocatedIdsNeverOverlap() {
+        User user = userRepository.findById(userId).orElseThrow();
+        long[] allocated = idAllocator.allocate(SurveyHobby.class, IdBlocks.ALLOCATION_SIZE + 10);
+        Long saved = surveyHobbyRepository.save(SurveyHobby.builder().user(user).hobbyName("독서").build()).getId();
+
+        Set<Long> ids = new HashSet<>();
+        Arrays.stream(allocated).forEach(ids::add);
+        assertThat(ids).hasSize(allocated.length).doesNotContain(saved);
+    }
+
+    @Test
+    void blocksAreAlignedPastRowsWrittenOutsideTheAllocator() {
+        // 배포 전 IDENTITY로 쌓인 행처럼 발급기를 거치지 않은 큰 ID
+        long foreignId = idAllocator.allocate(SurveyHobby.class, 1)[0] + 10 * IdBlocks.ALLOCATION_SIZE;
+        insertHobby(foreignId);
+
+        idAllocator.alignWithExistingRows();
+
+        // 메모리에 남은 현재 블록을 다 쓴 뒤부터는 기존 최대 ID 이후 번호
+        long[] allocated = idAllocator.allocate(SurveyHobby.class, 2 * IdBlocks.ALLOCATION_SIZE);
+        long last = allocated[allocated.length - 1];
+        assertThat(last).isGreaterThan(foreignId);
+        assertThat(Arrays.stream(allocated).filter(id -> id == foreignId)).isEmpty();
+    }
+
+    @Test
+    void idsTakenInsideCurrentBlockByAnotherWriterAreNotHandedOut() {
+        // 외부 생성기가 AUTO_INCREMENT로 삽입하여 아직 발급하지 않은 현재 블록 안의 번호를 가져감
+        long foreignId = idAllocator.allocate(SurveyHobby.class, 1)[0] + 2;
+        insertHobby(foreignId);
+
+        long[] allocated = idAllocator.allocate(SurveyHobby.class, 5);
+        assertThat(allocated).doesNotContain(foreignId);
+        for (long id : allocated) {
+            insertHobby(id);
+        }
+    }
+
+    private void insertHobby(long id) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        AbstractEntityPersister persister = (AbstractEntityPersister) entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class).getMappingMetamodel().getEntityDescriptor(SurveyHobby.class);
+        jdbcTemplate.update("INSERT INTO " + persister.getTableName()
+                + " (id, user_id, hobby_name, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?)", id, userId, "등산", now, now);
+    }
+}
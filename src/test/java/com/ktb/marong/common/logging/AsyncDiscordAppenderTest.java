@@ -0,0 +1,110 @@
+package com.ktb.marong.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 HTTP 스텁 웹훅으로 디스코드 appender의 묶음 전송/합치기/버림 동작 검증
+ */
+class AsyncDiscordAppenderTest {
+
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private HttpServer webhookStub;
+    private Logger logger;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        webhookStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        webhookStub.createContext("/webhook", exchange -> {
+            try (InputStream body = exchange.getRequestBody()) {
+                receivedBodies.add(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        webhookStub.start();
+
+        logger = new LoggerContext().getLogger("com.ktb.marong.exception.GlobalExceptionHandler");
+    }
+
+    @AfterEach
+    void stopStub() {
+        webhookStub.stop(0);
+    }
+
+    @Test
+    void identicalErrorsAreCoalescedIntoOneMessage() {
+        AsyncDiscordAppender appender = startAppender(64);
+
+        for (int i = 0; i < 20; i++) {
+            appender.doAppend(error("예외 발생: {}", new IllegalStateException("boom " + i), i));
+        }
+        appender.doAppend(error("CustomException 발생: {}", null, "USER_NOT_FOUND"));
+        appender.stop(); // 종료 시 남은 이벤트 전송
+
+        assertThat(receivedBodies).hasSize(1);
+        assertThat(receivedBodies.get(0))
+                .contains("x20")
+                .contains("IllegalStateException")
+                .contains("CustomException 발생: USER_NOT_FOUND");
+    }
+
+    @Test
+    void eventsBeyondBufferAreDroppedAndReported() {
+        AsyncDiscordAppender appender = startAppender(4);
+
+        for (int i = 0; i < 10; i++) {
+            appender.doAppend(error("예외 발생: {}", null, i));
+        }
+        appender.stop();
+
+        assertThat(appender.getDroppedCount()).isEqualTo(6);
+        assertThat(receivedBodies).hasSize(1);
+        assertThat(receivedBodies.get(0)).contains("6건").contains("x4");
+    }
+
+    @Test
+    void appendReturnsWithoutWaitingForWebhook() {
+        AsyncDiscordAppender appender = startAppender(1024);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            appender.doAppend(error("예외 발생: {}", null, i));
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        appender.stop();
+
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(receivedBodies).hasSize(1);
+    }
+
+    private AsyncDiscordAppender startAppender(int bufferSize) {
+        AsyncDiscordAppender appender = new AsyncDiscordAppender();
+        appender.setContext(logger.getLoggerContext());
+        appender.setName("discord-test");
+        appender.setWebhookUrl("http://127.0.0.1:" + webhookStub.getAddress().getPort() + "/webhook");
+        appender.setBufferSize(bufferSize);
+        appender.setFlushIntervalMillis(60_000); // 테스트에서는 stop() 시점의 전송만 검증
+        appender.start();
+        return appender;
+    }
+
+    private LoggingEvent error(String pattern, Throwable throwable, Object argument) {
+        return new LoggingEvent(Logger.class.getName(), logger, Level.ERROR, pattern, throwable, new Object[]{argument});
+    }
+}
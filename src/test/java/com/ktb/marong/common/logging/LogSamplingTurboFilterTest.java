@@ -0,0 +1,61 @@
+package com.ktb.marong.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogSamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private LogSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LogSamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.addSample("com.ktb.marong.service.feed=0.1");
+        filter.start();
+    }
+
+    @Test
+    void infoLogsUnderConfiguredPrefixAreSampled() {
+        Logger logger = loggerContext.getLogger("com.ktb.marong.service.feed.FeedService");
+
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.decide(null, logger, Level.INFO, "게시글 목록 조회: {}", new Object[]{i}, null) != FilterReply.DENY) {
+                passed++;
+            }
+        }
+
+        assertThat(passed).isEqualTo(10);
+    }
+
+    @Test
+    void warnLogsAndOtherLoggersAreNeverSampled() {
+        Logger feedLogger = loggerContext.getLogger("com.ktb.marong.service.feed.FeedService");
+        Logger groupLogger = loggerContext.getLogger("com.ktb.marong.service.group.GroupService");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.decide(null, feedLogger, Level.WARN, "경고", null, null)).isEqualTo(FilterReply.NEUTRAL);
+            assertThat(filter.decide(null, groupLogger, Level.INFO, "조회", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void rateChangesApplyImmediately() {
+        Logger logger = loggerContext.getLogger("com.ktb.marong.service.feed.FeedService");
+        filter.decide(null, logger, Level.INFO, "조회", null, null);
+
+        filter.setRate("com.ktb.marong.service.feed", 1.0);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.decide(null, logger, Level.INFO, "조회", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+}
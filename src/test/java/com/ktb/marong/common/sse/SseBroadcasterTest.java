@@ -0,0 +1,219 @@
+package com.ktb.marong.common.sse;
+
+import com.ktb.marong.support.RecordingSseEmitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * SSE 방송의 재전송/resync/느린 연결 끊기 검증 (서블릿 없이 전송 내용을 기록하는 emitter 사용)
+ */
+class SseBroadcasterTest {
+
+    private static final String TOPIC = "group:1";
+
+    private final SseBroadcaster broadcaster = broadcaster(3, 16);
+
+    @AfterEach
+    void shutdown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void publishedEventsReachSubscribersInOrder() {
+        RecordingSseEmitter emitter = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, null);
+        broadcaster.publish(TOPIC, "post-created", "a");
+        broadcaster.publish("group:2", "post-created", "other");
+        broadcaster.publish(TOPIC, "like-changed", "b");
+
+        List<RecordingSseEmitter.Sent> sent = emitter.awaitSent(3);
+
+        assertThat(sent).hasSize(3);
+        assertThat(sent.get(0).getComment()).isEqualTo("connected");
+        assertThat(sent.subList(1, 3)).extracting(RecordingSseEmitter.Sent::getData).containsExactly("a", "b");
+    }
+
+    @Test
+    void reconnectReplaysMissedEventsAfterLastEventId() {
+        RecordingSseEmitter first = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, null);
+        broadcaster.publish(TOPIC, "post-created", "a");
+        String lastEventId = first.awaitSent(2).get(1).getId();
+        first.complete();
+
+        broadcaster.publish(TOPIC, "post-created", "b");
+        broadcaster.publish(TOPIC, "post-created", "c");
+
+        RecordingSseEmitter reconnected = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, lastEventId);
+        assertThat(reconnected.awaitSent(2)).extracting(RecordingSseEmitter.Sent::getData).containsExactly("b", "c");
+    }
+
+    @Test
+    void reconnectBeyondReplayWindowGetsResync() {
+        RecordingSseEmitter first = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, null);
+        broadcaster.publish(TOPIC, "post-created", "a");
+        String lastEventId = first.awaitSent(2).get(1).getId();
+
+        // 보관 크기(3)보다 많이 발행되어 놓친 이벤트 일부가 밀려남
+        for (int i = 0; i < 4; i++) {
+            broadcaster.publish(TOPIC, "post-created", "missed-" + i);
+        }
+
+        RecordingSseEmitter reconnected = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, lastEventId);
+        List<RecordingSseEmitter.Sent> sent = reconnected.awaitSent(1);
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).getName()).isEqualTo(SseBroadcaster.RESYNC_EVENT);
+    }
+
+    @Test
+    void idFromAnotherInstanceOrBeforeRestartGetsResync() {
+        broadcaster.publish(TOPIC, "post-created", "a");
+
+        // 재시작한 인스턴스는 순번이 0부터 다시 시작하므로 이전 ID가 현재 순번보다 클 수 있음
+        SseBroadcaster restarted = broadcaster(3, 16);
+        try {
+            RecordingSseEmitter previousEpoch = (RecordingSseEmitter) restarted.subscribe(TOPIC, lastIdOf(broadcaster));
+            assertThat(previousEpoch.awaitSent(1).get(0).getName()).isEqualTo(SseBroadcaster.RESYNC_EVENT);
+        } finally {
+            restarted.shutdown();
+        }
+
+        RecordingSseEmitter legacyId = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, "42");
+        assertThat(legacyId.awaitSent(1).get(0).getName()).isEqualTo(SseBroadcaster.RESYNC_EVENT);
+    }
+
+    @Test
+    void upToDateReconnectOnlyGetsConnected() {
+        RecordingSseEmitter first = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, null);
+        broadcaster.publish(TOPIC, "post-created", "a");
+        String lastEventId = first.awaitSent(2).get(1).getId();
+
+        RecordingSseEmitter reconnected = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, lastEventId);
+        List<RecordingSseEmitter.Sent> sent = reconnected.awaitSent(1);
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).getComment()).isEqualTo("connected");
+    }
+
+    @Test
+    void eventsPublishedDuringReconnectAreDeliveredOnceInOrder() {
+        int events = 500;
+        SseBroadcaster large = broadcaster(events + 1, events + 2);
+        try {
+            RecordingSseEmitter first = (RecordingSseEmitter) large.subscribe(TOPIC, null);
+            large.publish(TOPIC, "post-created", -1);
+            String lastEventId = first.awaitSent(2).get(1).getId();
+
+            // 발행이 이어지는 동안 재연결이 여러 번 일어남
+            CompletableFuture<Void> publisher = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < events; i++) {
+                    large.publish(TOPIC, "post-created", i);
+                }
+            });
+            List<RecordingSseEmitter> reconnected = new ArrayList<>();
+            do {
+                reconnected.add((RecordingSseEmitter) large.subscribe(TOPIC, lastEventId));
+            } while (!publisher.isDone() && reconnected.size() < 200);
+            publisher.join();
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < events; i++) {
+                expected.add(i);
+            }
+            for (RecordingSseEmitter emitter : reconnected) {
+                List<Object> data = emitter.awaitSent(events).stream()
+                        .filter(sent -> sent.getName() != null)
+                        .map(RecordingSseEmitter.Sent::getData)
+                        .toList();
+                assertThat(data).containsExactlyElementsOf(expected);
+            }
+        } finally {
+            large.shutdown();
+        }
+    }
+
+    @Test
+    void disconnectClosesOnlyThatSubscribersConnections() {
+        RecordingSseEmitter leaving = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, 1L, null);
+        RecordingSseEmitter otherTab = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, 1L, null);
+        RecordingSseEmitter staying = (RecordingSseEmitter) broadcaster.subscribe(TOPIC, 2L, null);
+
+        broadcaster.disconnect(TOPIC, 1L);
+        broadcaster.publish(TOPIC, "post-created", "after-leave");
+
+        assertThat(leaving.isCompleted()).isTrue();
+        assertThat(otherTab.isCompleted()).isTrue();
+        assertThat(broadcaster.getConnectionCount()).isEqualTo(1);
+        assertThat(staying.awaitSent(2).get(1).getData()).isEqualTo("after-leave");
+    }
+
+    @Test
+    void slowConnectionIsDroppedWhenBufferOverflows() {
+        SseBroadcaster tiny = new SseBroadcaster("test-slow", 8, 2, Duration.ofMinutes(1), null,
+                timeout -> new BlockingSseEmitter(timeout));
+        try {
+            BlockingSseEmitter slow = (BlockingSseEmitter) tiny.subscribe(TOPIC, null);
+            for (int i = 0; i < 10; i++) {
+                tiny.publish(TOPIC, "post-created", i);
+            }
+
+            assertThat(slow.isCompleted()).isTrue();
+            assertThat(tiny.getConnectionCount()).isZero();
+        } finally {
+            tiny.shutdown();
+        }
+    }
+
+    @Test
+    void snapshotIsRebuiltWhenEventIsPublishedWhileBuilding() {
+        // 구독 등록 이후에 스냅샷을 만들므로 그 사이 발행된 변경도 전달되고, 스냅샷은 변경 이후 상태로 다시 만들어짐
+        AtomicInteger builds = new AtomicInteger();
+        RecordingSseEmitter emitter = (RecordingSseEmitter) broadcaster.subscribeWithSnapshot(TOPIC, "phase", () -> {
+            if (builds.incrementAndGet() == 1) {
+                broadcaster.publish(TOPIC, "phase-changed", "new");
+                return "old";
+            }
+            return "new";
+        });
+
+        assertThat(emitter.awaitSent(2)).extracting(RecordingSseEmitter.Sent::getName, RecordingSseEmitter.Sent::getData)
+                .containsExactly(tuple("phase-changed", "new"), tuple("phase", "new"));
+        assertThat(builds).hasValue(2);
+    }
+
+    private static String lastIdOf(SseBroadcaster source) {
+        RecordingSseEmitter emitter = (RecordingSseEmitter) source.subscribe(TOPIC, null);
+        source.publish(TOPIC, "post-created", "probe");
+        return emitter.awaitSent(2).get(1).getId();
+    }
+
+    private static SseBroadcaster broadcaster(int replaySize, int connectionBufferSize) {
+        return new SseBroadcaster("test", replaySize, connectionBufferSize, Duration.ofMinutes(1), null,
+                RecordingSseEmitter::new);
+    }
+
+    /**
+     * 전송이 끝나지 않는 느린 연결
+     */
+    private static class BlockingSseEmitter extends RecordingSseEmitter {
+
+        BlockingSseEmitter(long timeoutMillis) {
+            super(timeoutMillis);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.ktb.marong.config;
+
+import com.ktb.marong.common.http.CircuitBreaker;
+import com.ktb.marong.support.KakaoStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커넥션 풀이 가득 찬 상태의 풀 대기 타임아웃이 카카오 서킷 브레이커 실패로 세지지 않는지 검증
+ */
+class RestTemplateConfigTest {
+
+    private final RestTemplateConfig config = new RestTemplateConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private KakaoStubServer stub;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        stub = KakaoStubServer.start();
+        // 호스트당 연결 1개, 풀 대기 100ms
+        PoolingHttpClientConnectionManager connectionManager = config.httpClientConnectionManager(
+                1, 1, Duration.ofSeconds(1), Duration.ofSeconds(3), meterRegistry);
+        httpClient = config.httpClient(connectionManager, Duration.ofSeconds(3), Duration.ofMillis(100));
+        restTemplate = config.restTemplate(httpClient);
+        circuitBreaker = config.kakaoCircuitBreaker(2, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        stub.stop();
+    }
+
+    @Test
+    void poolWaitTimeoutDoesNotOpenCircuit() {
+        // 느린 요청 하나가 풀의 유일한 연결을 잡고 있음
+        stub.setDelayMillis(1_000);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(this::callKakao);
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (stub.requestCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        // 임계치(2)보다 많이 풀 대기 타임아웃이 나도 서킷은 닫힌 상태 유지
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(this::callKakao)
+                    .isInstanceOf(ResourceAccessException.class)
+                    .hasCauseInstanceOf(ConnectionRequestTimeoutException.class);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        assertThat(slow.join()).contains("kakao_account");
+        stub.setDelayMillis(0);
+        assertThat(callKakao()).contains("kakao_account");
+    }
+
+    @Test
+    void poolWaitTimeoutDuringTrialDoesNotCloseCircuit() {
+        CircuitBreaker breaker = openBreaker();
+
+        // 풀을 잡고 있는 동안의 시험 호출은 카카오에 닿지 못했으므로 서킷을 닫지 않음
+        stub.setDelayMillis(1_000);
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(this::getKakaoUser);
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (stub.requestCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThatThrownBy(() -> breaker.execute(this::getKakaoUser))
+                .hasCauseInstanceOf(ConnectionRequestTimeoutException.class);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // 다음 요청이 다시 시험 호출하고, 카카오가 응답하면 닫힘
+        slow.join();
+        stub.setDelayMillis(0);
+        assertThat(breaker.execute(this::getKakaoUser)).contains("kakao_account");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void errorDuringTrialReleasesTrialSlot() {
+        CircuitBreaker breaker = openBreaker();
+
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        // 시험 호출 자리가 반납되어 다음 요청이 다시 시험 호출할 수 있음
+        assertThat(breaker.execute(this::getKakaoUser)).contains("kakao_account");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    /**
+     * 5xx 한 번으로 열리고 바로 시험 호출이 가능한 서킷 브레이커
+     */
+    private CircuitBreaker openBreaker() {
+        CircuitBreaker breaker = config.kakaoCircuitBreaker(1, Duration.ZERO, new SimpleMeterRegistry());
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        })).isInstanceOf(HttpServerErrorException.class);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private String callKakao() {
+        return circuitBreaker.execute(this::getKakaoUser);
+    }
+
+    private String getKakaoUser() {
+        return restTemplate.getForObject(stub.baseUrl() + "/v2/user/me", String.class);
+    }
+}
@@ -0,0 +1,160 @@
+package com.ktb.marong.load;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.mission.Mission;
+import com.ktb.marong.domain.mission.UserMission;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.repository.AnonymousNameRepository;
+import com.ktb.marong.repository.ManittoRepository;
+import com.ktb.marong.repository.UserMissionRepository;
+import com.ktb.marong.service.manitto.ManittoMatchingEngine;
+import com.ktb.marong.support.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주간 대량 삽입 처리량 벤치마크
+ * 1. 주차 마니또 매칭: 마니또/익명 이름 JDBC 배치 삽입 (ID는 IdBlocks 블록에서 발급)
+ * 2. 사용자 미션 일괄 저장: JPA saveAll이 IdBlocks ID 덕분에 INSERT 배치로 묶이는지 확인
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행
+ * 규모는 marong.load.bulk-rows(기본 12000), marong.load.bulk-members-per-group(기본 20) 시스템 프로퍼티로 조정
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "logging.level.com.ktb.marong=warn",
+        "logging.level.com.ktb.marong.load=info"
+})
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class BulkInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkInsertBenchmarkTest.class);
+
+    private static final int ROWS = Integer.getInteger("marong.load.bulk-rows", 12_000);
+    private static final int MEMBERS_PER_GROUP = Integer.getInteger("marong.load.bulk-members-per-group", 20);
+
+    @Autowired
+    private ManittoMatchingEngine matchingEngine;
+
+    @Autowired
+    private ManittoRepository manittoRepository;
+
+    @Autowired
+    private AnonymousNameRepository anonymousNameRepository;
+
+    @Autowired
+    private UserMissionRepository userMissionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private SyntheticDataset dataset;
+    private int currentWeek;
+    private final List<String> results = new ArrayList<>();
+
+    @BeforeAll
+    void generateDataset() {
+        currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        int groups = Math.max(1, ROWS / MEMBERS_PER_GROUP);
+        dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(groups, MEMBERS_PER_GROUP), currentWeek);
+    }
+
+    @AfterAll
+    void printResults() {
+        log.info("=== bulk insert benchmark ===\n{}", String.join("\n", results));
+    }
+
+    @Test
+    @Order(1)
+    void weeklyManittoMatching() {
+        int nextWeek = currentWeek + 1;
+        long manittosBefore = manittoRepository.count();
+        long anonymousNamesBefore = anonymousNameRepository.count();
+
+        long start = System.nanoTime();
+        int groups = matchingEngine.matchWeek(nextWeek);
+        long elapsed = System.nanoTime() - start;
+
+        long manittos = manittoRepository.count() - manittosBefore;
+        long anonymousNames = anonymousNameRepository.count() - anonymousNamesBefore;
+        // 같은 컨텍스트의 다른 부하 시나리오 그룹도 함께 매칭될 수 있음
+        assertThat(groups).isGreaterThanOrEqualTo(dataset.getGroups().size());
+        assertThat(manittos).isEqualTo(anonymousNames).isGreaterThanOrEqualTo(memberCount());
+
+        record("manitto + anonymous-name (JDBC batch)", manittos + anonymousNames, elapsed, -1);
+    }
+
+    @Test
+    @Order(2)
+    void weeklyUserMissionAssignment() {
+        LocalDate assignedDate = TestClockConfig.DEFAULT_NOW.toLocalDate();
+        long before = userMissionRepository.count();
+
+        long[] elapsed = new long[1];
+        long statements = QueryBudget.count(() -> transactionTemplate.executeWithoutResult(status -> {
+            long start = System.nanoTime();
+            List<UserMission> missions = new ArrayList<>();
+            for (SyntheticDataset.GroupData group : dataset.getGroups()) {
+                List<Long> missionIds = group.getCurrentWeekMissionIds();
+                List<Long> memberIds = group.getMemberIds();
+                for (int i = 0; i < memberIds.size(); i++) {
+                    missions.add(UserMission.builder()
+                            .user(entityManager.getReference(User.class, memberIds.get(i)))
+                            .groupId(group.getGroupId())
+                            .mission(entityManager.getReference(Mission.class, missionIds.get(i % missionIds.size())))
+                            .week(currentWeek)
+                            .assignedDate(assignedDate)
+                            .selectionType("auto")
+                            .build());
+                }
+            }
+            userMissionRepository.saveAll(missions);
+            entityManager.flush();
+            elapsed[0] = System.nanoTime() - start;
+        }));
+
+        long rows = userMissionRepository.count() - before;
+        assertThat(rows).isEqualTo(memberCount());
+        // IDENTITY였다면 행마다 INSERT 1개 -> 배치(batch_size=50)로 묶이면 문장 수가 크게 줄어듦
+        assertThat(statements).isLessThan(rows / 10);
+
+        record("user-mission (JPA saveAll)", rows, elapsed[0], statements);
+    }
+
+    private long memberCount() {
+        return dataset.getGroups().stream().mapToLong(group -> group.getMemberIds().size()).sum();
+    }
+
+    private void record(String name, long rows, long elapsedNanos, long statements) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        results.add(String.format("%-40s rows=%d elapsed=%.2fs throughput=%.0f rows/s%s", name, rows, seconds,
+                rows / Math.max(seconds, 1e-9), statements >= 0 ? " statements=" + statements : ""));
+    }
+}
@@ -0,0 +1,247 @@
+package com.ktb.marong.load;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.repository.UserRepository;
+import com.ktb.marong.service.auth.JwtService;
+import com.ktb.marong.service.feed.FeedEntryProjector;
+import com.ktb.marong.support.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 종단간 부하 시나리오
+ * 1. 월요일 미션 폭주: 매칭 직후 선택 가능 미션 조회 -> 미션 선택 -> 미션 현황 조회
+ * 2. 피드 스크롤: 그룹 피드 1~N 페이지 연속 조회
+ * 3. 금요일 공개: 17시 직후 마니또 상세 조회 + 피드 첫 페이지 조회
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행
+ * 규모/동시성은 marong.load.* 시스템 프로퍼티로 조정 (SyntheticDataSpec 참고)
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "logging.level.com.ktb.marong=warn",
+        "logging.level.com.ktb.marong.load=info"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MarongLoadScenarioTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MarongLoadScenarioTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("marong.load.concurrency", 32);
+    private static final int USERS_PER_GROUP = Integer.getInteger("marong.load.users-per-group", 20);
+    private static final int FEED_PAGES = Integer.getInteger("marong.load.feed-pages", 3);
+    private static final long MAX_P99_MILLIS = Long.getLong("marong.load.max-p99-ms", 0L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MutableClock clock;
+
+    @Autowired
+    private FeedEntryProjector feedEntryProjector;
+
+    private SyntheticDataset dataset;
+    private LocalDate currentMonday;
+    private final List<VirtualUser> virtualUsers = new ArrayList<>();
+    private final List<LoadReport> reports = new ArrayList<>();
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        currentMonday = SyntheticDataGenerator.mondayOf(currentWeek);
+
+        SyntheticDataSpec spec = SyntheticDataSpec.fromSystemProperties();
+        long start = System.nanoTime();
+        dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory).generate(spec, currentWeek);
+        feedEntryProjector.backfill(); // JDBC로 적재한 게시글의 피드 읽기 모델 생성
+        log.info("합성 데이터 생성 완료 ({}): {}, {}s", spec, dataset,
+                String.format("%.1f", (System.nanoTime() - start) / 1_000_000_000.0));
+
+        for (SyntheticDataset.GroupData group : dataset.getGroups()) {
+            List<Long> members = group.getMemberIds();
+            for (int i = 0; i < Math.min(USERS_PER_GROUP, members.size()); i++) {
+                User user = userRepository.findById(members.get(i)).orElseThrow();
+                virtualUsers.add(new VirtualUser(jwtService.createAccessToken(user), group));
+            }
+        }
+    }
+
+    @AfterAll
+    void printReport() {
+        reports.forEach(report -> log.info("{}", report.render()));
+    }
+
+    @Test
+    @Order(1)
+    void mondayMissionBurst() throws Exception {
+        clock.setTo(currentMonday.atTime(12, 1));
+
+        LoadReport report = run("monday-mission-burst", user -> {
+            String groupId = String.valueOf(user.group.getGroupId());
+            List<Long> missions = user.group.getCurrentWeekMissionIds();
+            long missionId = missions.get(ThreadLocalRandom.current().nextInt(missions.size()));
+
+            return List.of(
+                    new Step("GET /missions/available", get("/missions/available").param("groupId", groupId)),
+                    // 미션별 선택 가능 인원(5명)이 다 차면 400 (DAILY_MISSION_LIMIT_EXCEEDED)
+                    new Step("POST /missions/select", post("/missions/select")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"missionId\":" + missionId + ",\"groupId\":" + groupId + "}"), 200, 400),
+                    new Step("GET /manitto/missions", get("/manitto/missions").param("groupId", groupId))
+            );
+        });
+
+        assertHealthy(report);
+    }
+
+    @Test
+    @Order(2)
+    void feedScrolling() throws Exception {
+        clock.setTo(currentMonday.plusDays(2).atTime(19, 30));
+
+        LoadReport report = run("feed-scrolling", user -> {
+            String groupId = String.valueOf(user.group.getGroupId());
+            List<Step> steps = new ArrayList<>();
+            for (int page = 1; page <= FEED_PAGES; page++) {
+                steps.add(new Step("GET /feeds?page=" + page, get("/feeds")
+                        .param("groupId", groupId)
+                        .param("page", String.valueOf(page))
+                        .param("pageSize", "20")));
+            }
+            return steps;
+        });
+
+        assertHealthy(report);
+    }
+
+    @Test
+    @Order(3)
+    void fridayReveal() throws Exception {
+        clock.setTo(currentMonday.plusDays(4).atTime(17, 0, 30));
+
+        LoadReport report = run("friday-reveal", user -> {
+            String groupId = String.valueOf(user.group.getGroupId());
+            return List.of(
+                    new Step("GET /manitto/detail", get("/manitto/detail").param("groupId", groupId)),
+                    new Step("GET /feeds?page=1", get("/feeds").param("groupId", groupId))
+            );
+        });
+
+        assertHealthy(report);
+    }
+
+    /**
+     * 모든 가상 사용자가 각자의 요청 흐름을 순서대로 수행하도록 동시 실행
+     */
+    private LoadReport run(String phase, ScenarioFlow flow) throws InterruptedException {
+        LoadReport report = new LoadReport(phase);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        List<VirtualUser> shuffled = new ArrayList<>(virtualUsers);
+        Collections.shuffle(shuffled, new Random(phase.hashCode()));
+
+        long start = System.nanoTime();
+        for (VirtualUser user : shuffled) {
+            executor.submit(() -> {
+                for (Step step : flow.steps(user)) {
+                    execute(report, user, step);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.MINUTES)).isTrue();
+        report.finish(Duration.ofNanos(System.nanoTime() - start));
+
+        reports.add(report);
+        return report;
+    }
+
+    private void execute(LoadReport report, VirtualUser user, Step step) {
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = mockMvc.perform(step.request
+                            .header("Authorization", "Bearer " + user.accessToken))
+                    .andReturn().getResponse().getStatus();
+        } catch (Exception e) {
+            status = 599;
+        }
+        report.record(step.name, System.nanoTime() - start, status, step.expectedStatuses.contains(status));
+    }
+
+    private void assertHealthy(LoadReport report) {
+        assertThat(report.serverErrors()).as("%s 5xx 응답 수", report.render()).isZero();
+        assertThat(report.unexpectedStatuses()).as("%s 기대하지 않은 응답", report.render()).isEmpty();
+        if (MAX_P99_MILLIS > 0) {
+            assertThat(report.worstP99Millis()).as("%s p99 상한", report.render()).isLessThanOrEqualTo(MAX_P99_MILLIS);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ScenarioFlow {
+        List<Step> steps(VirtualUser user);
+    }
+
+    private static class Step {
+
+        private final String name;
+        private final MockHttpServletRequestBuilder request;
+        private final Set<Integer> expectedStatuses;
+
+        /**
+         * @param expectedStatuses 정상으로 보는 상태 코드 (없으면 200만)
+         */
+        Step(String name, MockHttpServletRequestBuilder request, Integer... expectedStatuses) {
+            this.name = name;
+            this.request = request;
+            this.expectedStatuses = expectedStatuses.length == 0 ? Set.of(200) : Set.of(expectedStatuses);
+        }
+    }
+
+    private static class VirtualUser {
+
+        private final String accessToken;
+        private final SyntheticDataset.GroupData group;
+
+        VirtualUser(String accessToken, SyntheticDataset.GroupData group) {
+            this.accessToken = accessToken;
+            this.group = group;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.ktb.marong.service;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.group.Group;
+import com.ktb.marong.domain.group.UserGroup;
+import com.ktb.marong.domain.recommendation.PlaceRecommendation;
+import com.ktb.marong.domain.recommendation.PlaceRecommendationSession;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.dto.request.feed.PostLikeRequestDto;
+import com.ktb.marong.dto.response.feed.PostPageResponseDto;
+import com.ktb.marong.dto.response.feed.PostResponseDto;
+import com.ktb.marong.dto.response.group.GroupResponseDto;
+import com.ktb.marong.dto.response.manitto.ManittoDetailResponseDto;
+import com.ktb.marong.dto.response.recommendation.PlaceRecommendationResponseDto;
+import com.ktb.marong.repository.GroupRepository;
+import com.ktb.marong.repository.ManittoRepository;
+import com.ktb.marong.repository.PlaceRecommendationRepository;
+import com.ktb.marong.repository.PlaceRecommendationSessionRepository;
+import com.ktb.marong.repository.UserGroupRepository;
+import com.ktb.marong.repository.UserRepository;
+import com.ktb.marong.service.feed.FeedEntryProjector;
+import com.ktb.marong.service.feed.FeedService;
+import com.ktb.marong.service.group.GroupService;
+import com.ktb.marong.service.manitto.ManittoService;
+import com.ktb.marong.service.recommendation.PlaceRecommendationService;
+import com.ktb.marong.support.MutableClock;
+import com.ktb.marong.support.QueryBudget;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 경로 서비스 메서드의 SQL 문 개수 예산 회귀 테스트
+ * 페이지 크기나 그룹 수에 비례해 쿼리가 늘어나는 N+1 회귀를 잡기 위함
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ServiceQueryBudgetTest {
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private ManittoService manittoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MutableClock clock;
+
+    @Autowired
+    private FeedEntryProjector feedEntryProjector;
+
+    @Autowired
+    private PlaceRecommendationService placeRecommendationService;
+
+    @Autowired
+    private ManittoRepository manittoRepository;
+
+    @Autowired
+    private PlaceRecommendationSessionRepository sessionRepository;
+
+    @Autowired
+    private PlaceRecommendationRepository placeRecommendationRepository;
+
+    private LocalDate currentMonday;
+    private Long groupId;
+    private Long userId;
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        currentMonday = SyntheticDataGenerator.mondayOf(currentWeek);
+
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(3, 30), currentWeek);
+        feedEntryProjector.backfill(); // JDBC로 적재한 게시글의 피드 읽기 모델 생성
+
+        SyntheticDataset.GroupData firstGroup = dataset.getGroups().get(0);
+        groupId = firstGroup.getGroupId();
+        userId = firstGroup.getMemberIds().get(0);
+
+        // 첫 번째 그룹 사용자를 나머지 그룹에도 가입시켜 여러 그룹 소속 상황을 만듦
+        User user = userRepository.findById(userId).orElseThrow();
+        for (SyntheticDataset.GroupData other : dataset.getGroups().subList(1, dataset.getGroups().size())) {
+            Group group = groupRepository.findById(other.getGroupId()).orElseThrow();
+            userGroupRepository.save(UserGroup.builder()
+                    .user(user)
+                    .group(group)
+                    .groupUserNickname("budget" + other.getGroupId())
+                    .isOwner(false)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void resetClock() {
+        clock.setTo(TestClockConfig.DEFAULT_NOW);
+    }
+
+    @Test
+    void getPostsStaysWithinBudget() {
+        PostPageResponseDto response = QueryBudget.assertAtMost(6, "FeedService.getPosts",
+                () -> feedService.getPosts(userId, groupId, 1, 20));
+
+        assertThat(response.getFeeds()).hasSize(20);
+    }
+
+    @Test
+    void getPostsQueryCountDoesNotGrowWithPageSize() {
+        // 첫 페이지는 캐시를 거치므로 DB 조회 경로인 2페이지로 비교
+        long small = QueryBudget.count(() -> feedService.getPosts(userId, groupId, 2, 5));
+        long large = QueryBudget.count(() -> feedService.getPosts(userId, groupId, 2, 20));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void cachedFirstPageStaysWithinBudget() {
+        feedService.getPosts(userId, groupId, 1, 20);
+
+        PostPageResponseDto response = QueryBudget.assertAtMost(2, "FeedService.getPosts (cached first page)",
+                () -> feedService.getPosts(userId, groupId, 1, 20));
+
+        assertThat(response.getFeeds()).hasSize(20);
+    }
+
+    @Test
+    void likeIsWrittenThroughToCachedFirstPage() {
+        PostResponseDto before = feedService.getPosts(userId, groupId, 1, 20).getFeeds().get(0);
+
+        feedService.toggleLike(userId, before.getFeedId(), new PostLikeRequestDto(before.isLiked()));
+
+        PostResponseDto after = feedService.getPosts(userId, groupId, 1, 20).getFeeds().get(0);
+        assertThat(after.getFeedId()).isEqualTo(before.getFeedId());
+        assertThat(after.isLiked()).isNotEqualTo(before.isLiked());
+        assertThat(after.getLikes()).isEqualTo(before.getLikes() + (before.isLiked() ? -1 : 1));
+    }
+
+    @Test
+    void getMyGroupsStaysWithinBudget() {
+        List<GroupResponseDto> groups = QueryBudget.assertAtMost(2, "GroupService.getMyGroups",
+                () -> groupService.getMyGroups(userId));
+
+        assertThat(groups).hasSize(3);
+    }
+
+    @Test
+    void manittoDetailDuringActivePeriodStaysWithinBudget() {
+        clock.setTo(currentMonday.atTime(12, 5));
+
+        ManittoDetailResponseDto response = QueryBudget.assertAtMost(7, "ManittoService.getCurrentManittoDetail(ACTIVE)",
+                () -> manittoService.getCurrentManittoDetail(userId, groupId));
+
+        assertThat(response.getPeriod()).isEqualTo("MANITTO_ACTIVE");
+    }
+
+    @Test
+    void manittoDetailDuringMatchingPreparationStaysWithinBudget() {
+        clock.setTo(currentMonday.atTime(9, 0));
+
+        ManittoDetailResponseDto response = QueryBudget.assertAtMost(7, "ManittoService.getCurrentManittoDetail(PREPARATION)",
+                () -> manittoService.getCurrentManittoDetail(userId, groupId));
+
+        assertThat(response.getPeriod()).isEqualTo("MATCHING_PREPARATION");
+    }
+
+    @Test
+    void manittoDetailDuringRevealStaysWithinBudget() {
+        clock.setTo(currentMonday.plusDays(4).atTime(17, 30));
+
+        ManittoDetailResponseDto response = QueryBudget.assertAtMost(6, "ManittoService.getCurrentManittoDetail(REVEAL)",
+                () -> manittoService.getCurrentManittoDetail(userId, groupId));
+
+        assertThat(response.getPeriod()).isEqualTo("MANITTO_REVEAL");
+    }
+
+    @Test
+    void repeatedPlaceRecommendationUsesCachedCandidates() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        Long manitteeId = manittoRepository.findByManittoIdAndGroupIdAndWeek(userId, groupId, currentWeek)
+                .get(0).getManittee().getId();
+        PlaceRecommendationSession session = sessionRepository.save(PlaceRecommendationSession.builder()
+                .manitto(userRepository.findById(userId).orElseThrow())
+                .manittee(userRepository.findById(manitteeId).orElseThrow())
+                .week(currentWeek)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            placeRecommendationRepository.save(PlaceRecommendation.builder().session(session)
+                    .type("restaurant").name("밥집" + i).latitude(37.4).longitude(127.1).build());
+            placeRecommendationRepository.save(PlaceRecommendation.builder().session(session)
+                    .type("cafe").name("카페" + i).latitude(37.4).longitude(127.1).build());
+        }
+
+        QueryBudget.assertAtMost(3, "PlaceRecommendationService.getPlaceRecommendations",
+                () -> placeRecommendationService.getPlaceRecommendations(userId, groupId));
+        // 다시 뽑기는 매칭 확인 외에 DB 조회 없음
+        PlaceRecommendationResponseDto response = QueryBudget.assertAtMost(1,
+                "PlaceRecommendationService.getPlaceRecommendations (cached candidates)",
+                () -> placeRecommendationService.getPlaceRecommendations(userId, groupId));
+
+        assertThat(response.getRestaurants()).hasSize(1);
+        assertThat(response.getCafes()).hasSize(1);
+    }
+}
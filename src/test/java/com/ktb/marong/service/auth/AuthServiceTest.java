@@ -0,0 +1,94 @@
+package com.ktb.marong.service.auth;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.dto.response.auth.LoginResponseDto;
+import com.ktb.marong.support.KakaoStubServer;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소셜 로그인 시 사용자 확정 이후 단계가 동시에 실행되어 토큰, 기본 그룹, 첫 피드가 함께 응답되는지 검증
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AuthServiceTest {
+
+    private static final KakaoStubServer STUB = KakaoStubServer.start();
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long groupId;
+    private Long memberId;
+
+    @DynamicPropertySource
+    static void kakaoEndpoints(DynamicPropertyRegistry registry) {
+        STUB.registerEndpoints(registry);
+    }
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(1, 3), currentWeek);
+        groupId = dataset.getGroups().get(0).getGroupId();
+        memberId = dataset.getGroups().get(0).getMemberIds().get(0);
+    }
+
+    @AfterAll
+    void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    void loginReturnsTokensWithDefaultGroupAndFirstFeedPage() {
+        STUB.setProviderId("synthetic-" + memberId);
+
+        LoginResponseDto response = authService.socialLogin("kakao", "code");
+
+        assertThat(response.getUser().getUserId()).isEqualTo(memberId);
+        assertThat(response.getJwt()).isNotBlank();
+        assertThat(response.getRefreshToken()).isNotBlank();
+        assertThat(response.isNewUser()).isFalse();
+        assertThat(response.getDefaultGroupId()).isEqualTo(groupId);
+        assertThat(response.getFirstFeed()).isNotNull();
+        assertThat(response.getFirstFeed().getGroupId()).isEqualTo(groupId);
+        assertThat(response.getFirstFeed().getPage()).isEqualTo(1);
+    }
+
+    @Test
+    void newUserWithoutGroupLogsInWithoutPrefetchedFeed() {
+        STUB.setProviderId("auth-service-test-new-user");
+
+        LoginResponseDto response = authService.socialLogin("kakao", "code");
+
+        assertThat(response.isNewUser()).isTrue();
+        assertThat(response.getRefreshToken()).isNotBlank();
+        assertThat(response.getDefaultGroupId()).isNull();
+        assertThat(response.getFirstFeed()).isNull();
+    }
+}
@@ -0,0 +1,87 @@
+package com.ktb.marong.service.auth;
+
+import com.ktb.marong.dto.response.auth.KakaoUserInfoDto;
+import com.ktb.marong.exception.CustomException;
+import com.ktb.marong.exception.ErrorCode;
+import com.ktb.marong.support.KakaoStubServer;
+import com.ktb.marong.support.TestClockConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 OAuth 서버로 카카오 호출의 타임아웃과 서킷 브레이커 검증
+ */
+@SpringBootTest(properties = {
+        "logging.level.com.ktb.marong=warn",
+        "marong.http.client.read-timeout=300ms",
+        "marong.kakao.circuit-breaker.failure-threshold=2",
+        "marong.kakao.circuit-breaker.open-duration=1m"
+})
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class KakaoOAuthServiceTest {
+
+    private static final KakaoStubServer STUB = KakaoStubServer.start();
+
+    @Autowired
+    private KakaoOAuthService kakaoOAuthService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void kakaoEndpoints(DynamicPropertyRegistry registry) {
+        STUB.registerEndpoints(registry);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop();
+    }
+
+    @Test
+    @Order(1)
+    void exchangesCodeAndReadsUserInfoThroughThePool() {
+        STUB.setDelayMillis(0);
+
+        String accessToken = kakaoOAuthService.getAccessToken("code");
+        KakaoUserInfoDto userInfo = kakaoOAuthService.getUserInfo(accessToken);
+
+        assertThat(accessToken).isEqualTo("stub-access-token");
+        assertThat(userInfo.getProviderId()).isEqualTo("4242");
+        assertThat(userInfo.getNickname()).isEqualTo("마롱");
+        assertThat(meterRegistry.get("marong.kakao.request")
+                .tag("operation", "token").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    void slowProviderTimesOutAndThenFailsFastWithoutCallingIt() {
+        STUB.setDelayMillis(2_000);
+
+        // 응답 타임아웃(300ms)으로 끊기고 연속 2회 실패 시 서킷이 열림
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> kakaoOAuthService.getAccessToken("code")).isInstanceOf(RuntimeException.class);
+            assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(1_500);
+        }
+
+        int requestsBefore = STUB.requestCount();
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> kakaoOAuthService.getAccessToken("code"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SOCIAL_AUTH_UNAVAILABLE));
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(100);
+        assertThat(STUB.requestCount()).isEqualTo(requestsBefore);
+    }
+}
@@ -0,0 +1,204 @@
+package com.ktb.marong.service.auth;
+
+import com.ktb.marong.common.cache.CacheInvalidationBus;
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.auth.RefreshToken;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.dto.request.auth.TokenRefreshRequestDto;
+import com.ktb.marong.dto.response.auth.TokenRefreshResponseDto;
+import com.ktb.marong.exception.CustomException;
+import com.ktb.marong.exception.ErrorCode;
+import com.ktb.marong.repository.RefreshTokenRepository;
+import com.ktb.marong.repository.UserRepository;
+import com.ktb.marong.support.InMemoryInvalidationBus;
+import com.ktb.marong.support.QueryBudget;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 메모리 교체/재사용 감지, 교체 지연 반영, 인스턴스 간 로그인/교체/로그아웃 반영 검증
+ */
+@SpringBootTest(properties = {
+        "logging.level.com.ktb.marong=warn",
+        "marong.auth.refresh-token.flush-interval-ms=3600000"
+})
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RefreshTokenStoreTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Long> memberIds;
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(1, 5), currentWeek);
+        memberIds = dataset.getGroups().get(0).getMemberIds();
+    }
+
+    @Test
+    void refreshRotatesTokenWithoutQueries() {
+        Long userId = memberIds.get(0);
+        String refreshToken = login(userId);
+
+        // 사용자 조회 없이 메모리에서 검증/교체
+        TokenRefreshResponseDto response = QueryBudget.assertAtMost(0, "토큰 재발급",
+                () -> authService.refreshToken(new TokenRefreshRequestDto(refreshToken)));
+
+        assertThat(jwtService.getUserIdFromToken(response.getJwt())).isEqualTo(userId.toString());
+        assertThat(response.getRefreshToken()).isNotEqualTo(refreshToken);
+        // 교체는 나중에 반영되므로 DB에는 아직 로그인 때 토큰
+        assertThat(storedHash(userId)).isEqualTo(RefreshTokenStore.hash(refreshToken));
+
+        // 교체된 새 토큰으로 다시 재발급 가능
+        assertThat(authService.refreshToken(new TokenRefreshRequestDto(response.getRefreshToken())).getJwt())
+                .isNotBlank();
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesTheUsersToken() {
+        String refreshToken = login(memberIds.get(1));
+        String rotated = authService.refreshToken(new TokenRefreshRequestDto(refreshToken)).getRefreshToken();
+
+        assertThatThrownBy(() -> authService.refreshToken(new TokenRefreshRequestDto(refreshToken)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_REUSED));
+        // 재사용이 감지되면 정상 토큰도 폐기되어 다시 로그인해야 함
+        assertThatThrownBy(() -> authService.refreshToken(new TokenRefreshRequestDto(rotated)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_REFRESH_TOKEN));
+    }
+
+    @Test
+    void loginIsStoredImmediatelyAndRotationsAreFlushedLater() {
+        Long userId = memberIds.get(2);
+        String refreshToken = login(userId);
+
+        // 로그인 저장은 바로 해시로 반영
+        RefreshToken stored = refreshTokenRepository.findByUserId(userId).orElseThrow();
+        assertThat(stored.getToken()).isEqualTo(RefreshTokenStore.hash(refreshToken)).isNotEqualTo(refreshToken);
+
+        String rotated = authService.refreshToken(new TokenRefreshRequestDto(refreshToken)).getRefreshToken();
+        assertThat(storedHash(userId)).isEqualTo(RefreshTokenStore.hash(refreshToken));
+        refreshTokenStore.flush();
+        assertThat(storedHash(userId)).isEqualTo(RefreshTokenStore.hash(rotated));
+
+        // 재시작한 인스턴스는 DB에서 읽어 와 이어서 교체
+        RefreshTokenStore restarted = anotherInstance(null);
+        assertThat(restarted.rotate(userId, rotated, "next-token", stored.getExpiresAt()))
+                .isEqualTo(RefreshTokenStore.Result.ROTATED);
+        restarted.flush();
+        assertThat(storedHash(userId)).isEqualTo(RefreshTokenStore.hash("next-token"));
+
+        // 로그아웃은 바로 DB에서 삭제
+        authService.logout(userId);
+        assertThat(refreshTokenRepository.findByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    void loginRotationAndLogoutOnOneInstanceAreSeenByAnother() {
+        Long userId = memberIds.get(3);
+        InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+        RefreshTokenStore a = anotherInstance(bus);
+        RefreshTokenStore b = anotherInstance(bus);
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+
+        // A에서 로그인한 토큰을 B가 바로 교체
+        a.save(userId, "login-token", expiresAt);
+        assertThat(b.rotate(userId, "login-token", "rotated-on-b", expiresAt))
+                .isEqualTo(RefreshTokenStore.Result.ROTATED);
+
+        // B의 교체가 A에 전달되어 이전 토큰은 재사용으로 감지되고, 폐기는 B에도 전달됨
+        assertThat(a.rotate(userId, "login-token", "forked-token", expiresAt))
+                .isEqualTo(RefreshTokenStore.Result.REUSED);
+        assertThat(b.rotate(userId, "rotated-on-b", "after-revoke", expiresAt))
+                .isEqualTo(RefreshTokenStore.Result.INVALID);
+
+        // A에 반영 대기 중인 교체가 있어도 B의 로그아웃 뒤에 행을 되살리지 않음
+        a.save(userId, "second-login", expiresAt);
+        assertThat(a.rotate(userId, "second-login", "pending-on-a", expiresAt))
+                .isEqualTo(RefreshTokenStore.Result.ROTATED);
+        b.revoke(userId);
+        a.flush();
+        assertThat(refreshTokenRepository.findByUserId(userId)).isEmpty();
+        assertThat(a.rotate(userId, "pending-on-a", "after-logout", expiresAt))
+                .isEqualTo(RefreshTokenStore.Result.INVALID);
+    }
+
+    @Test
+    void laterRotationIsNotOverwrittenByEarlierFlush() {
+        Long userId = memberIds.get(4);
+        InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+        RefreshTokenStore a = anotherInstance(bus);
+        RefreshTokenStore b = anotherInstance(bus);
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(1);
+
+        a.save(userId, "login-token", expiresAt);
+        assertThat(a.rotate(userId, "login-token", "step-1", expiresAt)).isEqualTo(RefreshTokenStore.Result.ROTATED);
+        assertThat(b.rotate(userId, "step-1", "step-2", expiresAt)).isEqualTo(RefreshTokenStore.Result.ROTATED);
+
+        // 뒤 단계가 먼저 반영되면 앞 단계 반영은 무시됨
+        b.flush();
+        a.flush();
+        assertThat(storedHash(userId)).isEqualTo(RefreshTokenStore.hash("step-2"));
+        assertThat(a.rotate(userId, "step-2", "step-3", expiresAt)).isEqualTo(RefreshTokenStore.Result.ROTATED);
+    }
+
+    private String storedHash(Long userId) {
+        return refreshTokenRepository.findByUserId(userId).orElseThrow().getToken();
+    }
+
+    private RefreshTokenStore anotherInstance(CacheInvalidationBus bus) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(
+                bus == null ? Map.of() : Map.of("invalidationBus", bus));
+        return new RefreshTokenStore(jdbcTemplate, entityManagerFactory, new SimpleMeterRegistry(),
+                beans.getBeanProvider(CacheInvalidationBus.class), 604_800_000L, 100, 500);
+    }
+
+    private String login(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow();
+        return jwtService.createRefreshToken(user);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ktb.marong.service.feed;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.feed.FeedEntry;
+import com.ktb.marong.dto.request.group.UpdateGroupProfileRequestDto;
+import com.ktb.marong.dto.response.feed.PostResponseDto;
+import com.ktb.marong.repository.FeedEntryRepository;
+import com.ktb.marong.service.group.GroupService;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 읽기 모델(FeedEntry) 채움과 이벤트 기반 표시 이름 갱신 검증
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FeedEntryProjectorTest {
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private FeedEntryProjector feedEntryProjector;
+
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SyntheticDataset dataset;
+    private Long groupId;
+    private Long viewerId;
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(1, 10), currentWeek);
+        feedEntryProjector.backfill();
+
+        groupId = dataset.getGroups().get(0).getGroupId();
+        viewerId = dataset.getGroups().get(0).getMemberIds().get(0);
+    }
+
+    @Test
+    void backfillCreatesOneEntryPerPostAndIsIdempotent() {
+        assertThat(feedEntryRepository.count()).isGreaterThanOrEqualTo(dataset.getPostCount());
+        assertThat(feedEntryProjector.backfill()).isZero();
+    }
+
+    @Test
+    void nicknameChangeIsReflectedInRenderedFeed() {
+        PostResponseDto post = feedService.getPosts(viewerId, groupId, 1, 20).getFeeds().get(0);
+        FeedEntry entry = feedEntryRepository.findById(post.getFeedId()).orElseThrow();
+
+        groupService.updateGroupProfile(entry.getAuthorId(), groupId, new UpdateGroupProfileRequestDto("바뀐닉네임"), null);
+
+        PostResponseDto renamed = feedService.getPosts(viewerId, groupId, 1, 20).getFeeds().stream()
+                .filter(feed -> feed.getFeedId().equals(post.getFeedId()))
+                .findFirst()
+                .orElseThrow();
+        // 지난 주차 게시글이므로 "그룹닉네임 (익명이름)" 형태
+        assertThat(renamed.getAuthor()).isEqualTo("바뀐닉네임 (" + entry.getAnonymousName() + ")");
+    }
+}
@@ -0,0 +1,79 @@
+package com.ktb.marong.service.feed;
+
+import com.ktb.marong.common.cache.CacheInvalidationBus;
+import com.ktb.marong.common.cache.CacheNames;
+import com.ktb.marong.common.cache.CacheSpec;
+import com.ktb.marong.common.cache.TwoTierCacheManager;
+import com.ktb.marong.event.PostLikeChangedEvent;
+import com.ktb.marong.support.InMemoryInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 인스턴스를 흉내 낸 피드 첫 페이지 캐시로 변경 시 삭제/진행 중인 적재 무효화 검증
+ * (로컬 전용 영역 + 메모리 무효화 채널)
+ */
+class FeedFirstPageCacheTest {
+
+    private static final Long GROUP_ID = 1L;
+    private static final Long POST_ID = 10L;
+
+    private FeedFirstPageCache nodeA;
+    private FeedFirstPageCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+        nodeA = node(bus);
+        nodeB = node(bus);
+    }
+
+    @Test
+    void likeChangeEvictsPageOnEveryInstance() {
+        nodeA.putIfUnchanged(page(3), nodeA.currentVersion(GROUP_ID));
+        nodeB.putIfUnchanged(page(3), nodeB.currentVersion(GROUP_ID));
+
+        nodeA.onPostLikeChanged(new PostLikeChangedEvent(POST_ID, GROUP_ID, 2L, true, 4));
+
+        assertThat(nodeA.get(GROUP_ID, 1, false)).isNull();
+        assertThat(nodeB.get(GROUP_ID, 1, false)).isNull();
+    }
+
+    @Test
+    void loadStartedBeforeChangeOnAnotherInstanceIsNotCached() {
+        // B가 변경 전 상태를 조회하는 중에 A에서 좋아요가 커밋됨
+        long versionBeforeChange = nodeB.currentVersion(GROUP_ID);
+        nodeA.onPostLikeChanged(new PostLikeChangedEvent(POST_ID, GROUP_ID, 2L, true, 4));
+
+        nodeB.putIfUnchanged(page(3), versionBeforeChange);
+        assertThat(nodeB.get(GROUP_ID, 1, false)).isNull();
+
+        // 변경 이후 시작한 적재는 캐시되고, 다른 인스턴스의 페이지를 지우지 않음
+        nodeA.putIfUnchanged(page(4), nodeA.currentVersion(GROUP_ID));
+        nodeB.putIfUnchanged(page(4), nodeB.currentVersion(GROUP_ID));
+        assertThat(nodeA.get(GROUP_ID, 1, false).getItems().get(0).getLikes()).isEqualTo(4);
+        assertThat(nodeB.get(GROUP_ID, 1, false).getItems().get(0).getLikes()).isEqualTo(4);
+    }
+
+    private static FeedFirstPageCache.FirstPage page(int likes) {
+        FeedFirstPageCache.Item item = new FeedFirstPageCache.Item(POST_ID, "작성자", "미션", "마니띠", "내용",
+                likes, LocalDateTime.of(2025, 6, 2, 12, 30), null, 1);
+        return new FeedFirstPageCache.FirstPage(GROUP_ID, "그룹", 1, 1, false, List.of(item));
+    }
+
+    private static FeedFirstPageCache node(CacheInvalidationBus bus) {
+        TwoTierCacheManager manager = new TwoTierCacheManager(
+                List.of(CacheSpec.localOnly(CacheNames.FEED_FIRST_PAGE, Duration.ofMinutes(1), 100)), null, bus, null);
+        manager.afterPropertiesSet();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("invalidationBus", bus));
+        return new FeedFirstPageCache(manager, beans.getBeanProvider(CacheInvalidationBus.class));
+    }
+}
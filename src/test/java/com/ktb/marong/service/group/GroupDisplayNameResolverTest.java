@@ -0,0 +1,92 @@
+package com.ktb.marong.service.group;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.dto.request.group.UpdateGroupProfileRequestDto;
+import com.ktb.marong.repository.UserRepository;
+import com.ktb.marong.support.QueryBudget;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그룹 표시 이름 캐시의 조회/이벤트 기반 무효화 검증
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GroupDisplayNameResolverTest {
+
+    @Autowired
+    private GroupDisplayNameResolver displayNameResolver;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long groupId;
+    private List<Long> memberIds;
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(1, 6), currentWeek);
+
+        groupId = dataset.getGroups().get(0).getGroupId();
+        memberIds = dataset.getGroups().get(0).getMemberIds();
+    }
+
+    @Test
+    void repeatedResolutionIsServedFromMemory() {
+        displayNameResolver.resolveAll(groupId, memberIds);
+
+        long queries = QueryBudget.count(() -> displayNameResolver.resolveAll(groupId, memberIds));
+
+        assertThat(queries).isZero();
+    }
+
+    @Test
+    void nicknameUpdateInvalidatesCachedName() {
+        Long userId = memberIds.get(1);
+        displayNameResolver.resolveName(groupId, userId);
+
+        groupService.updateGroupProfile(userId, groupId, new UpdateGroupProfileRequestDto("새이름"), null);
+
+        assertThat(displayNameResolver.resolveName(groupId, userId)).isEqualTo("새이름");
+    }
+
+    @Test
+    void leavingGroupFallsBackToKakaoName() {
+        Long userId = memberIds.get(2);
+        User user = userRepository.findById(userId).orElseThrow();
+        displayNameResolver.resolveName(groupId, userId);
+
+        groupService.leaveGroup(userId, groupId);
+
+        assertThat(displayNameResolver.resolveName(groupId, userId)).isEqualTo(user.getNickname());
+    }
+}
@@ -0,0 +1,110 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import com.ktb.marong.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주기 시계가 기간 경계(월 00시/12시, 금 17시)마다 주차/기간을 바꾸고 기간 변경 이벤트를 한 번만 발행하는지 검증
+ */
+class ManittoCycleClockTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 2);
+
+    private MutableClock clock;
+    private List<ManittoPhaseChangedEvent> events;
+    private ManittoCycleClock cycleClock;
+
+    @BeforeEach
+    void setUp() {
+        clock = MutableClock.at(MONDAY.atTime(0, 0));
+        events = new ArrayList<>();
+        cycleClock = new ManittoCycleClock(clock, event -> events.add((ManittoPhaseChangedEvent) event));
+    }
+
+    @Test
+    void crossesEachBoundaryOnce() {
+        int week = WeekCalculator.getWeekOf(MONDAY);
+
+        // 월요일 00시: 매칭 준비 (첫 계산은 이벤트 없음)
+        assertThat(cycleClock.getCurrentPeriod()).isEqualTo(ManittoPeriod.MATCHING_PREPARATION);
+        assertThat(cycleClock.getCurrentWeek()).isEqualTo(week);
+        assertThat(cycleClock.getNextTransition()).isEqualTo(MONDAY.atTime(12, 0));
+        assertThat(events).isEmpty();
+
+        // 경계 직전까지는 같은 기간
+        clock.setTo(MONDAY.atTime(11, 59, 59));
+        assertThat(cycleClock.getCurrentPeriod()).isEqualTo(ManittoPeriod.MATCHING_PREPARATION);
+        assertThat(events).isEmpty();
+
+        // 월요일 12시: 마니또 활동
+        clock.setTo(MONDAY.atTime(12, 0));
+        assertThat(cycleClock.getCurrentPeriod()).isEqualTo(ManittoPeriod.MANITTO_ACTIVE);
+        assertThat(cycleClock.isRevealTime()).isFalse();
+        assertThat(cycleClock.getRevealStart()).isEqualTo(MONDAY.plusDays(4).atTime(17, 0));
+        assertThat(cycleClock.getNextMatching()).isEqualTo(MONDAY.plusWeeks(1).atTime(12, 0));
+        assertPhaseChanged(ManittoPeriod.MATCHING_PREPARATION, ManittoPeriod.MANITTO_ACTIVE, week);
+
+        // 같은 기간 안에서는 여러 번 조회해도 이벤트 없음
+        clock.advance(Duration.ofDays(2));
+        cycleClock.refresh();
+        assertThat(cycleClock.getCurrentPeriod()).isEqualTo(ManittoPeriod.MANITTO_ACTIVE);
+        assertThat(events).isEmpty();
+
+        // 금요일 17시: 마니또 공개
+        clock.setTo(MONDAY.plusDays(4).atTime(17, 0));
+        assertThat(cycleClock.getCurrentPeriod()).isEqualTo(ManittoPeriod.MANITTO_REVEAL);
+        assertThat(cycleClock.isRevealTime()).isTrue();
+        assertThat(cycleClock.getCurrentWeek()).isEqualTo(week);
+        assertThat(cycleClock.getNextTransition()).isEqualTo(MONDAY.plusWeeks(1).atStartOfDay());
+        assertPhaseChanged(ManittoPeriod.MANITTO_ACTIVE, ManittoPeriod.MANITTO_REVEAL, week);
+
+        // 다음 주 월요일 00시: 주차가 바뀌고 다시 매칭 준비
+        clock.setTo(MONDAY.plusWeeks(1).atStartOfDay());
+        assertThat(cycleClock.getCurrentPeriod()).isEqualTo(ManittoPeriod.MATCHING_PREPARATION);
+        int nextWeek = WeekCalculator.getWeekOf(MONDAY.plusWeeks(1));
+        assertThat(nextWeek).isEqualTo(week + 1);
+        assertThat(cycleClock.getCurrentWeek()).isEqualTo(nextWeek);
+        assertPhaseChanged(ManittoPeriod.MANITTO_REVEAL, ManittoPeriod.MATCHING_PREPARATION, nextWeek);
+    }
+
+    @Test
+    void remainingTimeTargetsRevealDuringActiveAndMatchingOtherwise() {
+        clock.setTo(MONDAY.plusDays(4).atTime(16, 0, 30));
+        assertThat(cycleClock.getRemainingTimeUntilReveal()).isEqualTo("00:59:30");
+
+        clock.setTo(MONDAY.plusWeeks(1).atTime(11, 0));
+        assertThat(cycleClock.getRemainingTimeUntilReveal()).isEqualTo("01:00:00");
+    }
+
+    @Test
+    void skippingAPeriodPublishesSingleEvent() {
+        cycleClock.getCurrentPeriod();
+
+        // 요청이 없던 사이 두 경계를 지나도 마지막 기간 기준으로 한 번만 발행
+        clock.setTo(LocalDateTime.of(MONDAY.plusDays(5), LocalTime.NOON));
+        assertThat(cycleClock.getCurrentPeriod()).isEqualTo(ManittoPeriod.MANITTO_REVEAL);
+        assertPhaseChanged(ManittoPeriod.MATCHING_PREPARATION, ManittoPeriod.MANITTO_REVEAL,
+                WeekCalculator.getWeekOf(MONDAY));
+    }
+
+    private void assertPhaseChanged(ManittoPeriod previous, ManittoPeriod current, int week) {
+        assertThat(events).hasSize(1);
+        ManittoPhaseChangedEvent event = events.get(0);
+        assertThat(event.getPreviousPeriod()).isEqualTo(previous);
+        assertThat(event.getCurrentPeriod()).isEqualTo(current);
+        assertThat(event.getWeek()).isEqualTo(week);
+        events.clear();
+    }
+}
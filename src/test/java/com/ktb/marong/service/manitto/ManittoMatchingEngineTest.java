@@ -0,0 +1,170 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.group.UserGroup;
+import com.ktb.marong.repository.GroupRepository;
+import com.ktb.marong.repository.ManittoRepository;
+import com.ktb.marong.repository.UserGroupRepository;
+import com.ktb.marong.repository.UserRepository;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마니또 매칭 엔진의 순환 매칭 제약, 중복 실행 방지, 신규 멤버 합류(탈퇴 멤버 제외) 검증
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ManittoMatchingEngineTest {
+
+    @Autowired
+    private ManittoMatchingEngine matchingEngine;
+
+    @Autowired
+    private ManittoRepository manittoRepository;
+
+    @Autowired
+    private UserGroupRepository userGroupRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SyntheticDataset dataset;
+    private int currentWeek;
+
+    @BeforeAll
+    void generateDataset() {
+        currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(3, 12), currentWeek);
+    }
+
+    @Test
+    void nextWeekMatchingIsSingleCycleWithoutRecentRepeats() {
+        int nextWeek = currentWeek + 1;
+
+        // 같은 컨텍스트를 쓰는 다른 테스트의 그룹도 함께 매칭될 수 있음
+        assertThat(matchingEngine.matchWeek(nextWeek)).isGreaterThanOrEqualTo(dataset.getGroups().size());
+
+        for (SyntheticDataset.GroupData group : dataset.getGroups()) {
+            Long groupId = group.getGroupId();
+            List<Long> memberIds = userGroupRepository.findUserIdsByGroupId(groupId);
+            Map<Long, Long> matched = pairsOf(groupId, nextWeek);
+            Map<Long, Long> previous = pairsOf(groupId, currentWeek);
+
+            assertSingleCycle(matched, memberIds);
+            matched.forEach((manitto, manittee) -> assertThat(previous.get(manitto)).isNotEqualTo(manittee));
+        }
+
+        // 이미 매칭된 주차는 다시 매칭하지 않음
+        assertThat(matchingEngine.matchWeek(nextWeek)).isZero();
+    }
+
+    @Test
+    void lateJoinerIsSplicedIntoCurrentCycle() {
+        Long groupId = dataset.getGroups().get(0).getGroupId();
+        Long joinerId = dataset.getGroups().get(1).getMemberIds().get(1);
+        userGroupRepository.save(UserGroup.builder()
+                .user(userRepository.findById(joinerId).orElseThrow())
+                .group(groupRepository.findById(groupId).orElseThrow())
+                .groupUserNickname("늦게온멤버")
+                .build());
+
+        assertThat(matchingEngine.addLateJoiner(groupId, joinerId)).isTrue();
+        assertThat(matchingEngine.addLateJoiner(groupId, joinerId)).isFalse();
+
+        assertSingleCycle(pairsOf(groupId, currentWeek), userGroupRepository.findUserIdsByGroupId(groupId));
+    }
+
+    @Test
+    void lateJoinerIsNotSplicedNextToDepartedMembers() {
+        Long groupId = dataset.getGroups().get(2).getGroupId();
+        Map<Long, Long> pairs = pairsOf(groupId, currentWeek);
+
+        // 한 쌍(A -> B)만 남기고 나머지 멤버는 탈퇴
+        Long manittoId = pairs.keySet().iterator().next();
+        Long manitteeId = pairs.get(manittoId);
+        for (Long memberId : pairs.keySet()) {
+            if (!memberId.equals(manittoId) && !memberId.equals(manitteeId)) {
+                userGroupRepository.delete(userGroupRepository.findByUserIdAndGroupId(memberId, groupId).orElseThrow());
+            }
+        }
+
+        Long joinerId = dataset.getGroups().get(1).getMemberIds().get(2);
+        userGroupRepository.save(UserGroup.builder()
+                .user(userRepository.findById(joinerId).orElseThrow())
+                .group(groupRepository.findById(groupId).orElseThrow())
+                .groupUserNickname("늦게온멤버2")
+                .build());
+
+        assertThat(matchingEngine.addLateJoiner(groupId, joinerId)).isTrue();
+
+        Map<Long, Long> matched = pairsOf(groupId, currentWeek);
+        assertThat(matched.get(manittoId)).isEqualTo(joinerId);
+        assertThat(matched.get(joinerId)).isEqualTo(manitteeId);
+    }
+
+    @Test
+    void twoMemberGroupRelaxesRepeatConstraint() {
+        // 2명이면 가능한 순환이 하나뿐이므로 반복 금지를 완화하여 매칭
+        Set<Long> previous = Set.of(ManittoCycleBuilder.pairKey(0, 1), ManittoCycleBuilder.pairKey(1, 0));
+
+        int[] manitteeOf = new ManittoCycleBuilder().build(2, List.of(previous), null, new Random(1));
+
+        assertThat(manitteeOf).containsExactly(1, 0);
+    }
+
+    private Map<Long, Long> pairsOf(Long groupId, int week) {
+        Map<Long, Long> pairs = new HashMap<>();
+        for (Object[] pair : manittoRepository.findPairsByGroupIdAndWeekBetween(groupId, week, week)) {
+            assertThat(pairs.put((Long) pair[2], (Long) pair[3])).isNull();
+        }
+        return pairs;
+    }
+
+    /**
+     * 모든 멤버가 마니또/마니띠를 정확히 한 번씩 가지며 한 바퀴로 연결되는지 확인
+     */
+    private void assertSingleCycle(Map<Long, Long> pairs, List<Long> memberIds) {
+        assertThat(pairs.keySet()).containsExactlyInAnyOrderElementsOf(memberIds);
+        assertThat(new HashSet<>(pairs.values())).containsExactlyInAnyOrderElementsOf(memberIds);
+
+        Set<Long> visited = new HashSet<>();
+        Long current = memberIds.get(0);
+        while (visited.add(current)) {
+            assertThat(pairs.get(current)).isNotEqualTo(current);
+            current = pairs.get(current);
+        }
+        assertThat(visited).hasSize(memberIds.size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.ktb.marong.service.manitto;
+
+import com.ktb.marong.common.sse.SseBroadcaster;
+import com.ktb.marong.dto.response.manitto.ManittoPhaseResponseDto;
+import com.ktb.marong.event.ManittoPhaseChangedEvent;
+import com.ktb.marong.support.MutableClock;
+import com.ktb.marong.support.RecordingSseEmitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 기간 경계 직후 구독해도 변경을 놓치지 않고, 이후 경계마다 phase-changed를 받는지 검증
+ */
+class ManittoPhaseStreamServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 2);
+
+    private MutableClock clock;
+    private ManittoPhaseStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        clock = MutableClock.at(MONDAY.atTime(11, 59));
+        SseBroadcaster broadcaster = new SseBroadcaster("test-phase", 1, 8, Duration.ofMinutes(1), null,
+                RecordingSseEmitter::new);
+        // 실제 애플리케이션처럼 기간 변경 이벤트가 조회한 스레드에서 바로 스트림 서비스로 전달됨
+        ManittoCycleClock cycleClock = new ManittoCycleClock(clock,
+                event -> streamService.onPhaseChanged((ManittoPhaseChangedEvent) event));
+        streamService = new ManittoPhaseStreamService(cycleClock, broadcaster);
+        cycleClock.refresh();
+    }
+
+    @AfterEach
+    void shutdown() {
+        streamService.shutdown();
+    }
+
+    @Test
+    void subscriberAtBoundaryReceivesNewPhaseAndLaterTransitions() {
+        // 경계를 지난 직후 첫 조회가 구독 스냅샷을 만드는 중에 일어남
+        clock.setTo(MONDAY.atTime(12, 0));
+        RecordingSseEmitter emitter = (RecordingSseEmitter) streamService.subscribe(1L);
+
+        List<RecordingSseEmitter.Sent> sent = emitter.awaitSent(2);
+        assertThat(sent).extracting(RecordingSseEmitter.Sent::getName, ManittoPhaseStreamServiceTest::periodOf)
+                .containsExactly(
+                        tuple(ManittoPhaseStreamService.PHASE_CHANGED_EVENT, ManittoPeriod.MANITTO_ACTIVE.name()),
+                        tuple(ManittoPhaseStreamService.PHASE_EVENT, ManittoPeriod.MANITTO_ACTIVE.name()));
+
+        // 다음 경계(금요일 17시)
+        clock.setTo(MONDAY.plusDays(4).atTime(17, 0));
+        streamService.currentPhase();
+
+        sent = emitter.awaitSent(3);
+        assertThat(sent).hasSize(3);
+        assertThat(sent.get(2).getName()).isEqualTo(ManittoPhaseStreamService.PHASE_CHANGED_EVENT);
+        assertThat(periodOf(sent.get(2))).isEqualTo(ManittoPeriod.MANITTO_REVEAL.name());
+    }
+
+    private static String periodOf(RecordingSseEmitter.Sent sent) {
+        return ((ManittoPhaseResponseDto) sent.getData()).getPeriod();
+    }
+}
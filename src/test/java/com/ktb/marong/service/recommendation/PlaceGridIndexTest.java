@@ -0,0 +1,78 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.domain.recommendation.Place;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 격자 인덱스 최근접 탐색 결과가 전체 탐색 결과와 같은지 검증
+ */
+class PlaceGridIndexTest {
+
+    private static final double CENTER_LAT = 37.4005;
+    private static final double CENTER_LNG = 127.1086;
+
+    @Test
+    void nearestMatchesBruteForce() {
+        List<Place> places = randomPlaces(2_000, new Random(7));
+        PlaceGridIndex index = new PlaceGridIndex(places, 0.005);
+        Random random = new Random(11);
+
+        for (int i = 0; i < 50; i++) {
+            double lat = CENTER_LAT + (random.nextDouble() - 0.5) * 0.1;
+            double lng = CENTER_LNG + (random.nextDouble() - 0.5) * 0.1;
+
+            assertThat(index.findNearest(lat, lng, 10, 5_000, place -> true))
+                    .containsExactlyElementsOf(bruteForce(places, lat, lng, 10, 5_000, place -> true));
+        }
+    }
+
+    @Test
+    void filterAndDistanceLimitAreApplied() {
+        List<Place> places = randomPlaces(500, new Random(3));
+        PlaceGridIndex index = new PlaceGridIndex(places, 0.005);
+        Predicate<Place> notPizza = place -> !place.getCategory().contains("피자");
+
+        List<Place> nearest = index.findNearest(CENTER_LAT, CENTER_LNG, 5, 1_000, notPizza);
+
+        assertThat(nearest).containsExactlyElementsOf(bruteForce(places, CENTER_LAT, CENTER_LNG, 5, 1_000, notPizza));
+        assertThat(nearest).allMatch(notPizza);
+        assertThat(index.findNearest(CENTER_LAT + 1, CENTER_LNG, 5, 1_000, place -> true)).isEmpty();
+    }
+
+    private static List<Place> bruteForce(List<Place> places, double lat, double lng, int k,
+                                          double maxDistanceMeters, Predicate<Place> filter) {
+        Comparator<Place> byDistance = Comparator.comparingDouble(
+                place -> PlaceGridIndex.distanceMeters(lat, lng, place.getLatitude(), place.getLongitude()));
+        return places.stream()
+                .filter(filter)
+                .filter(place -> PlaceGridIndex.distanceMeters(lat, lng, place.getLatitude(), place.getLongitude())
+                        <= maxDistanceMeters)
+                .sorted(byDistance)
+                .limit(k)
+                .toList();
+    }
+
+    private static List<Place> randomPlaces(int count, Random random) {
+        String[] categories = {"음식점 > 한식", "음식점 > 양식 > 피자", "음식점 > 일식 > 초밥", "음식점 > 중식"};
+        List<Place> places = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            places.add(Place.builder()
+                    .type(Place.TYPE_RESTAURANT)
+                    .name("장소" + i)
+                    .category(categories[random.nextInt(categories.length)])
+                    .address("판교로 " + i)
+                    .latitude(CENTER_LAT + (random.nextDouble() - 0.5) * 0.2)
+                    .longitude(CENTER_LNG + (random.nextDouble() - 0.5) * 0.2)
+                    .build());
+        }
+        return places;
+    }
+}
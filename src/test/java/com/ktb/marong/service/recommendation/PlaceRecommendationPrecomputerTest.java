@@ -0,0 +1,99 @@
+package com.ktb.marong.service.recommendation;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.recommendation.Place;
+import com.ktb.marong.dto.response.recommendation.PlaceRecommendationResponseDto;
+import com.ktb.marong.repository.PlaceRecommendationRepository;
+import com.ktb.marong.repository.PlaceRepository;
+import com.ktb.marong.support.QueryBudget;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매칭 직후 장소 추천 세션 일괄 생성과 생성된 세션 기반 추천 조회 검증
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlaceRecommendationPrecomputerTest {
+
+    @Autowired
+    private PlaceRecommendationPrecomputer precomputer;
+
+    @Autowired
+    private PlaceRecommendationService placeRecommendationService;
+
+    @Autowired
+    private PlaceRecommendationRepository placeRecommendationRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private PlaceCatalog placeCatalog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SyntheticDataset dataset;
+    private int currentWeek;
+
+    @BeforeAll
+    void generateDataset() {
+        currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(2, 5), currentWeek);
+
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            places.add(Place.builder().type(Place.TYPE_RESTAURANT).name("판교 밥집 " + i).category("음식점 > 한식")
+                    .address("판교역로 " + i).latitude(37.4005 + i * 0.001).longitude(127.1086).build());
+            places.add(Place.builder().type(Place.TYPE_CAFE).name("판교 카페 " + i).category("카페")
+                    .address("판교로 " + i).latitude(37.4005).longitude(127.1086 + i * 0.001).build());
+        }
+        placeRepository.saveAll(places);
+        placeCatalog.reload();
+    }
+
+    @Test
+    void sessionsAreCreatedOnceForEveryPair() {
+        List<Long> groupIds = dataset.getGroups().stream().map(SyntheticDataset.GroupData::getGroupId).toList();
+        int members = dataset.getGroups().stream().mapToInt(group -> group.getMemberIds().size()).sum();
+
+        assertThat(precomputer.precompute(currentWeek, groupIds)).isEqualTo(members);
+        assertThat(precomputer.precompute(currentWeek, groupIds)).isZero();
+
+        // 미리 만든 세션이 있으면 세션 장소 조회 한 번으로 추천
+        SyntheticDataset.GroupData group = dataset.getGroups().get(0);
+        Long userId = group.getMemberIds().get(0);
+        PlaceRecommendationResponseDto response = QueryBudget.assertAtMost(3,
+                "PlaceRecommendationService.getPlaceRecommendations (precomputed session)",
+                () -> placeRecommendationService.getPlaceRecommendations(userId, group.getGroupId()));
+
+        assertThat(response.getRestaurants()).singleElement()
+                .satisfies(place -> assertThat(place.getName()).startsWith("판교 밥집"));
+        assertThat(response.getCafes()).singleElement()
+                .satisfies(place -> assertThat(place.getName()).startsWith("판교 카페"));
+        assertThat(placeRecommendationRepository.count()).isGreaterThanOrEqualTo(members * 8L);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ktb.marong.service.survey;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.survey.SurveyFeatures;
+import com.ktb.marong.service.manitto.PairScorer;
+import com.ktb.marong.service.manitto.SurveyPairScorer;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 설문 특성 벡터 생성/갱신과 설문 기반 마니또 쌍 선호도 검증
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SurveyFeatureServiceTest {
+
+    @Autowired
+    private SurveyFeatureService surveyFeatureService;
+
+    @Autowired
+    private SurveyPairScorer surveyPairScorer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long groupId;
+    private List<Long> memberIds;
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(1, 4), currentWeek);
+        groupId = dataset.getGroups().get(0).getGroupId();
+        memberIds = dataset.getGroups().get(0).getMemberIds();
+    }
+
+    @Test
+    void similarMembersScoreHigherThanConflictingMembers() {
+        Long reader = memberIds.get(0);
+        Long similar = memberIds.get(1);
+        Long different = memberIds.get(2);
+        surveyFeatureService.rebuild(new SurveyAnswers(reader, 30, 70, 40, 60,
+                List.of("독서", "등산"), List.of("피자", "초밥"), List.of("오이")));
+        surveyFeatureService.rebuild(new SurveyAnswers(similar, 35, 65, 45, 55,
+                List.of("독서", "등산", "요리"), List.of("피자"), List.of("고수")));
+        surveyFeatureService.rebuild(new SurveyAnswers(different, 90, 10, 90, 10,
+                List.of("게임"), List.of("곱창"), List.of("피자", "초밥")));
+
+        PairScorer.GroupScorer scorer = surveyPairScorer.prepare(groupId, List.of(reader, similar, different));
+
+        assertThat(scorer.score(0, 1)).isGreaterThan(scorer.score(0, 2));
+        // 마니또가 좋아하는 음식을 모두 싫어하는 마니띠는 감점
+        assertThat(scorer.score(0, 2)).isLessThan(scorer.score(2, 0));
+    }
+
+    @Test
+    void rebuildReplacesVectorAndNormalizesTerms() {
+        Long userId = memberIds.get(3);
+        surveyFeatureService.rebuild(new SurveyAnswers(userId, 50, 50, 50, 50,
+                List.of("Tennis"), List.of("피자"), List.of("오이")));
+        surveyFeatureService.rebuild(new SurveyAnswers(userId, 10, 20, 30, 40,
+                List.of(" tennis ", "수영"), List.of("피자"), List.of("오이")));
+
+        SurveyFeatures features = surveyFeatureService.findFeatures(List.of(userId)).get(userId);
+
+        assertThat(features.getMbtiAxes()).containsExactly(10, 20, 30, 40);
+        assertThat(SurveyFeatures.cardinality(features.getHobbies())).isEqualTo(2);
+        assertThat(surveyFeatureService.findFeatures(List.of(userId, -1L))).containsOnlyKeys(userId);
+    }
+}
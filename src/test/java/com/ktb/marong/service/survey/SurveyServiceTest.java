@@ -0,0 +1,126 @@
+package com.ktb.marong.service.survey;
+
+import com.ktb.marong.common.util.WeekCalculator;
+import com.ktb.marong.domain.survey.SurveyHobby;
+import com.ktb.marong.domain.user.User;
+import com.ktb.marong.dto.request.survey.SurveyRequestDto;
+import com.ktb.marong.dto.response.survey.SurveyResponseDto;
+import com.ktb.marong.repository.SurveyHobbyRepository;
+import com.ktb.marong.support.SyntheticDataGenerator;
+import com.ktb.marong.support.SyntheticDataSpec;
+import com.ktb.marong.support.SyntheticDataset;
+import com.ktb.marong.support.TestClockConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 설문 수정 시 바뀐 항목만 삭제/삽입되는지, 설문 조회 캐시가 제출/수정 시 갱신되는지 검증
+ */
+@SpringBootTest(properties = "logging.level.com.ktb.marong=warn")
+@ActiveProfiles({"local", "test"})
+@Import(TestClockConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SurveyServiceTest {
+
+    @Autowired
+    private SurveyService surveyService;
+
+    @Autowired
+    private SurveyHobbyRepository surveyHobbyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Long cachedUserId;
+
+    @BeforeAll
+    void generateDataset() {
+        int currentWeek = WeekCalculator.getWeekOf(TestClockConfig.DEFAULT_NOW.toLocalDate());
+        SyntheticDataset dataset = new SyntheticDataGenerator(jdbcTemplate, entityManagerFactory)
+                .generate(SyntheticDataSpec.small(1, 2), currentWeek);
+        userId = dataset.getGroups().get(0).getMemberIds().get(0);
+        cachedUserId = dataset.getGroups().get(0).getMemberIds().get(1);
+
+        // 합성 사용자는 설문 완료 상태로 생성되므로 최초 제출 전 상태로 되돌림
+        for (Long id : List.of(userId, cachedUserId)) {
+            jdbcTemplate.update("UPDATE Users SET has_completed_survey = false WHERE id = ?", id);
+            entityManagerFactory.getCache().evict(User.class, id);
+        }
+    }
+
+    @Test
+    void updateKeepsUnchangedItemsAndAppliesOnlyTheDiff() {
+        surveyService.saveSurvey(userId, new SurveyRequestDto(30, 60, 40, 70,
+                List.of("독서", "등산", "요리"), List.of("피자", "초밥"), List.of("오이")));
+        Map<String, Long> before = hobbyIds();
+
+        surveyService.updateSurvey(userId, new SurveyRequestDto(80, 20, 40, 70,
+                List.of("등산", "요리", "수영"), List.of("피자", "초밥"), List.of("고수", "오이")));
+
+        SurveyResponseDto survey = surveyService.getSurvey(userId);
+        assertThat(survey.getEiScore()).isEqualTo(80);
+        assertThat(survey.getSnScore()).isEqualTo(20);
+        assertThat(survey.getHobbies()).containsExactly("등산", "요리", "수영");
+        assertThat(survey.getLikedFoods()).containsExactly("피자", "초밥");
+        assertThat(survey.getDislikedFoods()).containsExactly("고수", "오이");
+
+        // 남아 있는 항목은 기존 행 그대로 유지
+        Map<String, Long> after = hobbyIds();
+        assertThat(after.get("등산")).isEqualTo(before.get("등산"));
+        assertThat(after.get("요리")).isEqualTo(before.get("요리"));
+        assertThat(after).doesNotContainKey("독서");
+
+        // 순서만 바뀌어도 조회 결과는 제출 순서
+        surveyService.updateSurvey(userId, new SurveyRequestDto(80, 20, 40, 70,
+                List.of("수영", "등산"), List.of("초밥", "피자"), List.of("고수", "오이")));
+        survey = surveyService.getSurvey(userId);
+        assertThat(survey.getHobbies()).containsExactly("수영", "등산");
+        assertThat(survey.getLikedFoods()).containsExactly("초밥", "피자");
+        assertThat(hobbyIds().get("수영")).isEqualTo(after.get("수영"));
+    }
+
+    @Test
+    void surveyReadsAreCachedUntilTheNextUpdate() {
+        surveyService.saveSurvey(cachedUserId, new SurveyRequestDto(30, 60, 40, 70,
+                List.of("독서"), List.of("피자"), List.of("오이")));
+        assertThat(surveyService.getSurvey(cachedUserId).getHobbies()).containsExactly("독서");
+
+        // 서비스를 거치지 않은 변경은 캐시된 응답에 보이지 않음
+        jdbcTemplate.update("DELETE FROM " + hobbyTable() + " WHERE user_id = ?", cachedUserId);
+        assertThat(surveyService.getSurvey(cachedUserId).getHobbies()).containsExactly("독서");
+
+        // 수정하면 캐시가 지워져 다음 조회는 새 응답
+        surveyService.updateSurvey(cachedUserId, new SurveyRequestDto(30, 60, 40, 70,
+                List.of("등산"), List.of("피자"), List.of("오이")));
+        assertThat(surveyService.getSurvey(cachedUserId).getHobbies()).containsExactly("등산");
+    }
+
+    private String hobbyTable() {
+        return ((AbstractEntityPersister) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel().getEntityDescriptor(SurveyHobby.class)).getTableName();
+    }
+
+    private Map<String, Long> hobbyIds() {
+        return surveyHobbyRepository.findByUserIdIn(List.of(userId)).stream()
+                .collect(Collectors.toMap(SurveyHobby::getHobbyName, SurveyHobby::getId));
+    }
+}
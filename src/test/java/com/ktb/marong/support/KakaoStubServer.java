@@ -0,0 +1,92 @@
+package com.ktb.marong.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 스텁 카카오 OAuth 서버 (토큰 발급, 사용자 정보)
+ * 응답 지연과 반환할 사용자 ID를 바꿔 가며 타임아웃/로그인 흐름을 검증
+ */
+public class KakaoStubServer {
+
+    private final HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile String providerId = "4242";
+
+    private KakaoStubServer() {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        server.createContext("/oauth/token", exchange ->
+                respond(exchange, "{\"access_token\":\"stub-access-token\",\"token_type\":\"bearer\"}"));
+        server.createContext("/v2/user/me", exchange -> respond(exchange,
+                "{\"id\":\"" + providerId + "\",\"kakao_account\":{\"email\":\"stub@kakao.com\","
+                        + "\"profile\":{\"nickname\":\"마롱\",\"profile_image_url\":null}}}"));
+        server.setExecutor(Executors.newCachedThreadPool());
+    }
+
+    public static KakaoStubServer start() {
+        KakaoStubServer stub = new KakaoStubServer();
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * 카카오 토큰/사용자 정보 URI를 스텁 서버로 변경
+     */
+    public void registerEndpoints(DynamicPropertyRegistry registry) {
+        String baseUrl = baseUrl();
+        registry.add("spring.security.oauth2.client.provider.kakao.token-uri", () -> baseUrl + "/oauth/token");
+        registry.add("spring.security.oauth2.client.provider.kakao.user-info-uri", () -> baseUrl + "/v2/user/me");
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public void setProviderId(String providerId) {
+        this.providerId = providerId;
+    }
+
+    public int requestCount() {
+        return requests.get();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=utf-8");
+        try (OutputStream out = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(200, bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+}
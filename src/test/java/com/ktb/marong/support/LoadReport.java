@@ -0,0 +1,107 @@
+package com.ktb.marong.support;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 시나리오 결과 집계
+ * 엔드포인트별 처리량(req/s)과 지연시간 백분위(p50/p90/p99/max), 상태 코드 분포를 계산
+ * 시나리오가 기대하지 않은 상태 코드는 엔드포인트/상태별로 따로 셈
+ */
+public class LoadReport {
+
+    private final String phase;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, Long> unexpectedStatuses = new ConcurrentHashMap<>();
+    private Duration elapsed = Duration.ZERO;
+
+    public LoadReport(String phase) {
+        this.phase = phase;
+    }
+
+    public void record(String endpoint, long elapsedNanos, int status, boolean expected) {
+        stats.computeIfAbsent(endpoint, key -> new EndpointStats()).add(elapsedNanos, status);
+        if (!expected) {
+            unexpectedStatuses.merge(endpoint + " -> " + status, 1L, Long::sum);
+        }
+    }
+
+    public void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * 기대하지 않은 상태 코드 ("엔드포인트 -> 상태" 별 횟수)
+     */
+    public Map<String, Long> unexpectedStatuses() {
+        return new TreeMap<>(unexpectedStatuses);
+    }
+
+    public long serverErrors() {
+        return stats.values().stream().mapToLong(EndpointStats::serverErrors).sum();
+    }
+
+    /**
+     * 엔드포인트별 p99 중 최댓값 (ms)
+     */
+    public double worstP99Millis() {
+        return stats.values().stream().mapToDouble(s -> s.percentileMillis(0.99)).max().orElse(0);
+    }
+
+    public String render() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = Math.max(elapsed.toNanos() / 1_000_000_000.0, 1e-9);
+        sb.append(String.format("%n[%s] elapsed=%.2fs%n", phase, seconds));
+        sb.append(String.format("%-28s %8s %9s %9s %9s %9s %9s %7s %7s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "4xx", "5xx"));
+
+        new TreeMap<>(stats).forEach((endpoint, s) -> sb.append(String.format(
+                "%-28s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                endpoint, s.count(), s.count() / seconds,
+                s.percentileMillis(0.50), s.percentileMillis(0.90), s.percentileMillis(0.99),
+                s.percentileMillis(1.0), s.clientErrors(), s.serverErrors())));
+        return sb.toString();
+    }
+
+    private static class EndpointStats {
+
+        private final List<Long> samples = new ArrayList<>();
+        private long clientErrors;
+        private long serverErrors;
+        private long[] sorted;
+
+        synchronized void add(long nanos, int status) {
+            samples.add(nanos);
+            sorted = null;
+            if (status >= 500) {
+                serverErrors++;
+            } else if (status >= 400) {
+                clientErrors++;
+            }
+        }
+
+        synchronized int count() {
+            return samples.size();
+        }
+
+        synchronized long clientErrors() {
+            return clientErrors;
+        }
+
+        synchronized long serverErrors() {
+            return serverErrors;
+        }
+
+        synchronized double percentileMillis(double percentile) {
+            if (samples.isEmpty()) {
+                return 0;
+            }
+            if (sorted == null) {
+                sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.ktb.marong.support;
+
+import java.time.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 테스트용 가변 시계
+ * 시나리오 도중 특정 요일/시각(월요일 매칭 직후, 금요일 공개 직후 등)으로 시간을 옮길 때 사용
+ */
+public class MutableClock extends Clock {
+
+    private final ZoneId zone;
+    private final AtomicReference<Instant> instant;
+
+    public MutableClock(Instant instant, ZoneId zone) {
+        this.zone = zone;
+        this.instant = new AtomicReference<>(instant);
+    }
+
+    public static MutableClock at(LocalDateTime dateTime) {
+        ZoneId zone = ZoneId.systemDefault();
+        return new MutableClock(dateTime.atZone(zone).toInstant(), zone);
+    }
+
+    public void setTo(LocalDateTime dateTime) {
+        instant.set(dateTime.atZone(zone).toInstant());
+    }
+
+    public void advance(Duration duration) {
+        instant.updateAndGet(current -> current.plus(duration));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new MutableClock(instant.get(), zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant.get();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktb.marong.support;
+
+import com.ktb.marong.common.metrics.QueryCountHolder;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출 한 번에 실행되는 SQL 문 개수를 측정하고 예산 초과 시 실패시키는 테스트 도우미
+ * QueryCountStatementInspector가 집계한 값을 사용하므로 Hibernate를 거치는 문장만 센다
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * 작업 실행 중 실행된 SQL 문 개수
+     */
+    public static long count(Runnable work) {
+        QueryCountHolder.startRecording();
+        try {
+            work.run();
+            return QueryCountHolder.get();
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    /**
+     * 작업이 예산 이하의 SQL 문으로 끝나는지 검증하고 결과 반환
+     * 실패 메시지에는 실제 실행된 SQL 목록을 포함
+     */
+    public static <T> T assertAtMost(int budget, String name, Supplier<T> work) {
+        QueryCountHolder.startRecording();
+        try {
+            T result = work.get();
+            long executed = QueryCountHolder.get();
+            List<String> statements = QueryCountHolder.recordedStatements();
+
+            assertThat(executed)
+                    .withFailMessage("%s: SQL 예산 %d개 초과 (실행 %d개)%n%s",
+                            name, budget, executed, String.join(System.lineSeparator(), statements))
+                    .isLessThanOrEqualTo(budget);
+            return result;
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+}
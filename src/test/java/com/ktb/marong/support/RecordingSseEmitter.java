@@ -0,0 +1,115 @@
+package com.ktb.marong.support;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 보낸 이벤트를 기록하는 테스트용 SseEmitter (서블릿 응답 없이 SseBroadcaster 전송 내용 확인)
+ */
+public class RecordingSseEmitter extends SseEmitter {
+
+    private static final Pattern ID = Pattern.compile("(?m)^id:(.*)$");
+    private static final Pattern EVENT = Pattern.compile("(?m)^event:(.*)$");
+    private static final Pattern COMMENT = Pattern.compile("(?m)^:(.*)$");
+
+    private final List<Sent> sent = new ArrayList<>();
+    private volatile boolean completed;
+
+    public RecordingSseEmitter(long timeoutMillis) {
+        super(timeoutMillis);
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) {
+        StringBuilder text = new StringBuilder();
+        Object data = null;
+        for (ResponseBodyEmitter.DataWithMediaType item : builder.build()) {
+            if (text.toString().endsWith("data:") && data == null) {
+                data = item.getData();
+            } else {
+                text.append(item.getData());
+            }
+        }
+        synchronized (sent) {
+            sent.add(new Sent(find(ID, text), find(EVENT, text), find(COMMENT, text), data));
+            sent.notifyAll();
+        }
+    }
+
+    @Override
+    public void complete() {
+        completed = true;
+        super.complete();
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * count개 이상 전송될 때까지 최대 2초 대기 후 지금까지 보낸 이벤트 반환
+     */
+    public List<Sent> awaitSent(int count) {
+        long deadline = System.currentTimeMillis() + 2_000;
+        synchronized (sent) {
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                try {
+                    sent.wait(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return new ArrayList<>(sent);
+        }
+    }
+
+    private static String find(Pattern pattern, CharSequence text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 전송된 이벤트 하나 (주석이면 comment만 있음)
+     */
+    public static class Sent {
+
+        private final String id;
+        private final String name;
+        private final String comment;
+        private final Object data;
+
+        Sent(String id, String name, String comment, Object data) {
+            this.id = id;
+            this.name = name;
+            this.comment = comment;
+            this.data = data;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
+        public Object getData() {
+            return data;
+        }
+
+        @Override
+        public String toString() {
+            return name != null ? name + "#" + id + "=" + data : ":" + comment;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.ktb.marong.support;
+
+import com.ktb.marong.common.id.EntityIdAllocator;
+import com.ktb.marong.domain.feed.Post;
+import com.ktb.marong.domain.feed.PostLike;
+import com.ktb.marong.domain.group.Group;
+import com.ktb.marong.domain.group.UserGroup;
+import com.ktb.marong.domain.manitto.Manitto;
+import com.ktb.marong.domain.mission.GroupMission;
+import com.ktb.marong.domain.mission.Mission;
+import com.ktb.marong.domain.mission.UserMission;
+import com.ktb.marong.domain.user.AnonymousName;
+import com.ktb.marong.domain.user.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 합성 데이터 생성기
+ * 그룹, 멤버, 주차별 마니또/익명 이름/그룹 미션/사용자 미션/게시글/좋아요 이력을 JDBC 배치로 적재
+ * - 현재 주차는 월요일 매칭 직후 상태(마니또/익명 이름/그룹 미션만 존재, 사용자 미션 없음)로 생성
+ * - 이전 주차는 미션 수행 및 게시글/좋아요 이력까지 생성
+ * H2(MySQL 모드)와 MySQL 모두에서 동작하도록 테이블 이름은 Hibernate 메타모델에서 조회
+ */
+public class SyntheticDataGenerator {
+
+    private static final LocalDate SERVICE_START_DATE = LocalDate.of(2025, 1, 6);
+    private static final int BATCH_SIZE = 1000;
+    private static final int MISSION_CATALOG_SIZE = 30;
+    private static final String[] ANIMALS = {
+            "판다", "코알라", "토끼", "고양이", "강아지", "여우", "펭귄", "다람쥐", "햄스터", "수달"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+    private final EntityIdAllocator idAllocator;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.idAllocator = new EntityIdAllocator(jdbcTemplate, entityManagerFactory,
+                new JpaTransactionManager(entityManagerFactory));
+    }
+
+    /**
+     * 주어진 설정으로 데이터를 생성
+     * @param currentWeek 테스트 시계 기준 현재 주차
+     */
+    public SyntheticDataset generate(SyntheticDataSpec spec, int currentWeek) {
+        Random random = new Random(spec.getSeed());
+
+        IdSequence userIds = new IdSequence(User.class);
+        IdSequence groupIds = new IdSequence(Group.class);
+        IdSequence userGroupIds = new IdSequence(UserGroup.class);
+        IdSequence missionIds = new IdSequence(Mission.class);
+        IdSequence groupMissionIds = new IdSequence(GroupMission.class);
+        IdSequence manittoIds = new IdSequence(Manitto.class);
+        IdSequence anonymousNameIds = new IdSequence(AnonymousName.class);
+        IdSequence userMissionIds = new IdSequence(UserMission.class);
+        IdSequence postIds = new IdSequence(Post.class);
+        IdSequence postLikeIds = new IdSequence(PostLike.class);
+
+        BatchInserter users = new BatchInserter(User.class,
+                "id, email, provider_id, nickname, provider_name, status, has_completed_survey, created_at, updated_at");
+        BatchInserter groups = new BatchInserter(Group.class,
+                "id, name, normalized_name, description, invite_code");
+        BatchInserter userGroups = new BatchInserter(UserGroup.class,
+                "id, user_id, group_id, group_user_nickname, normalized_nickname, is_owner, joined_at");
+        BatchInserter missions = new BatchInserter(Mission.class,
+                "id, title, description, difficulty");
+        BatchInserter groupMissions = new BatchInserter(GroupMission.class,
+                "id, group_id, mission_id, week, max_assignable, remaining_count");
+        BatchInserter manittos = new BatchInserter(Manitto.class,
+                "id, group_id, manitto_id, manittee_id, week");
+        BatchInserter anonymousNames = new BatchInserter(AnonymousName.class,
+                "id, user_id, group_id, anonymous_name, week");
+        BatchInserter userMissions = new BatchInserter(UserMission.class,
+                "id, user_id, group_id, mission_id, status, week, assigned_date, selection_type, created_at, updated_at");
+        BatchInserter posts = new BatchInserter(Post.class,
+                "id, user_id, group_id, week, mission_id, anonymous_snapshot_name, manittee_name, content, created_at, updated_at");
+        BatchInserter postLikes = new BatchInserter(PostLike.class,
+                "id, user_id, post_id, created_at");
+
+        List<BatchInserter> inserters = List.of(users, groups, userGroups, missions, groupMissions, manittos,
+                anonymousNames, userMissions, posts, postLikes);
+
+        // 1. 미션 카탈로그
+        int catalogSize = Math.max(MISSION_CATALOG_SIZE, spec.getMissionsPerWeek());
+        long[] catalog = new long[catalogSize];
+        String[] difficulties = {"상", "중", "하"};
+        for (int i = 0; i < catalogSize; i++) {
+            catalog[i] = missionIds.next();
+            missions.add(catalog[i], "합성 미션 " + catalog[i], "합성 데이터용 미션 설명 " + catalog[i],
+                    difficulties[i % difficulties.length]);
+        }
+
+        int firstWeek = Math.max(1, currentWeek - spec.getWeeks() + 1);
+        List<SyntheticDataset.GroupData> groupDataList = new ArrayList<>(spec.getGroups());
+
+        for (int g = 0; g < spec.getGroups(); g++) {
+            // 2. 그룹 및 멤버
+            long groupId = groupIds.next();
+            groups.add(groupId, "합성 그룹 " + groupId, "합성그룹" + groupId, "합성 데이터 그룹", "SYN" + groupId);
+
+            int memberCount = spec.getMinMembers()
+                    + random.nextInt(spec.getMaxMembers() - spec.getMinMembers() + 1);
+            long[] members = new long[memberCount];
+            String[] nicknames = new String[memberCount];
+            for (int m = 0; m < memberCount; m++) {
+                long userId = userIds.next();
+                members[m] = userId;
+                nicknames[m] = "멤버" + userId;
+                Timestamp createdAt = Timestamp.valueOf(mondayOf(firstWeek).atStartOfDay().minusDays(7));
+                users.add(userId, "synthetic" + userId + "@marong.test", "synthetic-" + userId, "카카오" + userId,
+                        "kakao", "active", true, createdAt, createdAt);
+                userGroups.add(userGroupIds.next(), userId, groupId, nicknames[m], nicknames[m].toLowerCase(),
+                        m == 0, createdAt);
+            }
+
+            List<Long> currentWeekMissions = new ArrayList<>();
+
+            for (int week = firstWeek; week <= currentWeek; week++) {
+                LocalDate monday = mondayOf(week);
+
+                // 3. 마니또 매칭 (한 바퀴 순환 구조로 자기 자신 매칭 방지)
+                int[] order = shuffledIndexes(memberCount, random);
+                int[] manitteeOf = new int[memberCount];
+                for (int i = 0; i < memberCount; i++) {
+                    int manitto = order[i];
+                    int manittee = order[(i + 1) % memberCount];
+                    manitteeOf[manitto] = manittee;
+                    manittos.add(manittoIds.next(), groupId, members[manitto], members[manittee], week);
+                }
+
+                // 4. 익명 이름
+                String[] anonymous = new String[memberCount];
+                for (int m = 0; m < memberCount; m++) {
+                    anonymous[m] = "익명의 " + ANIMALS[random.nextInt(ANIMALS.length)] + (m + 1);
+                    anonymousNames.add(anonymousNameIds.next(), members[m], groupId, anonymous[m], week);
+                }
+
+                // 5. 그룹 미션
+                int[] missionOrder = shuffledIndexes(catalogSize, random);
+                long[] weekMissions = new long[spec.getMissionsPerWeek()];
+                for (int i = 0; i < weekMissions.length; i++) {
+                    weekMissions[i] = catalog[missionOrder[i]];
+                    groupMissions.add(groupMissionIds.next(), groupId, weekMissions[i], week, 5, 5);
+                    if (week == currentWeek) {
+                        currentWeekMissions.add(weekMissions[i]);
+                    }
+                }
+
+                if (week == currentWeek) {
+                    continue; // 현재 주차는 월요일 미션 선택 직전 상태로 유지
+                }
+
+                // 6. 사용자 미션 / 게시글 / 좋아요
+                for (int m = 0; m < memberCount; m++) {
+                    int missionCount = Math.min(spec.getMissionsPerMemberPerWeek(), weekMissions.length);
+                    int[] picks = shuffledIndexes(weekMissions.length, random);
+                    for (int k = 0; k < missionCount; k++) {
+                        long missionId = weekMissions[picks[k]];
+                        LocalDate assignedDate = monday.plusDays(random.nextInt(5));
+                        boolean posted = random.nextDouble() < spec.getPostRatio();
+                        Timestamp assignedAt = Timestamp.valueOf(assignedDate.atTime(12, 30));
+
+                        userMissions.add(userMissionIds.next(), members[m], groupId, missionId,
+                                posted ? "completed" : "incomplete", week, Date.valueOf(assignedDate), "manual",
+                                assignedAt, assignedAt);
+
+                        if (!posted) {
+                            continue;
+                        }
+
+                        long postId = postIds.next();
+                        LocalDateTime postedAt = assignedDate.atTime(13 + random.nextInt(9), random.nextInt(60));
+                        posts.add(postId, members[m], groupId, week, missionId, anonymous[m],
+                                nicknames[manitteeOf[m]], "합성 게시글 " + postId,
+                                Timestamp.valueOf(postedAt), Timestamp.valueOf(postedAt));
+
+                        int likeCount = random.nextInt(Math.min(spec.getMaxLikesPerPost(), memberCount) + 1);
+                        int[] likers = shuffledIndexes(memberCount, random);
+                        for (int l = 0; l < likeCount; l++) {
+                            postLikes.add(postLikeIds.next(), members[likers[l]], postId,
+                                    Timestamp.valueOf(postedAt.plusMinutes(l + 1)));
+                        }
+                    }
+                }
+            }
+
+            List<Long> memberIdList = new ArrayList<>(memberCount);
+            for (long member : members) {
+                memberIdList.add(member);
+            }
+            groupDataList.add(new SyntheticDataset.GroupData(groupId, memberIdList, currentWeekMissions));
+
+            // 그룹 단위로 외래키 순서대로 적재 (메모리 사용량 제한)
+            for (BatchInserter inserter : inserters) {
+                inserter.flush();
+            }
+        }
+
+        for (BatchInserter inserter : inserters) {
+            inserter.flush();
+        }
+        for (IdSequence sequence : List.of(userIds, groupIds, userGroupIds, missionIds, groupMissionIds, manittoIds,
+                anonymousNameIds, userMissionIds, postIds, postLikeIds)) {
+            sequence.restartIdentity();
+        }
+
+        // JDBC로 직접 적재했으므로 2차 캐시/쿼리 캐시에 남은 이전 상태 제거
+        sessionFactory.getCache().evictAllRegions();
+
+        return new SyntheticDataset(currentWeek, groupDataList,
+                users.count(), posts.count(), postLikes.count());
+    }
+
+    /**
+     * 주차 번호의 월요일 날짜 (WeekCalculator의 역연산)
+     */
+    public static LocalDate mondayOf(int week) {
+        return SERVICE_START_DATE.plusWeeks(week - 1L);
+    }
+
+    private static int[] shuffledIndexes(int size, Random random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = tmp;
+        }
+        return indexes;
+    }
+
+    private String tableOf(Class<?> entityClass) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass);
+        return persister.getTableName();
+    }
+
+    private boolean isH2() {
+        String productName = jdbcTemplate.execute((java.sql.Connection connection) ->
+                connection.getMetaData().getDatabaseProductName());
+        return productName != null && productName.toLowerCase().contains("h2");
+    }
+
+    /**
+     * 명시적 ID 부여용 시퀀스 (기존 데이터 이후 번호부터 시작)
+     * 테이블 기반 ID 엔티티는 애플리케이션과 같은 ID 생성기에서 블록 단위로 발급
+     */
+    private class IdSequence {
+
+        private final Class<?> entityClass;
+        private final String table;
+        private final boolean allocated;
+        private long[] block = new long[0];
+        private int blockIndex;
+        private long next;
+
+        IdSequence(Class<?> entityClass) {
+            this.entityClass = entityClass;
+            this.table = tableOf(entityClass);
+            this.allocated = idAllocator.supports(entityClass);
+            Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            this.next = (max == null ? 0 : max) + 1;
+        }
+
+        long next() {
+            if (!allocated) {
+                return next++;
+            }
+            if (blockIndex == block.length) {
+                block = idAllocator.allocate(entityClass, BATCH_SIZE);
+                blockIndex = 0;
+            }
+            return block[blockIndex++];
+        }
+
+        /**
+         * 명시적으로 ID를 넣은 뒤 애플리케이션의 IDENTITY 삽입과 충돌하지 않도록 시작값 조정
+         * (MySQL은 AUTO_INCREMENT가 자동으로 따라오므로 H2에서만 필요)
+         */
+        void restartIdentity() {
+            if (!allocated && isH2()) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            }
+        }
+    }
+
+    /**
+     * 테이블 단위 배치 삽입기
+     */
+    private class BatchInserter {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        private long count;
+
+        BatchInserter(Class<?> entityClass, String columns) {
+            int columnCount = columns.split(",").length;
+            this.sql = "INSERT INTO " + tableOf(entityClass) + " (" + columns + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        }
+
+        void add(Object... values) {
+            rows.add(values);
+            count++;
+        }
+
+        void flush() {
+            for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+            }
+            rows.clear();
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
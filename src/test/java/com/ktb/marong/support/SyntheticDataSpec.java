@@ -0,0 +1,103 @@
+package com.ktb.marong.support;
+
+/**
+ * 합성 데이터 생성 규모 설정
+ * 시스템 프로퍼티(marong.load.*)로 덮어쓸 수 있음
+ * 예: ./gradlew loadTest -Dmarong.load.groups=3000 -Dmarong.load.weeks=8
+ */
+public class SyntheticDataSpec {
+
+    private final int groups;
+    private final int minMembers;
+    private final int maxMembers;
+    private final int weeks;
+    private final int missionsPerWeek;
+    private final int missionsPerMemberPerWeek;
+    private final double postRatio;
+    private final int maxLikesPerPost;
+    private final long seed;
+
+    public SyntheticDataSpec(int groups, int minMembers, int maxMembers, int weeks, int missionsPerWeek,
+                             int missionsPerMemberPerWeek, double postRatio, int maxLikesPerPost, long seed) {
+        if (minMembers < 2 || maxMembers < minMembers) {
+            throw new IllegalArgumentException("그룹 인원은 2명 이상이어야 하며 min <= max 이어야 합니다.");
+        }
+        this.groups = groups;
+        this.minMembers = minMembers;
+        this.maxMembers = maxMembers;
+        this.weeks = weeks;
+        this.missionsPerWeek = missionsPerWeek;
+        this.missionsPerMemberPerWeek = missionsPerMemberPerWeek;
+        this.postRatio = postRatio;
+        this.maxLikesPerPost = maxLikesPerPost;
+        this.seed = seed;
+    }
+
+    /**
+     * 시스템 프로퍼티 기반 설정 (기본값은 로컬에서 수 분 내에 끝나는 규모)
+     * maxMembers 기본값은 GroupService.MAX_MEMBERS_PER_GROUP(150)과 동일
+     */
+    public static SyntheticDataSpec fromSystemProperties() {
+        return new SyntheticDataSpec(
+                Integer.getInteger("marong.load.groups", 200),
+                Integer.getInteger("marong.load.min-members", 10),
+                Integer.getInteger("marong.load.max-members", 150),
+                Integer.getInteger("marong.load.weeks", 4),
+                Integer.getInteger("marong.load.missions-per-week", 10),
+                Integer.getInteger("marong.load.missions-per-member", 3),
+                Double.parseDouble(System.getProperty("marong.load.post-ratio", "0.6")),
+                Integer.getInteger("marong.load.max-likes", 15),
+                Long.getLong("marong.load.seed", 42L)
+        );
+    }
+
+    /**
+     * 단위/예산 테스트용 소규모 설정
+     */
+    public static SyntheticDataSpec small(int groups, int members) {
+        return new SyntheticDataSpec(groups, members, members, 2, 10, 3, 1.0, 5, 7L);
+    }
+
+    public int getGroups() {
+        return groups;
+    }
+
+    public int getMinMembers() {
+        return minMembers;
+    }
+
+    public int getMaxMembers() {
+        return maxMembers;
+    }
+
+    public int getWeeks() {
+        return weeks;
+    }
+
+    public int getMissionsPerWeek() {
+        return missionsPerWeek;
+    }
+
+    public int getMissionsPerMemberPerWeek() {
+        return missionsPerMemberPerWeek;
+    }
+
+    public double getPostRatio() {
+        return postRatio;
+    }
+
+    public int getMaxLikesPerPost() {
+        return maxLikesPerPost;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return "groups=" + groups + ", members=" + minMembers + "~" + maxMembers + ", weeks=" + weeks
+                + ", missionsPerWeek=" + missionsPerWeek + ", postRatio=" + postRatio
+                + ", maxLikesPerPost=" + maxLikesPerPost + ", seed=" + seed;
+    }
+}
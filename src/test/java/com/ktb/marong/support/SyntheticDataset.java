@@ -0,0 +1,78 @@
+package com.ktb.marong.support;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 생성된 합성 데이터의 식별자 요약
+ * 부하 시나리오와 쿼리 예산 테스트가 요청 대상을 고를 때 사용
+ */
+public class SyntheticDataset {
+
+    private final int currentWeek;
+    private final List<GroupData> groups;
+    private final long userCount;
+    private final long postCount;
+    private final long likeCount;
+
+    public SyntheticDataset(int currentWeek, List<GroupData> groups, long userCount, long postCount, long likeCount) {
+        this.currentWeek = currentWeek;
+        this.groups = Collections.unmodifiableList(groups);
+        this.userCount = userCount;
+        this.postCount = postCount;
+        this.likeCount = likeCount;
+    }
+
+    public int getCurrentWeek() {
+        return currentWeek;
+    }
+
+    public List<GroupData> getGroups() {
+        return groups;
+    }
+
+    public long getUserCount() {
+        return userCount;
+    }
+
+    public long getPostCount() {
+        return postCount;
+    }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    @Override
+    public String toString() {
+        return "groups=" + groups.size() + ", users=" + userCount + ", posts=" + postCount + ", likes=" + likeCount;
+    }
+
+    /**
+     * 그룹별 생성 결과
+     */
+    public static class GroupData {
+
+        private final long groupId;
+        private final List<Long> memberIds;
+        private final List<Long> currentWeekMissionIds;
+
+        public GroupData(long groupId, List<Long> memberIds, List<Long> currentWeekMissionIds) {
+            this.groupId = groupId;
+            this.memberIds = Collections.unmodifiableList(memberIds);
+            this.currentWeekMissionIds = Collections.unmodifiableList(currentWeekMissionIds);
+        }
+
+        public long getGroupId() {
+            return groupId;
+        }
+
+        public List<Long> getMemberIds() {
+            return memberIds;
+        }
+
+        public List<Long> getCurrentWeekMissionIds() {
+            return currentWeekMissionIds;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ktb.marong.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 애플리케이션의 Clock 빈을 테스트에서 제어 가능한 MutableClock으로 교체
+ */
+@TestConfiguration
+public class TestClockConfig {
+
+    // 기준 시점: 2025-06-02(월) 12:05 -> 마니또 활동 기간 시작 직후
+    public static final LocalDateTime DEFAULT_NOW = LocalDateTime.of(2025, 6, 2, 12, 5);
+
+    @Bean
+    @Primary
+    public MutableClock testClock() {
+        return MutableClock.at(DEFAULT_NOW);
+    }
+}